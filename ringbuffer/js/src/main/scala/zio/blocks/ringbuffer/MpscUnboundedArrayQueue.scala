@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+/**
+ * A sequential, unbounded MPSC queue for generic reference types, built from
+ * a linked list of fixed-size array chunks (Scala.js implementation).
+ *
+ * Since Scala.js is single-threaded, this implementation uses plain reads and
+ * writes with no memory ordering primitives or locks. It keeps the chunk
+ * layout of the JVM implementation, so memory grows and shrinks with load the
+ * same way, and provides the same API surface.
+ *
+ * @param chunkSize
+ *   the slots per chunk, must be a power of two of at least 2
+ */
+final class MpscUnboundedArrayQueue[A <: AnyRef](val chunkSize: Int) {
+  require(
+    chunkSize >= 2 && (chunkSize & (chunkSize - 1)) == 0,
+    s"chunkSize must be a power of 2 of at least 2, got: $chunkSize"
+  )
+
+  import MpscUnboundedArrayQueue._
+
+  private val mask: Int                     = chunkSize - 1
+  private var producerBuffer: Array[AnyRef] = new Array[AnyRef](chunkSize + 1)
+  private var consumerBuffer: Array[AnyRef] = producerBuffer
+  private var producerIndex: Long           = 0L
+  private var consumerIndex: Long           = 0L
+  private var chunkStart: Long              = 0L // index of the element that opened the producer's chunk
+
+  /**
+   * Inserts an element, linking a new chunk when the current one holds
+   * `chunkSize - 1` elements.
+   *
+   * @param a
+   *   the element to insert; must not be `null`
+   * @throws java.lang.NullPointerException
+   *   if the element is `null`
+   * @return
+   *   always `true`
+   */
+  def offer(a: A): Boolean = {
+    if (a == null) throw new NullPointerException("offer(null) is not permitted")
+    val pIdx   = producerIndex
+    val offset = (pIdx & mask).toInt
+    // The producer's chunk holds the elements from `max(consumerIndex,
+    // chunkStart)` on; when they fill all but one slot, that slot takes the
+    // JUMP and the element opens a new chunk.
+    if (pIdx - Math.max(consumerIndex, chunkStart) >= mask) {
+      val next = new Array[AnyRef](chunkSize + 1)
+      next(offset) = a.asInstanceOf[AnyRef]
+      producerBuffer(chunkSize) = next
+      producerBuffer(offset) = JUMP
+      producerBuffer = next
+      chunkStart = pIdx
+    } else producerBuffer(offset) = a.asInstanceOf[AnyRef]
+    producerIndex = pIdx + 1L
+    true
+  }
+
+  /**
+   * Tries to remove an element, following the link to the next chunk when it
+   * reaches the end of the current one.
+   *
+   * @return
+   *   the element, or `null` if the queue is empty
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def take(): A = {
+    val cIdx = consumerIndex
+    if (cIdx == producerIndex) return null.asInstanceOf[A]
+    val offset = (cIdx & mask).toInt
+    if (consumerBuffer(offset) eq JUMP) {
+      val next = consumerBuffer(chunkSize).asInstanceOf[Array[AnyRef]]
+      consumerBuffer(chunkSize) = null
+      consumerBuffer = next
+    }
+    val element = consumerBuffer(offset).asInstanceOf[A]
+    consumerBuffer(offset) = null
+    consumerIndex = cIdx + 1L
+    element
+  }
+
+  /** Returns the number of elements currently in the queue. */
+  def size: Int = Math.min(producerIndex - consumerIndex, Int.MaxValue.toLong).toInt
+
+  /** Returns `true` if the queue contains no elements. */
+  def isEmpty: Boolean = producerIndex == consumerIndex
+
+  /**
+   * Drains up to `limit` elements from the queue, passing each to the given
+   * consumer callback.
+   *
+   * @param consumer
+   *   the callback invoked for each drained element
+   * @param limit
+   *   the maximum number of elements to drain; must be non-negative
+   * @throws java.lang.IllegalArgumentException
+   *   if `limit` is negative
+   * @return
+   *   the number of elements actually drained (0 if the queue is empty)
+   */
+  def drain(consumer: A => Unit, limit: Int): Int = {
+    if (limit < 0) throw new IllegalArgumentException(s"limit is negative: $limit")
+    var count = 0
+    while (count < limit) {
+      val e = take()
+      if (e eq null) return count
+      count += 1
+      consumer(e)
+    }
+    count
+  }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, one
+   * [[offer]] at a time. The queue is unbounded, so every element is inserted.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   `len`
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    var i = 0
+    while (i < len && offer(src(off + i))) i += 1
+    i
+  }
+
+  /**
+   * Removes up to `len` elements and stores them in `dst`, starting at
+   * `dst(off)`, in FIFO order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the queue is empty)
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var i = 0
+    while (i < len) {
+      val e = take()
+      if (e eq null) return i
+      dst(off + i) = e
+      i += 1
+    }
+    i
+  }
+}
+
+object MpscUnboundedArrayQueue {
+
+  /** Left in a full chunk's slot to send the consumer to the next chunk. */
+  private val JUMP: AnyRef = new AnyRef
+
+  /**
+   * Creates a new [[MpscUnboundedArrayQueue]] with the given chunk size.
+   *
+   * @param chunkSize
+   *   the slots per chunk, must be a power of two of at least 2
+   * @tparam A
+   *   the element type (must be a reference type)
+   * @return
+   *   a new unbounded MPSC queue
+   */
+  def apply[A <: AnyRef](chunkSize: Int): MpscUnboundedArrayQueue[A] = new MpscUnboundedArrayQueue[A](chunkSize)
+}
@@ -87,6 +87,67 @@ final class SpmcRingBuffer[A <: AnyRef](val capacity: Int) {
 
   /** Returns `true` if the buffer is full. */
   def isFull: Boolean = (producerIndex - consumerIndex).toInt == capacity
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    val pIdx = producerIndex
+    val n    = Math.min(len, capacity - (pIdx - consumerIndex).toInt)
+    var i    = 0
+    while (i < n) {
+      buffer(((pIdx + i) & mask).toInt) = src(off + i).asInstanceOf[AnyRef]
+      i += 1
+    }
+    producerIndex = pIdx + n
+    n
+  }
+
+  /**
+   * Removes up to `len` elements and stores them in `dst`, starting at
+   * `dst(off)`, in FIFO order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    val cIdx = consumerIndex
+    val n    = Math.min(len, (producerIndex - cIdx).toInt)
+    var i    = 0
+    while (i < n) {
+      val offset = ((cIdx + i) & mask).toInt
+      dst(off + i) = buffer(offset).asInstanceOf[A]
+      buffer(offset) = null
+      i += 1
+    }
+    consumerIndex = cIdx + n
+    n
+  }
 }
 
 object SpmcRingBuffer {
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+/**
+ * A sequential ring buffer for generic reference types that starts at
+ * `initialCapacity` and doubles its backing array on demand, up to
+ * `maxCapacity` (Scala.js implementation).
+ *
+ * Since Scala.js is single-threaded, this implementation copies the elements
+ * into the larger array instead of linking it, and uses plain reads and writes
+ * with no memory ordering primitives or locks. It provides the same API
+ * surface as the JVM implementation for cross-platform compatibility.
+ *
+ * @param initialCapacity
+ *   the capacity of the first array, must be a power of two of at least 2, or
+ *   equal to `maxCapacity`
+ * @param maxCapacity
+ *   the capacity the buffer may grow to, must be a power of two no smaller
+ *   than `initialCapacity`
+ */
+final class SpscGrowableRingBuffer[A <: AnyRef](val initialCapacity: Int, val maxCapacity: Int) {
+  require(
+    initialCapacity > 0 && (initialCapacity & (initialCapacity - 1)) == 0,
+    s"initialCapacity must be a positive power of 2, got: $initialCapacity"
+  )
+  require(
+    maxCapacity >= initialCapacity && (maxCapacity & (maxCapacity - 1)) == 0,
+    s"maxCapacity must be a power of 2 no smaller than initialCapacity ($initialCapacity), got: $maxCapacity"
+  )
+  require(
+    initialCapacity >= 2 || maxCapacity == 1,
+    s"initialCapacity must be at least 2 for the buffer to grow, got: $initialCapacity"
+  )
+
+  private var buffer: Array[AnyRef] = new Array[AnyRef](initialCapacity)
+  private var mask: Int             = initialCapacity - 1
+  private var producerIndex: Long   = 0L
+  private var consumerIndex: Long   = 0L
+
+  /**
+   * Returns the capacity of the current backing array, between
+   * `initialCapacity` and `maxCapacity`.
+   */
+  def capacity: Int = buffer.length
+
+  /**
+   * Tries to insert an element into the buffer, growing the backing array if
+   * it is full and smaller than `maxCapacity`.
+   *
+   * @param a
+   *   the element to insert; must not be `null`
+   * @throws java.lang.NullPointerException
+   *   if the element is `null`
+   * @return
+   *   `true` if the element was successfully inserted, `false` if the buffer
+   *   holds `maxCapacity` elements
+   */
+  def offer(a: A): Boolean = {
+    if (a == null) throw new NullPointerException("offer(null) is not permitted")
+    val pIdx = producerIndex
+    val size = (pIdx - consumerIndex).toInt
+    if (size == maxCapacity) return false
+    if (size == buffer.length) grow()
+    buffer((pIdx & mask).toInt) = a.asInstanceOf[AnyRef]
+    producerIndex = pIdx + 1L
+    true
+  }
+
+  private def grow(): Unit = {
+    val newBuffer = new Array[AnyRef](buffer.length << 1)
+    val newMask   = newBuffer.length - 1
+    var idx       = consumerIndex
+    while (idx < producerIndex) {
+      newBuffer((idx & newMask).toInt) = buffer((idx & mask).toInt)
+      idx += 1L
+    }
+    buffer = newBuffer
+    mask = newMask
+  }
+
+  /**
+   * Tries to remove an element from the buffer.
+   *
+   * @return
+   *   the element, or `null` if the buffer is empty
+   */
+  def take(): A = {
+    val cIdx = consumerIndex
+    if (producerIndex == cIdx) {
+      null.asInstanceOf[A]
+    } else {
+      val offset  = (cIdx & mask).toInt
+      val element = buffer(offset).asInstanceOf[A]
+      buffer(offset) = null
+      consumerIndex = cIdx + 1L
+      element
+    }
+  }
+
+  /** Returns the number of elements currently in the buffer. */
+  def size: Int = (producerIndex - consumerIndex).toInt
+
+  /** Returns `true` if the buffer contains no elements. */
+  def isEmpty: Boolean = producerIndex == consumerIndex
+
+  /** Returns `true` if the buffer holds `maxCapacity` elements. */
+  def isFull: Boolean = (producerIndex - consumerIndex).toInt == maxCapacity
+
+  /**
+   * Drains up to `limit` elements from the buffer, passing each to the given
+   * consumer callback.
+   *
+   * @param consumer
+   *   the callback invoked for each drained element
+   * @param limit
+   *   the maximum number of elements to drain; must be non-negative
+   * @throws java.lang.IllegalArgumentException
+   *   if `limit` is negative
+   * @return
+   *   the number of elements actually drained (0 if the buffer is empty)
+   */
+  def drain(consumer: A => Unit, limit: Int): Int = {
+    if (limit < 0) throw new IllegalArgumentException(s"limit is negative: $limit")
+    var count = 0
+    while (count < limit) {
+      val e = take()
+      if (e eq null) return count
+      count += 1
+      consumer(e)
+    }
+    count
+  }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, one
+   * [[offer]] at a time, growing the buffer as needed. Stops when it holds
+   * `maxCapacity` elements.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    var i = 0
+    while (i < len && offer(src(off + i))) i += 1
+    i
+  }
+
+  /**
+   * Removes up to `len` elements and stores them in `dst`, starting at
+   * `dst(off)`, in FIFO order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var i = 0
+    while (i < len) {
+      val e = take()
+      if (e eq null) return i
+      dst(off + i) = e
+      i += 1
+    }
+    i
+  }
+}
+
+object SpscGrowableRingBuffer {
+
+  /**
+   * Creates a new [[SpscGrowableRingBuffer]].
+   *
+   * @param initialCapacity
+   *   the capacity of the first array, must be a power of two of at least 2,
+   *   or equal to `maxCapacity`
+   * @param maxCapacity
+   *   the capacity the buffer may grow to, must be a power of two no smaller
+   *   than `initialCapacity`
+   * @tparam A
+   *   the element type (must be a reference type)
+   * @return
+   *   a new growable ring buffer
+   */
+  def apply[A <: AnyRef](initialCapacity: Int, maxCapacity: Int): SpscGrowableRingBuffer[A] =
+    new SpscGrowableRingBuffer[A](initialCapacity, maxCapacity)
+}
@@ -143,6 +143,53 @@ final class DoubleSpscRingBuffer(val capacity: Int) extends DoubleSpscPad2 {
     bits
   }
 
+  /**
+   * Inserts up to `len` values from `src`, starting at `src(off)`, and returns
+   * how many were inserted (0 if the buffer is full). Reserved NaN bit
+   * patterns are canonicalized as by [[offer]]. The producer index is advanced
+   * once for the whole batch.
+   */
+  def offerAll(src: Array[Double], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    var pIdx = producerIndex
+    var i    = 0
+    while (i < len && (pIdx < producerLimit || offerSlowPath(pIdx))) {
+      val rawBits = java.lang.Double.doubleToRawLongBits(src(off + i))
+      val toStore = if (rawBits == EMPTY_BITS || rawBits == DONE_BITS) CANONICAL_NAN_BITS else rawBits
+      LONG_HANDLE.setRelease(data, (pIdx & mask).toInt, toStore)
+      pIdx += 1L
+      i += 1
+    }
+    if (i > 0) PRODUCER_INDEX.setOpaque(this, pIdx)
+    i
+  }
+
+  /**
+   * Removes up to `len` values into `dst`, starting at `dst(off)`, and returns
+   * how many were taken. Stops at an empty slot or at the done sentinel, which
+   * is left for [[pollPacked]]. The consumer index is advanced once for the
+   * whole batch.
+   */
+  def takeAll(dst: Array[Double], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var cIdx = consumerIndex
+    var i    = 0
+    while (i < len) {
+      val offset = (cIdx & mask).toInt
+      val bits   = (LONG_HANDLE.getAcquire(data, offset): Long)
+      if (bits == EMPTY_BITS || bits == DONE_BITS) {
+        if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+        return i
+      }
+      LONG_HANDLE.setRelease(data, offset, EMPTY_BITS)
+      dst(off + i) = java.lang.Double.longBitsToDouble(bits)
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+    i
+  }
+
   def isEmpty: Boolean = {
     val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
     val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
@@ -132,6 +132,50 @@ final class IntSpscRingBuffer(val capacity: Int) extends IntSpscPad2 {
     packed
   }
 
+  /**
+   * Inserts up to `len` values from `src`, starting at `src(off)`, and returns
+   * how many were inserted (0 if the buffer is full). The producer index is
+   * advanced once for the whole batch.
+   */
+  def offerAll(src: Array[Int], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    var pIdx = producerIndex
+    var i    = 0
+    while (i < len && (pIdx < producerLimit || offerSlowPath(pIdx))) {
+      LONG_HANDLE.setRelease(data, (pIdx & mask).toInt, TAG_FULL | (src(off + i).toLong & LOW32_MASK))
+      pIdx += 1L
+      i += 1
+    }
+    if (i > 0) PRODUCER_INDEX.setOpaque(this, pIdx)
+    i
+  }
+
+  /**
+   * Removes up to `len` values into `dst`, starting at `dst(off)`, and returns
+   * how many were taken. Stops at an empty slot or at the done sentinel, which
+   * is left for [[pollPacked]]. The consumer index is advanced once for the
+   * whole batch.
+   */
+  def takeAll(dst: Array[Int], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var cIdx = consumerIndex
+    var i    = 0
+    while (i < len) {
+      val offset = (cIdx & mask).toInt
+      val packed = (LONG_HANDLE.getAcquire(data, offset): Long)
+      if (packed == 0L || packed == DONE_PACKED) {
+        if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+        return i
+      }
+      LONG_HANDLE.setRelease(data, offset, 0L)
+      dst(off + i) = packed.toInt
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+    i
+  }
+
   def isEmpty: Boolean = {
     val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
     val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
@@ -179,6 +179,62 @@ final class LongSpscRingBuffer(val capacity: Int) extends LongSpscPad2 {
     e
   }
 
+  /**
+   * Inserts up to `len` values from `src`, starting at `src(off)`, and returns
+   * how many were inserted (0 if the buffer is full). The producer index is
+   * advanced once for the whole batch.
+   *
+   * Throws `IllegalArgumentException`, inserting nothing, if the range holds
+   * `EMPTY` or `DONE`.
+   */
+  def offerAll(src: Array[Long], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    var j = off
+    while (j < off + len) {
+      if (isReserved(src(j)))
+        throw new IllegalArgumentException(
+          s"offerAll: ${src(j)} at index $j is not permitted: Long.MinValue and Long.MinValue + 1L are reserved"
+        )
+      j += 1
+    }
+
+    var pIdx = producerIndex
+    var i    = 0
+    while (i < len && (pIdx < producerLimit || offerSlowPath(pIdx))) {
+      LONG_HANDLE.setRelease(data, (pIdx & mask).toInt, src(off + i))
+      pIdx += 1L
+      i += 1
+    }
+    if (i > 0) PRODUCER_INDEX.setOpaque(this, pIdx)
+    i
+  }
+
+  /**
+   * Removes up to `len` values into `dst`, starting at `dst(off)`, and returns
+   * how many were taken. Stops at an empty slot or at the done sentinel, which
+   * is left for [[pollPacked]]. The consumer index is advanced once for the
+   * whole batch.
+   */
+  def takeAll(dst: Array[Long], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var cIdx = consumerIndex
+    var i    = 0
+    while (i < len) {
+      val offset = (cIdx & mask).toInt
+      val e      = (LONG_HANDLE.getAcquire(data, offset): Long)
+      if (e == EMPTY || e == DONE) {
+        if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+        return i
+      }
+      LONG_HANDLE.setRelease(data, offset, EMPTY)
+      dst(off + i) = e
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+    i
+  }
+
   def isEmpty: Boolean = {
     val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
     val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
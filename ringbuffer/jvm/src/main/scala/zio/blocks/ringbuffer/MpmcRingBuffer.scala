@@ -192,6 +192,126 @@ final class MpmcRingBuffer[A <: AnyRef](val capacity: Int) extends MpmcPad2 {
     val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
     (pIdx - cIdx).toInt == capacity
   }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking.
+   *
+   * Scans the sequence stamps for the run of free slots starting at
+   * `producerIndex`, up to `len`, claims the whole run with a single CAS, then
+   * writes and stamps each slot in order. Consumers see each element as soon as
+   * its slot is stamped.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    val buf    = buffer
+    val seqBuf = sequenceBuffer
+    val m      = mask
+    val max    = Math.min(len, capacity)
+    if (max == 0) return 0
+
+    while (true) {
+      val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+      val diff = SEQ_HANDLE.getAcquire(seqBuf, (pIdx & m).toInt).asInstanceOf[Long] - pIdx
+
+      if (diff == 0L) {
+        // The first slot is free; extend the run while the next ones are too
+        var n = 1
+        while (n < max && SEQ_HANDLE.getAcquire(seqBuf, ((pIdx + n) & m).toInt).asInstanceOf[Long] == pIdx + n) n += 1
+
+        if (PRODUCER_INDEX.compareAndSet(this, pIdx, pIdx + n)) {
+          var i = 0
+          while (i < n) {
+            val seqOffset = ((pIdx + i) & m).toInt
+            ARRAY_HANDLE.setRelease(buf, seqOffset, src(off + i).asInstanceOf[AnyRef])
+            SEQ_HANDLE.setRelease(seqBuf, seqOffset, pIdx + i + 1L)
+            i += 1
+          }
+          return n
+        }
+        // CAS failed, retry
+      } else if (diff < 0L) {
+        // Queue is full
+        return 0
+      }
+      // else diff > 0: another producer advanced past this slot, retry
+    }
+    0 // unreachable, but needed for the compiler
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * Scans the sequence stamps for the run of ready slots starting at
+   * `consumerIndex`, up to `len`, claims the whole run with a single CAS, then
+   * reads, clears and re-stamps each slot in order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    val buf    = buffer
+    val seqBuf = sequenceBuffer
+    val m      = mask
+    val cap    = capacity
+    val max    = Math.min(len, cap)
+    if (max == 0) return 0
+
+    while (true) {
+      val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+      val diff = SEQ_HANDLE.getAcquire(seqBuf, (cIdx & m).toInt).asInstanceOf[Long] - (cIdx + 1L)
+
+      if (diff == 0L) {
+        // The first element is ready; extend the run while the next ones are too
+        var n = 1
+        while (n < max && SEQ_HANDLE.getAcquire(seqBuf, ((cIdx + n) & m).toInt).asInstanceOf[Long] == cIdx + n + 1L)
+          n += 1
+
+        if (CONSUMER_INDEX.compareAndSet(this, cIdx, cIdx + n)) {
+          var i = 0
+          while (i < n) {
+            val seqOffset = ((cIdx + i) & m).toInt
+            dst(off + i) = ARRAY_HANDLE.getAcquire(buf, seqOffset).asInstanceOf[A]
+            ARRAY_HANDLE.set(buf, seqOffset, null) // Allow GC of consumed element
+            SEQ_HANDLE.setRelease(seqBuf, seqOffset, cIdx + i + cap.toLong)
+            i += 1
+          }
+          return n
+        }
+        // CAS failed, retry
+      } else if (diff < 0L) {
+        // Queue is empty
+        return 0
+      }
+      // else diff > 0: another consumer advanced past this slot, retry
+    }
+    0 // unreachable, but needed for the compiler
+  }
 }
 
 object MpmcRingBuffer {
@@ -232,6 +232,113 @@ final class MpscRingBuffer[A <: AnyRef](val capacity: Int) extends MpscPad3 {
     }
     count
   }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking.
+   *
+   * Claims as many free slots as are available, up to `len`, with a single CAS
+   * on the producer index, then writes the elements into them in order. The
+   * consumer sees each element as soon as its slot is written.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    if (len == 0) return 0
+    val buf = buffer
+    val m   = mask
+    val cap = m + 1L
+
+    var pLimit     = PRODUCER_LIMIT.getAcquire(this).asInstanceOf[Long]
+    var pIdx: Long = 0L
+    var n          = 0
+
+    while (true) {
+      pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+      if (pIdx + len > pLimit) {
+        val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+        pLimit = cIdx + cap
+
+        if (pIdx >= pLimit) {
+          return 0 // FULL
+        } else {
+          PRODUCER_LIMIT.setRelease(this, pLimit)
+        }
+      }
+      n = Math.min(len.toLong, pLimit - pIdx).toInt
+
+      if (PRODUCER_INDEX.compareAndSet(this, pIdx, pIdx + n)) {
+        // Won the whole range — write the elements into the claimed slots
+        var i = 0
+        while (i < n) {
+          ARRAY_HANDLE.setRelease(buf, ((pIdx + i) & m).toInt, src(off + i).asInstanceOf[AnyRef])
+          i += 1
+        }
+        return n
+      }
+      // CAS failed — another producer won; retry
+    }
+
+    0 // unreachable, satisfies compiler
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * Uses relaxed poll semantics, like [[take]]: stops at the first `null` slot
+   * (either empty or producer mid-write). The consumer index is advanced once
+   * for the whole batch.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    val buf  = buffer
+    val m    = mask
+    var cIdx = consumerIndex
+    var i    = 0
+
+    while (i < len) {
+      val offset = (cIdx & m).toInt
+      val e      = ARRAY_HANDLE.getAcquire(buf, offset).asInstanceOf[A]
+      if (e eq null) {
+        if (i > 0) CONSUMER_INDEX.setRelease(this, cIdx)
+        return i
+      }
+      ARRAY_HANDLE.setRelease(buf, offset, null.asInstanceOf[AnyRef])
+      dst(off + i) = e
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) CONSUMER_INDEX.setRelease(this, cIdx)
+    i
+  }
 }
 
 object MpscRingBuffer {
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import java.lang.invoke.{MethodHandles, VarHandle}
+
+/**
+ * A non-blocking, unbounded Multi-Producer Single-Consumer (MPSC) queue for
+ * generic reference types, built from a linked list of fixed-size array
+ * chunks.
+ *
+ * Like [[MpscRingBuffer]], any number of threads may call [[offer]]
+ * concurrently and a single consumer thread calls [[take]] and [[drain]]; the
+ * single-consumer invariant is not checked. Unlike it, `offer` never fails:
+ * memory grows and shrinks with load instead of being sized for the worst
+ * case.
+ *
+ * The algorithm follows the JCTools `MpscUnboundedArrayQueue` design:
+ *   - Each chunk holds `chunkSize` slots plus a link to the next chunk. While
+ *     the consumer keeps up, producers wrap around the current chunk, so a
+ *     steady load allocates nothing.
+ *   - When a chunk is full, the producer that finds it so links a fresh chunk,
+ *     puts its element there, and leaves a `JUMP` marker in the old chunk.
+ *     The consumer follows the marker to the next chunk and drops the old
+ *     one, so an idle queue holds a single chunk.
+ *   - Indices advance by 2; an odd `producerIndex` means a producer is
+ *     linking a new chunk, and other producers wait for it to finish.
+ *   - The indices live in the padding hierarchy of [[MpscRingBuffer]]
+ *     (`MpscPad0`..`MpscPad3`), so producers and the consumer do not contend
+ *     on a cache line. The chunk references follow it and change once per
+ *     chunk.
+ *
+ * `take` has relaxed poll semantics: it may return `null` while a producer
+ * that has claimed the next slot has not yet written it.
+ *
+ * **Null elements are not permitted.** `offer(null)` throws
+ * `NullPointerException`.
+ *
+ * @param chunkSize
+ *   the slots per chunk, must be a power of two of at least 2
+ */
+final class MpscUnboundedArrayQueue[A <: AnyRef](val chunkSize: Int) extends MpscPad3 {
+  require(
+    chunkSize >= 2 && (chunkSize & (chunkSize - 1)) == 0,
+    s"chunkSize must be a power of 2 of at least 2, got: $chunkSize"
+  )
+
+  import MpscUnboundedArrayQueue._
+
+  // Indices advance by 2, so the mask is pre-shifted. A chunk is relinked
+  // once it holds `chunkSize - 1` elements: its last free slot takes the JUMP.
+  private val mask: Long = (chunkSize - 1).toLong << 1
+
+  // Written only by the producer linking a new chunk, before it releases
+  // `producerIndex`; producers read it after acquiring the index.
+  private var producerBuffer: Array[AnyRef] = new Array[AnyRef](chunkSize + 1)
+
+  // Consumer-only.
+  private var consumerBuffer: Array[AnyRef] = producerBuffer
+
+  producerLimit = mask
+
+  /**
+   * Inserts an element without blocking.
+   *
+   * Any thread may call this method concurrently. A producer claims a slot by
+   * CAS on `producerIndex` and writes the element with release semantics; the
+   * one that finds the chunk full links a new chunk first.
+   *
+   * @param a
+   *   the element to insert; must not be `null`
+   * @throws java.lang.NullPointerException
+   *   if the element is `null`
+   * @return
+   *   always `true`
+   */
+  def offer(a: A): Boolean = {
+    if (a == null) throw new NullPointerException("offer(null) is not permitted")
+
+    while (true) {
+      val pLimit = PRODUCER_LIMIT.getAcquire(this).asInstanceOf[Long]
+      val pIdx   = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+      if ((pIdx & 1L) == 1L) {
+        Thread.onSpinWait() // another producer is linking a new chunk
+      } else {
+        val m   = mask
+        val buf = producerBuffer
+        if (pIdx >= pLimit) {
+          val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+          if (cIdx + m > pIdx) {
+            // The consumer has freed slots in this chunk: raise the limit and retry.
+            PRODUCER_LIMIT.compareAndSet(this, pLimit, cIdx + m)
+          } else if (PRODUCER_INDEX.compareAndSet(this, pIdx, pIdx + 1L)) {
+            linkChunk(buf, pIdx, a)
+            return true
+          }
+        } else if (PRODUCER_INDEX.compareAndSet(this, pIdx, pIdx + 2L)) {
+          ARRAY_HANDLE.setRelease(buf, offsetOf(pIdx, m), a.asInstanceOf[AnyRef])
+          return true
+        }
+      }
+    }
+
+    false // unreachable, satisfies compiler
+  }
+
+  // Called holding the odd `producerIndex`: no other producer runs until it is
+  // released. The element and link are published before the JUMP marker, so
+  // the consumer finds both when it reaches the marker.
+  private def linkChunk(oldBuffer: Array[AnyRef], pIdx: Long, a: A): Unit = {
+    val m         = mask
+    val newBuffer = new Array[AnyRef](chunkSize + 1)
+    producerBuffer = newBuffer
+    ARRAY_HANDLE.setRelease(newBuffer, offsetOf(pIdx, m), a.asInstanceOf[AnyRef])
+    ARRAY_HANDLE.setRelease(oldBuffer, chunkSize, newBuffer.asInstanceOf[AnyRef])
+    PRODUCER_LIMIT.setRelease(this, pIdx + m)
+    PRODUCER_INDEX.setRelease(this, pIdx + 2L)
+    ARRAY_HANDLE.setRelease(oldBuffer, offsetOf(pIdx, m), JUMP)
+  }
+
+  /**
+   * Tries to remove an element without blocking.
+   *
+   * Reads the next slot with acquire semantics. A `null` slot means the queue
+   * is empty or a producer has claimed the slot but not yet written it; both
+   * return `null` (relaxed poll semantics). A `JUMP` marker moves the consumer
+   * to the next chunk, releasing the current one.
+   *
+   * @return
+   *   the element, or `null` if the queue is empty (or a producer is
+   *   mid-write)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def take(): A = {
+    val cIdx   = consumerIndex // plain read — single consumer
+    val buf    = consumerBuffer
+    val offset = offsetOf(cIdx, mask)
+
+    val e = ARRAY_HANDLE.getAcquire(buf, offset).asInstanceOf[AnyRef]
+    if (e eq null) return null.asInstanceOf[A]
+    if (e eq JUMP) return takeFromNextChunk(buf, cIdx)
+
+    ARRAY_HANDLE.setRelease(buf, offset, null.asInstanceOf[AnyRef])
+    CONSUMER_INDEX.setRelease(this, cIdx + 2L)
+    e.asInstanceOf[A]
+  }
+
+  private def takeFromNextChunk(buf: Array[AnyRef], cIdx: Long): A = {
+    val link = ARRAY_HANDLE.getAcquire(buf, chunkSize).asInstanceOf[AnyRef]
+    val next = link.asInstanceOf[Array[AnyRef]]
+    // Unlink the consumed chunk so it cannot keep later chunks reachable.
+    ARRAY_HANDLE.setRelease(buf, chunkSize, CONSUMED)
+    consumerBuffer = next
+    val offset = offsetOf(cIdx, mask)
+    val e      = ARRAY_HANDLE.getAcquire(next, offset).asInstanceOf[A]
+    if (e eq null) throw new IllegalStateException("new chunk must hold the element that linked it")
+    ARRAY_HANDLE.setRelease(next, offset, null.asInstanceOf[AnyRef])
+    CONSUMER_INDEX.setRelease(this, cIdx + 2L)
+    e
+  }
+
+  /**
+   * Returns the approximate number of elements currently in the queue.
+   *
+   * Under concurrent access this value is a snapshot and may be stale by the
+   * time the caller observes it.
+   */
+  def size: Int = {
+    var after = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+    while (true) {
+      val before = after
+      val pIdx   = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+      after = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+      if (before == after) return Math.min((pIdx - after) >> 1, Int.MaxValue.toLong).toInt
+    }
+    0 // unreachable
+  }
+
+  /**
+   * Returns `true` if the queue appears to contain no elements (approximate
+   * under concurrency).
+   */
+  def isEmpty: Boolean = {
+    val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+    val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+    (pIdx >> 1) == (cIdx >> 1)
+  }
+
+  /**
+   * Drains up to `limit` elements from the queue, passing each to the given
+   * consumer callback.
+   *
+   * Elements are consumed in FIFO order. Uses relaxed poll semantics: stops at
+   * the first `null` slot (either empty or producer mid-write).
+   *
+   * @param consumer
+   *   the callback invoked for each drained element
+   * @param limit
+   *   the maximum number of elements to drain; must be non-negative
+   * @throws java.lang.IllegalArgumentException
+   *   if `limit` is negative
+   * @return
+   *   the number of elements actually drained (0 if the queue is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def drain(consumer: A => Unit, limit: Int): Int = {
+    if (limit < 0) throw new IllegalArgumentException(s"limit is negative: $limit")
+    var count = 0
+    while (count < limit) {
+      val e = take()
+      if (e eq null) return count
+      count += 1
+      consumer(e)
+    }
+    count
+  }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking, one [[offer]] at a time. The queue is unbounded, so every
+   * element is inserted, but elements of concurrent producers may interleave
+   * with the batch.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   `len`
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    var i = 0
+    while (i < len && offer(src(off + i))) i += 1
+    i
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the queue is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var i = 0
+    while (i < len) {
+      val e = take()
+      if (e eq null) return i
+      dst(off + i) = e
+      i += 1
+    }
+    i
+  }
+}
+
+object MpscUnboundedArrayQueue {
+  private val PRODUCER_INDEX: VarHandle =
+    MethodHandles
+      .privateLookupIn(classOf[MpscProducerFields], MethodHandles.lookup())
+      .findVarHandle(classOf[MpscProducerFields], "producerIndex", classOf[Long])
+
+  private val PRODUCER_LIMIT: VarHandle =
+    MethodHandles
+      .privateLookupIn(classOf[MpscProducerLimitFields], MethodHandles.lookup())
+      .findVarHandle(classOf[MpscProducerLimitFields], "producerLimit", classOf[Long])
+
+  private val CONSUMER_INDEX: VarHandle =
+    MethodHandles
+      .privateLookupIn(classOf[MpscConsumerFields], MethodHandles.lookup())
+      .findVarHandle(classOf[MpscConsumerFields], "consumerIndex", classOf[Long])
+
+  private val ARRAY_HANDLE: VarHandle =
+    MethodHandles.arrayElementVarHandle(classOf[Array[AnyRef]])
+
+  /** Left in a full chunk's slot to send the consumer to the next chunk. */
+  private val JUMP: AnyRef = new AnyRef
+
+  /** Replaces the link of a chunk the consumer has left. */
+  private val CONSUMED: AnyRef = new AnyRef
+
+  /** The slot of index `idx` under the pre-shifted `mask`. */
+  private def offsetOf(idx: Long, mask: Long): Int = ((idx & mask) >> 1).toInt
+
+  /**
+   * Creates a new `MpscUnboundedArrayQueue` with the given chunk size.
+   *
+   * @param chunkSize
+   *   the slots per chunk, must be a power of two of at least 2
+   * @tparam A
+   *   the element type (must be a reference type)
+   * @return
+   *   a new lock-free unbounded MPSC queue
+   */
+  def apply[A <: AnyRef](chunkSize: Int): MpscUnboundedArrayQueue[A] = new MpscUnboundedArrayQueue[A](chunkSize)
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import java.nio.ByteBuffer
+import java.nio.file.Path
+
+/**
+ * Off-heap SPSC ring buffer specialized for `Double`: the same FastFlow
+ * algorithm and contract as [[DoubleSpscRingBuffer]], with the slots and both
+ * indices kept in a direct `ByteBuffer` instead of the Java heap.
+ *
+ * The reserved NaN bit patterns `DoubleSpscRingBuffer.EMPTY_BITS` and
+ * `DoubleSpscRingBuffer.DONE_BITS` are canonicalized on offer, and
+ * `pollPacked` returns them for an empty slot and the in-band done sentinel.
+ * A slot stores the raw bits XOR `EMPTY_BITS`, so that zeroed memory reads as
+ * empty.
+ *
+ * Created by [[OffHeapDoubleSpscRingBuffer.create]], the buffer is a
+ * memory-mapped file that another process can attach to with
+ * [[OffHeapDoubleSpscRingBuffer.open]]; the two then exchange values with no
+ * serialization. Each side must still be a single thread: one producer and
+ * one consumer across all processes.
+ */
+final class OffHeapDoubleSpscRingBuffer private (memory: ByteBuffer) {
+  import DoubleSpscRingBuffer.{DONE_BITS, EMPTY_BITS}
+  import OffHeapDoubleSpscRingBuffer.CANONICAL_NAN_BITS
+  import OffHeapRing._
+
+  /** The number of slots. */
+  val capacity: Int = capacityOf(memory)
+
+  private val mask: Long          = (capacity - 1).toLong
+  private val lookAheadStep: Long = Math.max(1, Math.min(capacity / 4, 4096)).toLong
+
+  def offer(a: Double): Boolean = publish(encode(a))
+
+  /**
+   * Insert the in-band done sentinel. Returns `false` if the buffer is full;
+   * the caller is expected to retry until it succeeds.
+   */
+  def offerDone(): Boolean = publish(DONE_BITS ^ EMPTY_BITS)
+
+  def peek(): Boolean = (VIEW.getAcquire(memory, slot(consumerIndex)): Long) != 0L
+
+  def take(): Double = java.lang.Double.longBitsToDouble(pollPacked())
+
+  /**
+   * Atomically polls the next slot and returns the raw bits:
+   *   - `EMPTY_BITS` — slot is empty; consumer index is NOT advanced.
+   *   - `DONE_BITS` — in-band done sentinel; consumer index advanced.
+   *   - any other value — `doubleToRawLongBits(value)` for the payload;
+   *     consumer index advanced. Decode with `Double.longBitsToDouble`.
+   */
+  def pollPacked(): Long = {
+    val cIdx   = consumerIndex
+    val offset = slot(cIdx)
+    val stored = (VIEW.getAcquire(memory, offset): Long)
+    if (stored == 0L) return EMPTY_BITS
+    VIEW.setRelease(memory, offset, 0L)
+    VIEW.setOpaque(memory, CONSUMER_INDEX_OFFSET, cIdx + 1L)
+    stored ^ EMPTY_BITS
+  }
+
+  /**
+   * Inserts up to `len` values from `src`, starting at `src(off)`, and returns
+   * how many were inserted (0 if the buffer is full). Reserved NaN bit
+   * patterns are canonicalized as by [[offer]]. The producer index is advanced
+   * once for the whole batch.
+   */
+  def offerAll(src: Array[Double], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    var pIdx = producerIndex
+    var i    = 0
+    while (i < len && (pIdx < producerLimit || offerSlowPath(pIdx))) {
+      VIEW.setRelease(memory, slot(pIdx), encode(src(off + i)))
+      pIdx += 1L
+      i += 1
+    }
+    if (i > 0) VIEW.setOpaque(memory, PRODUCER_INDEX_OFFSET, pIdx)
+    i
+  }
+
+  /**
+   * Removes up to `len` values into `dst`, starting at `dst(off)`, and returns
+   * how many were taken. Stops at an empty slot or at the done sentinel, which
+   * is left for [[pollPacked]]. The consumer index is advanced once for the
+   * whole batch.
+   */
+  def takeAll(dst: Array[Double], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var cIdx = consumerIndex
+    var i    = 0
+    while (i < len) {
+      val offset = slot(cIdx)
+      val stored = (VIEW.getAcquire(memory, offset): Long)
+      if (stored == 0L || stored == (DONE_BITS ^ EMPTY_BITS)) {
+        if (i > 0) VIEW.setOpaque(memory, CONSUMER_INDEX_OFFSET, cIdx)
+        return i
+      }
+      VIEW.setRelease(memory, offset, 0L)
+      dst(off + i) = java.lang.Double.longBitsToDouble(stored ^ EMPTY_BITS)
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) VIEW.setOpaque(memory, CONSUMER_INDEX_OFFSET, cIdx)
+    i
+  }
+
+  def isEmpty: Boolean = {
+    val cIdx = (VIEW.getAcquire(memory, CONSUMER_INDEX_OFFSET): Long)
+    val pIdx = (VIEW.getAcquire(memory, PRODUCER_INDEX_OFFSET): Long)
+    pIdx == cIdx
+  }
+
+  def isFull: Boolean = {
+    val cIdx = (VIEW.getAcquire(memory, CONSUMER_INDEX_OFFSET): Long)
+    val pIdx = (VIEW.getAcquire(memory, PRODUCER_INDEX_OFFSET): Long)
+    (pIdx - cIdx).toInt == capacity
+  }
+
+  def size: Int = {
+    val cIdx = (VIEW.getAcquire(memory, CONSUMER_INDEX_OFFSET): Long)
+    val pIdx = (VIEW.getAcquire(memory, PRODUCER_INDEX_OFFSET): Long)
+    (pIdx - cIdx).toInt
+  }
+
+  // Only the producer writes these two, and only the consumer the consumer
+  // index, so each side reads its own with a plain load.
+  private def producerIndex: Long = (VIEW.get(memory, PRODUCER_INDEX_OFFSET): Long)
+  private def producerLimit: Long = (VIEW.get(memory, PRODUCER_LIMIT_OFFSET): Long)
+  private def consumerIndex: Long = (VIEW.get(memory, CONSUMER_INDEX_OFFSET): Long)
+
+  private def encode(a: Double): Long = {
+    val rawBits = java.lang.Double.doubleToRawLongBits(a)
+    (if (rawBits == EMPTY_BITS || rawBits == DONE_BITS) CANONICAL_NAN_BITS else rawBits) ^ EMPTY_BITS
+  }
+
+  private def slot(idx: Long): Int = DATA_OFFSET + ((idx & mask).toInt << 3)
+
+  private def publish(stored: Long): Boolean = {
+    val pIdx = producerIndex
+    if (pIdx >= producerLimit) {
+      if (!offerSlowPath(pIdx)) return false
+    }
+    VIEW.setRelease(memory, slot(pIdx), stored)
+    VIEW.setOpaque(memory, PRODUCER_INDEX_OFFSET, pIdx + 1L)
+    true
+  }
+
+  private def offerSlowPath(pIdx: Long): Boolean =
+    if ((VIEW.getAcquire(memory, slot(pIdx + lookAheadStep)): Long) == 0L) {
+      VIEW.set(memory, PRODUCER_LIMIT_OFFSET, pIdx + lookAheadStep)
+      true
+    } else if ((VIEW.getAcquire(memory, slot(pIdx)): Long) != 0L) {
+      false
+    } else {
+      VIEW.set(memory, PRODUCER_LIMIT_OFFSET, pIdx + 1L)
+      true
+    }
+}
+
+object OffHeapDoubleSpscRingBuffer {
+
+  // Canonical NaN bit pattern (matches `Double.NaN`).
+  private final val CANONICAL_NAN_BITS: Long = 0x7ff8000000000000L
+
+  /**
+   * Allocates a buffer of `capacity` slots in a direct `ByteBuffer`, which is
+   * freed when the buffer is garbage collected.
+   *
+   * @param capacity
+   *   must be a power of two, at most `2^27`
+   */
+  def apply(capacity: Int): OffHeapDoubleSpscRingBuffer =
+    new OffHeapDoubleSpscRingBuffer(OffHeapRing.allocate(capacity, OffHeapRing.KIND_DOUBLE))
+
+  /**
+   * Creates an empty buffer of `capacity` slots in the file at `path` and maps
+   * it into memory. An existing file is truncated first, so no other process
+   * may still be using it.
+   *
+   * @param capacity
+   *   must be a power of two, at most `2^27`
+   */
+  def create(path: Path, capacity: Int): OffHeapDoubleSpscRingBuffer =
+    new OffHeapDoubleSpscRingBuffer(OffHeapRing.create(path, capacity, OffHeapRing.KIND_DOUBLE))
+
+  /**
+   * Maps the buffer that [[create]] made in the file at `path`, typically from
+   * another process, and attaches to it in its current state.
+   *
+   * @throws java.lang.IllegalStateException
+   *   if the creator has not finished initializing the file; retry later
+   * @throws java.lang.IllegalArgumentException
+   *   if the file does not hold an off-heap `Double` ring buffer
+   */
+  def open(path: Path): OffHeapDoubleSpscRingBuffer =
+    new OffHeapDoubleSpscRingBuffer(OffHeapRing.open(path, OffHeapRing.KIND_DOUBLE))
+}
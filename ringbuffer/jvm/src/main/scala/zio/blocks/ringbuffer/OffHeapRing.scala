@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import java.lang.invoke.{MethodHandles, VarHandle}
+import java.nio.{ByteBuffer, ByteOrder}
+import java.nio.channels.FileChannel
+import java.nio.file.{Path, StandardOpenOption}
+
+/**
+ * Memory layout and allocation of the off-heap SPSC ring buffers.
+ *
+ * Everything the two sides share lives in the buffer itself, so that two
+ * processes mapping the same file see one ring:
+ *   - bytes 0..23: header — magic, element kind, capacity
+ *   - byte 128: producer index, then the producer's cached limit
+ *   - byte 256: consumer index
+ *   - byte 384 on: `capacity` 8-byte slots
+ *
+ * Each group sits on its own pair of cache lines, like the padded fields of
+ * the heap buffers. A slot holding `0L` is empty, so freshly allocated memory
+ * and a freshly extended file need no initialization beyond the header. The
+ * magic is written last, with release semantics, so a process that sees it
+ * also sees the rest of the header.
+ */
+private[ringbuffer] object OffHeapRing {
+  final val KIND_LONG: Long   = 1L
+  final val KIND_DOUBLE: Long = 2L
+
+  final val PRODUCER_INDEX_OFFSET = 128
+  final val PRODUCER_LIMIT_OFFSET = 136
+  final val CONSUMER_INDEX_OFFSET = 256
+  final val DATA_OFFSET           = 384
+
+  /** Largest capacity whose slots fit in a `ByteBuffer`. */
+  final val MAX_CAPACITY = 1 << 27
+
+  private final val MAGIC: Long     = 0x5a42524e47000001L // "ZBRNG", layout version 1
+  private final val MAGIC_OFFSET    = 0
+  private final val KIND_OFFSET     = 8
+  private final val CAPACITY_OFFSET = 16
+
+  val VIEW: VarHandle = MethodHandles.byteBufferViewVarHandle(classOf[Array[Long]], ByteOrder.nativeOrder())
+
+  def byteSize(capacity: Int): Int = DATA_OFFSET + (capacity << 3)
+
+  def allocate(capacity: Int, kind: Long): ByteBuffer = {
+    checkCapacity(capacity)
+    // Align the start to 128 bytes so the header groups fall on cache-line pairs. `alignedSlice` also
+    // rounds the end down, so reserve whole 128-byte blocks plus the slack for the start.
+    val blocks = (byteSize(capacity) + 127) & ~127
+    init(ByteBuffer.allocateDirect(blocks + 127).alignedSlice(128), capacity, kind)
+  }
+
+  def create(path: Path, capacity: Int, kind: Long): ByteBuffer = {
+    checkCapacity(capacity)
+    val channel = FileChannel.open(
+      path,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.TRUNCATE_EXISTING,
+      StandardOpenOption.READ,
+      StandardOpenOption.WRITE
+    )
+    // The mapping stays valid after the channel is closed.
+    try init(channel.map(FileChannel.MapMode.READ_WRITE, 0L, byteSize(capacity).toLong), capacity, kind)
+    finally channel.close()
+  }
+
+  def open(path: Path, kind: Long): ByteBuffer = {
+    val channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+    try {
+      val size = channel.size()
+      // `create` truncates the file before it extends and maps it, so a short
+      // file is one still being created.
+      if (size < DATA_OFFSET.toLong)
+        throw new IllegalStateException(s"$path is not initialized yet: $size bytes")
+      val memory = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size)
+      val magic  = (VIEW.getAcquire(memory, MAGIC_OFFSET): Long)
+      if (magic == 0L) throw new IllegalStateException(s"$path is not initialized yet")
+      if (magic != MAGIC) throw new IllegalArgumentException(s"$path is not an off-heap ring buffer")
+      val k = (VIEW.get(memory, KIND_OFFSET): Long)
+      if (k != kind)
+        throw new IllegalArgumentException(s"$path holds ${kindName(k)} elements, not ${kindName(kind)}")
+      val capacity = (VIEW.get(memory, CAPACITY_OFFSET): Long)
+      if (
+        capacity <= 0L || capacity > MAX_CAPACITY || (capacity & (capacity - 1L)) != 0L ||
+        size != byteSize(capacity.toInt).toLong
+      ) throw new IllegalArgumentException(s"$path has a corrupt header: capacity $capacity, $size bytes")
+      memory
+    } finally channel.close()
+  }
+
+  def capacityOf(memory: ByteBuffer): Int = (VIEW.get(memory, CAPACITY_OFFSET): Long).toInt
+
+  private def checkCapacity(capacity: Int): Unit =
+    require(
+      capacity > 0 && capacity <= MAX_CAPACITY && (capacity & (capacity - 1)) == 0,
+      s"capacity must be a power of 2 between 1 and $MAX_CAPACITY, got: $capacity"
+    )
+
+  private def init(memory: ByteBuffer, capacity: Int, kind: Long): ByteBuffer = {
+    VIEW.set(memory, KIND_OFFSET, kind)
+    VIEW.set(memory, CAPACITY_OFFSET, capacity.toLong)
+    VIEW.setRelease(memory, MAGIC_OFFSET, MAGIC)
+    memory
+  }
+
+  private def kindName(kind: Long): String =
+    if (kind == KIND_LONG) "Long" else if (kind == KIND_DOUBLE) "Double" else s"unknown ($kind)"
+}
@@ -189,6 +189,100 @@ final class SpmcRingBuffer[A <: AnyRef](val capacity: Int) extends SpmcPad2 {
     (pIdx - cIdx).toInt == capacity
   }
 
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking.
+   *
+   * The elements are written into their slots first and published to the
+   * consumers together by a single release store of `producerIndex`.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   * @note
+   *   Must be called from the producer thread only.
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    if (len == 0) return 0
+    val pIdx = producerIndex
+
+    if (pIdx + len > producerLimit && !offerSlowPath(pIdx)) return 0
+
+    val n = Math.min(len.toLong, producerLimit - pIdx).toInt
+    var i = 0
+    while (i < n) {
+      ARRAY_HANDLE.set(buffer, ((pIdx + i) & mask).toInt, src(off + i).asInstanceOf[AnyRef])
+      i += 1
+    }
+    PRODUCER_INDEX.setRelease(this, pIdx + n)
+    n
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * Like [[take]], but claims the whole run of available elements, up to
+   * `len`, with a single CAS on `consumerIndex`. The elements are copied out
+   * before the CAS; if it fails, the copy is discarded and the loop retries.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   * @note
+   *   Safe to call from any consumer thread concurrently.
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    if (len == 0) return 0
+    var cIdx    = CONSUMER_INDEX.getVolatile(this).asInstanceOf[Long]
+    var written = 0
+    while (true) {
+      val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+      if (pIdx == cIdx) return 0
+
+      // As in take(), copy the elements out BEFORE the CAS releases their slots to the producer.
+      val n = Math.min(len.toLong, pIdx - cIdx).toInt
+      var i = 0
+      while (i < n) {
+        dst(off + i) = ARRAY_HANDLE.getAcquire(buffer, ((cIdx + i) & mask).toInt).asInstanceOf[A]
+        i += 1
+      }
+      if (n > written) written = n
+
+      if (CONSUMER_INDEX.compareAndSet(this, cIdx, cIdx + n)) {
+        // Clear what a longer, failed attempt left behind.
+        while (i < written) {
+          dst(off + i) = null.asInstanceOf[A]
+          i += 1
+        }
+        return n
+      }
+      // CAS failed — another consumer won. Re-read and retry.
+      cIdx = CONSUMER_INDEX.getVolatile(this).asInstanceOf[Long]
+    }
+    0 // unreachable; satisfies compiler
+  }
+
   private def offerSlowPath(pIdx: Long): Boolean = {
     val cIdx     = CONSUMER_INDEX.getVolatile(this).asInstanceOf[Long]
     val newLimit = cIdx + capacity.toLong
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import java.lang.invoke.{MethodHandles, VarHandle}
+
+/**
+ * A non-blocking SPSC ring buffer for generic reference types that starts at
+ * `initialCapacity` and doubles its backing array on demand, up to
+ * `maxCapacity`.
+ *
+ * Sized like [[SpscRingBuffer]] for the worst case, a buffer pays for its full
+ * array up front even when only a handful of elements ever pass through it.
+ * This one allocates the small array first and grows only when the producer
+ * finds it full, so short-lived or lightly loaded channels stay small.
+ *
+ * The algorithm follows the JCTools `SpscGrowableArrayQueue` design:
+ *   - Each array holds its capacity in slots plus a link to the next array.
+ *     While the array is not the last one, the producer keeps one slot free
+ *     using FastFlow look-ahead, exactly like [[SpscRingBuffer]].
+ *   - When only that slot is left, the producer allocates an array of twice
+ *     the capacity, writes its element there, links it from the old array and
+ *     leaves a `JUMP` marker in the free slot. Neither side takes a lock: the
+ *     consumer drains the old array, follows the marker and continues in the
+ *     new one.
+ *   - Once the array reaches `maxCapacity` it is never replaced. From then on
+ *     the producer bounds itself by `consumerIndex`, so elements still waiting
+ *     in older arrays count against `maxCapacity` and [[offer]] returns
+ *     `false` when the buffer holds `maxCapacity` elements.
+ *   - The indices live in the padding hierarchy of [[SpscRingBuffer]]
+ *     (`SpscPad0`..`SpscPad2`). The array references follow it and change
+ *     only when the buffer grows.
+ *
+ * Optimized for SPSC (Single Producer, Single Consumer). Only one producer
+ * thread and one consumer thread should access the buffer concurrently.
+ *
+ * **Null elements are not permitted.** `offer(null)` throws
+ * `NullPointerException`.
+ *
+ * @param initialCapacity
+ *   the capacity of the first array, must be a power of two of at least 2, or
+ *   equal to `maxCapacity`
+ * @param maxCapacity
+ *   the capacity the buffer may grow to, must be a power of two no smaller
+ *   than `initialCapacity`
+ */
+final class SpscGrowableRingBuffer[A <: AnyRef](val initialCapacity: Int, val maxCapacity: Int) extends SpscPad2 {
+  require(
+    initialCapacity > 0 && (initialCapacity & (initialCapacity - 1)) == 0,
+    s"initialCapacity must be a positive power of 2, got: $initialCapacity"
+  )
+  require(
+    maxCapacity >= initialCapacity && (maxCapacity & (maxCapacity - 1)) == 0,
+    s"maxCapacity must be a power of 2 no smaller than initialCapacity ($initialCapacity), got: $maxCapacity"
+  )
+  require(
+    initialCapacity >= 2 || maxCapacity == 1,
+    s"initialCapacity must be at least 2 for the buffer to grow, got: $initialCapacity"
+  )
+
+  import SpscGrowableRingBuffer._
+
+  // Producer-only. The array is one slot longer than its capacity: the last
+  // slot links the next array.
+  private var producerBuffer: Array[AnyRef] = new Array[AnyRef](initialCapacity + 1)
+  private var producerMask: Long            = (initialCapacity - 1).toLong
+
+  // Consumer-only.
+  private var consumerBuffer: Array[AnyRef] = producerBuffer
+  private var consumerMask: Long            = producerMask
+
+  /**
+   * Returns the capacity of the array the producer is currently writing to,
+   * between `initialCapacity` and `maxCapacity` (approximate when read off the
+   * producer thread).
+   */
+  def capacity: Int = producerBuffer.length - 1
+
+  /**
+   * Tries to insert an element into the buffer without blocking, growing the
+   * backing array if it is full and smaller than `maxCapacity`.
+   *
+   * @param a
+   *   the element to insert; must not be `null`
+   * @throws java.lang.NullPointerException
+   *   if the element is `null`
+   * @return
+   *   `true` if the element was successfully inserted, `false` if the buffer
+   *   holds `maxCapacity` elements
+   * @note
+   *   Must be called from the producer thread only.
+   */
+  def offer(a: A): Boolean = {
+    if (a == null) throw new NullPointerException("offer(null) is not permitted")
+    val buf  = producerBuffer
+    val m    = producerMask
+    val pIdx = producerIndex
+
+    if (pIdx >= producerLimit) return offerSlowPath(buf, m, pIdx, a)
+
+    ARRAY_HANDLE.setRelease(buf, (pIdx & m).toInt, a.asInstanceOf[AnyRef])
+    PRODUCER_INDEX.setOpaque(this, pIdx + 1L)
+    true
+  }
+
+  private def offerSlowPath(buf: Array[AnyRef], m: Long, pIdx: Long, a: A): Boolean = {
+    if (m + 1L == maxCapacity) {
+      // Final array: older arrays may still hold elements, so bound the total
+      // by the consumer index rather than by free slots.
+      val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+      if (pIdx - cIdx >= maxCapacity) return false
+      producerLimit = cIdx + maxCapacity
+    } else {
+      // Keep the slot at `producerLimit` free: it takes the JUMP on growth.
+      val lookAheadStep = Math.max(1L, Math.min((m + 1L) >> 2, 4096L))
+      if ((ARRAY_HANDLE.getAcquire(buf, ((pIdx + lookAheadStep) & m).toInt): AnyRef) eq null) {
+        producerLimit = pIdx + lookAheadStep
+      } else if ((ARRAY_HANDLE.getAcquire(buf, ((pIdx + 1L) & m).toInt): AnyRef) eq null) {
+        producerLimit = pIdx + 1L
+      } else {
+        grow(buf, m, pIdx, a)
+        return true
+      }
+    }
+
+    ARRAY_HANDLE.setRelease(buf, (pIdx & m).toInt, a.asInstanceOf[AnyRef])
+    PRODUCER_INDEX.setOpaque(this, pIdx + 1L)
+    true
+  }
+
+  // The element and link are published before the JUMP marker, so the
+  // consumer finds both when it reaches the marker.
+  private def grow(buf: Array[AnyRef], m: Long, pIdx: Long, a: A): Unit = {
+    val newCapacity = (buf.length - 1) << 1
+    val newBuffer   = new Array[AnyRef](newCapacity + 1)
+    val newMask     = (newCapacity - 1).toLong
+    producerBuffer = newBuffer
+    producerMask = newMask
+    producerLimit = pIdx + 1L // re-probe the new array on the next offer
+    ARRAY_HANDLE.setRelease(newBuffer, (pIdx & newMask).toInt, a.asInstanceOf[AnyRef])
+    ARRAY_HANDLE.setRelease(buf, buf.length - 1, newBuffer.asInstanceOf[AnyRef])
+    ARRAY_HANDLE.setRelease(buf, (pIdx & m).toInt, JUMP)
+    PRODUCER_INDEX.setOpaque(this, pIdx + 1L)
+  }
+
+  /**
+   * Tries to remove an element from the buffer without blocking. Reads the
+   * array slot directly: null = empty, non-null = data available. A `JUMP`
+   * marker moves the consumer to the next, larger array.
+   *
+   * @return
+   *   the element, or `null` if the buffer is empty
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def take(): A = {
+    val buf    = consumerBuffer
+    val cIdx   = consumerIndex
+    val offset = (cIdx & consumerMask).toInt
+
+    val e = ARRAY_HANDLE.getAcquire(buf, offset).asInstanceOf[AnyRef]
+    if (e eq null) return null.asInstanceOf[A]
+    if (e eq JUMP) return takeFromNextBuffer(buf, cIdx)
+
+    // Release orders the cleared slot before the index the final-array
+    // producer bounds itself by.
+    ARRAY_HANDLE.setRelease(buf, offset, null.asInstanceOf[AnyRef])
+    CONSUMER_INDEX.setRelease(this, cIdx + 1L)
+    e.asInstanceOf[A]
+  }
+
+  private def takeFromNextBuffer(buf: Array[AnyRef], cIdx: Long): A = {
+    val link     = ARRAY_HANDLE.getAcquire(buf, buf.length - 1).asInstanceOf[AnyRef]
+    val next     = link.asInstanceOf[Array[AnyRef]]
+    val nextMask = (next.length - 2).toLong
+    consumerBuffer = next
+    consumerMask = nextMask
+    val offset = (cIdx & nextMask).toInt
+    val e      = ARRAY_HANDLE.getAcquire(next, offset).asInstanceOf[A]
+    if (e eq null) throw new IllegalStateException("new array must hold the element that linked it")
+    ARRAY_HANDLE.setRelease(next, offset, null.asInstanceOf[AnyRef])
+    CONSUMER_INDEX.setRelease(this, cIdx + 1L)
+    e
+  }
+
+  /**
+   * Returns the number of elements currently in the buffer (approximate under
+   * concurrency).
+   */
+  def size: Int = {
+    val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+    val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+    (pIdx - cIdx).toInt
+  }
+
+  /**
+   * Returns `true` if the buffer contains no elements (approximate under
+   * concurrency).
+   */
+  def isEmpty: Boolean = {
+    val cIdx = CONSUMER_INDEX.getAcquire(this).asInstanceOf[Long]
+    val pIdx = PRODUCER_INDEX.getAcquire(this).asInstanceOf[Long]
+    pIdx == cIdx
+  }
+
+  /**
+   * Returns `true` if the buffer holds `maxCapacity` elements (approximate
+   * under concurrency).
+   */
+  def isFull: Boolean = size >= maxCapacity
+
+  /**
+   * Drains up to `limit` elements from the buffer, passing each to the given
+   * consumer callback.
+   *
+   * Elements are consumed in FIFO order, across array boundaries. The consumer
+   * index is advanced before each element is passed to the callback, so if the
+   * callback throws, all previously consumed elements remain consumed and the
+   * buffer is in a consistent state.
+   *
+   * @param consumer
+   *   the callback invoked for each drained element
+   * @param limit
+   *   the maximum number of elements to drain; must be non-negative
+   * @throws java.lang.IllegalArgumentException
+   *   if `limit` is negative
+   * @return
+   *   the number of elements actually drained (0 if the buffer is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def drain(consumer: A => Unit, limit: Int): Int = {
+    if (limit < 0) throw new IllegalArgumentException(s"limit is negative: $limit")
+    var count = 0
+    while (count < limit) {
+      val e = take()
+      if (e eq null) return count
+      count += 1
+      consumer(e)
+    }
+    count
+  }
+
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking, one [[offer]] at a time, growing the buffer as needed. Stops when
+   * it holds `maxCapacity` elements.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   * @note
+   *   Must be called from the producer thread only.
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    var i = 0
+    while (i < len && offer(src(off + i))) i += 1
+    i
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    var i = 0
+    while (i < len) {
+      val e = take()
+      if (e eq null) return i
+      dst(off + i) = e
+      i += 1
+    }
+    i
+  }
+}
+
+object SpscGrowableRingBuffer {
+  private val PRODUCER_INDEX: VarHandle =
+    MethodHandles
+      .privateLookupIn(classOf[SpscProducerFields], MethodHandles.lookup())
+      .findVarHandle(classOf[SpscProducerFields], "producerIndex", classOf[Long])
+
+  private val CONSUMER_INDEX: VarHandle =
+    MethodHandles
+      .privateLookupIn(classOf[SpscConsumerFields], MethodHandles.lookup())
+      .findVarHandle(classOf[SpscConsumerFields], "consumerIndex", classOf[Long])
+
+  private val ARRAY_HANDLE: VarHandle =
+    MethodHandles.arrayElementVarHandle(classOf[Array[AnyRef]])
+
+  /** Left in the last free slot of an outgrown array to send the consumer on. */
+  private val JUMP: AnyRef = new AnyRef
+
+  /**
+   * Creates a new [[SpscGrowableRingBuffer]].
+   *
+   * @param initialCapacity
+   *   the capacity of the first array, must be a power of two of at least 2,
+   *   or equal to `maxCapacity`
+   * @param maxCapacity
+   *   the capacity the buffer may grow to, must be a power of two no smaller
+   *   than `initialCapacity`
+   * @tparam A
+   *   the element type (must be a reference type)
+   * @return
+   *   a new growable SPSC ring buffer
+   */
+  def apply[A <: AnyRef](initialCapacity: Int, maxCapacity: Int): SpscGrowableRingBuffer[A] =
+    new SpscGrowableRingBuffer[A](initialCapacity, maxCapacity)
+}
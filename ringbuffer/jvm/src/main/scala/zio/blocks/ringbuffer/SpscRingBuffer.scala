@@ -243,6 +243,89 @@ final class SpscRingBuffer[A <: AnyRef](val capacity: Int) extends SpscPad2 {
     count
   }
 
+  /**
+   * Inserts up to `len` elements from `src`, starting at `src(off)`, without
+   * blocking.
+   *
+   * Each element is published through its slot, as by [[offer]], but the
+   * producer index is advanced once for the whole batch.
+   *
+   * @param src
+   *   the elements to insert; none of `src(off until off + len)` may be `null`
+   * @param off
+   *   the index in `src` of the first element to insert
+   * @param len
+   *   the maximum number of elements to insert
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `src`
+   * @throws java.lang.NullPointerException
+   *   if the range holds a `null` element; nothing is inserted then
+   * @return
+   *   the number of elements inserted, from `src(off)` on (0 if the buffer is
+   *   full)
+   * @note
+   *   Must be called from the producer thread only.
+   */
+  def offerAll(src: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(src.length, off, len)
+    Bulk.checkNoNulls(src, off, len)
+    val buf  = buffer
+    val m    = mask
+    var pIdx = producerIndex
+    var i    = 0
+
+    while (i < len && (pIdx < producerLimit || offerSlowPath(buf, m, pIdx))) {
+      ARRAY_HANDLE.setRelease(buf, (pIdx & m).toInt, src(off + i).asInstanceOf[AnyRef])
+      pIdx += 1L
+      i += 1
+    }
+    if (i > 0) PRODUCER_INDEX.setOpaque(this, pIdx)
+    i
+  }
+
+  /**
+   * Removes up to `len` elements without blocking and stores them in `dst`,
+   * starting at `dst(off)`, in FIFO order.
+   *
+   * Each slot is cleared as it is read, as by [[take]], but the consumer index
+   * is advanced once for the whole batch.
+   *
+   * @param dst
+   *   the array receiving the elements
+   * @param off
+   *   the index in `dst` of the first element taken
+   * @param len
+   *   the maximum number of elements to take
+   * @throws java.lang.IndexOutOfBoundsException
+   *   if `off` and `len` do not describe a range of `dst`
+   * @return
+   *   the number of elements taken (0 if the buffer is empty)
+   * @note
+   *   Must be called from the consumer thread only.
+   */
+  def takeAll(dst: Array[A], off: Int, len: Int): Int = {
+    Bulk.checkRange(dst.length, off, len)
+    val buf  = buffer
+    val m    = mask
+    var cIdx = consumerIndex
+    var i    = 0
+
+    while (i < len) {
+      val offset = (cIdx & m).toInt
+      val e      = ARRAY_HANDLE.getAcquire(buf, offset).asInstanceOf[A]
+      if (e eq null) {
+        if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+        return i
+      }
+      ARRAY_HANDLE.setRelease(buf, offset, null.asInstanceOf[AnyRef])
+      dst(off + i) = e
+      cIdx += 1L
+      i += 1
+    }
+    if (i > 0) CONSUMER_INDEX.setOpaque(this, cIdx)
+    i
+  }
+
   private def offerSlowPath(buf: Array[AnyRef], m: Long, pIdx: Long): Boolean = {
     val lookAheadOffset = ((pIdx + lookAheadStep) & m).toInt
     if ((ARRAY_HANDLE.getAcquire(buf, lookAheadOffset): AnyRef) eq null) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import java.lang.invoke.VarHandle
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.{LockSupport, ReentrantLock}
+
+/**
+ * How a thread waits on a ring buffer it found full or empty, and how the
+ * thread on the other side wakes it.
+ *
+ * The ring buffers themselves never block; a blocking wrapper retries the
+ * failed `offer` or `take` and, between attempts, waits on a
+ * [[WaitStrategy.Condition]] created by [[newCondition]] — one per side of
+ * each buffer. The other side calls [[WaitStrategy.Condition#signal]] after
+ * every successful operation.
+ *
+ * The strategies trade latency for CPU:
+ *   - [[WaitStrategy.BusySpin]] never gives up its core. Lowest latency, for
+ *     threads pinned to dedicated cores.
+ *   - [[WaitStrategy.SpinYield]] spins, then yields to other threads.
+ *   - [[WaitStrategy.Parking]] spins, then parks with exponential backoff
+ *     and is unparked by `signal`. The default of the blocking queues.
+ *   - [[WaitStrategy.Blocking]] waits on a lock and condition variable right
+ *     away, until signaled. Cheapest when idle, for batch jobs.
+ */
+abstract class WaitStrategy {
+
+  /** Creates the wait point of one side of one ring buffer. */
+  def newCondition(): WaitStrategy.Condition
+}
+
+object WaitStrategy {
+
+  /**
+   * The wait point of one side of a ring buffer: threads that cannot proceed
+   * wait on it, and the other side signals it.
+   *
+   * A suspending strategy registers the waiter, then re-checks `ready`, then
+   * suspends. [[WaitStrategy.Blocking]] also fences in `signal`, so it never
+   * loses a wakeup; [[WaitStrategy.Parking]] keeps `signal` to one volatile
+   * read and bounds a lost wakeup by its current park time instead.
+   */
+  abstract class Condition {
+
+    /**
+     * Waits once before the caller retries. `round` counts the caller's failed
+     * attempts so far, starting at 0. `ready` tells whether a retry may now
+     * succeed (it must also be `true` once the buffer is closed); strategies
+     * that suspend the thread re-check it after registering for [[signal]].
+     * May return spuriously.
+     */
+    def await(round: Int, ready: () => Boolean): Unit
+
+    /**
+     * Like [[await]], but returns no later than `deadlineNanos`, a
+     * `System.nanoTime` value.
+     */
+    def awaitUntil(round: Int, ready: () => Boolean, deadlineNanos: Long): Unit
+
+    /**
+     * Wakes the threads waiting on this condition, if any. Called after every
+     * successful operation on the other side, so it must be cheap when nobody
+     * waits.
+     */
+    def signal(): Unit
+  }
+
+  /** Spins with `Thread.onSpinWait` and never suspends the thread. */
+  object BusySpin extends WaitStrategy {
+    private val condition: Condition = new Condition {
+      def await(round: Int, ready: () => Boolean): Unit                           = Thread.onSpinWait()
+      def awaitUntil(round: Int, ready: () => Boolean, deadlineNanos: Long): Unit = Thread.onSpinWait()
+      def signal(): Unit                                                          = ()
+    }
+
+    def newCondition(): Condition = condition
+  }
+
+  /** Spins for `spins` rounds, then calls `Thread.yield` on every round. */
+  final case class SpinYield(spins: Int = 100) extends WaitStrategy {
+    require(spins >= 0, s"SpinYield requires spins >= 0, got: $spins")
+
+    private val condition: Condition = new Condition {
+      def await(round: Int, ready: () => Boolean): Unit =
+        if (round < spins) Thread.onSpinWait() else Thread.`yield`()
+      def awaitUntil(round: Int, ready: () => Boolean, deadlineNanos: Long): Unit = await(round, ready)
+      def signal(): Unit                                                          = ()
+    }
+
+    def newCondition(): Condition = condition
+  }
+
+  /**
+   * Spins for `spins` rounds, then parks. The first park lasts
+   * `minParkNanos`, and each further one twice as long, up to
+   * `maxParkNanos`; `signal` unparks every parked thread.
+   *
+   * `signal` costs one volatile read when nobody waits, and issues no fence,
+   * so a signal can race with a thread about to park. Such a wakeup is late by
+   * at most the thread's current park, and an idle side wakes at most once
+   * per `maxParkNanos`.
+   */
+  final case class Parking(spins: Int = 1024, minParkNanos: Long = 1000L, maxParkNanos: Long = 10000000L)
+      extends WaitStrategy {
+    require(spins >= 0, s"Parking requires spins >= 0, got: $spins")
+    require(minParkNanos > 0L, s"Parking requires minParkNanos > 0, got: $minParkNanos")
+    require(maxParkNanos >= minParkNanos, s"Parking requires maxParkNanos >= minParkNanos, got: $maxParkNanos")
+
+    def newCondition(): Condition = new ParkingCondition(spins, minParkNanos, maxParkNanos)
+  }
+
+  /**
+   * Waits on a `java.util.concurrent.locks.Condition` under a `ReentrantLock`
+   * without spinning, until `signal` wakes it. `signal` fences, so no wakeup is
+   * ever lost, and takes the lock only when a thread waits.
+   */
+  object Blocking extends WaitStrategy {
+    def newCondition(): Condition = new BlockingCondition
+  }
+
+  private final class ParkingCondition(spins: Int, minParkNanos: Long, maxParkNanos: Long) extends Condition {
+    private val parked  = new ConcurrentLinkedQueue[Thread]()
+    private val waiting = new AtomicInteger(0)
+
+    def await(round: Int, ready: () => Boolean): Unit =
+      park(round, ready, timed = false, 0L)
+
+    def awaitUntil(round: Int, ready: () => Boolean, deadlineNanos: Long): Unit =
+      park(round, ready, timed = true, deadlineNanos)
+
+    private def park(round: Int, ready: () => Boolean, timed: Boolean, deadlineNanos: Long): Unit =
+      if (round < spins) Thread.onSpinWait()
+      else {
+        val t = Thread.currentThread()
+        waiting.incrementAndGet()
+        parked.add(t)
+        try {
+          if (!ready()) {
+            val doublings = Math.min(round - spins, 62)
+            val backoff   =
+              if (minParkNanos > (maxParkNanos >> doublings)) maxParkNanos else minParkNanos << doublings
+            val nanos     = if (timed) Math.min(backoff, deadlineNanos - System.nanoTime()) else backoff
+            if (nanos > 0L) LockSupport.parkNanos(this, nanos)
+          }
+        } finally {
+          parked.remove(t)
+          waiting.decrementAndGet()
+        }
+      }
+
+    def signal(): Unit =
+      if (waiting.get() != 0) {
+        val it = parked.iterator()
+        while (it.hasNext) LockSupport.unpark(it.next())
+      }
+  }
+
+  private final class BlockingCondition extends Condition {
+    private val lock    = new ReentrantLock()
+    private val waiting = new AtomicInteger(0)
+    private val cond    = lock.newCondition()
+
+    def await(round: Int, ready: () => Boolean): Unit =
+      block(ready, timed = false, 0L)
+
+    def awaitUntil(round: Int, ready: () => Boolean, deadlineNanos: Long): Unit =
+      block(ready, timed = true, deadlineNanos)
+
+    // The waiter registers and re-checks `ready` under the lock, and `signal`
+    // takes the lock before it signals, so a signal cannot fall between the
+    // re-check and the wait.
+    private def block(ready: () => Boolean, timed: Boolean, deadlineNanos: Long): Unit = {
+      lock.lock()
+      try {
+        waiting.incrementAndGet()
+        try {
+          if (!ready()) {
+            // Like a park, an interrupt ends the wait and stays pending.
+            try {
+              if (!timed) cond.await()
+              else {
+                val nanos = deadlineNanos - System.nanoTime()
+                if (nanos > 0L) cond.awaitNanos(nanos)
+              }
+            } catch { case _: InterruptedException => Thread.currentThread().interrupt() }
+          }
+        } finally waiting.decrementAndGet()
+      } finally lock.unlock()
+    }
+
+    def signal(): Unit = {
+      VarHandle.fullFence()
+      if (waiting.get() != 0) {
+        lock.lock()
+        try cond.signalAll()
+        finally lock.unlock()
+      }
+    }
+  }
+}
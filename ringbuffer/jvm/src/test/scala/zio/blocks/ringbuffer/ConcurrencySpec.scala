@@ -177,6 +177,11 @@ object ConcurrencySpec extends ZIOSpecDefault {
       capacitySweepTest(4),
       capacitySweepTest(16),
       capacitySweepTest(1024)
+    ),
+    suite("Growable Sweep: SPSC hammer through SpscGrowableRingBuffer")(
+      growableSweepTest(2, 4),
+      growableSweepTest(2, 1024),
+      growableSweepTest(16, 16)
     )
   )
 
@@ -233,4 +238,63 @@ object ConcurrencySpec extends ZIOSpecDefault {
         )
       }
     } @@ TestAspect.timeout(60.seconds)
+
+  private def growableSweepTest(initial: Int, max: Int) =
+    test(s"SPSC hammer with initialCapacity=$initial, maxCapacity=$max") {
+      ZIO.attemptBlocking {
+        val count       = 50_000
+        val rb          = new SpscGrowableRingBuffer[java.lang.Integer](initial, max)
+        val expectedSum = count.toLong * (count - 1) / 2
+
+        val producerDone = new CountDownLatch(1)
+        val consumerDone = new CountDownLatch(1)
+        val actualSum    = new AtomicLong(0L)
+        val orderError   = new AtomicBoolean(false)
+        val boundError   = new AtomicBoolean(false)
+
+        val producer = new Thread(() => {
+          var i = 0
+          while (i < count) {
+            if (rb.offer(java.lang.Integer.valueOf(i))) {
+              // On the producer thread, size is an upper bound of the occupancy.
+              if (rb.size > max) boundError.set(true)
+              i += 1
+            } else {
+              Thread.onSpinWait()
+            }
+          }
+          producerDone.countDown()
+        })
+
+        val consumer = new Thread(() => {
+          var received = 0
+          var expected = 0
+          while (received < count) {
+            val v = rb.take()
+            if (v ne null) {
+              if (v.intValue() != expected) orderError.set(true)
+              actualSum.addAndGet(v.longValue())
+              expected += 1
+              received += 1
+            } else {
+              Thread.onSpinWait()
+            }
+          }
+          consumerDone.countDown()
+        })
+
+        producer.start()
+        consumer.start()
+        producerDone.await()
+        consumerDone.await()
+
+        assertTrue(
+          !orderError.get(),
+          !boundError.get(),
+          actualSum.get() == expectedSum,
+          rb.capacity <= max,
+          rb.isEmpty
+        )
+      }
+    } @@ TestAspect.timeout(60.seconds)
 }
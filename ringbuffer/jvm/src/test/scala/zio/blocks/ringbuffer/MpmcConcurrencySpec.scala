@@ -45,6 +45,14 @@ object MpmcConcurrencySpec extends ZIOSpecDefault {
       numConsumers = 1,
       totalItems = 100_000,
       bufferCapacity = 1024
+    ),
+    mpmcHammerTest(
+      label = "4 producers, 4 consumers, 100K items, offerAll/takeAll batches",
+      numProducers = 4,
+      numConsumers = 4,
+      totalItems = 100_000,
+      bufferCapacity = 64,
+      batchSize = 5
     )
   )
 
@@ -54,14 +62,16 @@ object MpmcConcurrencySpec extends ZIOSpecDefault {
    * Each producer is assigned a contiguous range of integers. All consumers
    * collect consumed values into a shared AtomicLong sum. We verify: total sum
    * matches expected, total count matches expected, meaning each element was
-   * consumed exactly once.
+   * consumed exactly once. With `batchSize > 1`, producers and consumers move
+   * up to `batchSize` elements per `offerAll` / `takeAll` call.
    */
   private def mpmcHammerTest(
     label: String,
     numProducers: Int,
     numConsumers: Int,
     totalItems: Int,
-    bufferCapacity: Int
+    bufferCapacity: Int,
+    batchSize: Int = 1
   ): Spec[Any, Throwable] =
     test(label) {
       ZIO.attemptBlocking {
@@ -83,11 +93,19 @@ object MpmcConcurrencySpec extends ZIOSpecDefault {
           new Thread(
             () => {
               var i = start
-              while (i < end) {
-                if (rb.offer(java.lang.Long.valueOf(i))) {
-                  i += 1
-                } else {
-                  Thread.onSpinWait()
+              if (batchSize > 1) {
+                val src = Array.tabulate((end - start).toInt)(k => java.lang.Long.valueOf(start + k))
+                while (i < end) {
+                  val n = rb.offerAll(src, (i - start).toInt, Math.min(batchSize.toLong, end - i).toInt)
+                  if (n == 0) Thread.onSpinWait() else i += n
+                }
+              } else {
+                while (i < end) {
+                  if (rb.offer(java.lang.Long.valueOf(i))) {
+                    i += 1
+                  } else {
+                    Thread.onSpinWait()
+                  }
                 }
               }
               producersDone.countDown()
@@ -99,21 +117,41 @@ object MpmcConcurrencySpec extends ZIOSpecDefault {
         val consumers = (0 until numConsumers).map { cId =>
           new Thread(
             () => {
+              val dst        = new Array[java.lang.Long](batchSize)
               var localSum   = 0L
               var localCount = 0L
               var running    = true
+
+              def takeSome(): Int =
+                if (batchSize > 1) rb.takeAll(dst, 0, batchSize)
+                else {
+                  val v = rb.take()
+                  if (v == null) 0
+                  else {
+                    dst(0) = v
+                    1
+                  }
+                }
+
+              def add(n: Int): Unit = {
+                var k = 0
+                while (k < n) {
+                  localSum += dst(k).longValue()
+                  k += 1
+                }
+                localCount += n
+              }
+
               while (running) {
-                val v = rb.take()
-                if (v != null) {
-                  localSum += v.longValue()
-                  localCount += 1
+                val n = takeSome()
+                if (n > 0) {
+                  add(n)
                 } else if (allProducersFinished.get()) {
                   // Drain remaining
-                  var v2 = rb.take()
-                  while (v2 != null) {
-                    localSum += v2.longValue()
-                    localCount += 1
-                    v2 = rb.take()
+                  var n2 = takeSome()
+                  while (n2 > 0) {
+                    add(n2)
+                    n2 = takeSome()
                   }
                   actualSum.addAndGet(localSum)
                   actualCount.addAndGet(localCount)
@@ -197,6 +197,140 @@ object MpscConcurrencySpec extends ZIOSpecDefault {
           rb.isEmpty
         )
       }
+    } @@ TestAspect.timeout(60.seconds),
+    test("4 batching producers, 1 batching consumer, 200K items: no loss, per-producer FIFO") {
+      ZIO.attemptBlocking {
+        val numProducers     = 4
+        val itemsPerProducer = 50_000
+        val totalItems       = numProducers * itemsPerProducer
+        val rb               = new MpscRingBuffer[java.lang.Long](256)
+        val producersDone    = new CountDownLatch(numProducers)
+
+        val producers = (0 until numProducers).map { p =>
+          new Thread(() => {
+            val src = Array.tabulate(itemsPerProducer)(i => java.lang.Long.valueOf(p.toLong * totalItems + i))
+            var i   = 0
+            while (i < itemsPerProducer) {
+              val n = rb.offerAll(src, i, Math.min(7, itemsPerProducer - i))
+              if (n == 0) Thread.onSpinWait() else i += n
+            }
+            producersDone.countDown()
+          })
+        }
+        producers.foreach(_.start())
+
+        val dst      = new Array[java.lang.Long](32)
+        val next     = new Array[Long](numProducers)
+        var ordered  = true
+        var received = 0
+        while (received < totalItems) {
+          val n = rb.takeAll(dst, 0, dst.length)
+          if (n == 0) Thread.onSpinWait()
+          var k = 0
+          while (k < n) {
+            val v = dst(k).longValue()
+            val p = (v / totalItems).toInt
+            if (v % totalItems != next(p)) ordered = false
+            next(p) += 1
+            k += 1
+          }
+          received += n
+        }
+        producersDone.await()
+
+        assertTrue(ordered, next.forall(_ == itemsPerProducer.toLong), rb.isEmpty)
+      }
+    } @@ TestAspect.timeout(60.seconds),
+    test("unbounded queue: 4 producers, 1 consumer, 200K items: never rejects, per-producer FIFO") {
+      ZIO.attemptBlocking {
+        val numProducers     = 4
+        val itemsPerProducer = 50_000
+        val totalItems       = numProducers * itemsPerProducer
+
+        // Small chunks force frequent linking while the consumer lags behind.
+        val q             = new MpscUnboundedArrayQueue[java.lang.Long](16)
+        val producersDone = new CountDownLatch(numProducers)
+        val consumerDone  = new CountDownLatch(1)
+        val rejected      = new AtomicLong(0L)
+        val actualCount   = new AtomicLong(0L)
+        val outOfOrder    = new AtomicLong(0L)
+
+        val producers = (0 until numProducers).map { p =>
+          new Thread(() => {
+            val base = p.toLong * totalItems
+            var i    = 0
+            while (i < itemsPerProducer) {
+              if (!q.offer(java.lang.Long.valueOf(base + i))) rejected.incrementAndGet()
+              i += 1
+            }
+            producersDone.countDown()
+          })
+        }
+
+        val consumer = new Thread(() => {
+          val lastSeen = Array.fill(numProducers)(-1L)
+          var received = 0
+          while (received < totalItems) {
+            val v = q.take()
+            if (v != null) {
+              val p   = (v.longValue() / totalItems).toInt
+              val seq = v.longValue() % totalItems
+              if (seq != lastSeen(p) + 1) outOfOrder.incrementAndGet()
+              lastSeen(p) = seq
+              actualCount.incrementAndGet()
+              received += 1
+            } else {
+              Thread.onSpinWait()
+            }
+          }
+          consumerDone.countDown()
+        })
+
+        producers.foreach(_.start())
+        consumer.start()
+        producersDone.await()
+        consumerDone.await()
+
+        assertTrue(
+          rejected.get() == 0L,
+          actualCount.get() == totalItems.toLong,
+          outOfOrder.get() == 0L,
+          q.isEmpty,
+          q.take() == null
+        )
+      }
+    } @@ TestAspect.timeout(60.seconds),
+    test("unbounded queue: drain keeps up with concurrent producers") {
+      ZIO.attemptBlocking {
+        val numProducers     = 3
+        val itemsPerProducer = 100_000
+        val totalItems       = numProducers * itemsPerProducer
+        val q                = new MpscUnboundedArrayQueue[java.lang.Long](64)
+        val expectedSum      = (0L until totalItems.toLong).sum
+        val producersDone    = new CountDownLatch(numProducers)
+
+        val producers = (0 until numProducers).map { p =>
+          new Thread(() => {
+            var i = p
+            while (i < totalItems) {
+              q.offer(java.lang.Long.valueOf(i.toLong))
+              i += numProducers
+            }
+            producersDone.countDown()
+          })
+        }
+        producers.foreach(_.start())
+
+        var sum      = 0L
+        var received = 0
+        while (received < totalItems) {
+          val n = q.drain(v => sum += v.longValue(), 256)
+          if (n == 0) Thread.onSpinWait() else received += n
+        }
+        producersDone.await()
+
+        assertTrue(sum == expectedSum, q.isEmpty)
+      }
     } @@ TestAspect.timeout(60.seconds)
   )
 }
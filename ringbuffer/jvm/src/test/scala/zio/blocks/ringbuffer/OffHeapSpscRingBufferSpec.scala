@@ -0,0 +1,219 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import zio._
+import zio.test._
+
+import java.nio.file.{Files, Path}
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.{AtomicBoolean, AtomicLong}
+
+object OffHeapSpscRingBufferSpec extends ZIOSpecDefault {
+  def spec = suite("OffHeapSpscRingBufferSpec")(
+    longSuite,
+    doubleSuite,
+    mappedSuite
+  )
+
+  private val longSuite = suite("OffHeapLongSpscRingBuffer")(
+    test("capacity must be a power of two") {
+      assertTrue(
+        throws(OffHeapLongSpscRingBuffer(0)),
+        throws(OffHeapLongSpscRingBuffer(3)),
+        throws(OffHeapLongSpscRingBuffer(1 << 28)),
+        OffHeapLongSpscRingBuffer(1).capacity == 1
+      )
+    },
+    test("FIFO ordering, including 0 and boundary values") {
+      val rb     = OffHeapLongSpscRingBuffer(8)
+      val values = List(0L, -1L, 1L, Long.MaxValue, Long.MinValue + 2L)
+      values.foreach(rb.offer)
+      val taken = values.map(_ => rb.take())
+      assertTrue(taken == values, rb.isEmpty, rb.pollPacked() == LongSpscRingBuffer.EMPTY)
+    },
+    test("full buffer rejects offer") {
+      val rb = OffHeapLongSpscRingBuffer(4)
+      (1L to 4L).foreach(rb.offer)
+      assertTrue(!rb.offer(5L), rb.isFull, rb.size == 4, rb.take() == 1L, rb.offer(5L))
+    },
+    test("reserved values are rejected") {
+      val rb = OffHeapLongSpscRingBuffer(4)
+      assertTrue(throws(rb.offer(Long.MinValue)), throws(rb.offer(Long.MinValue + 1L)), rb.isEmpty)
+    },
+    test("DONE follows the data and is left in place by takeAll") {
+      val rb = OffHeapLongSpscRingBuffer(8)
+      rb.offerAll(Array(1L, 2L, 3L), 0, 3)
+      rb.offerDone()
+      val dst   = new Array[Long](8)
+      val taken = rb.takeAll(dst, 0, 8)
+      assertTrue(taken == 3, dst.take(3).toList == List(1L, 2L, 3L), rb.pollPacked() == LongSpscRingBuffer.DONE)
+    },
+    test("wrap-around fill drain refill") {
+      val rb  = OffHeapLongSpscRingBuffer(4)
+      var ok  = true
+      var seq = 0L
+      (0 until 10).foreach { _ =>
+        (0 until 3).foreach(i => ok &&= rb.offer(seq + i))
+        (0 until 3).foreach(i => ok &&= rb.take() == seq + i)
+        seq += 3
+      }
+      assertTrue(ok, rb.isEmpty)
+    }
+  )
+
+  private val doubleSuite = suite("OffHeapDoubleSpscRingBuffer")(
+    test("FIFO ordering, including -0.0 and infinities") {
+      val rb     = OffHeapDoubleSpscRingBuffer(8)
+      val values = List(0.0, -0.0, 1.5, Double.PositiveInfinity, Double.NegativeInfinity, Double.MinPositiveValue)
+      values.foreach(rb.offer)
+      val taken = values.map(_ => java.lang.Double.doubleToRawLongBits(rb.take()))
+      assertTrue(taken == values.map(java.lang.Double.doubleToRawLongBits), rb.isEmpty)
+    },
+    test("sentinel-bit NaNs are canonicalized but still observed as NaN") {
+      val rb = OffHeapDoubleSpscRingBuffer(4)
+      rb.offer(java.lang.Double.longBitsToDouble(DoubleSpscRingBuffer.EMPTY_BITS))
+      rb.offerAll(Array(java.lang.Double.longBitsToDouble(DoubleSpscRingBuffer.DONE_BITS)), 0, 1)
+      val first  = rb.take()
+      val second = rb.take()
+      assertTrue(first.isNaN, second.isNaN, rb.pollPacked() == DoubleSpscRingBuffer.EMPTY_BITS)
+    },
+    test("offerDone produces DONE_BITS") {
+      val rb = OffHeapDoubleSpscRingBuffer(4)
+      rb.offer(2.5)
+      rb.offerDone()
+      val data = rb.pollPacked()
+      assertTrue(
+        java.lang.Double.longBitsToDouble(data) == 2.5,
+        rb.pollPacked() == DoubleSpscRingBuffer.DONE_BITS,
+        rb.pollPacked() == DoubleSpscRingBuffer.EMPTY_BITS
+      )
+    }
+  )
+
+  private val mappedSuite = suite("memory-mapped file")(
+    test("a second mapping of the file sees the same ring") {
+      withFile { path =>
+        val producer = OffHeapLongSpscRingBuffer.create(path, 16)
+        producer.offerAll(Array(10L, 20L, 30L), 0, 3)
+        val consumer = OffHeapLongSpscRingBuffer.open(path)
+        val first    = consumer.take()
+        assertTrue(consumer.capacity == 16, first == 10L, producer.size == 2, consumer.size == 2)
+      }
+    },
+    test("create resets an existing file") {
+      withFile { path =>
+        OffHeapDoubleSpscRingBuffer.create(path, 8).offer(1.0)
+        val rb = OffHeapDoubleSpscRingBuffer.create(path, 4)
+        assertTrue(rb.isEmpty, rb.capacity == 4, OffHeapDoubleSpscRingBuffer.open(path).capacity == 4)
+      }
+    },
+    test("open rejects a file of the other kind and garbage") {
+      withFile { path =>
+        OffHeapLongSpscRingBuffer.create(path, 8)
+        val wrongKind = throws(OffHeapDoubleSpscRingBuffer.open(path))
+        Files.write(path, Array.fill[Byte](1024)(7))
+        val garbage = throws(OffHeapLongSpscRingBuffer.open(path))
+        assertTrue(wrongKind, garbage)
+      }
+    },
+    test("open reports an empty, short or zeroed file as not initialized yet") {
+      withFile { path =>
+        val empty = notInitialized(OffHeapLongSpscRingBuffer.open(path))
+        Files.write(path, new Array[Byte](16))
+        val short = notInitialized(OffHeapLongSpscRingBuffer.open(path))
+        Files.write(path, new Array[Byte](1024))
+        val zeroed = notInitialized(OffHeapLongSpscRingBuffer.open(path))
+        assertTrue(empty, short, zeroed)
+      }
+    },
+    test("1p1c stress 100k through two mappings") {
+      ZIO.attemptBlocking {
+        withFile { path =>
+          val count        = 100_000
+          val producerSide = OffHeapLongSpscRingBuffer.create(path, 64)
+          val consumerSide = OffHeapLongSpscRingBuffer.open(path)
+          val consumerDone = new CountDownLatch(1)
+          val orderError   = new AtomicBoolean(false)
+          val actualSum    = new AtomicLong(0L)
+
+          val producer = new Thread(() => {
+            val batch = new Array[Long](8)
+            var i     = 0L
+            while (i < count) {
+              val n = Math.min(8L, count - i).toInt
+              var k = 0
+              while (k < n) {
+                batch(k) = i + k
+                k += 1
+              }
+              i += producerSide.offerAll(batch, 0, n)
+            }
+            while (!producerSide.offerDone()) Thread.onSpinWait()
+          })
+
+          val consumer = new Thread(() => {
+            var expected = 0L
+            var sum      = 0L
+            var p        = consumerSide.pollPacked()
+            while (p != LongSpscRingBuffer.DONE) {
+              if (p == LongSpscRingBuffer.EMPTY) Thread.onSpinWait()
+              else {
+                if (p != expected) orderError.set(true)
+                sum += p
+                expected += 1
+              }
+              p = consumerSide.pollPacked()
+            }
+            actualSum.set(sum)
+            consumerDone.countDown()
+          })
+
+          producer.start()
+          consumer.start()
+          consumerDone.await()
+
+          assertTrue(!orderError.get(), actualSum.get() == count.toLong * (count - 1) / 2, consumerSide.isEmpty)
+        }
+      }
+    } @@ TestAspect.timeout(60.seconds)
+  )
+
+  private def withFile[A](f: Path => A): A = {
+    val path = Files.createTempFile("offheap-ring", ".bin")
+    try f(path)
+    finally Files.deleteIfExists(path)
+  }
+
+  private def notInitialized(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IllegalStateException => true
+      case _: Throwable             => false
+    }
+
+  private def throws(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IllegalArgumentException => true
+      case _: Throwable                => false
+    }
+}
@@ -28,7 +28,8 @@ object PrimitiveSpscRingBufferSpec extends ZIOSpecDefault {
     longSuite,
     doubleSuite,
     floatSuite,
-    inBandDoneSuite
+    inBandDoneSuite,
+    bulkSuite
   )
 
   private val inBandDoneSuite = suite("in-band DONE sentinel")(
@@ -108,6 +109,51 @@ object PrimitiveSpscRingBufferSpec extends ZIOSpecDefault {
     }
   )
 
+  private val bulkSuite = suite("offerAll/takeAll")(
+    test("IntSpscRingBuffer: batches round-trip and stop at capacity") {
+      val rb      = IntSpscRingBuffer(4)
+      val dst     = new Array[Int](6)
+      val offered = rb.offerAll(Array(0, -1, Int.MinValue, Int.MaxValue, 5), 0, 5)
+      val taken   = rb.takeAll(dst, 1, 5)
+      assertTrue(offered == 4, taken == 4, dst.toList == List(0, 0, -1, Int.MinValue, Int.MaxValue, 0), rb.isEmpty)
+    },
+    test("FloatSpscRingBuffer: batches wrap around") {
+      val rb  = FloatSpscRingBuffer(4)
+      val dst = new Array[Float](4)
+      rb.offerAll(Array(1.0f, 2.0f, 3.0f), 0, 3)
+      rb.takeAll(dst, 0, 2)
+      val offered = rb.offerAll(Array(4.0f, Float.NegativeInfinity, 6.0f), 0, 3)
+      val taken   = rb.takeAll(dst, 0, 4)
+      assertTrue(offered == 3, taken == 4, dst.toList == List(3.0f, 4.0f, Float.NegativeInfinity, 6.0f))
+    },
+    test("LongSpscRingBuffer: takeAll stops at DONE and leaves it for pollPacked") {
+      val rb = LongSpscRingBuffer(8)
+      rb.offerAll(Array(1L, 2L, 3L), 0, 3)
+      rb.offerDone()
+      val dst   = new Array[Long](8)
+      val taken = rb.takeAll(dst, 0, 8)
+      assertTrue(taken == 3, dst.take(3).toList == List(1L, 2L, 3L), rb.pollPacked() == LongSpscRingBuffer.DONE)
+    },
+    test("LongSpscRingBuffer: offerAll rejects a reserved value and inserts nothing") {
+      val rb       = LongSpscRingBuffer(8)
+      val rejected =
+        try {
+          rb.offerAll(Array(1L, Long.MinValue + 1L), 0, 2)
+          false
+        } catch {
+          case _: IllegalArgumentException => true
+        }
+      assertTrue(rejected, rb.isEmpty)
+    },
+    test("DoubleSpscRingBuffer: offerAll canonicalizes sentinel-bit NaNs") {
+      val rb       = DoubleSpscRingBuffer(4)
+      val emptyNaN = java.lang.Double.longBitsToDouble(DoubleSpscRingBuffer.EMPTY_BITS)
+      val dst      = new Array[Double](4)
+      val offered  = rb.offerAll(Array(1.5, emptyNaN, -0.0), 0, 3)
+      val taken    = rb.takeAll(dst, 0, 4)
+      assertTrue(offered == 3, taken == 3, dst(0) == 1.5, dst(1).isNaN, dst(2) == -0.0)
+    }
+  )
   private val intSuite = suite("IntSpscRingBuffer")(
     test("offer then peek then take") {
       val rb = IntSpscRingBuffer(4)
@@ -34,7 +34,9 @@ object SpmcConcurrencySpec extends ZIOSpecDefault {
       spmcCapacitySweepTest(cap = 4, numConsumers = 4, numItems = 50_000),
       spmcCapacitySweepTest(cap = 16, numConsumers = 4, numItems = 50_000),
       spmcCapacitySweepTest(cap = 1024, numConsumers = 4, numItems = 50_000)
-    )
+    ),
+    spmcBatchTest(cap = 8, numConsumers = 4, numItems = 100_000),
+    spmcBatchTest(cap = 1024, numConsumers = 2, numItems = 100_000)
   )
 
   private def spmcHammerTest(numConsumers: Int, numItems: Int) =
@@ -151,4 +153,48 @@ object SpmcConcurrencySpec extends ZIOSpecDefault {
         )
       }
     } @@ TestAspect.timeout(60.seconds)
+  private def spmcBatchTest(cap: Int, numConsumers: Int, numItems: Int) =
+    test(s"SPMC offerAll/takeAll with capacity=$cap, $numConsumers consumers — no loss, no duplicates") {
+      ZIO.attemptBlocking {
+        val rb   = new SpmcRingBuffer[java.lang.Long](cap)
+        val seen = new java.util.concurrent.ConcurrentHashMap[Long, java.lang.Boolean](numItems * 2)
+
+        val allDone  = new CountDownLatch(1 + numConsumers)
+        val count    = new AtomicLong(0L)
+        val dupError = new AtomicBoolean(false)
+
+        val producer = new Thread(() => {
+          val src = Array.tabulate(numItems)(i => java.lang.Long.valueOf(i.toLong))
+          var i   = 0
+          while (i < numItems) {
+            val n = rb.offerAll(src, i, Math.min(6, numItems - i))
+            if (n == 0) Thread.onSpinWait() else i += n
+          }
+          allDone.countDown()
+        })
+
+        val consumers = (0 until numConsumers).map { _ =>
+          new Thread(() => {
+            val dst = new Array[java.lang.Long](4)
+            while (count.get() < numItems) {
+              val n = rb.takeAll(dst, 0, dst.length)
+              if (n == 0) Thread.onSpinWait()
+              var k = 0
+              while (k < n) {
+                if (seen.putIfAbsent(dst(k).longValue(), java.lang.Boolean.TRUE) != null) dupError.set(true)
+                k += 1
+              }
+              count.addAndGet(n.toLong)
+            }
+            allDone.countDown()
+          })
+        }
+
+        producer.start()
+        consumers.foreach(_.start())
+        allDone.await()
+
+        assertTrue(!dupError.get(), count.get() == numItems.toLong, seen.size == numItems, rb.isEmpty)
+      }
+    } @@ TestAspect.timeout(60.seconds)
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import zio._
+import zio.test._
+
+import java.util.concurrent.{CountDownLatch, TimeUnit}
+import java.util.concurrent.atomic.{AtomicBoolean, AtomicInteger}
+
+object WaitStrategySpec extends ZIOSpecDefault {
+
+  def spec = suite("WaitStrategy")(
+    suite("constructor")(
+      test("negative spins throw") {
+        assertTrue(throws(WaitStrategy.SpinYield(-1)), throws(WaitStrategy.Parking(spins = -1)))
+      },
+      test("maxParkNanos below minParkNanos throws") {
+        assertTrue(throws(WaitStrategy.Parking(minParkNanos = 1000L, maxParkNanos = 999L)))
+      }
+    ),
+    suite("await")(
+      test("spinning strategies return without blocking") {
+        val never = () => false
+        WaitStrategy.BusySpin.newCondition().await(0, never)
+        WaitStrategy.SpinYield(spins = 1).newCondition().await(5, never)
+        WaitStrategy.SpinYield(spins = 1).newCondition().awaitUntil(5, never, System.nanoTime())
+        assertCompletes
+      },
+      test("Parking and Blocking return at the deadline") {
+        val never    = () => false
+        val parking  = WaitStrategy.Parking(spins = 0, maxParkNanos = Minute).newCondition()
+        val blocking = WaitStrategy.Blocking.newCondition()
+        val start    = System.nanoTime()
+        parking.awaitUntil(40, never, System.nanoTime() + 10_000_000L)
+        blocking.awaitUntil(0, never, System.nanoTime() + 10_000_000L)
+        assertTrue(System.nanoTime() - start < 5_000_000_000L)
+      },
+      test("a ready check skips the wait") {
+        val ready = () => true
+        WaitStrategy.Parking(spins = 0, minParkNanos = Minute, maxParkNanos = Minute).newCondition().await(0, ready)
+        WaitStrategy.Blocking.newCondition().await(0, ready)
+        assertCompletes
+      }
+    ),
+    suite("signal")(
+      signalTest("Parking", WaitStrategy.Parking(spins = 0, minParkNanos = Minute, maxParkNanos = Minute)),
+      signalTest("Blocking", WaitStrategy.Blocking),
+      pingPongTest("Blocking", WaitStrategy.Blocking)
+    )
+  )
+
+  private val Minute = 60_000_000_000L
+
+  // A waiter that would otherwise sleep for a minute must be woken by signal.
+  private def signalTest(name: String, strategy: WaitStrategy) =
+    test(s"$name: signal wakes a waiting thread") {
+      ZIO.attemptBlocking {
+        val condition = strategy.newCondition()
+        val flag      = new AtomicBoolean(false)
+        val ready     = () => flag.get()
+        val woken     = new CountDownLatch(1)
+
+        val waiter = new Thread(() => {
+          while (!flag.get()) condition.await(0, ready)
+          woken.countDown()
+        })
+        waiter.start()
+        Thread.sleep(50)
+        flag.set(true)
+        condition.signal()
+
+        assertTrue(woken.await(10, TimeUnit.SECONDS))
+      }
+    } @@ TestAspect.timeout(60.seconds)
+
+  // Two threads hand a turn back and forth, each waiting untimed for its own
+  // turn. A single lost wakeup leaves both waiting forever.
+  private def pingPongTest(name: String, strategy: WaitStrategy) =
+    test(s"$name: no wakeup is lost across 20K handoffs") {
+      ZIO.attemptBlocking {
+        val rounds     = 20_000
+        val turn       = new AtomicInteger(0)
+        val conditions = Array(strategy.newCondition(), strategy.newCondition())
+        val done       = new CountDownLatch(2)
+
+        def player(me: Int): Thread = new Thread(() => {
+          val ready = () => turn.get() % 2 == me
+          var i     = 0
+          while (i < rounds) {
+            var round = 0
+            while (!ready()) {
+              conditions(me).await(round, ready)
+              round += 1
+            }
+            turn.incrementAndGet()
+            conditions(1 - me).signal()
+            i += 1
+          }
+          done.countDown()
+        })
+
+        player(0).start()
+        player(1).start()
+        assertTrue(done.await(50, TimeUnit.SECONDS), turn.get() == 2 * rounds)
+      }
+    } @@ TestAspect.timeout(60.seconds)
+
+  private def throws(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IllegalArgumentException => true
+      case _: Throwable                => false
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+/** Argument checks shared by the `offerAll` and `takeAll` methods. */
+private[ringbuffer] object Bulk {
+
+  /** Throws unless `off` and `len` describe a range of an array of `length`. */
+  def checkRange(length: Int, off: Int, len: Int): Unit =
+    if (off < 0 || len < 0 || off > length - len)
+      throw new IndexOutOfBoundsException(s"Range [$off, $off + $len) out of bounds for length $length")
+
+  /** Throws if `src(off until off + len)` holds a `null`. */
+  def checkNoNulls(src: Array[? <: AnyRef], off: Int, len: Int): Unit = {
+    val end = off + len
+    var i   = off
+    while (i < end) {
+      if (src(i) eq null) throw new NullPointerException(s"offerAll: null element at index $i")
+      i += 1
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import zio.test._
+
+object MpscUnboundedArrayQueueSpec extends ZIOSpecDefault {
+
+  def spec = suite("MpscUnboundedArrayQueue")(
+    suite("constructor")(
+      test("chunkSize 1 throws") {
+        assertTrue(throws(new MpscUnboundedArrayQueue[String](1)))
+      },
+      test("chunkSize 6 (non-power-of-2) throws") {
+        assertTrue(throws(new MpscUnboundedArrayQueue[String](6)))
+      },
+      test("negative chunkSize throws") {
+        assertTrue(throws(new MpscUnboundedArrayQueue[String](-2)))
+      },
+      test("companion apply creates an empty queue") {
+        val q = MpscUnboundedArrayQueue[String](8)
+        assertTrue(q.chunkSize == 8, q.isEmpty, q.size == 0)
+      }
+    ),
+    suite("offer/take")(
+      test("offer then take returns the same element") {
+        val q       = new MpscUnboundedArrayQueue[String](4)
+        val offered = q.offer("hello")
+        assertTrue(offered, q.take() == "hello", q.take() == null)
+      },
+      test("offer(null) throws NullPointerException") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(throwsNPE(q.offer(null)))
+      }
+    ),
+    suite("growth")(
+      test("never rejects an offer and keeps FIFO order across chunks") {
+        val q     = new MpscUnboundedArrayQueue[String](4)
+        val items = (0 until 1000).map(i => s"item-$i")
+        val all   = items.forall(q.offer)
+        val size  = q.size
+        val taken = (0 until 1000).map(_ => q.take())
+        assertTrue(all, size == 1000, taken == items, q.isEmpty, q.take() == null)
+      },
+      test("chunkSize 2 links a chunk per element") {
+        val q     = new MpscUnboundedArrayQueue[String](2)
+        val items = (0 until 50).map(i => s"e$i")
+        items.foreach(q.offer)
+        val taken = (0 until 50).map(_ => q.take())
+        assertTrue(taken == items, q.isEmpty)
+      },
+      test("interleaved offers and takes wrap and link chunks") {
+        val q        = new MpscUnboundedArrayQueue[String](8)
+        var next     = 0
+        var expected = 0
+        var ordered  = true
+        (0 until 200).foreach { round =>
+          (0 until round % 13).foreach { _ => q.offer(s"v$next"); next += 1 }
+          (0 until round % 7).foreach { _ =>
+            val v = q.take()
+            if (v != null) {
+              if (v != s"v$expected") ordered = false
+              expected += 1
+            }
+          }
+        }
+        while (!q.isEmpty) {
+          if (q.take() != s"v$expected") ordered = false
+          expected += 1
+        }
+        assertTrue(ordered, expected == next)
+      },
+      test("size tracks each offer and take across a chunk boundary") {
+        val q = new MpscUnboundedArrayQueue[String](2)
+        q.offer("a")
+        q.offer("b")
+        q.offer("c")
+        val s1 = q.size
+        q.take()
+        val s2 = q.size
+        q.take()
+        val s3 = q.size
+        assertTrue(s1 == 3, s2 == 2, s3 == 1)
+      }
+    ),
+    suite("drain")(
+      test("drain from empty returns 0") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(q.drain(_ => (), 10) == 0)
+      },
+      test("drain follows chunk links in FIFO order") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        (0 until 10).foreach(i => q.offer(s"d$i"))
+        val result = scala.collection.mutable.ArrayBuffer.empty[String]
+        val n      = q.drain(e => result += e, 100)
+        assertTrue(n == 10, result.toVector == (0 until 10).map(i => s"d$i").toVector, q.isEmpty)
+      },
+      test("drain stops at limit") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        (0 until 10).foreach(i => q.offer(s"d$i"))
+        val n = q.drain(_ => (), 6)
+        assertTrue(n == 6, q.size == 4, q.take() == "d6")
+      },
+      test("drain negative limit throws") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(throws(q.drain(_ => (), -1)))
+      }
+    ),
+    suite("offerAll/takeAll")(
+      test("offerAll inserts every element across chunks") {
+        val q       = new MpscUnboundedArrayQueue[String](4)
+        val src     = Array.tabulate(11)(i => s"e$i")
+        val dst     = new Array[String](11)
+        val offered = q.offerAll(src, 0, 11)
+        val taken   = q.takeAll(dst, 0, 11)
+        assertTrue(offered == 11, taken == 11, dst.toList == src.toList, q.isEmpty)
+      },
+      test("takeAll on an empty queue returns 0") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(q.takeAll(new Array[String](4), 0, 4) == 0)
+      },
+      test("offerAll rejects a null element and inserts nothing") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(throwsNPE(q.offerAll(Array("a", null, "c"), 0, 3)), q.isEmpty)
+      },
+      test("an out-of-bounds range throws") {
+        val q = new MpscUnboundedArrayQueue[String](4)
+        assertTrue(throwsIOOBE(q.offerAll(Array("a"), 0, 2)), throwsIOOBE(q.takeAll(new Array[String](2), 3, 0)))
+      }
+    )
+  )
+
+  private def throws(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IllegalArgumentException => true
+      case _: Throwable                => false
+    }
+
+  private def throwsNPE(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: NullPointerException => true
+      case _: Throwable            => false
+    }
+
+  private def throwsIOOBE(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IndexOutOfBoundsException => true
+      case _: Throwable                 => false
+    }
+}
@@ -194,6 +194,46 @@ object SpmcRingBufferSpec extends ZIOSpecDefault {
         val rb = SpmcRingBuffer[String](8)
         assertTrue(rb.capacity == 8, rb.isEmpty)
       }
+    ),
+    suite("offerAll/takeAll")(
+      test("takeAll returns what offerAll inserted, in order") {
+        val rb      = new SpmcRingBuffer[String](8)
+        val src     = Array.tabulate(6)(i => s"e$i")
+        val dst     = new Array[String](8)
+        val offered = rb.offerAll(src, 1, 5)
+        val taken   = rb.takeAll(dst, 2, 6)
+        assertTrue(offered == 5, taken == 5, dst.slice(2, 7).toList == src.slice(1, 6).toList, rb.isEmpty)
+      },
+      test("offerAll inserts only as many elements as fit") {
+        val rb = new SpmcRingBuffer[String](4)
+        rb.offer("x")
+        val offered = rb.offerAll(Array("a", "b", "c", "d", "e"), 0, 5)
+        val again   = rb.offerAll(Array("f"), 0, 1)
+        assertTrue(offered == 3, again == 0, rb.isFull, rb.take() == "x", rb.take() == "a")
+      },
+      test("batches wrap around the end of the buffer") {
+        val rb  = new SpmcRingBuffer[String](4)
+        val dst = new Array[String](4)
+        val r1  = (rb.offerAll(Array("a", "b", "c"), 0, 3), rb.takeAll(dst, 0, 2))
+        val r2  = (rb.offerAll(Array("d", "e", "f"), 0, 3), rb.takeAll(dst, 0, 4))
+        assertTrue(r1 == ((3, 2)), r2 == ((3, 4)), dst.toList == List("c", "d", "e", "f"))
+      },
+      test("takeAll on an empty buffer returns 0") {
+        val rb = new SpmcRingBuffer[String](4)
+        assertTrue(rb.takeAll(new Array[String](4), 0, 4) == 0)
+      },
+      test("offerAll rejects a null element and inserts nothing") {
+        val rb = new SpmcRingBuffer[String](4)
+        assertTrue(throwsNPE(rb.offerAll(Array("a", null, "c"), 0, 3)), rb.isEmpty)
+      },
+      test("an out-of-bounds range throws") {
+        val rb = new SpmcRingBuffer[String](4)
+        assertTrue(
+          throwsIOOBE(rb.offerAll(Array("a"), 1, 1)),
+          throwsIOOBE(rb.takeAll(new Array[String](2), -1, 1)),
+          throwsIOOBE(rb.takeAll(new Array[String](2), 0, -1))
+        )
+      }
     )
   )
 
@@ -214,4 +254,13 @@ object SpmcRingBufferSpec extends ZIOSpecDefault {
       case _: NullPointerException => true
       case _: Throwable            => false
     }
+
+  private def throwsIOOBE(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IndexOutOfBoundsException => true
+      case _: Throwable                 => false
+    }
 }
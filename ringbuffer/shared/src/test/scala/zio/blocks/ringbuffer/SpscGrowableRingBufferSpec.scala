@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.ringbuffer
+
+import zio.test._
+
+object SpscGrowableRingBufferSpec extends ZIOSpecDefault {
+
+  def spec = suite("SpscGrowableRingBuffer")(
+    suite("constructor")(
+      test("initialCapacity 3 (non-power-of-2) throws") {
+        assertTrue(throws(new SpscGrowableRingBuffer[String](3, 16)))
+      },
+      test("maxCapacity smaller than initialCapacity throws") {
+        assertTrue(throws(new SpscGrowableRingBuffer[String](8, 4)))
+      },
+      test("maxCapacity 24 (non-power-of-2) throws") {
+        assertTrue(throws(new SpscGrowableRingBuffer[String](4, 24)))
+      },
+      test("initialCapacity 1 throws when the buffer may grow") {
+        assertTrue(throws(new SpscGrowableRingBuffer[String](1, 4)))
+      },
+      test("companion apply creates an empty buffer at initialCapacity") {
+        val rb = SpscGrowableRingBuffer[String](4, 64)
+        assertTrue(rb.initialCapacity == 4, rb.maxCapacity == 64, rb.capacity == 4, rb.isEmpty, rb.size == 0)
+      }
+    ),
+    suite("offer/take")(
+      test("offer then take returns the same element") {
+        val rb      = new SpscGrowableRingBuffer[String](2, 8)
+        val offered = rb.offer("hello")
+        assertTrue(offered, rb.take() == "hello", rb.take() == null)
+      },
+      test("offer(null) throws NullPointerException") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(throwsNPE(rb.offer(null)))
+      },
+      test("a steady offer/take load never grows the buffer") {
+        val rb      = new SpscGrowableRingBuffer[String](4, 1024)
+        var ordered = true
+        (0 until 1000).foreach { i =>
+          rb.offer(s"s$i")
+          if (rb.take() != s"s$i") ordered = false
+        }
+        assertTrue(ordered, rb.capacity == 4, rb.isEmpty)
+      },
+      test("initialCapacity equal to maxCapacity behaves as a bounded buffer") {
+        val rb       = new SpscGrowableRingBuffer[String](1, 1)
+        val first    = rb.offer("a")
+        val rejected = rb.offer("b")
+        val full     = rb.isFull
+        val taken    = rb.take()
+        val second   = rb.offer("b")
+        assertTrue(first, !rejected, full, taken == "a", second, rb.take() == "b", rb.capacity == 1)
+      }
+    ),
+    suite("growth")(
+      test("doubles up to maxCapacity, keeps FIFO order and then rejects") {
+        val rb       = new SpscGrowableRingBuffer[String](4, 16)
+        val items    = (0 until 16).map(i => s"item-$i")
+        val all      = items.forall(rb.offer)
+        val rejected = rb.offer("overflow")
+        val capacity = rb.capacity
+        val full     = rb.isFull
+        val taken    = (0 until 16).map(_ => rb.take())
+        assertTrue(all, !rejected, capacity == 16, full, taken == items, rb.isEmpty, rb.take() == null)
+      },
+      test("elements left in an outgrown array count against maxCapacity") {
+        val rb = new SpscGrowableRingBuffer[String](2, 4)
+        (0 until 4).foreach(i => rb.offer(s"e$i"))
+        val rejected = rb.offer("e4")
+        val first    = rb.take()
+        val accepted = rb.offer("e4")
+        val rest     = (0 until 4).map(_ => rb.take())
+        assertTrue(!rejected, first == "e0", accepted, rest == (1 to 4).map(i => s"e$i"), rb.isEmpty)
+      },
+      test("interleaved offers and takes wrap and grow") {
+        val rb       = new SpscGrowableRingBuffer[String](2, 64)
+        var next     = 0
+        var expected = 0
+        var ordered  = true
+        (0 until 200).foreach { round =>
+          (0 until round % 13).foreach { _ =>
+            if (rb.offer(s"v$next")) next += 1
+          }
+          (0 until round % 7).foreach { _ =>
+            val v = rb.take()
+            if (v != null) {
+              if (v != s"v$expected") ordered = false
+              expected += 1
+            }
+          }
+        }
+        while (!rb.isEmpty) {
+          if (rb.take() != s"v$expected") ordered = false
+          expected += 1
+        }
+        assertTrue(ordered, expected == next, rb.capacity <= 64)
+      },
+      test("size tracks each offer and take across an array boundary") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        rb.offer("a")
+        rb.offer("b")
+        rb.offer("c")
+        val s1 = rb.size
+        rb.take()
+        val s2 = rb.size
+        rb.take()
+        val s3 = rb.size
+        assertTrue(s1 == 3, s2 == 2, s3 == 1)
+      }
+    ),
+    suite("drain")(
+      test("drain from empty returns 0") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(rb.drain(_ => (), 10) == 0)
+      },
+      test("drain follows array links in FIFO order") {
+        val rb = new SpscGrowableRingBuffer[String](2, 16)
+        (0 until 10).foreach(i => rb.offer(s"d$i"))
+        val result = scala.collection.mutable.ArrayBuffer.empty[String]
+        val n      = rb.drain(e => result += e, 100)
+        assertTrue(n == 10, result.toVector == (0 until 10).map(i => s"d$i").toVector, rb.isEmpty)
+      },
+      test("drain stops at limit") {
+        val rb = new SpscGrowableRingBuffer[String](2, 16)
+        (0 until 10).foreach(i => rb.offer(s"d$i"))
+        val n = rb.drain(_ => (), 6)
+        assertTrue(n == 6, rb.size == 4, rb.take() == "d6")
+      },
+      test("drain negative limit throws") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(throws(rb.drain(_ => (), -1)))
+      }
+    ),
+    suite("offerAll/takeAll")(
+      test("offerAll grows the buffer up to maxCapacity") {
+        val rb      = new SpscGrowableRingBuffer[String](2, 8)
+        val src     = Array.tabulate(10)(i => s"e$i")
+        val dst     = new Array[String](10)
+        val offered = rb.offerAll(src, 0, 10)
+        val taken   = rb.takeAll(dst, 0, 10)
+        assertTrue(offered == 8, rb.capacity == 8, taken == 8, dst.take(8).toList == src.take(8).toList, rb.isEmpty)
+      },
+      test("takeAll on an empty buffer returns 0") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(rb.takeAll(new Array[String](4), 0, 4) == 0)
+      },
+      test("offerAll rejects a null element and inserts nothing") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(throwsNPE(rb.offerAll(Array("a", null, "c"), 0, 3)), rb.isEmpty)
+      },
+      test("an out-of-bounds range throws") {
+        val rb = new SpscGrowableRingBuffer[String](2, 8)
+        assertTrue(throwsIOOBE(rb.offerAll(Array("a"), 0, 2)), throwsIOOBE(rb.takeAll(new Array[String](2), 3, 0)))
+      }
+    )
+  )
+  private def throws(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IllegalArgumentException => true
+      case _: Throwable                => false
+    }
+
+  private def throwsNPE(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: NullPointerException => true
+      case _: Throwable            => false
+    }
+
+  private def throwsIOOBE(thunk: => Any): Boolean =
+    try {
+      thunk
+      false
+    } catch {
+      case _: IndexOutOfBoundsException => true
+      case _: Throwable                 => false
+    }
+}
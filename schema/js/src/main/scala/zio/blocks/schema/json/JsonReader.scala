@@ -1751,6 +1751,89 @@ final class JsonReader private[json] (
       top = -1
     }
 
+  /**
+   * Starts reading the elements of a top-level JSON array from the given input
+   * stream one at a time. Each element is read with [[readArrayElement]] while
+   * [[hasNextArrayElement]] returns `true`; the reader stays in use until
+   * [[endArrayElements]] is called.
+   *
+   * Only the bytes of the element being parsed are kept in the internal buffer,
+   * so arrays of any size can be read in constant memory.
+   *
+   * @param in
+   *   the input stream with the JSON input
+   * @param config
+   *   the reader configuration
+   * @return
+   *   `true` if the array has at least one element, `false` if it is empty
+   * @throws JsonCodecError
+   *   in cases of reaching the end of input or when the input doesn't start
+   *   with a JSON array
+   */
+  private[json] def startArrayElements(in: InputStream, config: ReaderConfig): Boolean = {
+    top = 0
+    maxTop = 0
+    head = 0
+    tail = 0
+    totalRead = 0
+    markNum = 0
+    this.config = config
+    this.in = in
+    if (buf.length < config.preferredBufSize) reallocateBufToPreferredSize()
+    if (isNextToken('[')) {
+      if (isNextToken(']')) {
+        if (config.checkForEndOfInput) endOfInputOrError()
+        false
+      } else {
+        rollbackToken()
+        true
+      }
+    } else tokenError('[')
+  }
+
+  /**
+   * Reads the next element of an array started by [[startArrayElements]].
+   *
+   * @param codec
+   *   the JSON value codec of array elements
+   * @tparam A
+   *   the type of the element to read
+   * @return
+   *   the decoded element
+   */
+  private[json] def readArrayElement[A](codec: JsonCodec[A]): A = codec.decodeValue(this)
+
+  /**
+   * Checks if another element follows the one just read by
+   * [[readArrayElement]].
+   *
+   * @return
+   *   `true` if there is one more element, `false` if the end of the array was
+   *   reached
+   * @throws JsonCodecError
+   *   in cases of reaching the end of input or when neither `,` nor `]` follows
+   *   the element, or when configured checking of reaching the end of input
+   *   doesn't pass after the end of the array
+   */
+  private[json] def hasNextArrayElement(): Boolean =
+    if (isNextToken(',')) true
+    else if (isCurrentToken(']')) {
+      if (config.checkForEndOfInput) endOfInputOrError()
+      false
+    } else arrayEndOrCommaError()
+
+  /**
+   * Releases the reader after reading array elements with
+   * [[startArrayElements]], so it can be reused.
+   */
+  private[json] def endArrayElements(): Unit = {
+    this.in = null
+    if (buf.length > config.preferredBufSize) reallocateBufToPreferredSize()
+    if (charBuf.length > config.preferredCharBufSize) reallocateCharBufToPreferredSize()
+    stack.clearObjects(maxTop)
+    top = -1
+  }
+
   /**
    * Reads a JSON value from the given byte buffer into an instance of type `A`
    * using the given [[JsonCodec]].
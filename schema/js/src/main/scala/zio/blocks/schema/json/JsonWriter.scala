@@ -1175,6 +1175,93 @@ final class JsonWriter private[json] (
       top = -1
     }
 
+  /**
+   * Starts writing a sequence of JSON values to an output stream, one value at
+   * a time, either as elements of a JSON array or as newline-delimited values.
+   * Values are written with [[writeArrayElement]] or [[writeLine]] and the
+   * sequence is completed with [[endValues]]; the writer stays in use until
+   * [[releaseValues]] is called.
+   *
+   * The internal buffer is flushed to the output stream each time it fills up,
+   * so memory usage doesn't depend on the number of written values.
+   *
+   * @param out
+   *   the output stream to write to
+   * @param config
+   *   the writer configuration
+   * @param inArray
+   *   `true` to write values as elements of a JSON array
+   */
+  private[json] def startValues(out: OutputStream, config: WriterConfig, inArray: Boolean): Unit = {
+    top = 0
+    maxTop = 0
+    count = 0
+    indention = 0
+    comma = false
+    disableBufGrowing = false
+    this.out = out
+    this.config = config
+    if (limit < config.preferredBufSize) reallocateBufToPreferredSize()
+    if (inArray) writeArrayStart()
+  }
+
+  /**
+   * Writes a JSON-encoded value of type `A` as the next element of an array
+   * started by [[startValues]].
+   *
+   * @param codec
+   *   a JSON value codec for type `A`
+   * @param x
+   *   the value to encode
+   */
+  private[json] def writeArrayElement[A](codec: JsonCodec[A], x: A): Unit = codec.encodeValue(x, this)
+
+  /**
+   * Writes a JSON-encoded value of type `A` followed by a new line.
+   *
+   * @param codec
+   *   a JSON value codec for type `A`
+   * @param x
+   *   the value to encode
+   */
+  private[json] def writeLine[A](codec: JsonCodec[A], x: A): Unit = {
+    codec.encodeValue(x, this)
+    writeBytes('\n')
+    comma = false
+  }
+
+  /**
+   * Writes the buffered bytes of values started by [[startValues]] to the
+   * output stream.
+   */
+  private[json] def flushValues(): Unit = {
+    out.write(buf, 0, count)
+    count = 0
+  }
+
+  /**
+   * Completes the sequence of values started by [[startValues]], writing the
+   * array end marker if needed and all buffered bytes to the output stream.
+   *
+   * @param inArray
+   *   `true` if values were written as elements of a JSON array
+   */
+  private[json] def endValues(inArray: Boolean): Unit = {
+    if (inArray) writeArrayEnd()
+    flushValues()
+  }
+
+  /**
+   * Releases the writer after writing values with [[startValues]], so it can be
+   * reused. The output stream is not closed.
+   */
+  private[json] def releaseValues(): Unit = {
+    this.out = null
+    if (limit > config.preferredBufSize) reallocateBufToPreferredSize()
+    stack.clearObjects(maxTop)
+    top = -1
+  }
+
   /**
    * Encodes a value of type `A` to a byte array.
    *
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.schema.json
+
+import zio.blocks.schema.DynamicOptic
+import scala.util.control.NonFatal
+
+/**
+ * An iterator over the elements of a top-level JSON array read from an
+ * `InputStream`. Elements are decoded lazily, one per call of `next()`, with a
+ * pooled [[JsonReader]] that only buffers the bytes of the element being
+ * parsed, so arrays that don't fit in memory can be processed in constant
+ * space.
+ *
+ * Decoding failures are thrown from `hasNext` and `next()` as
+ * [[zio.blocks.schema.SchemaError]] with the index of the failed element in the
+ * error path. The pooled reader is released when the end of the array is
+ * reached, after a failure, or on `close()`. The underlying `InputStream` is
+ * never closed by this decoder.
+ *
+ * Instances are created with [[JsonCodec.decodeArrayElements]] and are not
+ * thread-safe.
+ *
+ * @tparam A
+ *   the type of array elements
+ */
+final class JsonArrayDecoder[A] private[json] (
+  codec: JsonCodec[A],
+  input: java.io.InputStream,
+  config: ReaderConfig
+) extends Iterator[A]
+    with AutoCloseable {
+  private[this] var reader: JsonReader = null
+  private[this] var state: Int         = 0 // 0 - not started, 1 - element ahead, 2 - element read, 3 - done
+  private[this] var idx: Int           = -1
+
+  /**
+   * Checks if one more element is available, reading the array start or the
+   * separator after the previous element if needed.
+   *
+   * @throws zio.blocks.schema.SchemaError
+   *   if the input is not a well-formed JSON array
+   */
+  def hasNext: Boolean = {
+    val s = state
+    if (s == 0 || s == 2) {
+      try {
+        if (s == 0) {
+          reader = JsonCodec.acquireReader(config)
+          if (reader.startArrayElements(input, config)) state = 1
+          else release()
+        } else if (reader.hasNextArrayElement()) state = 1
+        else release()
+      } catch {
+        case err if NonFatal(err) =>
+          release()
+          throw codec.toError(err)
+      }
+    }
+    state == 1
+  }
+
+  /**
+   * Decodes the next element of the array.
+   *
+   * @throws zio.blocks.schema.SchemaError
+   *   if the next element cannot be decoded
+   * @throws java.util.NoSuchElementException
+   *   if there are no more elements
+   */
+  def next(): A = {
+    if (!hasNext) throw new NoSuchElementException("end of JSON array")
+    idx += 1
+    try {
+      val x = reader.readArrayElement(codec)
+      state = 2
+      x
+    } catch {
+      case err if NonFatal(err) =>
+        release()
+        val span = new DynamicOptic.Node.AtIndex(idx)
+        throw codec.toError(err match {
+          case e: JsonCodecError =>
+            e.spans = new ::(span, e.spans)
+            e
+          case _ => new JsonCodecError(new ::(span, Nil), err.getMessage)
+        })
+    }
+  }
+
+  /**
+   * Returns the number of elements decoded so far.
+   */
+  def decodedCount: Long = (idx + 1).toLong
+
+  /**
+   * Stops decoding and releases the pooled reader. Subsequent calls of
+   * `hasNext` return `false`.
+   */
+  def close(): Unit = if (state != 3) release()
+
+  private[this] def release(): Unit = {
+    val r = reader
+    if (r ne null) {
+      reader = null
+      r.endArrayElements()
+    }
+    state = 3
+  }
+}
@@ -342,6 +342,97 @@ abstract class JsonCodec[A] extends BinaryCodec[A] {
     writer.write(this, value, output, config)
   }
 
+  /**
+   * Returns a decoder of the elements of a top-level JSON array read from the
+   * provided `InputStream` using the default `ReaderConfig`. Elements are
+   * decoded one at a time on demand, so arrays of any size are processed in
+   * constant memory.
+   *
+   * @param input
+   *   the `InputStream` containing a JSON array of values of type `A`
+   * @return
+   *   a [[JsonArrayDecoder]] that must be closed after use
+   */
+  def decodeArrayElements(input: java.io.InputStream): JsonArrayDecoder[A] = decodeArrayElements(input, ReaderConfig)
+
+  /**
+   * Returns a decoder of the elements of a top-level JSON array read from the
+   * provided `InputStream` using the specified `ReaderConfig`. Elements are
+   * decoded one at a time on demand, so arrays of any size are processed in
+   * constant memory.
+   *
+   * @param input
+   *   the `InputStream` containing a JSON array of values of type `A`
+   * @param config
+   *   the `ReaderConfig` instance used to configure the decoding process
+   * @return
+   *   a [[JsonArrayDecoder]] that must be closed after use
+   */
+  def decodeArrayElements(input: java.io.InputStream, config: ReaderConfig): JsonArrayDecoder[A] =
+    new JsonArrayDecoder(this, input, config)
+
+  /**
+   * Returns an encoder that writes values of type `A` one at a time to the
+   * provided `OutputStream` as elements of a JSON array, using the default
+   * `WriterConfig`.
+   *
+   * @param output
+   *   the `OutputStream` where the encoded JSON array is written
+   * @return
+   *   a [[JsonStreamEncoder]] that must be closed to complete the array
+   */
+  def encodeArrayElements(output: java.io.OutputStream): JsonStreamEncoder[A] =
+    encodeArrayElements(output, WriterConfig)
+
+  /**
+   * Returns an encoder that writes values of type `A` one at a time to the
+   * provided `OutputStream` as elements of a JSON array, using the specified
+   * `WriterConfig`.
+   *
+   * @param output
+   *   the `OutputStream` where the encoded JSON array is written
+   * @param config
+   *   the `WriterConfig` instance used to configure the encoding process
+   * @return
+   *   a [[JsonStreamEncoder]] that must be closed to complete the array
+   */
+  def encodeArrayElements(output: java.io.OutputStream, config: WriterConfig): JsonStreamEncoder[A] =
+    new JsonStreamEncoder(this, output, config, inArray = true)
+
+  /**
+   * Returns an encoder that writes values of type `A` one at a time to the
+   * provided `OutputStream` as newline-delimited JSON, using the default
+   * `WriterConfig`.
+   *
+   * @param output
+   *   the `OutputStream` where the encoded values are written
+   * @return
+   *   a [[JsonStreamEncoder]] that must be closed to flush buffered values
+   */
+  def encodeNewlineDelimited(output: java.io.OutputStream): JsonStreamEncoder[A] =
+    encodeNewlineDelimited(output, WriterConfig)
+
+  /**
+   * Returns an encoder that writes values of type `A` one at a time to the
+   * provided `OutputStream` as newline-delimited JSON, using the specified
+   * `WriterConfig`. Indention is disabled so that each value takes exactly one
+   * line.
+   *
+   * @param output
+   *   the `OutputStream` where the encoded values are written
+   * @param config
+   *   the `WriterConfig` instance used to configure the encoding process
+   * @return
+   *   a [[JsonStreamEncoder]] that must be closed to flush buffered values
+   */
+  def encodeNewlineDelimited(output: java.io.OutputStream, config: WriterConfig): JsonStreamEncoder[A] =
+    new JsonStreamEncoder(
+      this,
+      output,
+      if (config.indentionStep == 0) config else config.withIndentionStep(0),
+      inArray = false
+    )
+
   /**
    * Decodes a value of type `A` from the given string using the default
    * `ReaderConfig`. If decoding fails, a `SchemaError` is returned.
@@ -512,7 +603,7 @@ abstract class JsonCodec[A] extends BinaryCodec[A] {
   private[this] def jsonWriter(config: WriterConfig): JsonWriter =
     new JsonWriter(buf = Array.emptyByteArray, limit = 0, config = config, stack = Registers(0))
 
-  private[this] def toError(error: Throwable): SchemaError = new SchemaError(
+  private[json] def toError(error: Throwable): SchemaError = new SchemaError(
     new ::(
       new ExpectationMismatch(
         error match {
@@ -556,6 +647,25 @@ object JsonCodec {
   private val writerPool: ThreadLocal[JsonWriter] = new ThreadLocal[JsonWriter] {
     override def initialValue(): JsonWriter = new JsonWriter
   }
+
+  private[json] def acquireWriter(config: WriterConfig): JsonWriter = {
+    val writer = writerPool.get
+    if (writer.isInUse) new JsonWriter(buf = Array.emptyByteArray, limit = 0, config = config, stack = Registers(0))
+    else writer
+  }
+
+  private[json] def acquireReader(config: ReaderConfig): JsonReader = {
+    val reader = readerPool.get
+    if (reader.isInUse) {
+      new JsonReader(
+        buf = Array.emptyByteArray,
+        charBuf = new Array[Char](config.preferredCharBufSize),
+        config = config,
+        stack = Registers(0)
+      )
+    } else reader
+  }
+
   val unitCodec: JsonCodec[Unit] = new JsonCodec[Unit] {
     def decodeValue(in: JsonReader): Unit =
       if (in.isNextToken('{') && in.isNextToken('}')) ()
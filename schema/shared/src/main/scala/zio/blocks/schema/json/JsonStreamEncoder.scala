@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.schema.json
+
+/**
+ * An incremental encoder that writes values of type `A` to an `OutputStream`
+ * one at a time, either as elements of a JSON array or as newline-delimited
+ * JSON.
+ *
+ * Values are encoded with a pooled [[JsonWriter]] whose buffer is flushed to
+ * the output stream each time it fills up, so heap usage stays flat regardless
+ * of the number of written values and the first bytes reach the output before
+ * the last value is written. Calling `close()` completes the output (writing
+ * `[]` for an array without elements), flushes the remaining bytes, and
+ * releases the writer; the underlying `OutputStream` is neither flushed nor
+ * closed.
+ *
+ * Instances are created with [[JsonCodec.encodeArrayElements]] or
+ * [[JsonCodec.encodeNewlineDelimited]] and are not thread-safe. After a failure
+ * the writer is released and the encoder is closed.
+ *
+ * @tparam A
+ *   the type of written values
+ */
+final class JsonStreamEncoder[A] private[json] (
+  codec: JsonCodec[A],
+  output: java.io.OutputStream,
+  config: WriterConfig,
+  inArray: Boolean
+) extends AutoCloseable {
+  private[this] var writer: JsonWriter = null
+  private[this] var closed: Boolean    = false
+  private[this] var count: Long        = 0L
+
+  /**
+   * Encodes the given value and appends it to the output.
+   *
+   * @throws java.io.IOException
+   *   if writing to the output stream fails
+   * @throws java.lang.IllegalStateException
+   *   if the encoder is closed
+   */
+  def write(x: A): Unit = {
+    val w = started()
+    try {
+      if (inArray) w.writeArrayElement(codec, x)
+      else w.writeLine(codec, x)
+      count += 1
+    } catch {
+      case err: Throwable =>
+        release()
+        throw err
+    }
+  }
+
+  /**
+   * Writes all buffered bytes to the output stream and flushes it.
+   *
+   * @throws java.io.IOException
+   *   if writing to the output stream fails
+   */
+  def flush(): Unit =
+    if (!closed) {
+      val w = writer
+      if (w ne null) {
+        try w.flushValues()
+        catch {
+          case err: Throwable =>
+            release()
+            throw err
+        }
+      }
+      output.flush()
+    }
+
+  /**
+   * Returns the number of values written so far.
+   */
+  def writtenCount: Long = count
+
+  /**
+   * Completes the output, writes all buffered bytes to the output stream, and
+   * releases the pooled writer.
+   *
+   * @throws java.io.IOException
+   *   if writing to the output stream fails
+   */
+  def close(): Unit =
+    if (!closed) {
+      val w = started()
+      try w.endValues(inArray)
+      finally release()
+    }
+
+  /**
+   * Releases the pooled writer without completing the output, discarding
+   * buffered bytes. Use it instead of `close()` when the sequence of values
+   * ends because of a failure.
+   */
+  def abort(): Unit = if (!closed) release()
+
+  private[this] def started(): JsonWriter = {
+    if (closed) throw new IllegalStateException("encoder is closed")
+    var w = writer
+    if (w eq null) {
+      w = JsonCodec.acquireWriter(config)
+      writer = w
+      try w.startValues(output, config, inArray)
+      catch {
+        case err: Throwable =>
+          release()
+          throw err
+      }
+    }
+    w
+  }
+
+  private[this] def release(): Unit = {
+    closed = true
+    val w = writer
+    if (w ne null) {
+      writer = null
+      w.releaseValues()
+    }
+  }
+}
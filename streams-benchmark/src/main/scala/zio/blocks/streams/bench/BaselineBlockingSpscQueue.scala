@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.bench
+
+import zio.blocks.ringbuffer.SpscRingBuffer
+
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * The blocking SPSC queue as it was before the queues took a pluggable
+ * `WaitStrategy`: a fixed 1024-round spin, then an untimed park, with one
+ * waiter slot per side. The first spin round is the re-check after
+ * registering. Kept only as the reference point of [[BlockingSpscQueueBench]].
+ */
+final class BaselineBlockingSpscQueue[A <: AnyRef](capacity: Int) {
+  private val spinTries = 1024
+
+  private val ringBuffer: SpscRingBuffer[AnyRef] =
+    new SpscRingBuffer[AnyRef](if (capacity <= 1) 1 else Integer.highestOneBit(capacity - 1) << 1)
+
+  @volatile private var consumerWaiter: Thread = null
+  @volatile private var producerWaiter: Thread = null
+  @volatile private var closed: Boolean        = false
+
+  def offer(a: A): Boolean = {
+    val element = a.asInstanceOf[AnyRef]
+    while (true) {
+      if (closed) return false
+      if (ringBuffer.offer(element)) {
+        val w = consumerWaiter
+        if (w ne null) LockSupport.unpark(w)
+        return true
+      }
+      producerWaiter = Thread.currentThread()
+      try {
+        var spins = 0
+        while (spins < spinTries) {
+          if (closed) return false
+          if (ringBuffer.offer(element)) {
+            val w = consumerWaiter
+            if (w ne null) LockSupport.unpark(w)
+            return true
+          }
+          Thread.onSpinWait()
+          spins += 1
+        }
+        LockSupport.park(this)
+      } finally producerWaiter = null
+    }
+    false
+  }
+
+  def take(): A = {
+    while (true) {
+      val e = ringBuffer.take().asInstanceOf[A]
+      if (e ne null) {
+        val w = producerWaiter
+        if (w ne null) LockSupport.unpark(w)
+        return e
+      }
+      if (closed) return ringBuffer.take().asInstanceOf[A]
+      consumerWaiter = Thread.currentThread()
+      try {
+        var spins = 0
+        while (spins < spinTries) {
+          val e2 = ringBuffer.take().asInstanceOf[A]
+          if (e2 ne null) {
+            val w = producerWaiter
+            if (w ne null) LockSupport.unpark(w)
+            return e2
+          }
+          if (closed) return ringBuffer.take().asInstanceOf[A]
+          Thread.onSpinWait()
+          spins += 1
+        }
+        LockSupport.park(this)
+      } finally consumerWaiter = null
+    }
+    null.asInstanceOf[A]
+  }
+
+  def close(): Unit = {
+    closed = true
+    val cw = consumerWaiter
+    if (cw ne null) LockSupport.unpark(cw)
+    val pw = producerWaiter
+    if (pw ne null) LockSupport.unpark(pw)
+  }
+}
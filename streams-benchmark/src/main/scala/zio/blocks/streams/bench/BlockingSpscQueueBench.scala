@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.bench
+
+import org.openjdk.jmh.annotations._
+import zio.blocks.ringbuffer.WaitStrategy
+import zio.blocks.streams.queues.BlockingSpscQueue
+
+import java.util.concurrent.TimeUnit
+import scala.compiletime.uninitialized
+
+/**
+ * Benchmark: `BlockingSpscQueue` hand-off throughput between two threads.
+ *
+ * ==Purpose==
+ * The queue signals the other side after every successful `offer` and `take`,
+ * so the cost of `WaitStrategy.Condition#signal` is paid once per element by
+ * every JVM `buffer`, `mapPar` and `merge` stage. This measures that path
+ * against the queue as it was before wait strategies existed.
+ *
+ * ==Queues (`queue` param)==
+ *   - `baseline` — [[BaselineBlockingSpscQueue]], the pre-`WaitStrategy` queue
+ *   - `parking` — `WaitStrategy.Parking()`, the default
+ *   - `blocking` — `WaitStrategy.Blocking`, whose `signal` fences
+ *   - `spinYield` — `WaitStrategy.SpinYield()`, which never suspends
+ *
+ * ==Capacity (`capacity` param)==
+ * `16` keeps both sides waiting on each other; `1024` lets them mostly run
+ * free, so the per-element signal dominates.
+ *
+ * Each invocation moves `N` elements from a producer thread to the benchmark
+ * thread; scores are elements per second.
+ */
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+class BlockingSpscQueueBench {
+
+  @Param(Array("baseline", "parking", "blocking", "spinYield"))
+  var queue: String = uninitialized
+
+  @Param(Array("16", "1024"))
+  var capacity: Int = uninitialized
+
+  private final val N = 1_000_000
+
+  // Boxed once, so the hand-off is measured rather than allocation.
+  private val values: Array[Integer] = Array.tabulate(1024)(Integer.valueOf)
+
+  @Benchmark
+  @OperationsPerInvocation(1_000_000)
+  def handoff(): Long = {
+    val (offer, take) = queue match {
+      case "baseline" =>
+        val q = new BaselineBlockingSpscQueue[Integer](capacity)
+        ((a: Integer) => q.offer(a), () => q.take())
+      case other =>
+        val strategy = other match {
+          case "blocking"  => WaitStrategy.Blocking
+          case "spinYield" => WaitStrategy.SpinYield()
+          case _           => WaitStrategy.Parking()
+        }
+        val q = new BlockingSpscQueue[Integer](capacity, strategy)
+        ((a: Integer) => q.offer(a), () => q.take())
+    }
+
+    val producer = new Thread(() => {
+      var i = 0
+      while (i < N) {
+        offer(values(i & 1023))
+        i += 1
+      }
+    })
+    producer.start()
+
+    var sum = 0L
+    var i   = 0
+    while (i < N) {
+      sum += take().intValue
+      i += 1
+    }
+    producer.join()
+    sum
+  }
+}
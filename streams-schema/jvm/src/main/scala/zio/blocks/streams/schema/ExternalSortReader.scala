@@ -0,0 +1,294 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.schema.codec.BinaryCodec
+import zio.blocks.streams.NioReaders
+import zio.blocks.streams.internal.{EndOfStream, StreamError}
+import zio.blocks.streams.io.Reader
+
+import java.io.IOException
+import java.nio.{BufferOverflowException, ByteBuffer}
+import java.nio.channels.FileChannel
+import java.nio.file.{Files, Path, StandardOpenOption}
+import java.util.{Arrays, Comparator, PriorityQueue}
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * Reader emitting the upstream's elements sorted by the key computed by `f`.
+ *
+ * Up to `maxInMemory` elements are buffered and sorted on the heap. Each time
+ * the buffer fills up before the upstream ends it is sorted and spilled to a
+ * temporary file as a run of length-prefixed records encoded with `codec`.
+ * Once the upstream ends the runs are merged back with a k-way merge, each run
+ * read through [[zio.blocks.streams.NioReaders.fromChannel]]; the final
+ * partial buffer takes part in the merge without being spilled. Ties are
+ * broken by arrival order, so the sort is stable.
+ *
+ * An `IOException` raised while spilling or merging is passed through `wrap`
+ * and thrown as a [[StreamError]]. Temporary files are deleted once exhausted,
+ * and on `close` or `reset`.
+ */
+private[schema] final class ExternalSortReader[A, K](
+  upstream: Reader[A],
+  f: A => K,
+  ord: Ordering[K],
+  codec: BinaryCodec[A],
+  maxInMemory: Int,
+  wrap: IOException => Any
+) extends Reader[A] {
+  private val byKey: Comparator[AnyRef] = new Comparator[AnyRef] {
+    def compare(x: AnyRef, y: AnyRef): Int = ord.compare(f(x.asInstanceOf[A]), f(y.asInstanceOf[A]))
+  }
+
+  private var buffer: Array[AnyRef]                        = null
+  private var buffered: Int                                = 0
+  private val runs: ArrayBuffer[ExternalSortReader.Run]    = ArrayBuffer.empty
+  private var merge: PriorityQueue[ExternalSortReader.Run] = null
+  private var encoded: ByteBuffer                          = null
+  private var closed: Boolean                              = false
+
+  def isClosed: Boolean = closed
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    if (closed) return sentinel
+    if (merge eq null) sortInput()
+    val run = merge.poll()
+    if (run eq null) {
+      close()
+      return sentinel
+    }
+    val a = run.head
+    if (advance(run)) merge.add(run) else run.close()
+    a.asInstanceOf[A1]
+  }
+
+  /** Drains the upstream into sorted runs and primes the k-way merge. */
+  private def sortInput(): Unit = {
+    buffer = new Array[AnyRef](math.min(maxInMemory, 1024))
+    var v = upstream.read[Any](EndOfStream)
+    while (v.asInstanceOf[AnyRef] ne EndOfStream) {
+      if (buffered == maxInMemory) spill()
+      if (buffered == buffer.length) buffer = Arrays.copyOf(buffer, math.min(maxInMemory, buffered * 2))
+      buffer(buffered) = v.asInstanceOf[AnyRef]
+      buffered += 1
+      v = upstream.read[Any](EndOfStream)
+    }
+    Arrays.sort(buffer, 0, buffered, byKey)
+    runs += new ExternalSortReader.MemoryRun(runs.length, buffer, buffered)
+    buffer = null
+    buffered = 0
+    val q = new PriorityQueue[ExternalSortReader.Run](
+      math.max(runs.length, 1),
+      new Comparator[ExternalSortReader.Run] {
+        def compare(x: ExternalSortReader.Run, y: ExternalSortReader.Run): Int = {
+          val c = byKey.compare(x.head, y.head)
+          if (c != 0) c else Integer.compare(x.index, y.index)
+        }
+      }
+    )
+    runs.foreach(run => if (advance(run)) q.add(run) else run.close())
+    merge = q
+  }
+
+  /** Sorts the full buffer and writes it to a new temporary run file. */
+  private def spill(): Unit = {
+    Arrays.sort(buffer, 0, buffered, byKey)
+    val path =
+      try Files.createTempFile("zio-blocks-sort-", ".run")
+      catch { case e: IOException => throw new StreamError(wrap(e)) }
+    val run = new ExternalSortReader.FileRun(runs.length, path, codec)
+    runs += run
+    var ch: FileChannel = null
+    try {
+      ch = FileChannel.open(path, StandardOpenOption.WRITE)
+      val out = ByteBuffer.allocate(ExternalSortReader.IoBufferSize)
+      var i   = 0
+      while (i < buffered) {
+        val bytes = encode(buffer(i).asInstanceOf[A])
+        if (out.remaining() < 4 + bytes.remaining()) ExternalSortReader.flush(ch, out)
+        if (out.remaining() < 4 + bytes.remaining()) {
+          out.putInt(bytes.remaining())
+          ExternalSortReader.flush(ch, out)
+          while (bytes.hasRemaining) ch.write(bytes)
+        } else out.putInt(bytes.remaining()).put(bytes)
+        buffer(i) = null
+        i += 1
+      }
+      ExternalSortReader.flush(ch, out)
+    } catch {
+      case e: IOException => throw new StreamError(wrap(e))
+    } finally if (ch ne null) ch.close()
+    buffered = 0
+  }
+
+  /** Encodes `a` into the reusable scratch buffer, growing it as needed. */
+  private def encode(a: A): ByteBuffer = {
+    if (encoded eq null) encoded = ByteBuffer.allocate(256)
+    while (true) {
+      encoded.clear()
+      try {
+        codec.encode(a, encoded)
+        encoded.flip()
+        return encoded
+      } catch {
+        case _: BufferOverflowException => encoded = ByteBuffer.allocate(encoded.capacity() * 2)
+      }
+    }
+    encoded
+  }
+
+  private def advance(run: ExternalSortReader.Run): Boolean =
+    try run.advance()
+    catch {
+      case e: StreamError =>
+        e.value match {
+          case io: IOException => throw new StreamError(wrap(io))
+          case _               => throw e
+        }
+    }
+
+  private def release(): Unit = {
+    val q = merge
+    merge = null
+    buffer = null
+    buffered = 0
+    var i = 0
+    while (i < runs.length) {
+      runs(i).close()
+      i += 1
+    }
+    runs.clear()
+    if (q ne null) q.clear()
+  }
+
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      release()
+      upstream.close()
+    }
+
+  override def reset(): Unit = {
+    upstream.reset()
+    release()
+    closed = false
+  }
+}
+
+private[schema] object ExternalSortReader {
+
+  /** Size of the write buffer for runs and of the read buffer per run. */
+  val IoBufferSize: Int = 64 * 1024
+
+  private def flush(ch: FileChannel, out: ByteBuffer): Unit = {
+    out.flip()
+    while (out.hasRemaining) ch.write(out)
+    out.clear()
+  }
+
+  /**
+   * A sorted run taking part in the k-way merge; `index` is its creation order,
+   * used to break ties between equal keys.
+   */
+  sealed abstract class Run(val index: Int) {
+
+    /** The current element; valid after `advance` returned `true`. */
+    var head: AnyRef = null
+
+    /** Moves to the next element, returning `false` when the run is empty. */
+    def advance(): Boolean
+
+    def close(): Unit
+  }
+
+  /** The last, partial buffer, merged straight from the heap. */
+  final class MemoryRun(index: Int, elems: Array[AnyRef], size: Int) extends Run(index) {
+    private var i = 0
+
+    def advance(): Boolean =
+      if (i < size) {
+        head = elems(i)
+        elems(i) = null
+        i += 1
+        true
+      } else {
+        head = null
+        false
+      }
+
+    def close(): Unit = head = null
+  }
+
+  /**
+   * A spilled run, decoded back one length-prefixed record at a time. Like the
+   * channel reader it is read through, it raises an `IOException` as a
+   * [[StreamError]] carrying the exception itself; a truncated run or a record
+   * the codec cannot decode is reported the same way.
+   */
+  final class FileRun[A](index: Int, path: Path, codec: BinaryCodec[A]) extends Run(index) {
+    private var bytes: Reader[Byte] = null
+    private var record: Array[Byte] = new Array[Byte](256)
+    private var closed: Boolean     = false
+
+    def advance(): Boolean = {
+      if (closed) return false
+      if (bytes eq null) {
+        val ch =
+          try FileChannel.open(path, StandardOpenOption.READ)
+          catch { case e: IOException => throw new StreamError(e) }
+        bytes = NioReaders.fromChannel(ch, IoBufferSize).withRelease(() => ch.close())
+      }
+      if (!readFully(4)) {
+        close()
+        return false
+      }
+      val len =
+        ((record(0) & 0xff) << 24) | ((record(1) & 0xff) << 16) | ((record(2) & 0xff) << 8) | (record(3) & 0xff)
+      if (record.length < len) record = new Array[Byte](math.max(len, record.length * 2))
+      if (!readFully(len)) throw new StreamError(new IOException(s"Truncated sort run: $path"))
+      codec.decode(ByteBuffer.wrap(record, 0, len)) match {
+        case Right(a) => head = a.asInstanceOf[AnyRef]; true
+        case Left(e)  => throw new StreamError(new IOException(s"Corrupt sort run: $path", e))
+      }
+    }
+
+    /** Reads exactly `n` bytes into `record`; `false` on a clean end of run. */
+    private def readFully(n: Int): Boolean = {
+      var off = 0
+      while (off < n) {
+        val r = bytes.readBytes(record, off, n - off)
+        if (r < 0) {
+          if (off == 0) return false
+          throw new StreamError(new IOException(s"Truncated sort run: $path"))
+        }
+        off += r
+      }
+      true
+    }
+
+    def close(): Unit =
+      if (!closed) {
+        closed = true
+        head = null
+        val b = bytes
+        bytes = null
+        try { if (b ne null) b.close() }
+        finally Files.deleteIfExists(path)
+      }
+  }
+}
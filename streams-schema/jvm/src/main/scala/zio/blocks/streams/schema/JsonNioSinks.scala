@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.schema.json.{JsonCodec, WriterConfig}
+import zio.blocks.streams.Sink
+
+import java.io.IOException
+import java.nio.channels.{Channels, WritableByteChannel}
+
+/**
+ * [[JsonSinks]] variants that write to a `WritableByteChannel`. The channel is
+ * written whenever the encoder buffer fills up and is ''not'' closed when the
+ * sink completes.
+ */
+object JsonNioSinks {
+
+  /** A sink that writes all elements to `ch` as a single JSON array. */
+  def array[A](codec: JsonCodec[A], ch: WritableByteChannel): Sink[IOException, A, Long] =
+    array(codec, ch, WriterConfig)
+
+  /**
+   * A sink that writes all elements to `ch` as a single JSON array, using the
+   * specified `WriterConfig`.
+   */
+  def array[A](codec: JsonCodec[A], ch: WritableByteChannel, config: WriterConfig): Sink[IOException, A, Long] =
+    JsonSinks.array(codec, Channels.newOutputStream(ch), config)
+
+  /**
+   * A sink that writes each element to `ch` as one line of newline-delimited
+   * JSON (NDJSON).
+   */
+  def newlineDelimited[A](codec: JsonCodec[A], ch: WritableByteChannel): Sink[IOException, A, Long] =
+    newlineDelimited(codec, ch, WriterConfig)
+
+  /**
+   * A sink that writes each element to `ch` as one line of newline-delimited
+   * JSON (NDJSON), using the specified `WriterConfig`.
+   */
+  def newlineDelimited[A](
+    codec: JsonCodec[A],
+    ch: WritableByteChannel,
+    config: WriterConfig
+  ): Sink[IOException, A, Long] =
+    JsonSinks.newlineDelimited(codec, Channels.newOutputStream(ch), config)
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.combinators.Concat
+import zio.blocks.schema.codec.BinaryCodec
+import zio.blocks.streams.Stream
+
+import java.io.IOException
+
+/**
+ * Sorting operations for a [[zio.blocks.streams.Stream]] that spill to disk,
+ * brought into scope by `import zio.blocks.streams.schema._` (JVM only).
+ */
+final class StreamSortOps[E, A](private val stream: Stream[E, A]) extends AnyVal {
+
+  /**
+   * Sorts the stream by the key computed by `f`, holding at most `maxInMemory`
+   * elements on the heap. Equal keys keep their input order.
+   *
+   * Inputs that fit are sorted in memory. Larger inputs are sorted in runs of
+   * `maxInMemory` elements that are spilled to temporary files, encoded with
+   * `codec` (for example `Schema[A].derive(MessagePackFormat)` or an Avro
+   * codec), and then k-way merged back, so streams much larger than the heap
+   * can be sorted. `f` is called on every comparison and should be cheap.
+   *
+   * No element is emitted before the upstream completes. Temporary files are
+   * deleted as soon as they are merged, or when the stream is closed. An
+   * `IOException` raised by the temporary files fails the stream; the result
+   * error type is the [[Concat]] of the upstream error and `IOException`.
+   */
+  def sortBy[K, E2](f: A => K, maxInMemory: Int, codec: BinaryCodec[A])(implicit
+    ord: Ordering[K],
+    errorConcat: Concat.WithOut[E, IOException, E2]
+  ): Stream[E2, A] = {
+    require(maxInMemory >= 1, s"sortBy requires maxInMemory >= 1, got maxInMemory=$maxInMemory")
+    val upstream                 = Stream.widenErrorLeft(stream, errorConcat)
+    val wrap: IOException => Any = if (errorConcat.isIdentityLike) (e: IOException) => e else errorConcat.right
+    new Stream.FromReader[E2, A](
+      () => new ExternalSortReader[A, K](Stream.compileToReader(upstream), f, ord, codec, maxInMemory, wrap),
+      s"${stream.render}.sortBy(...)"
+    )
+  }
+}
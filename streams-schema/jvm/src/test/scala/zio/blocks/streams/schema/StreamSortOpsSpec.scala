@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.chunk.Chunk
+import zio.blocks.schema.Schema
+import zio.blocks.schema.msgpack.{MessagePackCodec, MessagePackFormat}
+import zio.blocks.streams.Stream
+import zio.test._
+
+import java.io.IOException
+import java.nio.file.{Files, Path, Paths}
+import scala.jdk.CollectionConverters._
+
+object StreamSortOpsSpec extends ZIOSpecDefault {
+
+  final case class Record(id: Int, name: String)
+
+  object Record {
+    implicit val schema: Schema[Record] = Schema.derived
+  }
+
+  private val recordCodec: MessagePackCodec[Record] = Record.schema.derive(MessagePackFormat)
+  private val intCodec: MessagePackCodec[Int]       = Schema[Int].derive(MessagePackFormat)
+
+  private val shuffled: List[Int] = new scala.util.Random(42).shuffle((1 to 1000).toList)
+
+  /** The sort runs currently spilled to the temporary directory. */
+  private def spilledRuns(): Set[Path] = {
+    val runs = Files.newDirectoryStream(Paths.get(System.getProperty("java.io.tmpdir")), "zio-blocks-sort-*.run")
+    try runs.asScala.toSet
+    finally runs.close()
+  }
+
+  def spec: Spec[TestEnvironment, Any] = suite("StreamSortOps")(
+    suite("sortBy")(
+      test("sorts in memory when the input fits") {
+        val result = Stream.fromIterable(shuffled).sortBy(identity, 10000, intCodec).runCollect
+        assertTrue(result == Right(Chunk.fromIterable(1 to 1000)))
+      },
+      test("spills sorted runs and merges them back") {
+        val result = Stream.fromIterable(shuffled).sortBy(identity, 64, intCodec).runCollect
+        assertTrue(result == Right(Chunk.fromIterable(1 to 1000)))
+      },
+      test("keeps equal keys in input order across runs") {
+        val records = (0 until 500).map(i => Record(i % 7, s"r$i")).toList
+        val result  = Stream.fromIterable(records).sortBy(_.id, 16, recordCodec).runCollect
+        assertTrue(result == Right(Chunk.fromIterable(records.sortBy(_.id))))
+      },
+      test("sorts by a derived key and ordering") {
+        val result = Stream.fromIterable(shuffled).sortBy(-_, 100, intCodec).runCollect
+        assertTrue(result == Right(Chunk.fromIterable(1000 to 1 by -1)))
+      },
+      test("sorts an empty stream") {
+        val result = (Stream.empty: Stream[Nothing, Int]).sortBy(identity, 4, intCodec).runCollect
+        assertTrue(result == Right(Chunk.empty[Int]))
+      },
+      test("preserves upstream errors") {
+        val upstream = (Stream(3, 1, 2): Stream[Nothing, Int]) ++ (Stream.fail("boom"): Stream[String, Int])
+        val result   = upstream.sortBy(identity, 2, intCodec).runCollect
+        assertTrue(result.left.exists(_.toString.contains("boom")))
+      },
+      test("can be run more than once") {
+        val sorted = Stream.fromIterable(shuffled).sortBy(identity, 128, intCodec)
+        assertTrue(sorted.runCollect == sorted.runCollect)
+      },
+      test("widens the error type to IOException") {
+        val result: Either[IOException, Chunk[Int]] = Stream(2, 1).sortBy(identity, 1, intCodec).runCollect
+        assertTrue(result == Right(Chunk(1, 2)))
+      },
+      test("fails with an IOException when a spilled run is corrupt") {
+        val before = spilledRuns()
+        // By the last element two runs have been spilled; overwrite each with a
+        // record holding a byte MessagePack never uses, before they are merged.
+        val upstream = Stream.range(0, 10).map { i =>
+          if (i == 9) (spilledRuns() -- before).foreach(Files.write(_, Array[Byte](0, 0, 0, 1, 0xc1.toByte)))
+          i
+        }
+        val result = upstream.sortBy(identity, 4, intCodec).runCollect
+        assertTrue(
+          result.left.exists(_.getMessage.startsWith("Corrupt sort run")),
+          (spilledRuns() -- before).isEmpty
+        )
+      }
+    ) @@ TestAspect.sequential
+  )
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.schema.SchemaError
+import zio.blocks.schema.json.{JsonArrayDecoder, JsonCodec, ReaderConfig}
+import zio.blocks.streams.internal.StreamError
+import zio.blocks.streams.io.Reader
+
+import java.io.InputStream
+
+/**
+ * Reader emitting the elements of a top-level JSON array decoded from a byte
+ * reader. The bytes are fed to a pooled `JsonReader` through a thin
+ * `InputStream` view that pulls them with bulk `readBytes` calls, so no
+ * intermediate copy of the input is made.
+ *
+ * A `SchemaError` raised while decoding is passed through `wrap` (which
+ * projects it onto the stream's error type) and thrown as a [[StreamError]].
+ */
+private[schema] final class JsonArrayElementReader[A](
+  bytes: Reader[Byte],
+  codec: JsonCodec[A],
+  config: ReaderConfig,
+  wrap: SchemaError => Any
+) extends Reader[A] {
+  private var decoder: JsonArrayDecoder[A] = null
+  private var done: Boolean                = false
+  private var closed: Boolean              = false
+
+  def isClosed: Boolean = done || closed
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    if (done || closed) return sentinel
+    var d = decoder
+    if (d eq null) {
+      d = codec.decodeArrayElements(new JsonArrayElementReader.BytesInputStream(bytes), config)
+      decoder = d
+    }
+    try {
+      if (d.hasNext) d.next()
+      else {
+        done = true
+        sentinel
+      }
+    } catch {
+      case e: SchemaError =>
+        done = true
+        throw new StreamError(wrap(e))
+    }
+  }
+
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      val d = decoder
+      decoder = null
+      if (d ne null) d.close()
+      bytes.close()
+    }
+
+  override def reset(): Unit = {
+    bytes.reset()
+    val d = decoder
+    decoder = null
+    if (d ne null) d.close()
+    done = false
+    closed = false
+  }
+}
+
+private[schema] object JsonArrayElementReader {
+
+  /** `InputStream` view of a byte reader; `-1` signals end-of-stream. */
+  final class BytesInputStream(bytes: Reader[Byte]) extends InputStream {
+    def read(): Int = bytes.readByte()
+
+    override def read(buf: Array[Byte], offset: Int, len: Int): Int = bytes.readBytes(buf, offset, len)
+  }
+}
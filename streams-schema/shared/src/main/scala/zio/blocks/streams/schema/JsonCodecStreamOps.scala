@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.combinators.Concat
+import zio.blocks.schema.SchemaError
+import zio.blocks.schema.json.{JsonCodec, ReaderConfig}
+import zio.blocks.streams.Stream
+import zio.blocks.streams.io.Reader
+
+/**
+ * Streaming operations for a [[zio.blocks.schema.json.JsonCodec]], brought into
+ * scope by `import zio.blocks.streams.schema._`.
+ */
+final class JsonCodecStreamOps[A](private val codec: JsonCodec[A]) extends AnyVal {
+
+  /**
+   * Decodes a top-level JSON array of `A` from a stream of bytes, emitting one
+   * element at a time using the default `ReaderConfig`.
+   *
+   * Only the element being decoded is held in memory, so arbitrarily large
+   * arrays can be processed in constant space and decoding can be pipelined
+   * with downstream stages such as `mapPar`. A malformed input fails the
+   * stream with a [[zio.blocks.schema.SchemaError]] that carries the index of
+   * the failed element; upstream errors are preserved. The result error type
+   * is the [[Concat]] of the upstream error and `SchemaError`.
+   */
+  def decodeStream[E, E2](bytes: Stream[E, Byte])(implicit
+    errorConcat: Concat.WithOut[E, SchemaError, E2]
+  ): Stream[E2, A] =
+    decodeStream(bytes, ReaderConfig)
+
+  /**
+   * Decodes a top-level JSON array of `A` from a stream of bytes, emitting one
+   * element at a time using the specified `ReaderConfig`. See
+   * `decodeStream(bytes)` for the error and memory behavior.
+   */
+  def decodeStream[E, E2](bytes: Stream[E, Byte], config: ReaderConfig)(implicit
+    errorConcat: Concat.WithOut[E, SchemaError, E2]
+  ): Stream[E2, A] = {
+    val upstream                 = Stream.widenErrorLeft(bytes, errorConcat)
+    val wrap: SchemaError => Any = if (errorConcat.isIdentityLike) (e: SchemaError) => e else errorConcat.right
+    val codec0                   = codec
+    new Stream.FromReader[E2, A](
+      () => new JsonArrayElementReader(Stream.compileToReader(upstream), codec0, config, wrap),
+      s"${bytes.render}.decodeStream(...)"
+    )
+  }
+
+  /**
+   * Returns a reader of the elements of a top-level JSON array of `A` read from
+   * `bytes`, using the default `ReaderConfig`. Decoding failures are raised as
+   * stream errors carrying a [[zio.blocks.schema.SchemaError]]. Closing the
+   * returned reader closes `bytes`.
+   */
+  def decodeReader(bytes: Reader[Byte]): Reader[A] = decodeReader(bytes, ReaderConfig)
+
+  /**
+   * Returns a reader of the elements of a top-level JSON array of `A` read from
+   * `bytes`, using the specified `ReaderConfig`. Decoding failures are raised
+   * as stream errors carrying a [[zio.blocks.schema.SchemaError]]. Closing the
+   * returned reader closes `bytes`.
+   */
+  def decodeReader(bytes: Reader[Byte], config: ReaderConfig): Reader[A] =
+    new JsonArrayElementReader(bytes, codec, config, (e: SchemaError) => e)
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.schema.json.{JsonCodec, JsonStreamEncoder, WriterConfig}
+import zio.blocks.streams.Sink
+import zio.blocks.streams.internal.{EndOfStream, SinkError}
+import zio.blocks.streams.io.Reader
+
+import java.io.{IOException, OutputStream}
+
+/**
+ * Sinks that encode stream elements as JSON with a
+ * [[zio.blocks.schema.json.JsonCodec]].
+ *
+ * Elements are written incrementally through the pooled `JsonWriter`, whose
+ * buffer is flushed to the output each time it fills up: heap usage stays flat
+ * and the first bytes go out before the last element is produced. Each sink
+ * returns the number of written elements and does ''not'' close the output.
+ * An `IOException` raised by the output fails the sink with that exception.
+ *
+ * See [[JsonNioSinks]] (JVM) for `WritableByteChannel` variants.
+ */
+object JsonSinks {
+
+  /**
+   * A sink that writes all elements to `out` as a single JSON array. An empty
+   * stream produces `[]`.
+   */
+  def array[A](codec: JsonCodec[A], out: OutputStream): Sink[IOException, A, Long] =
+    array(codec, out, WriterConfig)
+
+  /**
+   * A sink that writes all elements to `out` as a single JSON array, using the
+   * specified `WriterConfig`. An empty stream produces `[]`.
+   */
+  def array[A](codec: JsonCodec[A], out: OutputStream, config: WriterConfig): Sink[IOException, A, Long] =
+    new JsonEncoderSink(() => codec.encodeArrayElements(out, config))
+
+  /**
+   * A sink that writes each element to `out` as one line of newline-delimited
+   * JSON (NDJSON).
+   */
+  def newlineDelimited[A](codec: JsonCodec[A], out: OutputStream): Sink[IOException, A, Long] =
+    newlineDelimited(codec, out, WriterConfig)
+
+  /**
+   * A sink that writes each element to `out` as one line of newline-delimited
+   * JSON (NDJSON), using the specified `WriterConfig`. Indention settings of
+   * `config` are ignored.
+   */
+  def newlineDelimited[A](codec: JsonCodec[A], out: OutputStream, config: WriterConfig): Sink[IOException, A, Long] =
+    new JsonEncoderSink(() => codec.encodeNewlineDelimited(out, config))
+
+  private[schema] final class JsonEncoderSink[A](mkEncoder: () => JsonStreamEncoder[A])
+      extends Sink[IOException, A, Long] {
+    private[streams] def drain(reader: Reader[_]): Long = {
+      val encoder = mkEncoder()
+      try {
+        var v = reader.read[Any](EndOfStream)
+        while (v.asInstanceOf[AnyRef] ne EndOfStream) {
+          encoder.write(v.asInstanceOf[A])
+          v = reader.read[Any](EndOfStream)
+        }
+        encoder.close()
+        encoder.writtenCount
+      } catch {
+        case e: IOException =>
+          encoder.abort()
+          throw new SinkError(e)
+        case t: Throwable =>
+          // Stream errors and defects leave the output incomplete; only the
+          // pooled writer is released before propagating them.
+          encoder.abort()
+          throw t
+      }
+    }
+  }
+}
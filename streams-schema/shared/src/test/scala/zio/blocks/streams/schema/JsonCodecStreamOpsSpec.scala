@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.chunk.Chunk
+import zio.blocks.schema.Schema
+import zio.blocks.schema.json.{JsonCodec, JsonFormat}
+import zio.blocks.streams.{Sink, Stream}
+import zio.blocks.streams.io.Reader
+import zio.test._
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+object JsonCodecStreamOpsSpec extends ZIOSpecDefault {
+
+  final case class Record(id: Int, name: String)
+
+  object Record {
+    implicit val schema: Schema[Record] = Schema.derived
+  }
+
+  private val recordCodec: JsonCodec[Record] = Record.schema.derive(JsonFormat)
+  private val intCodec: JsonCodec[Int]       = Schema[Int].derive(JsonFormat)
+
+  private def bytesOf(s: String): Stream[Nothing, Byte] = Stream.fromChunk(Chunk.fromArray(s.getBytes(UTF_8)))
+
+  def spec: Spec[TestEnvironment, Any] = suite("JsonCodecStreamOps")(
+    suite("decodeStream")(
+      test("decodes elements of a top-level array in order") {
+        val json   = """[{"id":1,"name":"a"}, {"id":2,"name":"b"} ,{"id":3,"name":"c"}]"""
+        val result = recordCodec.decodeStream(bytesOf(json)).run(Sink.collectAll[Record])
+        assertTrue(result == Right(Chunk(Record(1, "a"), Record(2, "b"), Record(3, "c"))))
+      },
+      test("decodes an empty array") {
+        val result = intCodec.decodeStream(bytesOf(" [ ] ")).run(Sink.collectAll[Int])
+        assertTrue(result == Right(Chunk.empty[Int]))
+      },
+      test("decodes arrays larger than the reader buffer") {
+        val n      = 100000
+        val json   = (1 to n).mkString("[", ",", "]")
+        val result = intCodec.decodeStream(bytesOf(json)).run(Sink.count)
+        assertTrue(result == Right(n.toLong))
+      },
+      test("emits elements decoded before a malformed one") {
+        val json = """[1,2,"x",4]"""
+        var seen = List.empty[Int]
+        val result = intCodec
+          .decodeStream(bytesOf(json))
+          .run(Sink.foreach[Int](i => seen = i :: seen))
+        assertTrue(
+          seen.reverse == List(1, 2),
+          result.left.exists(_.message.contains(".at(2)"))
+        )
+      },
+      test("fails on input that is not an array") {
+        val result = intCodec.decodeStream(bytesOf("""{"a":1}""")).run(Sink.drain)
+        assertTrue(result.isLeft)
+      },
+      test("fails on a truncated array") {
+        val result = intCodec.decodeStream(bytesOf("[1,2,")).run(Sink.collectAll[Int])
+        assertTrue(result.isLeft)
+      },
+      test("composes with downstream stages") {
+        val json   = (1 to 1000).mkString("[", ",", "]")
+        val result = intCodec.decodeStream(bytesOf(json)).map(_ * 2L).runFold(0L)(_ + _)
+        assertTrue(result == Right(1001000L))
+      }
+    ),
+    suite("decodeReader")(
+      test("reads elements from a byte reader") {
+        val reader = intCodec.decodeReader(Reader.fromChunk(Chunk.fromArray("[10,20,30]".getBytes(UTF_8))))
+        val a      = reader.read[Any](null)
+        val b      = reader.read[Any](null)
+        val c      = reader.read[Any](null)
+        val end    = reader.read[Any](null)
+        reader.close()
+        assertTrue(a == 10, b == 20, c == 30, end == null, reader.isClosed)
+      },
+      test("can be reset to decode the input again") {
+        val reader = intCodec.decodeReader(Reader.fromChunk(Chunk.fromArray("[1,2]".getBytes(UTF_8))))
+        val first  = List(reader.read[Any](null), reader.read[Any](null), reader.read[Any](null))
+        reader.reset()
+        val second = List(reader.read[Any](null), reader.read[Any](null), reader.read[Any](null))
+        reader.close()
+        assertTrue(first == List(1, 2, null), second == first)
+      }
+    )
+  )
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.schema
+
+import zio.blocks.chunk.Chunk
+import zio.blocks.schema.Schema
+import zio.blocks.schema.json.{JsonCodec, JsonFormat, WriterConfig}
+import zio.blocks.streams.Stream
+import zio.test._
+
+import java.io.{ByteArrayOutputStream, IOException, OutputStream}
+import java.nio.charset.StandardCharsets.UTF_8
+
+object JsonSinksSpec extends ZIOSpecDefault {
+
+  final case class Record(id: Int, name: String)
+
+  object Record {
+    implicit val schema: Schema[Record] = Schema.derived
+  }
+
+  private val recordCodec: JsonCodec[Record] = Record.schema.derive(JsonFormat)
+  private val intCodec: JsonCodec[Int]       = Schema[Int].derive(JsonFormat)
+
+  private val failingOutput: OutputStream = new OutputStream {
+    def write(b: Int): Unit = throw new IOException("boom")
+
+    override def write(b: Array[Byte], off: Int, len: Int): Unit = throw new IOException("boom")
+  }
+
+  def spec: Spec[TestEnvironment, Any] = suite("JsonSinks")(
+    suite("array")(
+      test("writes elements as a JSON array and returns their count") {
+        val out    = new ByteArrayOutputStream
+        val result = Stream(Record(1, "a"), Record(2, "b")).run(JsonSinks.array(recordCodec, out))
+        assertTrue(
+          result == Right(2L),
+          out.toString("UTF-8") == """[{"id":1,"name":"a"},{"id":2,"name":"b"}]"""
+        )
+      },
+      test("writes an empty array for an empty stream") {
+        val out    = new ByteArrayOutputStream
+        val result = Stream.empty.run(JsonSinks.array(intCodec, out))
+        assertTrue(result == Right(0L), out.toString("UTF-8") == "[]")
+      },
+      test("flushes on buffer boundaries before the stream ends") {
+        val out     = new ByteArrayOutputStream
+        var flushed = 0
+        val result = Stream
+          .range(0, 100000)
+          .tapEach(i => if (i == 99999) flushed = out.size())
+          .run(JsonSinks.array(intCodec, out))
+        assertTrue(
+          result == Right(100000L),
+          flushed > 0,
+          out.toString("UTF-8") == (0 until 100000).mkString("[", ",", "]")
+        )
+      },
+      test("round-trips through decodeStream") {
+        val out = new ByteArrayOutputStream
+        val _   = Stream.range(0, 1000).run(JsonSinks.array(intCodec, out))
+        val decoded =
+          intCodec.decodeStream(Stream.fromChunk(Chunk.fromArray(out.toByteArray))).runFold(0L)(_ + _)
+        assertTrue(decoded == Right(499500L))
+      },
+      test("fails with the IOException of the output") {
+        val result = Stream(1, 2, 3).run(JsonSinks.array(intCodec, failingOutput))
+        assertTrue(result.left.exists(_.getMessage == "boom"))
+      }
+    ),
+    suite("newlineDelimited")(
+      test("writes one element per line") {
+        val out    = new ByteArrayOutputStream
+        val result = Stream(Record(1, "a"), Record(2, "b")).run(JsonSinks.newlineDelimited(recordCodec, out))
+        assertTrue(
+          result == Right(2L),
+          new String(out.toByteArray, UTF_8) == "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n"
+        )
+      },
+      test("ignores indention settings") {
+        val out  = new ByteArrayOutputStream
+        val sink = JsonSinks.newlineDelimited(recordCodec, out, WriterConfig.withIndentionStep(2))
+        val _    = Stream(Record(1, "a")).run(sink)
+        assertTrue(new String(out.toByteArray, UTF_8) == "{\"id\":1,\"name\":\"a\"}\n")
+      }
+    )
+  )
+}
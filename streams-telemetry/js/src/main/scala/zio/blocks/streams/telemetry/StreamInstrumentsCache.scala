@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import scala.scalajs.js
+import scala.scalajs.js.annotation.JSGlobal
+
+import zio.blocks.telemetry.Meter
+
+/**
+ * The [[StreamInstruments]] of each meter, held in a JavaScript `WeakMap` so
+ * that a meter nobody else references can be collected along with its
+ * instruments.
+ */
+private[telemetry] object StreamInstrumentsCache {
+  @js.native
+  @JSGlobal("WeakMap")
+  private class WeakMap extends js.Object {
+    def get(key: Meter): js.UndefOr[StreamInstruments]  = js.native
+    def set(key: Meter, value: StreamInstruments): Unit = js.native
+  }
+
+  private val byMeter = new WeakMap()
+
+  def get(meter: Meter): StreamInstruments =
+    byMeter.get(meter).getOrElse {
+      val instruments = new StreamInstruments(meter)
+      byMeter.set(meter, instruments)
+      instruments
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import java.util.WeakHashMap
+
+import zio.blocks.telemetry.Meter
+
+/**
+ * The [[StreamInstruments]] of each meter, held weakly by meter so that a meter
+ * nobody else references can be collected along with its instruments.
+ */
+private[telemetry] object StreamInstrumentsCache {
+  private val byMeter = new WeakHashMap[Meter, StreamInstruments]()
+
+  def get(meter: Meter): StreamInstruments = byMeter.synchronized {
+    var instruments = byMeter.get(meter)
+    if (instruments eq null) {
+      instruments = new StreamInstruments(meter)
+      byMeter.put(meter, instruments)
+    }
+    instruments
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import java.lang.ref.WeakReference
+
+import zio.blocks.streams.{JvmType, Stream}
+import zio.blocks.telemetry._
+import zio.test._
+
+object StreamTelemetrySpec extends ZIOSpecDefault {
+
+  private def newMeter(): (MeterProvider, Meter) = {
+    val provider = MeterProvider.builder.build()
+    (provider, provider.get("streams-test"))
+  }
+
+  private def stageOf(attributes: Attributes): Option[String] = attributes.get(StreamInstruments.StageKey)
+
+  private def elements(provider: MeterProvider): Map[String, Long] =
+    provider.reader.collectAllMetrics().collect { case MetricData.SumData(points) => points }.flatten.flatMap { p =>
+      stageOf(p.attributes).map(_ -> p.value)
+    }.toMap
+
+  private def depthSamples(provider: MeterProvider): Map[String, HistogramDataPoint] =
+    provider.reader.collectAllMetrics().collect { case MetricData.HistogramData(points) => points }.flatten.flatMap {
+      p => stageOf(p.attributes).map(_ -> p)
+    }.toMap
+
+  private def throughput(provider: MeterProvider): Map[String, Double] =
+    provider.reader.collectAllMetrics().collect { case MetricData.GaugeData(points) => points }.flatten.flatMap { p =>
+      stageOf(p.attributes).map(_ -> p.value)
+    }.toMap
+
+  private def gcUntilCleared(ref: WeakReference[?], maxRounds: Int = 50): Boolean = {
+    var rounds = 0
+    while (ref.get != null && rounds < maxRounds) {
+      System.gc()
+      Thread.sleep(20)
+      rounds += 1
+    }
+    ref.get == null
+  }
+
+  // Instruments a stream in its own frame, so that only the `WeakReference` to
+  // the meter survives the call.
+  private def instrumentAndDrop(): (Either[Nothing, Unit], WeakReference[Meter]) = {
+    val (_, meter) = newMeter()
+    (Stream.range(0, 100).instrumented("dropped", meter).runDrain, new WeakReference(meter))
+  }
+
+  def spec = suite("StreamTelemetrySpec")(
+    test("counts the elements each stage emits") {
+      val (provider, meter) = newMeter()
+      val result            = Stream
+        .range(0, 5000)
+        .instrumented("source", meter, sampleEvery = 100)
+        .filter(_ % 2 == 0)
+        .instrumented("evens", meter, sampleEvery = 100)
+        .runDrain
+      assertTrue(
+        result == Right(()),
+        elements(provider) == Map("source" -> 5000L, "evens" -> 2500L),
+        throughput(provider).get("source").exists(_ > 0.0),
+        throughput(provider).get("evens").exists(_ > 0.0)
+      )
+    },
+    test("publishes a partial sample on close") {
+      val (provider, meter) = newMeter()
+      val result            = Stream.range(0, 10).instrumented("short", meter).runCollect
+      assertTrue(result.map(_.length) == Right(10), elements(provider) == Map("short" -> 10L))
+    },
+    test("keeps the primitive lane, known length and drop pushdown") {
+      val (provider, meter) = newMeter()
+      val s                 = Stream.range(0, 10).instrumented("range", meter)
+      val reader            = Stream.compileToReader(s)
+      reader.close()
+      val dropped = s.drop(3).runFold(0L)(_ + _)
+      assertTrue(
+        reader.jvmType eq JvmType.Int,
+        s.knownLength == Some(10L),
+        dropped == Right(42L),
+        elements(provider) == Map("range" -> 7L)
+      )
+    },
+    test("samples the queue depth of a buffer") {
+      val (provider, meter) = newMeter()
+      val s                 = Stream.range(0, 100000).buffer(64).instrumented("buffered", meter, sampleEvery = 1000)
+      val result            = s.runDrain
+      val depth             = depthSamples(provider).get("buffered")
+      assertTrue(
+        result == Right(()),
+        depth.exists(_.count == 100L),
+        depth.exists(d => d.min >= 0.0 && d.max <= 64.0)
+      )
+    },
+    test("samples the queues of mapPar") {
+      val (provider, meter) = newMeter()
+      val s                 = Stream.range(0, 10000).mapPar(4)(_ * 2).instrumented("par", meter, sampleEvery = 500)
+      val result            = s.runDrain
+      assertTrue(result == Right(()), depthSamples(provider).get("par").exists(_.count == 20L))
+    },
+    test("does not sample a stage that is not queue-backed") {
+      val (provider, meter) = newMeter()
+      val result            = Stream.range(0, 10000).map(_ + 1).instrumented("plain", meter, sampleEvery = 100).runDrain
+      assertTrue(
+        result == Right(()),
+        depthSamples(provider).get("plain").forall(_.count == 0L),
+        elements(provider) == Map("plain" -> 10000L)
+      )
+    },
+    test("does not keep a dropped meter alive") {
+      val (result, ref) = instrumentAndDrop()
+      assertTrue(result == Right(()), gcUntilCleared(ref))
+    }
+  )
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import scala.annotation.tailrec
+
+import zio.blocks.chunk.Chunk
+import zio.blocks.streams.Stream
+import zio.blocks.streams.internal.{doubleEOF, longEOF, unsafeEvidence, QueueOccupancy}
+import zio.blocks.streams.io.Reader
+
+/**
+ * Forwards every read to `upstream` and counts the elements it returns. The
+ * count is published to `stage` every `sampleEvery` elements, together with
+ * the throughput since the previous sample and, when `upstream` is
+ * queue-backed, its queue depth; whatever remains is published on `close` and
+ * `reset`.
+ */
+private[telemetry] final class InstrumentedReader[A](upstream: Reader[A], stage: StageInstruments, sampleEvery: Int)
+    extends Reader.DelegatingReader[A](upstream) {
+  private val queues: QueueOccupancy = InstrumentedReader.occupancyOf(upstream)
+  private var pending: Long          = 0L
+  private var lastSample: Long       = System.nanoTime()
+
+  private def count(n: Long): Unit = {
+    pending += n
+    if (pending >= sampleEvery) sample()
+  }
+
+  private def sample(): Unit = {
+    val now     = System.nanoTime()
+    val elapsed = now - lastSample
+    stage.elements.add(pending)
+    if (elapsed > 0L) stage.throughput.record(pending * 1e9 / elapsed)
+    if (queues ne null) stage.queueDepth.record(queues.queuedCount.toDouble)
+    pending = 0L
+    lastSample = now
+  }
+
+  private def flush(): Unit =
+    if (pending > 0L) {
+      stage.elements.add(pending)
+      pending = 0L
+    }
+
+  override def read[A1 >: A](sentinel: A1): A1 = {
+    val v = upstream.read(sentinel)
+    if (v.asInstanceOf[AnyRef] ne sentinel.asInstanceOf[AnyRef]) count(1L)
+    v
+  }
+
+  override def readInt(sentinel: Long)(implicit ev: A <:< Int): Long = {
+    val v = upstream.readInt(sentinel)(unsafeEvidence)
+    if (v != sentinel) count(1L)
+    v
+  }
+
+  override def readLong(sentinel: Long)(implicit ev: A <:< Long): Long = {
+    val v = upstream.readLong(sentinel)(unsafeEvidence)
+    if (!longEOF(upstream, v, sentinel)) count(1L)
+    v
+  }
+
+  // A Float read widens to Double, so no element can equal a Double sentinel
+  // outside the Float range.
+  override def readFloat(sentinel: Double)(implicit ev: A <:< Float): Double = {
+    val v = upstream.readFloat(sentinel)(unsafeEvidence)
+    if (v != sentinel) count(1L)
+    v
+  }
+
+  override def readDouble(sentinel: Double)(implicit ev: A <:< Double): Double = {
+    val v = upstream.readDouble(sentinel)(unsafeEvidence)
+    if (!doubleEOF(upstream, v, sentinel)) count(1L)
+    v
+  }
+
+  override def readByte(): Int = {
+    val b = upstream.readByte()
+    if (b >= 0) count(1L)
+    b
+  }
+
+  override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: A <:< Int): Int = {
+    val n = upstream.readInts(buf, offset, maxLen)(unsafeEvidence)
+    if (n > 0) count(n.toLong)
+    n
+  }
+
+  override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: A <:< Long): Int = {
+    val n = upstream.readLongs(buf, offset, maxLen)(unsafeEvidence)
+    if (n > 0) count(n.toLong)
+    n
+  }
+
+  override def readFloats(buf: Array[Float], offset: Int, maxLen: Int)(implicit ev: A <:< Float): Int = {
+    val n = upstream.readFloats(buf, offset, maxLen)(unsafeEvidence)
+    if (n > 0) count(n.toLong)
+    n
+  }
+
+  override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: A <:< Double): Int = {
+    val n = upstream.readDoubles(buf, offset, maxLen)(unsafeEvidence)
+    if (n > 0) count(n.toLong)
+    n
+  }
+
+  override def readUpToN[A1 >: A](n: Int): Chunk[A1] = {
+    val c = upstream.readUpToN[A1](n)
+    if (c.nonEmpty) count(c.length.toLong)
+    c
+  }
+
+  override def setSkip(n: Long): Boolean  = upstream.setSkip(n)
+  override def setLimit(n: Long): Boolean = upstream.setLimit(n)
+
+  override def close(): Unit = {
+    flush()
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    flush()
+    upstream.reset()
+    lastSample = System.nanoTime()
+  }
+}
+
+private[telemetry] object InstrumentedReader {
+
+  /** `self` with every run read through an [[InstrumentedReader]]. */
+  def stream[E, A](self: Stream[E, A], name: String, stage: StageInstruments, sampleEvery: Int): Stream[E, A] =
+    new Stream.FromReader[E, A](
+      () => new InstrumentedReader[A](Stream.compileToReader(self), stage, sampleEvery),
+      s"${self.render}.instrumented($name, ...)"
+    ) {
+      override def knownLength: Option[Long] = self.knownLength
+    }
+
+  /** The queue-backed reader `r` is or directly wraps, or `null`. */
+  @tailrec def occupancyOf(r: Reader[_]): QueueOccupancy = r match {
+    case q: QueueOccupancy          => q
+    case c: Reader.ClosingReader[_] => occupancyOf(c.underlying)
+    case _                          => null
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import zio.blocks.telemetry.{AttributeKey, Attributes, BoundCounter, BoundGauge, BoundHistogram, Meter}
+
+/**
+ * The stream instruments of one [[zio.blocks.telemetry.Meter]]. They are
+ * created once per meter, since building them again would register duplicate
+ * instruments under the same names; stages are told apart by attribute. The
+ * instruments do not reference the meter, so the per-meter cache can hold them
+ * without keeping the meter alive.
+ */
+private[telemetry] final class StreamInstruments(meter: Meter) {
+  private val elements = meter
+    .counterBuilder("zio.blocks.streams.elements")
+    .setDescription("Elements emitted by an instrumented stream stage")
+    .setUnit("{element}")
+    .build()
+
+  private val throughput = meter
+    .gaugeBuilder("zio.blocks.streams.throughput")
+    .setDescription("Elements per second emitted by an instrumented stream stage")
+    .setUnit("{element}/s")
+    .build()
+
+  private val queueDepth = meter
+    .histogramBuilder("zio.blocks.streams.queue.depth")
+    .setDescription("Elements queued in the buffer upstream of an instrumented stream stage")
+    .setUnit("{element}")
+    .build()
+
+  def stage(name: String): StageInstruments = {
+    val attributes = Attributes.of(StreamInstruments.StageKey, name)
+    new StageInstruments(elements.bind(attributes), throughput.bind(attributes), queueDepth.bind(attributes))
+  }
+}
+
+private[telemetry] object StreamInstruments {
+  val StageKey: AttributeKey[String] = AttributeKey.string("stream.stage")
+
+  def forMeter(meter: Meter): StreamInstruments = StreamInstrumentsCache.get(meter)
+}
+
+/** The instruments of one stage, bound to its `stream.stage` attribute. */
+private[telemetry] final class StageInstruments(
+  val elements: BoundCounter,
+  val throughput: BoundGauge,
+  val queueDepth: BoundHistogram
+)
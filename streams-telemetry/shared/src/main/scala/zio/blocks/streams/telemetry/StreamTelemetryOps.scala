@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.telemetry
+
+import zio.blocks.streams.Stream
+import zio.blocks.telemetry.Meter
+
+/**
+ * Metrics instrumentation for a [[zio.blocks.streams.Stream]], brought into
+ * scope by `import zio.blocks.streams.telemetry._`.
+ */
+final class StreamTelemetryOps[E, A](private val stream: Stream[E, A]) extends AnyVal {
+
+  /**
+   * Records what this stream emits as the stage `name` on `meter`, tagged with
+   * the attribute `stream.stage = name`:
+   *
+   *   - `zio.blocks.streams.elements`: a counter of emitted elements;
+   *   - `zio.blocks.streams.throughput`: a gauge of the elements per second
+   *     over the last sampling interval;
+   *   - `zio.blocks.streams.queue.depth`: a histogram of the elements queued
+   *     in the stage directly upstream, sampled only when that stage is a
+   *     `buffer`, `merge`/`mergeAll`, `mapPar` or `mapParUnordered` (JVM).
+   *
+   * Elements are counted in a plain field and published every `sampleEvery`
+   * elements and on close, so the per-element cost is an increment and a
+   * comparison. Elements, primitive lanes and `drop`/`take` pushdown pass
+   * through unchanged.
+   */
+  def instrumented(name: String, meter: Meter, sampleEvery: Int = 1024): Stream[E, A] = {
+    require(sampleEvery >= 1, s"instrumented requires sampleEvery >= 1, got sampleEvery=$sampleEvery")
+    InstrumentedReader.stream(stream, name, StreamInstruments.forMeter(meter).stage(name), sampleEvery)
+  }
+}
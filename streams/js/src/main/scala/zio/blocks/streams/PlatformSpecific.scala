@@ -26,8 +26,15 @@ import zio.blocks.streams.internal.{runBoth, EndOfStream}
  * threads are not available. [[createBufferedReader]] uses
  * [[internal.SyncBufferedReader]] to synchronously prefetch elements.
  *
- * [[createMergeReader]] and [[createMapParReader]] degrade to sequential
- * implementations (flatMap and map, respectively).
+ * [[createMergeReader]], [[createMapParReader]] and
+ * [[createMapParUnorderedReader]] degrade to sequential implementations
+ * (flatMap, map and map, respectively). Timed reads never time out,
+ * and `sleepNanos` busy-waits because the event loop cannot be blocked.
+ * `broadcastDrain` collects the upstream once and replays it to each sink.
+ * Compression readers are unavailable and throw
+ * [[UnsupportedOperationException]]. An installed [[StreamExecutor]] is
+ * tracked but never asked to run anything. `createMapAsyncReader` only
+ * completes `Async` values that settle synchronously.
  */
 trait PlatformSpecific extends Platform {
   override val supportsConcurrency: Boolean = false
@@ -37,9 +44,59 @@ trait PlatformSpecific extends Platform {
       "Virtual threads are not supported on Scala.js. Use supportsConcurrency to guard calls."
     )
 
+  private var installedExecutor: StreamExecutor = null
+
+  override private[streams] def currentExecutor: StreamExecutor =
+    if (installedExecutor eq null) StreamExecutor.virtualThreads else installedExecutor
+
+  override private[streams] def withExecutor[A](executor: StreamExecutor)(body: => A): A = {
+    val previous = installedExecutor
+    installedExecutor = executor
+    try body
+    finally installedExecutor = previous
+  }
+
   override def createBufferedReader[A](upstream: Reader[A], bufferSize: Int): Reader[A] =
     new internal.SyncBufferedReader(upstream, bufferSize)
 
+  override private[streams] def createTimedReader[A](
+    upstream: Reader[A],
+    bufferSize: Int
+  ): internal.TimedReader[A] =
+    new internal.SyncBufferedReader(upstream, bufferSize)
+
+  override private[streams] def sleepNanos(nanos: Long): Unit = {
+    val deadline = System.nanoTime() + nanos
+    while (System.nanoTime() - deadline < 0L) {}
+  }
+
+  override private[streams] def broadcastDrain(
+    upstream: Reader[_],
+    sinks: Array[Sink[Any, Any, Any]],
+    bufferSize: Int
+  ): Array[Any] = {
+    // Without threads the sinks cannot advance together, so the upstream is
+    // read once into memory and replayed to each sink.
+    val b = zio.blocks.chunk.ChunkBuilder.make[Any](16)
+    var v = upstream.read[Any](EndOfStream)
+    while (v.asInstanceOf[AnyRef] ne EndOfStream) {
+      b += v
+      v = upstream.read[Any](EndOfStream)
+    }
+    val elems = b.result()
+    sinks.map(sink => sink.drain(Reader.fromChunk[Any](elems)))
+  }
+
+  override private[streams] def createDeflateReader(
+    upstream: Reader[Byte],
+    level: Int,
+    gzip: Boolean
+  ): Reader[Byte] =
+    throw new UnsupportedOperationException("Compression is not supported on Scala.js: java.util.zip is unavailable.")
+
+  override private[streams] def createInflateReader(upstream: Reader[Byte], gzip: Boolean): Reader[Byte] =
+    throw new UnsupportedOperationException("Decompression is not supported on Scala.js: java.util.zip is unavailable.")
+
   override def createMergeReader[A](
     outerReader: Reader[?],
     maxOpen: Int,
@@ -135,4 +192,31 @@ trait PlatformSpecific extends Platform {
       // UnsupportedOperationException here, which correctly propagates.
       override def reset(): Unit = upstream.reset()
     }
+
+  override def createMapParUnorderedReader[A, B](
+    upstream: Reader[A],
+    n: Int,
+    f: A => B,
+    bufferSize: Int,
+    inType: JvmType,
+    outType: JvmType
+  ): Reader[B] =
+    createMapParReader(upstream, n, f, bufferSize, inType, outType)
+
+  override private[streams] def createMapAsyncReader[A, B](
+    upstream: Reader[A],
+    parallelism: Int,
+    f: A => zio.blocks.async.Async[B]
+  ): Reader[B] =
+    new internal.MapAsyncReader[A, B](upstream, parallelism, f) {
+      // Callbacks only run once control returns to the event loop, which a
+      // synchronous pull never does, so there is nothing to wake.
+      protected def signal(): Unit = ()
+
+      protected def await(): Unit =
+        if (!anyWoken)
+          throw new IllegalStateException(
+            "mapAsync cannot wait for a pending Async on Scala.js: streams are pulled synchronously"
+          )
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+/**
+ * Scala.js counterpart of the JVM `ByteArrayAccess`: assembles the word from
+ * single bytes, as there is no unaligned load to use.
+ */
+private[streams] object ByteArrayAccess {
+
+  /** The 8 bytes at `pos` as a little-endian long. */
+  def getLong(buf: Array[Byte], pos: Int): Long =
+    (buf(pos) & 0xffL) |
+      ((buf(pos + 1) & 0xffL) << 8) |
+      ((buf(pos + 2) & 0xffL) << 16) |
+      ((buf(pos + 3) & 0xffL) << 24) |
+      ((buf(pos + 4) & 0xffL) << 32) |
+      ((buf(pos + 5) & 0xffL) << 40) |
+      ((buf(pos + 6) & 0xffL) << 48) |
+      ((buf(pos + 7) & 0xffL) << 56)
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Word-at-a-time reads from byte arrays, used by the delimiter scans of the
+ * text pipelines. The JIT compiles {@link #getLong} to a single unaligned load.
+ */
+public final class ByteArrayAccess {
+    private static final VarHandle VH_LONG =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private ByteArrayAccess() {}
+
+    /** The 8 bytes at {@code pos} as a little-endian long. */
+    public static long getLong(byte[] buf, int pos) {
+        return (long) VH_LONG.get(buf, pos);
+    }
+}
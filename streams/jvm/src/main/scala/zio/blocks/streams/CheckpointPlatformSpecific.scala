@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams
+
+import java.io.{IOException, UncheckedIOException}
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.{AtomicMoveNotSupportedException, Files, Path, StandardCopyOption, StandardOpenOption}
+
+/**
+ * JVM constructors of the [[Checkpoint]] companion.
+ */
+trait CheckpointPlatformSpecific {
+
+  /**
+   * A checkpoint stored as a decimal number in the file at `path`. A missing
+   * file reads as offset `0`. Each commit writes a sibling `.tmp` file, forces
+   * it to disk and moves it over `path` atomically where the file system
+   * supports it, so a crash leaves either the previous or the new offset
+   * behind. I/O failures are thrown as `java.io.UncheckedIOException`.
+   */
+  def file(path: Path): Checkpoint = new CheckpointPlatformSpecific.FileCheckpoint(path)
+}
+
+private object CheckpointPlatformSpecific {
+
+  final class FileCheckpoint(path: Path) extends Checkpoint {
+    private val tmp = path.resolveSibling(s"${path.getFileName}.tmp")
+
+    def load(): Long =
+      try {
+        if (!Files.exists(path)) 0L
+        else {
+          val text = new String(Files.readAllBytes(path), StandardCharsets.US_ASCII).trim
+          try text.toLong
+          catch { case _: NumberFormatException => throw new IOException(s"Invalid checkpoint in $path: '$text'") }
+        }
+      } catch { case e: IOException => throw new UncheckedIOException(e) }
+
+    def commit(offset: Long): Unit =
+      try {
+        val bytes = ByteBuffer.wrap(offset.toString.getBytes(StandardCharsets.US_ASCII))
+        val ch    = FileChannel.open(
+          tmp,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING
+        )
+        try {
+          while (bytes.hasRemaining) ch.write(bytes)
+          ch.force(true)
+        } finally ch.close()
+        try Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+        catch {
+          case _: AtomicMoveNotSupportedException => Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING)
+        }
+        ()
+      } catch { case e: IOException => throw new UncheckedIOException(e) }
+  }
+}
@@ -19,8 +19,8 @@ package zio.blocks.streams
 import zio.blocks.streams.internal._
 import zio.blocks.streams.io.Reader
 
-import java.nio.ByteBuffer
-import java.nio.channels.ReadableByteChannel
+import java.nio.{ByteBuffer, ByteOrder}
+import java.nio.channels.{FileChannel, ReadableByteChannel}
 
 /**
  * JVM-only factory methods for constructing [[Reader]] instances backed by NIO
@@ -60,4 +60,87 @@ object NioReaders {
    */
   def fromChannel(ch: ReadableByteChannel, bufSize: Int = 8192): Reader[Byte] =
     new ChannelReader(ch, bufSize)
+
+  /**
+   * Reads a file as a `Reader[Byte]` through read-only memory-mapped windows of
+   * `chunkSize` bytes, each exposed through [[fromByteBuffer]]. Only one window
+   * is mapped at a time, and no bytes are copied into a heap buffer. Reading
+   * starts at the channel's current position; the channel is not closed.
+   *
+   * @param chunkSize
+   *   Size of each mapped window in bytes (default 16 MiB).
+   */
+  def fromFileMapped(ch: FileChannel, chunkSize: Int = DefaultMappedChunkSize): Reader[Byte] =
+    new MappedFileReader[Byte](ch, chunkSize, 1, ByteOrder.BIG_ENDIAN, JvmType.Byte, b => new ByteBufferReader(b))
+
+  /**
+   * Reads a file as a `Reader[Double]` (8 bytes per element) through read-only
+   * memory-mapped windows, each exposed through [[fromByteBufferDouble]].
+   *
+   * @param chunkSize
+   *   Size of each mapped window in bytes, rounded down to a multiple of 8
+   *   (default 16 MiB).
+   * @param order
+   *   Byte order of the file's elements (default big-endian).
+   */
+  def fromFileMappedDouble(
+    ch: FileChannel,
+    chunkSize: Int = DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Reader[Double] =
+    new MappedFileReader[Double](ch, chunkSize, 8, order, JvmType.Double, b => new ByteBufferDoubleReader(b))
+
+  /**
+   * Reads a file as a `Reader[Float]` (4 bytes per element) through read-only
+   * memory-mapped windows, each exposed through [[fromByteBufferFloat]].
+   *
+   * @param chunkSize
+   *   Size of each mapped window in bytes, rounded down to a multiple of 4
+   *   (default 16 MiB).
+   * @param order
+   *   Byte order of the file's elements (default big-endian).
+   */
+  def fromFileMappedFloat(
+    ch: FileChannel,
+    chunkSize: Int = DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Reader[Float] =
+    new MappedFileReader[Float](ch, chunkSize, 4, order, JvmType.Float, b => new ByteBufferFloatReader(b))
+
+  /**
+   * Reads a file as a `Reader[Int]` (4 bytes per element) through read-only
+   * memory-mapped windows, each exposed through [[fromByteBufferInt]].
+   *
+   * @param chunkSize
+   *   Size of each mapped window in bytes, rounded down to a multiple of 4
+   *   (default 16 MiB).
+   * @param order
+   *   Byte order of the file's elements (default big-endian).
+   */
+  def fromFileMappedInt(
+    ch: FileChannel,
+    chunkSize: Int = DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Reader[Int] =
+    new MappedFileReader[Int](ch, chunkSize, 4, order, JvmType.Int, b => new ByteBufferIntReader(b))
+
+  /**
+   * Reads a file as a `Reader[Long]` (8 bytes per element) through read-only
+   * memory-mapped windows, each exposed through [[fromByteBufferLong]].
+   *
+   * @param chunkSize
+   *   Size of each mapped window in bytes, rounded down to a multiple of 8
+   *   (default 16 MiB).
+   * @param order
+   *   Byte order of the file's elements (default big-endian).
+   */
+  def fromFileMappedLong(
+    ch: FileChannel,
+    chunkSize: Int = DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Reader[Long] =
+    new MappedFileReader[Long](ch, chunkSize, 8, order, JvmType.Long, b => new ByteBufferLongReader(b))
+
+  /** Default size of a memory-mapped window: 16 MiB. */
+  final val DefaultMappedChunkSize = 16 * 1024 * 1024
 }
@@ -16,7 +16,7 @@
 
 package zio.blocks.streams
 
-import zio.blocks.streams.internal.SinkError
+import zio.blocks.streams.internal.{ChannelReader, SinkError}
 import zio.blocks.streams.io.Reader
 
 import java.io.IOException
@@ -134,6 +134,12 @@ object NioSinks {
    * [[java.nio.channels.WritableByteChannel]] with internal buffering. Does not
    * close the channel.
    *
+   * When the stream is read straight from a `FileChannel` (e.g.
+   * `NioStreams.fromChannel(FileChannel.open(path))` with no operators in
+   * between), the bytes are moved with `FileChannel.transferTo` instead, which
+   * lets the kernel copy file pages to sockets and files without passing them
+   * through the JVM heap.
+   *
    * @param ch
    *   The channel to write to.
    * @param bufSize
@@ -142,6 +148,8 @@ object NioSinks {
   def fromChannel(ch: WritableByteChannel, bufSize: Int = 8192): Sink[IOException, Byte, Unit] =
     new Sink[IOException, Byte, Unit] {
       private[streams] def drain(reader: Reader[_]): Unit = {
+        val source = fileSource(reader)
+        if (source ne null) source.transferTo(ch)
         val buf = ByteBuffer.allocate(bufSize)
         var b   = reader.readByte()
         while (b >= 0) {
@@ -159,4 +167,14 @@ object NioSinks {
         catch { case e: IOException => throw new SinkError(e) }
       }
     }
+
+  /**
+   * The [[internal.ChannelReader]] behind `reader` when nothing between the two
+   * can change the bytes (only close hooks), otherwise `null`.
+   */
+  private def fileSource(reader: Reader[_]): ChannelReader = reader match {
+    case r: ChannelReader           => r
+    case r: Reader.ClosingReader[_] => fileSource(r.underlying)
+    case _                          => null
+  }
 }
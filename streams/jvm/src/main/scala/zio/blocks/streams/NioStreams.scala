@@ -16,8 +16,12 @@
 
 package zio.blocks.streams
 
-import java.nio.ByteBuffer
-import java.nio.channels.ReadableByteChannel
+import zio.blocks.streams.internal.StreamError
+
+import java.io.IOException
+import java.nio.{ByteBuffer, ByteOrder}
+import java.nio.channels.{FileChannel, ReadableByteChannel}
+import java.nio.file.{Path, StandardOpenOption}
 
 /**
  * JVM-only convenience constructors for creating [[Stream]] instances backed by
@@ -75,4 +79,76 @@ object NioStreams {
    */
   def fromChannelUnmanaged(ch: ReadableByteChannel, bufSize: Int = 8192): Stream[java.io.IOException, Byte] =
     Stream.fromReader(NioReaders.fromChannel(ch, bufSize))
+
+  /**
+   * Creates a stream of the bytes of the file at `path`, read through read-only
+   * memory-mapped windows of `chunkSize` bytes instead of copies into a heap
+   * buffer. Opens the file when the stream is run and closes it when done.
+   *
+   * @param path
+   *   The file to read.
+   * @param chunkSize
+   *   Size of each mapped window in bytes (default 16 MiB).
+   */
+  def fromFileMapped(path: Path, chunkSize: Int = NioReaders.DefaultMappedChunkSize): Stream[IOException, Byte] =
+    Stream.fromAcquireRelease(openForMapping(path), (c: FileChannel) => c.close())(c =>
+      Stream.fromReader(NioReaders.fromFileMapped(c, chunkSize))
+    )
+
+  /**
+   * Creates a stream of Doubles (8 bytes per element) from the file at `path`,
+   * read through read-only memory-mapped windows. See [[fromFileMapped]].
+   */
+  def fromFileMappedDouble(
+    path: Path,
+    chunkSize: Int = NioReaders.DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Stream[IOException, Double] =
+    Stream.fromAcquireRelease(openForMapping(path), (c: FileChannel) => c.close())(c =>
+      Stream.fromReader(NioReaders.fromFileMappedDouble(c, chunkSize, order))
+    )
+
+  /**
+   * Creates a stream of Floats (4 bytes per element) from the file at `path`,
+   * read through read-only memory-mapped windows. See [[fromFileMapped]].
+   */
+  def fromFileMappedFloat(
+    path: Path,
+    chunkSize: Int = NioReaders.DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Stream[IOException, Float] =
+    Stream.fromAcquireRelease(openForMapping(path), (c: FileChannel) => c.close())(c =>
+      Stream.fromReader(NioReaders.fromFileMappedFloat(c, chunkSize, order))
+    )
+
+  /**
+   * Creates a stream of Ints (4 bytes per element) from the file at `path`,
+   * read through read-only memory-mapped windows. See [[fromFileMapped]].
+   */
+  def fromFileMappedInt(
+    path: Path,
+    chunkSize: Int = NioReaders.DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Stream[IOException, Int] =
+    Stream.fromAcquireRelease(openForMapping(path), (c: FileChannel) => c.close())(c =>
+      Stream.fromReader(NioReaders.fromFileMappedInt(c, chunkSize, order))
+    )
+
+  /**
+   * Creates a stream of Longs (8 bytes per element) from the file at `path`,
+   * read through read-only memory-mapped windows. See [[fromFileMapped]].
+   */
+  def fromFileMappedLong(
+    path: Path,
+    chunkSize: Int = NioReaders.DefaultMappedChunkSize,
+    order: ByteOrder = ByteOrder.BIG_ENDIAN
+  ): Stream[IOException, Long] =
+    Stream.fromAcquireRelease(openForMapping(path), (c: FileChannel) => c.close())(c =>
+      Stream.fromReader(NioReaders.fromFileMappedLong(c, chunkSize, order))
+    )
+
+  // A failure to open the file is a typed stream error, like a failed read.
+  private def openForMapping(path: Path): FileChannel =
+    try FileChannel.open(path, StandardOpenOption.READ)
+    catch { case e: IOException => throw new StreamError(e) }
 }
@@ -20,6 +20,7 @@ import zio.blocks.streams.JvmType
 import zio.blocks.streams.io.Reader
 
 import java.lang.invoke.MethodHandles
+import java.util.concurrent.locks.LockSupport
 import scala.util.control.NonFatal
 
 /**
@@ -31,10 +32,18 @@ import scala.util.control.NonFatal
  *   - `supportsConcurrency` is `true`.
  *   - `startVirtualThread` uses `Thread.ofVirtual().start(...)` reflectively
  *     when running on JDK 21+, falling back to a daemon `Thread` otherwise.
+ *   - `withExecutor` installs a [[StreamExecutor]] in a `ThreadLocal`; the
+ *     concurrent readers start their tasks on the one current when they are
+ *     created.
  *   - `createBufferedReader`, `createMergeReader`, and `createMapParReader`
  *     return primitive-specialized readers (Int / Long / Float / Double) when
  *     the upstream's `JvmType` allows it, and the generic AnyRef variants
- *     otherwise.
+ *     otherwise. `createMapParUnorderedReader` specializes the Int / Long /
+ *     Double lanes inside a single work-sharing reader.
+ *   - `createDeflateReader` and `createInflateReader` compress and decompress
+ *     with `java.util.zip`.
+ *   - `createMapAsyncReader` parks the reading thread until an in-flight
+ *     `Async` completes.
  */
 trait PlatformSpecific extends Platform {
   override val supportsConcurrency: Boolean = true
@@ -49,9 +58,55 @@ trait PlatformSpecific extends Platform {
       case None => fallbackThread(name, task)
     }
 
+  private val installedExecutor = new ThreadLocal[StreamExecutor]
+
+  override private[streams] def currentExecutor: StreamExecutor = {
+    val executor = installedExecutor.get()
+    if (executor eq null) StreamExecutor.virtualThreads else executor
+  }
+
+  override private[streams] def withExecutor[A](executor: StreamExecutor)(body: => A): A = {
+    val previous = installedExecutor.get()
+    installedExecutor.set(executor)
+    try body
+    finally installedExecutor.set(previous)
+  }
+
   override def createBufferedReader[A](upstream: Reader[A], bufferSize: Int): Reader[A] =
     new internal.ConcurrentBufferedReader(upstream, bufferSize)
 
+  override private[streams] def createTimedReader[A](
+    upstream: Reader[A],
+    bufferSize: Int
+  ): internal.TimedReader[A] =
+    new internal.ConcurrentBufferedReader(upstream, bufferSize)
+
+  override private[streams] def sleepNanos(nanos: Long): Unit = {
+    val deadline  = System.nanoTime() + nanos
+    var remaining = nanos
+    while (remaining > 0L) {
+      LockSupport.parkNanos(remaining)
+      remaining = deadline - System.nanoTime()
+    }
+  }
+
+  override private[streams] def broadcastDrain(
+    upstream: Reader[_],
+    sinks: Array[Sink[Any, Any, Any]],
+    bufferSize: Int
+  ): Array[Any] =
+    internal.ConcurrentBroadcast.drain(upstream, sinks, bufferSize)
+
+  override private[streams] def createDeflateReader(
+    upstream: Reader[Byte],
+    level: Int,
+    gzip: Boolean
+  ): Reader[Byte] =
+    new internal.DeflateReader(upstream, level, gzip)
+
+  override private[streams] def createInflateReader(upstream: Reader[Byte], gzip: Boolean): Reader[Byte] =
+    new internal.InflateReader(upstream, gzip)
+
   override def createMergeReader[A](
     outerReader: Reader[?],
     maxOpen: Int,
@@ -116,6 +171,43 @@ trait PlatformSpecific extends Platform {
         new internal.ConcurrentMapParReader[A, B](upstream, n, f, bufferSize)
     }
 
+  override def createMapParUnorderedReader[A, B](
+    upstream: Reader[A],
+    n: Int,
+    f: A => B,
+    bufferSize: Int,
+    inType: JvmType,
+    outType: JvmType
+  ): Reader[B] =
+    new internal.ConcurrentMapParUnorderedReader[A, B](upstream, n, f, bufferSize, inType, outType)
+
+  override private[streams] def createMapAsyncReader[A, B](
+    upstream: Reader[A],
+    parallelism: Int,
+    f: A => zio.blocks.async.Async[B]
+  ): Reader[B] =
+    new internal.MapAsyncReader[A, B](upstream, parallelism, f) {
+      // Set while the reading thread is parked; a waker unparks it. The waker
+      // sets its flag before reading this field and `await` publishes it before
+      // scanning the flags, so a wake-up is never lost.
+      @volatile private var parked: Thread = null
+
+      protected def signal(): Unit = {
+        val t = parked
+        if (t ne null) LockSupport.unpark(t)
+      }
+
+      protected def await(): Unit = {
+        parked = Thread.currentThread()
+        try {
+          while (!anyWoken) {
+            LockSupport.park(this)
+            if (Thread.interrupted()) throw new InterruptedException("mapAsync interrupted while awaiting a result")
+          }
+        } finally parked = null
+      }
+    }
+
   private def fallbackThread(name: String, task: Runnable): Thread = {
     val thread = new Thread(task)
     thread.setName(name)
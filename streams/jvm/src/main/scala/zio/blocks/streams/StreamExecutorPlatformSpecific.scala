@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package zio.blocks.streams
+
+import java.util.concurrent.{
+  Executor,
+  RejectedExecutionException,
+  RejectedExecutionHandler,
+  SynchronousQueue,
+  ThreadFactory,
+  ThreadPoolExecutor,
+  TimeUnit
+}
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * JVM constructors of the [[StreamExecutor]] companion.
+ */
+trait StreamExecutorPlatformSpecific {
+
+  /**
+   * Runs tasks on `executor`, e.g. an `ExecutorService` owned by the caller,
+   * which stays responsible for shutting it down. The executor must be able to
+   * run every task of every stream using it at the same time (see
+   * [[StreamExecutor]]): a fixed-size pool with a task queue, or a
+   * `ForkJoinPool`, stalls a stream once all of its threads are taken.
+   */
+  def fromExecutor(executor: Executor): StreamExecutor =
+    new StreamExecutor {
+      def execute(name: String, task: Runnable): Unit = executor.execute(task)
+    }
+
+  /**
+   * Runs tasks on a pool of at most `maxThreads` daemon platform threads,
+   * reused across stages and streams and retired after `keepAliveSeconds`
+   * without work. Tasks are never queued behind running ones: when every
+   * thread is busy, a new task waits at most a second for one to be returned
+   * to the pool, then its stage fails to start with a
+   * `java.util.concurrent.RejectedExecutionException`. A `mapPar(n)` stage
+   * takes `n + 1` threads, a `flatMapPar(n)` stage `n + 1`, and a `buffer`
+   * stage one.
+   *
+   * Useful on JVMs without virtual threads, where
+   * [[StreamExecutor.virtualThreads]] starts a new platform thread per task.
+   */
+  def bounded(maxThreads: Int, keepAliveSeconds: Long = 60L): StreamExecutor = {
+    require(maxThreads >= 1, s"bounded requires maxThreads >= 1, got $maxThreads")
+    require(keepAliveSeconds >= 0L, s"bounded requires keepAliveSeconds >= 0, got $keepAliveSeconds")
+    val pool = new ThreadPoolExecutor(
+      0,
+      maxThreads,
+      keepAliveSeconds,
+      TimeUnit.SECONDS,
+      new SynchronousQueue[Runnable](),
+      StreamExecutorPlatformSpecific.daemonThreads,
+      StreamExecutorPlatformSpecific.handOffOrReject
+    )
+    fromExecutor(pool)
+  }
+}
+
+private object StreamExecutorPlatformSpecific {
+  private val counter = new AtomicLong(0L)
+
+  val daemonThreads: ThreadFactory = new ThreadFactory {
+    def newThread(r: Runnable): Thread = {
+      val t = new Thread(r, s"zio-blocks-stream-executor-${counter.getAndIncrement()}")
+      t.setDaemon(true)
+      t
+    }
+  }
+
+  // A thread that just finished a task is briefly neither running nor polling
+  // the hand-off queue, so the pool can refuse a task while it is in fact
+  // being freed; give such a thread a moment to pick it up.
+  val handOffOrReject: RejectedExecutionHandler = new RejectedExecutionHandler {
+    def rejectedExecution(task: Runnable, pool: ThreadPoolExecutor): Unit =
+      if (pool.isShutdown || !pool.getQueue.offer(task, 1L, TimeUnit.SECONDS))
+        throw new RejectedExecutionException(
+          s"StreamExecutor.bounded: all ${pool.getMaximumPoolSize} threads are busy"
+        )
+  }
+}
@@ -22,7 +22,7 @@ import zio.blocks.streams.io.Reader
 
 import java.io.IOException
 import java.nio.ByteBuffer
-import java.nio.channels.ReadableByteChannel
+import java.nio.channels.{FileChannel, ReadableByteChannel, SeekableByteChannel, WritableByteChannel}
 
 /**
  * Reads bytes from a [[java.nio.channels.ReadableByteChannel]] through an
@@ -31,8 +31,9 @@ import java.nio.channels.ReadableByteChannel
  */
 private[streams] final class ChannelReader(ch: ReadableByteChannel, bufSize: Int) extends Reader[Byte] {
 
-  private var st: Int = 0 // 0 = Open, 1 = Finished, 2 = Errored
-  private val buf     = ByteBuffer.allocate(bufSize)
+  private var st: Int     = 0 // 0 = Open, 1 = Finished, 2 = Errored
+  private val buf         = ByteBuffer.allocate(bufSize)
+  private var pendingSkip = 0L // bytes still to seek past on the next fill
 
   // Start with buffer empty (position == limit) so first read triggers a fill.
   buf.flip()
@@ -118,9 +119,94 @@ private[streams] final class ChannelReader(ch: ReadableByteChannel, bufSize: Int
     var r = n; while (r > 0) { val b = readByte(); if (b < 0) r = 0 else r -= 1 }
   }
 
+  /**
+   * On a [[java.nio.channels.SeekableByteChannel]] (e.g. a `FileChannel`) the
+   * skip consumes what is already buffered and moves the channel position past
+   * the rest on the next fill, so resuming deep into a file costs one seek.
+   * Other channels return `false` and are skipped by reading.
+   */
+  override def setSkip(n: Long): Boolean =
+    ch match {
+      case _: SeekableByteChannel =>
+        if (n > 0L) {
+          val k = math.min(n, buf.remaining().toLong).toInt
+          buf.position(buf.position() + k)
+          pendingSkip += n - k
+        }
+        true
+      case _ => false
+    }
+
+  /**
+   * When reading from a [[java.nio.channels.FileChannel]], writes the rest of
+   * the stream to `target` without copying it through the heap: the buffered
+   * bytes go first, then the file from its current position to its current
+   * size is handed to `FileChannel.transferTo` (sendfile where the platform
+   * has it). The file position is advanced past the transferred bytes, so
+   * ordinary reads pick up anything the transfer did not move, e.g. bytes
+   * appended meanwhile or a non-blocking `target` that stopped accepting.
+   *
+   * Returns the number of bytes written, or -1 when the channel is not a
+   * `FileChannel` or the reader is no longer open. Failures reading the file
+   * are raised as [[StreamError]], failures writing `target` as [[SinkError]];
+   * a failed transfer is attributed by probing the file afterwards.
+   */
+  private[streams] def transferTo(target: WritableByteChannel): Long =
+    if (st != 0) -1L
+    else
+      ch match {
+        case fc: FileChannel =>
+          var total = 0L
+          try {
+            while (buf.hasRemaining) {
+              val n = target.write(buf)
+              if (n == 0) return total
+              total += n
+            }
+          } catch { case e: IOException => st = 2; throw new SinkError(e) }
+          var pos = 0L
+          var end = 0L
+          try { pos = fc.position() + pendingSkip; pendingSkip = 0L; end = fc.size() }
+          catch { case e: IOException => st = 2; throw new StreamError(e) }
+          try {
+            while (pos < end) {
+              val n = fc.transferTo(pos, end - pos, target)
+              if (n <= 0) end = pos
+              else { pos += n; total += n }
+            }
+          } catch {
+            case e: IOException =>
+              st = 2
+              if (sourceFailed(fc, pos)) throw new StreamError(e) else throw new SinkError(e)
+          }
+          try fc.position(pos)
+          catch { case e: IOException => st = 2; throw new StreamError(e) }
+          total
+        case _ => -1L
+      }
+
+  /**
+   * `FileChannel.transferTo` raises the same `IOException` whichever side
+   * failed, so probe the file: it failed if it is closed, shrank below `pos`,
+   * or cannot be read at `pos`. Otherwise the target failed.
+   */
+  private def sourceFailed(fc: FileChannel, pos: Long): Boolean =
+    try {
+      if (!fc.isOpen) true
+      else {
+        val size = fc.size()
+        size < pos || (pos < size && fc.read(ByteBuffer.allocate(1), pos) < 0)
+      }
+    } catch { case _: IOException => true }
+
   /** Refill the internal buffer from the channel. Returns false if EOF. */
   private def fill(): Boolean =
     try {
+      if (pendingSkip > 0L) {
+        val sc = ch.asInstanceOf[SeekableByteChannel]
+        sc.position(sc.position() + pendingSkip)
+        pendingSkip = 0L
+      }
       buf.compact()
       val n = ch.read(buf)
       buf.flip()
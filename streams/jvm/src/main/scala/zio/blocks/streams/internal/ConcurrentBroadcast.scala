@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.{JvmType, Platform, Sink}
+import zio.blocks.streams.io.Reader
+import zio.blocks.streams.queues.BlockingSpscQueue
+
+import java.util.concurrent.atomic.{AtomicLong, AtomicReference}
+
+/**
+ * Feeds one upstream [[Reader]] to several sinks in a single pass.
+ *
+ * Each sink drains its own bounded [[BlockingSpscQueue]] on a task of the
+ * current [[zio.blocks.streams.StreamExecutor]] (by default a virtual thread),
+ * while the calling thread reads the upstream and offers every element to
+ * each queue. A slow sink therefore applies backpressure to the upstream
+ * instead of letting buffered elements grow without bound. A sink that
+ * finishes early (e.g. `head`) closes its queue and is skipped from then on;
+ * once every sink has finished, the upstream is no longer read.
+ *
+ * Thread ownership: the calling thread exclusively owns `upstream`; each sink
+ * thread owns only its queue's consumer side.
+ */
+private[streams] object ConcurrentBroadcast {
+  private val counter: AtomicLong  = new AtomicLong(0L)
+  private val NullSentinel: AnyRef = new AnyRef
+
+  def drain(upstream: Reader[_], sinks: Array[Sink[Any, Any, Any]], bufferSize: Int): Array[Any] = {
+    val k        = sinks.length
+    val queues   = Array.fill(k)(new BlockingSpscQueue[AnyRef](bufferSize))
+    val results  = new Array[Any](k)
+    val errorRef = new AtomicReference[Throwable](null)
+    val threads  =
+      try
+        ExecutorTask.startAll(Platform.currentExecutor, k)(
+          i => s"zio-blocks-broadcast-${counter.getAndIncrement()}-$i",
+          i =>
+            new Runnable {
+              def run(): Unit =
+                try results(i) = sinks(i).drain(new QueueReader(queues(i), upstream.jvmType))
+                catch {
+                  case t: Throwable =>
+                    // The first sink failure ends the whole broadcast: closing every
+                    // queue lets the other sinks finish and the dispatcher stop.
+                    if (errorRef.compareAndSet(null, t)) queues.foreach(_.close())
+                } finally queues(i).close()
+            }
+        )
+      catch {
+        case t: Throwable =>
+          // The executor refused a sink: let the ones already started finish.
+          queues.foreach(_.close())
+          throw t
+      }
+
+    var primary: Throwable = null
+    try {
+      var live = k
+      while (live > 0 && (errorRef.get() eq null)) {
+        val v = upstream.read[Any](EndOfStream)
+        if (v.asInstanceOf[AnyRef] eq EndOfStream) live = 0
+        else {
+          val wrapped = if (v == null) NullSentinel else v.asInstanceOf[AnyRef]
+          live = 0
+          var i = 0
+          while (i < k) {
+            if (queues(i).offer(wrapped)) live += 1
+            i += 1
+          }
+        }
+      }
+    } catch {
+      case t: Throwable => primary = t
+    }
+
+    // End of input, upstream failure, or every sink done: closing the queues
+    // lets each sink drain what was already offered and complete.
+    queues.foreach(_.close())
+    threads.foreach(_.join())
+
+    // Both failures must surface (Principle 4); an upstream failure wins.
+    val toThrow = combineFailures(primary, errorRef.get())
+    if (toThrow ne null) throw toThrow
+    results
+  }
+
+  /**
+   * The consumer side of one sink's queue, seen by the sink as its input.
+   * Reports the upstream's `jvmType` so sinks keep their specialized result
+   * builders; primitive pulls fall back to the boxed defaults.
+   */
+  private final class QueueReader(queue: BlockingSpscQueue[AnyRef], elemType: JvmType) extends Reader[Any] {
+    private var done: Boolean = false
+
+    override def jvmType: JvmType = elemType
+
+    def isClosed: Boolean = done
+
+    def read[A1 >: Any](sentinel: A1): A1 =
+      if (done) sentinel
+      else
+        queue.take() match {
+          case null                   => done = true; sentinel
+          case r if r eq NullSentinel => null.asInstanceOf[A1]
+          case r                      => r.asInstanceOf[A1]
+        }
+
+    def close(): Unit = {
+      done = true
+      queue.close()
+    }
+  }
+}
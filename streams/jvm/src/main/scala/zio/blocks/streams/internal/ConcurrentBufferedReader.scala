@@ -17,16 +17,17 @@
 package zio.blocks.streams.internal
 
 import zio.blocks.chunk.{Chunk, ChunkBuilder}
-import zio.blocks.streams.Platform
+import zio.blocks.streams.{Platform, StreamExecutor}
 import zio.blocks.streams.io.Reader
 import zio.blocks.streams.queues.BlockingSpscQueue
 
 import java.util.concurrent.atomic.AtomicLong
 
 /**
- * A concurrent buffered reader. The producer runs on a separate virtual thread
- * (or daemon thread) and feeds elements into a [[BlockingSpscQueue]]; the
- * consumer pulls from the queue.
+ * A concurrent buffered reader. The producer runs as a separate task on the
+ * current [[zio.blocks.streams.StreamExecutor]] (by default a virtual or daemon
+ * thread) and feeds elements into a [[BlockingSpscQueue]]; the consumer pulls
+ * from the queue.
  *
  * Null elements from upstream are transparently encoded as [[NullSentinel]] to
  * distinguish them from the queue's null-means-closed signal and the
@@ -34,8 +35,14 @@ import java.util.concurrent.atomic.AtomicLong
  *
  * Thread ownership: the producer thread exclusively owns `upstream`. The
  * consumer (this reader) never calls `upstream.read()` or `upstream.close()`.
+ *
+ * Because the upstream is drained on its own thread, the consumer can bound
+ * its wait for the next element with [[readWithin]]; the time-aware operators
+ * build on that.
  */
-private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bufferSize: Int) extends Reader[A] {
+private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bufferSize: Int)
+    extends TimedReader[A]
+    with QueueOccupancy {
   import ConcurrentBufferedReader._
 
   // `queue` and `producerThread` are reassigned on `reset()` so the buffer can
@@ -66,7 +73,10 @@ private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bu
           }
         }
       } catch {
-        case t: Throwable =>
+        // An interrupt after the consumer closed is the teardown itself (e.g.
+        // `timeout` abandoning a stalled upstream), not an upstream failure.
+        case _: InterruptedException if consumerClosed => ()
+        case t: Throwable                              =>
           producerError = t
           queue.offer(EndOfStream)
       } finally {
@@ -83,16 +93,23 @@ private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bu
       }
   }
 
-  private var producerThread: Thread = spawnProducer()
+  private val executor: StreamExecutor = Platform.currentExecutor
+
+  private var producerThread: ExecutorTask =
+    try spawnProducer()
+    catch { case t: Throwable => throw cleanupWithPrimary(t)(upstream.close()) }
 
-  private def spawnProducer(): Thread =
-    Platform.startVirtualThread(
+  private def spawnProducer(): ExecutorTask =
+    ExecutorTask.start(
+      executor,
       s"zio-blocks-buffer-${ConcurrentBufferedReader.counter.getAndIncrement()}",
       producerTask
     )
 
   def isClosed: Boolean = producerDone && queue.isEmpty
 
+  def queuedCount: Int = queue.size
+
   def read[A1 >: A](sentinel: A1): A1 = {
     val result = queue.take()
     result match {
@@ -111,6 +128,26 @@ private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bu
     }
   }
 
+  def readWithin(nanos: Long): Any =
+    queue.poll(nanos) match {
+      case null =>
+        // A closed queue may still hold elements offered before the close;
+        // only a closed *and* drained queue is end-of-stream.
+        if (queue.isClosed && queue.isEmpty) {
+          val err = producerError
+          if (err ne null) rethrow(err)
+          EndOfStream
+        } else TimedReader.TimedOut
+      case r if r eq EndOfStream =>
+        val err = producerError
+        if (err ne null) rethrow(err)
+        EndOfStream
+      case r if r eq NullSentinel =>
+        null
+      case r =>
+        r
+    }
+
   override def readUpToN[A1 >: A](n: Int): Chunk[A1] = {
     if (n <= 0) return Chunk.empty
     val first = queue.take()
@@ -170,7 +207,7 @@ private[streams] final class ConcurrentBufferedReader[A](upstream: Reader[A], bu
   override def reset(): Unit = {
     // `buffer` is a pure decoupling transform: it must not weaken replayability.
     // 1) Fully terminate the current producer so no thread touches `upstream` or
-    //    the fields below. `Thread.join` establishes happens-before with the
+    //    the fields below. `ExecutorTask.join` establishes happens-before with the
     //    producer's termination, making the subsequent single-threaded mutation
     //    (including the non-volatile `upstreamClosedByProducer`) safe.
     consumerClosed = true
@@ -16,7 +16,7 @@
 
 package zio.blocks.streams.internal
 
-import zio.blocks.streams.Platform
+import zio.blocks.streams.{Platform, StreamExecutor}
 import zio.blocks.streams.io.Reader
 import zio.blocks.ringbuffer.SpscRingBuffer
 
@@ -28,7 +28,8 @@ private[streams] final class ConcurrentMapParReader[A, B](
   n: Int,
   f: A => B,
   bufferSize: Int
-) extends Reader[B] {
+) extends Reader[B]
+    with QueueOccupancy {
   import ConcurrentMapParReader._
 
   require(n >= 1, s"ConcurrentMapParReader requires n >= 1, got $n")
@@ -45,13 +46,13 @@ private[streams] final class ConcurrentMapParReader[A, B](
   private var inputQueues: Array[SpscRingBuffer[AnyRef]] =
     Array.tabulate(n)(_ => new SpscRingBuffer[AnyRef](bufferSize))
   private val workerWaiters  = new AtomicReferenceArray[Thread](n)
-  private val workerThreads  = new AtomicReferenceArray[Thread](n)
+  private val workerThreads  = new AtomicReferenceArray[ExecutorTask](n)
   private val workersRunning = new AtomicInteger(n)
 
   private val errorRef                            = new AtomicReference[Throwable](null)
   @volatile private var errorDelivered: Boolean   = false
   @volatile private var consumerClosed: Boolean   = false
-  @volatile private var coordinatorThread: Thread = null.asInstanceOf[Thread]
+  @volatile private var coordinatorThread: ExecutorTask = null
 
   private val workerTasks: Array[Runnable] = Array.tabulate(n) { idx =>
     new Runnable {
@@ -108,23 +109,25 @@ private[streams] final class ConcurrentMapParReader[A, B](
       }
   }
 
+  private val executor: StreamExecutor = Platform.currentExecutor
+
   // Spawns the worker pool and the coordinator. Called from the constructor
   // and from `reset()` after all per-run fields have been reinitialized (the
   // `Runnable`s read instance fields, so they are reusable across runs).
   private def startThreads(): Unit = {
-    Array.tabulate(n) { idx =>
-      Platform.startVirtualThread(
-        s"zio-blocks-mappar-worker-${counter.getAndIncrement()}-$idx",
-        workerTasks(idx)
-      )
-    }
-    coordinatorThread = Platform.startVirtualThread(
-      s"zio-blocks-mappar-coordinator-${counter.getAndIncrement()}",
-      coordinatorTask
+    val tasks = ExecutorTask.startAll(executor, n + 1)(
+      idx =>
+        if (idx < n) s"zio-blocks-mappar-worker-${counter.getAndIncrement()}-$idx"
+        else s"zio-blocks-mappar-coordinator-${counter.getAndIncrement()}",
+      idx => if (idx < n) workerTasks(idx) else coordinatorTask
     )
+    var i = 0
+    while (i < n) { workerThreads.set(i, tasks(i)); i += 1 }
+    coordinatorThread = tasks(n)
   }
 
-  startThreads()
+  try startThreads()
+  catch { case t: Throwable => throw cleanupWithPrimary(t)(upstream.close()) }
 
   private def allOutputQueuesEmpty(): Boolean = {
     var i = 0
@@ -137,6 +140,8 @@ private[streams] final class ConcurrentMapParReader[A, B](
 
   def isClosed: Boolean = eofReturned || consumerClosed
 
+  def queuedCount: Int = QueueOccupancy.sum(inputQueues)(_.size) + QueueOccupancy.sum(outputQueues)(_.size)
+
   private var scanStart: Int          = 0
   private var doneSignalSeen: Boolean = false
   private var eofReturned: Boolean    = false
@@ -212,7 +217,7 @@ private[streams] final class ConcurrentMapParReader[A, B](
     // replayability.
     // 1) Fully terminate the current run, exactly as close() does — but discard
     //    any recorded error instead of rethrowing it (reset starts a fresh
-    //    run). `Thread.join` establishes happens-before with the coordinator's
+    //    run). `ExecutorTask.join` establishes happens-before with the coordinator's
     //    and workers' termination, making the subsequent single-threaded
     //    mutation of the per-run fields safe.
     consumerClosed = true
@@ -266,7 +271,6 @@ private[streams] final class ConcurrentMapParReader[A, B](
 
   private def workerLoop(idx: Int): Unit = {
     val self = Thread.currentThread()
-    workerThreads.set(idx, self)
 
     var keepRunning = true
     while (keepRunning && !consumerClosed && !self.isInterrupted) {
@@ -0,0 +1,582 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.ringbuffer.{MpmcRingBuffer, MpscRingBuffer}
+import zio.blocks.streams.{JvmType, Platform, StreamExecutor}
+import zio.blocks.streams.io.Reader
+
+import java.util.concurrent.atomic.{AtomicInteger, AtomicLong, AtomicReference, AtomicReferenceArray}
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * Work-sharing concurrent `mapParUnordered` reader.
+ *
+ * Unlike [[ConcurrentMapParReader]], which deals elements round-robin into
+ * per-worker input queues (so a slow element stalls everything queued behind
+ * it on that worker), all workers take work from one shared
+ * [[MpmcRingBuffer]]: an idle worker always picks up the next pending work
+ * item, whichever worker would have been next in turn.
+ *
+ * Work items are segments of a batch read from the upstream in bulk. Segments
+ * are sized so each worker sees several per batch (`SegmentsPerWorker`),
+ * bounding head-of-line blocking to the few elements sharing a segment with a
+ * slow one. For `Int`, `Long` and `Double` input the batch is a primitive
+ * array filled with `readInts`/`readLongs`/`readDoubles`, and `f` is invoked
+ * through its specialized `Function1` entry points. Results are published per
+ * segment, as an array of the output lane's primitive type when `outType` is
+ * `Int`, `Long` or `Double`, to a shared [[MpscRingBuffer]] the consumer
+ * drains. Neither handoff boxes primitives.
+ *
+ * Output order is completion order across segments, and input order within a
+ * segment.
+ */
+private[streams] final class ConcurrentMapParUnorderedReader[A, B](
+  upstream: Reader[A],
+  n: Int,
+  f: A => B,
+  bufferSize: Int,
+  inType: JvmType,
+  outType: JvmType
+) extends Reader[B]
+    with QueueOccupancy {
+  import ConcurrentMapParUnorderedReader._
+
+  require(n >= 1, s"ConcurrentMapParUnorderedReader requires n >= 1, got $n")
+
+  private val inLane: Int  = laneOf(inType)
+  private val outLane: Int = laneOf(outType)
+  private val capacity     = nextPowerOfTwo(math.max(2, bufferSize))
+
+  // `work` and `results` are reassigned on `reset()` so the reader can replay
+  // a resettable upstream (e.g. under `repeated`). All such reassignment
+  // happens on the consumer thread only after the previous run's threads have
+  // fully terminated (see `reset()`), so single-threaded mutation is safe.
+  private var work: MpmcRingBuffer[AnyRef]     = new MpmcRingBuffer[AnyRef](capacity)
+  private var results: MpscRingBuffer[AnyRef]  = new MpscRingBuffer[AnyRef](capacity)
+  @volatile private var consumerWaiter: Thread = null
+
+  private val workerWaiters  = new AtomicReferenceArray[Thread](n)
+  private val workerThreads  = new AtomicReferenceArray[ExecutorTask](n)
+  private val workersRunning = new AtomicInteger(n)
+  private var wakeIdx: Int   = 0 // coordinator-private
+
+  private val errorRef                            = new AtomicReference[Throwable](null)
+  @volatile private var errorDelivered: Boolean   = false
+  @volatile private var consumerClosed: Boolean   = false
+  @volatile private var coordinatorThread: ExecutorTask = null
+
+  private val workerTasks: Array[Runnable] = Array.tabulate(n) { idx =>
+    new Runnable {
+      def run(): Unit = workerLoop(idx)
+    }
+  }
+
+  private val coordinatorTask: Runnable = new Runnable {
+    def run(): Unit =
+      try coordinate()
+      catch {
+        // An interrupt after the consumer closed is the teardown itself.
+        case _: InterruptedException if consumerClosed => ()
+        case t: Throwable                              => recordError(t)
+      } finally {
+        signalWorkersToStop()
+        // A close failure must surface (Principle 4): record it so the
+        // consumer rethrows it from read() or close().
+        try upstream.close()
+        catch { case t: Throwable => recordError(t) }
+      }
+  }
+
+  private val executor: StreamExecutor = Platform.currentExecutor
+
+  // Spawns the worker pool and the coordinator. Called from the constructor
+  // and from `reset()` after all per-run fields have been reinitialized.
+  private def startThreads(): Unit = {
+    val tasks = ExecutorTask.startAll(executor, n + 1)(
+      idx =>
+        if (idx < n) s"zio-blocks-mapparunordered-worker-${counter.getAndIncrement()}-$idx"
+        else s"zio-blocks-mapparunordered-coordinator-${counter.getAndIncrement()}",
+      idx => if (idx < n) workerTasks(idx) else coordinatorTask
+    )
+    var i = 0
+    while (i < n) { workerThreads.set(i, tasks(i)); i += 1 }
+    coordinatorThread = tasks(n)
+  }
+
+  try startThreads()
+  catch { case t: Throwable => throw cleanupWithPrimary(t)(upstream.close()) }
+
+  // Consumer-private state: the result segment being drained.
+  private var cur: AnyRef          = null
+  private var curLen: Int          = 0
+  private var pos: Int             = 0
+  private var eofReturned: Boolean = false
+
+  def isClosed: Boolean = eofReturned || consumerClosed
+
+  def queuedCount: Int = work.size + results.size
+
+  override def jvmType: JvmType = outLane match {
+    case IntLane    => JvmType.Int
+    case LongLane   => JvmType.Long
+    case DoubleLane => JvmType.Double
+    case _          => JvmType.AnyRef
+  }
+
+  // ============================================================
+  //  CONSUMER
+  // ============================================================
+
+  def read[B1 >: B](sentinel: B1): B1 =
+    if (!advance()) sentinel
+    else {
+      val i = pos
+      pos += 1
+      outLane match {
+        case IntLane    => Int.box(cur.asInstanceOf[Array[Int]](i)).asInstanceOf[B1]
+        case LongLane   => Long.box(cur.asInstanceOf[Array[Long]](i)).asInstanceOf[B1]
+        case DoubleLane => Double.box(cur.asInstanceOf[Array[Double]](i)).asInstanceOf[B1]
+        case _          => cur.asInstanceOf[Array[AnyRef]](i).asInstanceOf[B1]
+      }
+    }
+
+  override def readInt(sentinel: Long)(implicit ev: B <:< Int): Long =
+    if (outLane != IntLane) super.readInt(sentinel)
+    else if (!advance()) { markReadEOF(); sentinel }
+    else {
+      val v = cur.asInstanceOf[Array[Int]](pos)
+      pos += 1
+      markReadValue()
+      v.toLong
+    }
+
+  override def readLong(sentinel: Long)(implicit ev: B <:< Long): Long =
+    if (outLane != LongLane) super.readLong(sentinel)
+    else if (!advance()) { markReadEOF(); sentinel }
+    else {
+      val v = cur.asInstanceOf[Array[Long]](pos)
+      pos += 1
+      markReadValue()
+      v
+    }
+
+  override def readDouble(sentinel: Double)(implicit ev: B <:< Double): Double =
+    if (outLane != DoubleLane) super.readDouble(sentinel)
+    else if (!advance()) { markReadEOF(); sentinel }
+    else {
+      val v = cur.asInstanceOf[Array[Double]](pos)
+      pos += 1
+      markReadValue()
+      v
+    }
+
+  override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: B <:< Int): Int =
+    if (outLane != IntLane) super.readInts(buf, offset, maxLen)
+    else if (maxLen <= 0) 0
+    else if (!advance()) -1
+    else {
+      val k = math.min(maxLen, curLen - pos)
+      System.arraycopy(cur, pos, buf, offset, k)
+      pos += k
+      k
+    }
+
+  override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: B <:< Long): Int =
+    if (outLane != LongLane) super.readLongs(buf, offset, maxLen)
+    else if (maxLen <= 0) 0
+    else if (!advance()) -1
+    else {
+      val k = math.min(maxLen, curLen - pos)
+      System.arraycopy(cur, pos, buf, offset, k)
+      pos += k
+      k
+    }
+
+  override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: B <:< Double): Int =
+    if (outLane != DoubleLane) super.readDoubles(buf, offset, maxLen)
+    else if (maxLen <= 0) 0
+    else if (!advance()) -1
+    else {
+      val k = math.min(maxLen, curLen - pos)
+      System.arraycopy(cur, pos, buf, offset, k)
+      pos += k
+      k
+    }
+
+  /**
+   * Ensures `cur` has an unread element, parking until a worker publishes a
+   * result segment. Returns `false` once every worker has finished and all
+   * results were drained. A recorded error is rethrown as soon as it is seen.
+   */
+  private def advance(): Boolean = {
+    if (pos < curLen) return true
+    if (eofReturned) return false
+    cur = null
+    curLen = 0
+    pos = 0
+    val self = Thread.currentThread()
+    while (true) {
+      val err = errorRef.get()
+      if (err ne null) rethrow(err)
+      val r = results.take()
+      if (r eq AllWorkersDone) {
+        eofReturned = true
+        return false
+      } else if (r ne null) {
+        cur = r
+        curLen = segmentLength(r)
+        return true
+      } else {
+        consumerWaiter = self
+        if (results.isEmpty && (errorRef.get() eq null) && !consumerClosed) LockSupport.park(this)
+        consumerWaiter = null
+        if (consumerClosed && (errorRef.get() eq null)) {
+          eofReturned = true
+          return false
+        }
+      }
+    }
+    false
+  }
+
+  private def segmentLength(r: AnyRef): Int = outLane match {
+    case IntLane    => r.asInstanceOf[Array[Int]].length
+    case LongLane   => r.asInstanceOf[Array[Long]].length
+    case DoubleLane => r.asInstanceOf[Array[Double]].length
+    case _          => r.asInstanceOf[Array[AnyRef]].length
+  }
+
+  // ============================================================
+  //  COORDINATOR
+  // ============================================================
+
+  private def coordinate(): Unit = {
+    val self    = Thread.currentThread()
+    var running = true
+    while (running && !consumerClosed && !self.isInterrupted) {
+      var count         = 0
+      val batch: AnyRef = inLane match {
+        case IntLane =>
+          val buf = new Array[Int](bufferSize)
+          count = upstream.readInts(buf, 0, bufferSize)(unsafeEvidence)
+          buf
+        case LongLane =>
+          val buf = new Array[Long](bufferSize)
+          count = upstream.readLongs(buf, 0, bufferSize)(unsafeEvidence)
+          buf
+        case DoubleLane =>
+          val buf = new Array[Double](bufferSize)
+          count = upstream.readDoubles(buf, 0, bufferSize)(unsafeEvidence)
+          buf
+        case _ =>
+          val chunk = upstream.readUpToN[Any](bufferSize)
+          count = chunk.length
+          val buf = new Array[AnyRef](count)
+          var i   = 0
+          while (i < count) {
+            buf(i) = chunk(i).asInstanceOf[AnyRef]
+            i += 1
+          }
+          buf
+      }
+      if (count <= 0) running = false
+      else {
+        val grain = math.max(1, count / (n * SegmentsPerWorker))
+        var from  = 0
+        while (from < count && running) {
+          val until = math.min(count, from + grain)
+          running = offerWork(new Segment(batch, from, until))
+          from = until
+        }
+      }
+    }
+  }
+
+  private def offerWork(item: AnyRef): Boolean = {
+    val self = Thread.currentThread()
+    while (!consumerClosed && !self.isInterrupted) {
+      if (work.offer(item)) {
+        wakeOneWorker()
+        return true
+      }
+      LockSupport.parkNanos(this, 1000L)
+    }
+    false
+  }
+
+  // Waking a single registered waiter per item is enough: a worker only parks
+  // after registering and re-checking the queue, so an item offered after that
+  // re-check always finds a registered waiter to wake, and any worker that is
+  // not parked re-checks the queue before it next parks.
+  private def wakeOneWorker(): Unit = {
+    val idx = claimWaiter(wakeIdx)
+    if (idx >= 0) wakeIdx = (idx + 1) % n
+  }
+
+  // Clears the first registered waiter slot at or after `from` and unparks its
+  // worker; returns the slot, or -1 if no worker is registered. Clearing with a
+  // CAS means each registration absorbs at most one wakeup, so a second item
+  // wakes a second worker instead of the one already woken.
+  private def claimWaiter(from: Int): Int = {
+    var i = 0
+    while (i < n) {
+      val idx = (from + i) % n
+      val ww  = workerWaiters.get(idx)
+      if ((ww ne null) && workerWaiters.compareAndSet(idx, ww, null)) {
+        LockSupport.unpark(ww)
+        return idx
+      }
+      i += 1
+    }
+    -1
+  }
+
+  private def signalWorkersToStop(): Unit = {
+    // One DoneSentinel per worker, queued behind all outstanding segments.
+    var i = 0
+    while (i < n) {
+      while (!work.offer(DoneSentinel) && !consumerClosed && !Thread.currentThread().isInterrupted) {
+        LockSupport.parkNanos(this, 1000L)
+      }
+      i += 1
+    }
+    unparkWorkers()
+  }
+
+  // ============================================================
+  //  WORKERS
+  // ============================================================
+
+  private def workerLoop(idx: Int): Unit = {
+    val self = Thread.currentThread()
+    try {
+      var keepRunning = true
+      while (keepRunning && !consumerClosed && !self.isInterrupted) {
+        var item = work.take()
+        if (item eq null) {
+          workerWaiters.set(idx, self)
+          item = work.take()
+          if ((item eq null) && !consumerClosed && !self.isInterrupted) LockSupport.park(this)
+          // A failed CAS means the coordinator claimed this slot. If the re-check
+          // found an item, that wakeup was meant for a parked worker: hand it on,
+          // so queued segments do not wait behind the one in hand.
+          if (!workerWaiters.compareAndSet(idx, self, null) && (item ne null)) claimWaiter((idx + 1) % n)
+        }
+        if (item eq DoneSentinel) keepRunning = false
+        else if (item ne null) keepRunning = offerResult(applySegment(item.asInstanceOf[Segment]))
+      }
+    } catch {
+      case _: InterruptedException if consumerClosed => ()
+      case t: Throwable                              => recordError(t)
+    } finally {
+      if (workersRunning.decrementAndGet() == 0) offerResult(AllWorkersDone)
+    }
+  }
+
+  private def offerResult(r: AnyRef): Boolean = {
+    val self = Thread.currentThread()
+    while (!consumerClosed && !self.isInterrupted) {
+      if (results.offer(r)) {
+        val cw = consumerWaiter
+        if (cw ne null) LockSupport.unpark(cw)
+        return true
+      }
+      LockSupport.parkNanos(this, 1000L)
+    }
+    false
+  }
+
+  private def applySegment(seg: Segment): AnyRef = {
+    val len = seg.until - seg.from
+    outLane match {
+      case IntLane =>
+        val out = new Array[Int](len)
+        var i   = 0
+        while (i < len) { out(i) = applyToInt(seg.input, seg.from + i); i += 1 }
+        out
+      case LongLane =>
+        val out = new Array[Long](len)
+        var i   = 0
+        while (i < len) { out(i) = applyToLong(seg.input, seg.from + i); i += 1 }
+        out
+      case DoubleLane =>
+        val out = new Array[Double](len)
+        var i   = 0
+        while (i < len) { out(i) = applyToDouble(seg.input, seg.from + i); i += 1 }
+        out
+      case _ =>
+        val out = new Array[AnyRef](len)
+        var i   = 0
+        while (i < len) { out(i) = applyToRef(seg.input, seg.from + i); i += 1 }
+        out
+    }
+  }
+
+  // The casts below select `Function1`'s specialized entry points (e.g.
+  // `apply$mcII$sp`), so primitive lanes never box on the worker hot path.
+
+  private def applyToInt(input: AnyRef, i: Int): Int = inLane match {
+    case IntLane    => f.asInstanceOf[Int => Int](input.asInstanceOf[Array[Int]](i))
+    case LongLane   => f.asInstanceOf[Long => Int](input.asInstanceOf[Array[Long]](i))
+    case DoubleLane => f.asInstanceOf[Double => Int](input.asInstanceOf[Array[Double]](i))
+    case _          => f(input.asInstanceOf[Array[AnyRef]](i).asInstanceOf[A]).asInstanceOf[Int]
+  }
+
+  private def applyToLong(input: AnyRef, i: Int): Long = inLane match {
+    case IntLane    => f.asInstanceOf[Int => Long](input.asInstanceOf[Array[Int]](i))
+    case LongLane   => f.asInstanceOf[Long => Long](input.asInstanceOf[Array[Long]](i))
+    case DoubleLane => f.asInstanceOf[Double => Long](input.asInstanceOf[Array[Double]](i))
+    case _          => f(input.asInstanceOf[Array[AnyRef]](i).asInstanceOf[A]).asInstanceOf[Long]
+  }
+
+  private def applyToDouble(input: AnyRef, i: Int): Double = inLane match {
+    case IntLane    => f.asInstanceOf[Int => Double](input.asInstanceOf[Array[Int]](i))
+    case LongLane   => f.asInstanceOf[Long => Double](input.asInstanceOf[Array[Long]](i))
+    case DoubleLane => f.asInstanceOf[Double => Double](input.asInstanceOf[Array[Double]](i))
+    case _          => f(input.asInstanceOf[Array[AnyRef]](i).asInstanceOf[A]).asInstanceOf[Double]
+  }
+
+  private def applyToRef(input: AnyRef, i: Int): AnyRef = inLane match {
+    case IntLane    => f.asInstanceOf[Int => Any](input.asInstanceOf[Array[Int]](i)).asInstanceOf[AnyRef]
+    case LongLane   => f.asInstanceOf[Long => Any](input.asInstanceOf[Array[Long]](i)).asInstanceOf[AnyRef]
+    case DoubleLane => f.asInstanceOf[Double => Any](input.asInstanceOf[Array[Double]](i)).asInstanceOf[AnyRef]
+    case _          => f(input.asInstanceOf[Array[AnyRef]](i).asInstanceOf[A]).asInstanceOf[AnyRef]
+  }
+
+  // ============================================================
+  //  LIFECYCLE
+  // ============================================================
+
+  def close(): Unit = {
+    stopThreads()
+    // A recorded error the consumer never observed via a read (e.g. an
+    // upstream close failure after the last element) must still surface
+    // (Principle 4): rethrow it exactly once at teardown.
+    val err = errorRef.get()
+    if ((err ne null) && !errorDelivered) { errorDelivered = true; rethrow(err) }
+  }
+
+  override def reset(): Unit = {
+    // 1) Fully terminate the current run, exactly as close() does — but discard
+    //    any recorded error instead of rethrowing it. `ExecutorTask.join` establishes
+    //    happens-before with the threads' termination, making the subsequent
+    //    single-threaded mutation of the per-run fields safe.
+    stopThreads()
+    // 2) Replay the upstream. A genuine one-shot source throws
+    //    UnsupportedOperationException here, which correctly propagates.
+    upstream.reset()
+    // 3) Reinstate fresh per-run state and respawn the threads.
+    work = new MpmcRingBuffer[AnyRef](capacity)
+    results = new MpscRingBuffer[AnyRef](capacity)
+    var i = 0
+    while (i < n) {
+      workerWaiters.set(i, null)
+      workerThreads.set(i, null)
+      i += 1
+    }
+    workersRunning.set(n)
+    wakeIdx = 0
+    errorRef.set(null)
+    errorDelivered = false
+    consumerClosed = false
+    consumerWaiter = null
+    cur = null
+    curLen = 0
+    pos = 0
+    eofReturned = false
+    startThreads()
+  }
+
+  private def stopThreads(): Unit = {
+    consumerClosed = true
+    val cw = consumerWaiter
+    if (cw ne null) LockSupport.unpark(cw)
+    unparkWorkers()
+    val ct = coordinatorThread
+    if (ct ne null) {
+      ct.interrupt()
+      ct.join(5000)
+    }
+    var i = 0
+    while (i < n) {
+      val t = workerThreads.get(i)
+      if (t ne null) {
+        t.interrupt()
+        t.join(5000)
+      }
+      i += 1
+    }
+  }
+
+  private def unparkWorkers(): Unit = {
+    var i = 0
+    while (i < n) {
+      val ww = workerWaiters.get(i)
+      if (ww ne null) LockSupport.unpark(ww)
+      i += 1
+    }
+  }
+
+  private def recordError(t: Throwable): Unit =
+    if (errorRef.compareAndSet(null, t)) {
+      consumerClosed = true
+      val cw = consumerWaiter
+      if (cw ne null) LockSupport.unpark(cw)
+      unparkWorkers()
+      val ct = coordinatorThread
+      if (ct ne null) ct.interrupt()
+      var i = 0
+      while (i < n) {
+        val wt = workerThreads.get(i)
+        if (wt ne null) wt.interrupt()
+        i += 1
+      }
+    }
+
+  private def rethrow(t: Throwable): Nothing = {
+    errorDelivered = true
+    t match {
+      case se: StreamError => throw se
+      case _               => throw t
+    }
+  }
+}
+
+private[internal] object ConcurrentMapParUnorderedReader {
+  val counter: AtomicLong    = new AtomicLong(0L)
+  val SegmentsPerWorker: Int = 4
+  val AllWorkersDone: AnyRef = new AnyRef
+  val DoneSentinel: AnyRef   = new AnyRef
+  final val RefLane          = 0
+  final val IntLane          = 1
+  final val LongLane         = 2
+  final val DoubleLane       = 3
+
+  /** A half-open range `[from, until)` of a batch array awaiting `f`. */
+  final class Segment(val input: AnyRef, val from: Int, val until: Int)
+
+  def laneOf(t: JvmType): Int =
+    if (t eq JvmType.Int) IntLane
+    else if (t eq JvmType.Long) LongLane
+    else if (t eq JvmType.Double) DoubleLane
+    else RefLane
+
+  def nextPowerOfTwo(n: Int): Int =
+    if (n <= 1) 1
+    else Integer.highestOneBit(n - 1) << 1
+}
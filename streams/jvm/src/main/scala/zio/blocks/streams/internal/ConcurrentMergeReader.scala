@@ -17,7 +17,7 @@
 package zio.blocks.streams.internal
 
 import zio.blocks.chunk.{Chunk, ChunkBuilder}
-import zio.blocks.streams.Platform
+import zio.blocks.streams.{Platform, StreamExecutor}
 import zio.blocks.streams.Stream
 import zio.blocks.streams.io.Reader
 import zio.blocks.ringbuffer.SpscRingBuffer
@@ -36,7 +36,8 @@ import java.util.concurrent.locks.LockSupport
  * SPSC queues consumed by this reader.
  */
 private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], maxOpen: Int, bufferSize: Int)
-    extends Reader[A] {
+    extends Reader[A]
+    with QueueOccupancy {
   import ConcurrentMergeReader._
 
   require(maxOpen >= 1, s"ConcurrentMergeReader requires maxOpen >= 1, got $maxOpen")
@@ -63,9 +64,9 @@ private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], ma
 
   private var workQueue      = new BlockingMpmcQueue[AnyRef](Math.max(maxOpen, 16))
   private var drainerLatch   = new CountDownLatch(maxOpen)
-  private val drainerThreads = new AtomicReferenceArray[Thread](maxOpen)
+  private val drainerThreads = new AtomicReferenceArray[ExecutorTask](maxOpen)
 
-  @volatile private var coordinatorThread: Thread = null.asInstanceOf[Thread]
+  @volatile private var coordinatorThread: ExecutorTask = null
 
   private val coordinatorTask: Runnable = new Runnable {
     def run(): Unit =
@@ -111,23 +112,25 @@ private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], ma
       }
   }
 
+  private val executor: StreamExecutor = Platform.currentExecutor
+
   // Spawns the drainer pool and the coordinator. Called from the constructor
   // and from `reset()` after all per-run fields have been reinitialized (the
   // `Runnable`s read instance fields, so they are reusable across runs).
   private def startThreads(): Unit = {
-    Array.tabulate(maxOpen) { idx =>
-      Platform.startVirtualThread(
-        s"zio-blocks-merge-drainer-${counter.getAndIncrement()}-$idx",
-        new Runnable { def run(): Unit = drainerLoop(idx) }
-      )
-    }
-    coordinatorThread = Platform.startVirtualThread(
-      s"zio-blocks-merge-coordinator-${counter.getAndIncrement()}",
-      coordinatorTask
+    val tasks = ExecutorTask.startAll(executor, maxOpen + 1)(
+      idx =>
+        if (idx < maxOpen) s"zio-blocks-merge-drainer-${counter.getAndIncrement()}-$idx"
+        else s"zio-blocks-merge-coordinator-${counter.getAndIncrement()}",
+      idx => if (idx < maxOpen) new Runnable { def run(): Unit = drainerLoop(idx) } else coordinatorTask
     )
+    var i = 0
+    while (i < maxOpen) { drainerThreads.set(i, tasks(i)); i += 1 }
+    coordinatorThread = tasks(maxOpen)
   }
 
-  startThreads()
+  try startThreads()
+  catch { case t: Throwable => throw cleanupWithPrimary(t)(outerReader.close()) }
 
   private def allOutputQueuesEmpty(): Boolean = {
     var i = 0
@@ -140,6 +143,8 @@ private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], ma
 
   def isClosed: Boolean = coordinatorDone && completedCount >= totalStarted && allOutputQueuesEmpty()
 
+  def queuedCount: Int = QueueOccupancy.sum(outputQueues)(_.size)
+
   private var scanStart: Int = 0
 
   private def terminal: Boolean = coordinatorDone && completedCount >= totalStarted
@@ -252,7 +257,7 @@ private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], ma
     // `mergeAll` is a pure fan-in transform: it must not weaken replayability.
     // 1) Fully terminate the current run, exactly as close() does — but discard
     //    any recorded error instead of rethrowing it (reset starts a fresh
-    //    run). `Thread.join` establishes happens-before with the coordinator's
+    //    run). `ExecutorTask.join` establishes happens-before with the coordinator's
     //    and drainers' termination, making the subsequent single-threaded
     //    mutation of the per-run fields safe.
     consumerClosed = true
@@ -298,7 +303,6 @@ private[streams] final class ConcurrentMergeReader[A](outerReader: Reader[?], ma
 
   private def drainerLoop(idx: Int): Unit = {
     val self = Thread.currentThread()
-    drainerThreads.set(idx, self)
     try {
       var keepRunning = true
       while (keepRunning && !consumerClosed && !self.isInterrupted) {
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+import java.util.zip.{CRC32, Deflater}
+
+/**
+ * Compresses the bytes of `upstream` with a [[java.util.zip.Deflater]], in gzip
+ * format (RFC 1952) when `gzip` is set and zlib format (RFC 1950) otherwise.
+ *
+ * Input is pulled in blocks with `readBytes` and output is served from a block
+ * buffer, so the deflater is only called once per block in either direction.
+ * The deflater's native memory is released on `close`. Single-threaded; not
+ * safe for concurrent use.
+ */
+private[streams] final class DeflateReader(upstream: Reader[Byte], level: Int, gzip: Boolean) extends Reader[Byte] {
+  private val in                  = new Array[Byte](DeflateReader.BufferSize)
+  private val out                 = new Array[Byte](DeflateReader.BufferSize)
+  private var pos: Int            = 0
+  private var lim: Int            = 0
+  private var deflater: Deflater  = null
+  private val crc: CRC32          = if (gzip) new CRC32 else null
+  private var inputDone: Boolean  = false
+  private var trailerDue: Boolean = gzip
+  private var done: Boolean       = false
+
+  def isClosed: Boolean = done && pos >= lim
+
+  override def jvmType: JvmType = JvmType.Byte
+
+  override def readable(): Boolean = pos < lim
+
+  def read[A1 >: Byte](sentinel: A1): A1 = {
+    val b = readByte()
+    if (b >= 0) Byte.box(b.toByte).asInstanceOf[A1] else sentinel
+  }
+
+  override def readByte(): Int =
+    if (pos < lim || fill()) { val b = out(pos) & 0xff; pos += 1; b }
+    else -1
+
+  override def readBytes(buf: Array[Byte], offset: Int, len: Int)(implicit ev: Byte <:< Byte): Int =
+    if (len == 0) 0
+    else if (pos < lim || fill()) {
+      val n = math.min(len, lim - pos)
+      System.arraycopy(out, pos, buf, offset, n)
+      pos += n
+      n
+    } else -1
+
+  /** Refills `out`; returns `false` once all output has been served. */
+  private def fill(): Boolean = {
+    if (done) return false
+    var d = deflater
+    if (d eq null) {
+      d = new Deflater(level, gzip)
+      deflater = d
+      if (gzip) {
+        System.arraycopy(DeflateReader.GzipHeader, 0, out, 0, DeflateReader.GzipHeader.length)
+        pos = 0
+        lim = DeflateReader.GzipHeader.length
+        return true
+      }
+    }
+    while (true) {
+      if (d.needsInput() && !inputDone) {
+        val n = upstream.readBytes(in, 0, in.length)
+        if (n < 0) {
+          inputDone = true
+          d.finish()
+        } else if (n > 0) {
+          if (crc ne null) crc.update(in, 0, n)
+          d.setInput(in, 0, n)
+        }
+      }
+      val n = d.deflate(out, 0, out.length)
+      if (n > 0) {
+        pos = 0
+        lim = n
+        return true
+      }
+      if (d.finished()) {
+        if (trailerDue) {
+          trailerDue = false
+          DeflateReader.putIntLE(out, 0, crc.getValue.toInt)
+          DeflateReader.putIntLE(out, 4, d.getBytesRead.toInt)
+          pos = 0
+          lim = 8
+          return true
+        }
+        release()
+        return false
+      }
+    }
+    false // unreachable
+  }
+
+  private def release(): Unit = {
+    done = true
+    val d = deflater
+    deflater = null
+    if (d ne null) d.end()
+  }
+
+  def close(): Unit = {
+    pos = lim
+    release()
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    upstream.reset()
+    release()
+    if (crc ne null) crc.reset()
+    pos = 0
+    lim = 0
+    inputDone = false
+    trailerDue = gzip
+    done = false
+  }
+}
+
+private[streams] object DeflateReader {
+
+  /** Size of the input and output block buffers. */
+  val BufferSize: Int = 32 * 1024
+
+  /** Gzip member header: magic, CM = deflate, no flags, no mtime, OS unknown. */
+  private val GzipHeader: Array[Byte] = Array[Byte](0x1f, 0x8b.toByte, 8, 0, 0, 0, 0, 0, 0, 0xff.toByte)
+
+  private[internal] def putIntLE(buf: Array[Byte], offset: Int, v: Int): Unit = {
+    buf(offset) = v.toByte
+    buf(offset + 1) = (v >>> 8).toByte
+    buf(offset + 2) = (v >>> 16).toByte
+    buf(offset + 3) = (v >>> 24).toByte
+  }
+}
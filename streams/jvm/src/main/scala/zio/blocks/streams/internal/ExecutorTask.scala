@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.{Platform, StreamExecutor}
+
+import java.util.concurrent.{CountDownLatch, TimeUnit}
+
+/**
+ * A task started on a [[StreamExecutor]]. It stands in for the `Thread` a
+ * concurrent reader would otherwise start itself, and can be interrupted and
+ * joined whether it runs on a thread of its own or on a pooled one.
+ *
+ * `interrupt()` reaches the running thread only while it runs this task, and
+ * the interrupt status is cleared when the task ends, so a pooled thread never
+ * carries it into its next task. A task interrupted before it starts runs with
+ * the status already set. The task runs with its executor as
+ * [[Platform.currentExecutor]], so the stages it compiles (e.g. the inner
+ * streams of a merge) use the same executor.
+ */
+private[streams] final class ExecutorTask private (executor: StreamExecutor, body: Runnable) extends Runnable {
+  private val done                 = new CountDownLatch(1)
+  private var thread: Thread       = null  // guarded by `this`
+  private var interrupted: Boolean = false // guarded by `this`
+
+  def run(): Unit = {
+    val self = Thread.currentThread()
+    synchronized {
+      thread = self
+      if (interrupted) self.interrupt()
+    }
+    try Platform.withExecutor(executor)(body.run())
+    finally {
+      synchronized {
+        thread = null
+        Thread.interrupted()
+      }
+      done.countDown()
+    }
+  }
+
+  def interrupt(): Unit = synchronized {
+    interrupted = true
+    if (thread ne null) thread.interrupt()
+  }
+
+  /** Waits at most `millis` milliseconds for the task to finish. */
+  def join(millis: Long): Unit = { done.await(millis, TimeUnit.MILLISECONDS); () }
+
+  /** Waits for the task to finish. */
+  def join(): Unit = done.await()
+}
+
+private[streams] object ExecutorTask {
+
+  /** Hands `body` to `executor` as a task named `name`. */
+  def start(executor: StreamExecutor, name: String, body: Runnable): ExecutorTask = {
+    val task = new ExecutorTask(executor, body)
+    executor.execute(name, task)
+    task
+  }
+
+  /**
+   * Starts `count` tasks, the `i`-th named `name(i)` and running `body(i)`.
+   * If the executor refuses one, the tasks already started are interrupted
+   * before the failure is rethrown, so a stage never keeps running with only
+   * part of its tasks. Whatever the tasks would have taken over, such as the
+   * upstream of a stage whose coordinator never started, stays with the
+   * caller to close.
+   */
+  def startAll(executor: StreamExecutor, count: Int)(
+    name: Int => String,
+    body: Int => Runnable
+  ): Array[ExecutorTask] = {
+    val tasks = new Array[ExecutorTask](count)
+    var i     = 0
+    try {
+      while (i < count) {
+        tasks(i) = start(executor, name(i), body(i))
+        i += 1
+      }
+    } catch {
+      case t: Throwable =>
+        var j = 0
+        while (j < i) {
+          tasks(j).interrupt()
+          j += 1
+        }
+        throw t
+    }
+    tasks
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+import java.io.EOFException
+import java.util.zip.{CRC32, DataFormatException, Inflater, ZipException}
+
+/**
+ * Decompresses the bytes of `upstream` with a [[java.util.zip.Inflater]], from
+ * gzip format (RFC 1952) when `gzip` is set and zlib format (RFC 1950)
+ * otherwise. Concatenated gzip members are decompressed one after the other,
+ * as `gzip -d` does.
+ *
+ * Like [[DeflateReader]], input and output move in blocks. Corrupt or truncated
+ * input raises a `ZipException` or `EOFException` as a defect, since a
+ * `Pipeline` cannot widen the stream's error type. The inflater's native memory
+ * is released on `close`. Single-threaded; not safe for concurrent use.
+ */
+private[streams] final class InflateReader(upstream: Reader[Byte], gzip: Boolean) extends Reader[Byte] {
+  private val in                 = new Array[Byte](DeflateReader.BufferSize)
+  private var inPos: Int         = 0
+  private var inLim: Int         = 0
+  private val out                = new Array[Byte](DeflateReader.BufferSize)
+  private var pos: Int           = 0
+  private var lim: Int           = 0
+  private var inflater: Inflater = null
+  private val crc: CRC32         = if (gzip) new CRC32 else null
+  private var state: Int         = InflateReader.Header
+  private var members: Int       = 0
+
+  def isClosed: Boolean = state == InflateReader.Done && pos >= lim
+
+  override def jvmType: JvmType = JvmType.Byte
+
+  override def readable(): Boolean = pos < lim
+
+  def read[A1 >: Byte](sentinel: A1): A1 = {
+    val b = readByte()
+    if (b >= 0) Byte.box(b.toByte).asInstanceOf[A1] else sentinel
+  }
+
+  override def readByte(): Int =
+    if (pos < lim || fill()) { val b = out(pos) & 0xff; pos += 1; b }
+    else -1
+
+  override def readBytes(buf: Array[Byte], offset: Int, len: Int)(implicit ev: Byte <:< Byte): Int =
+    if (len == 0) 0
+    else if (pos < lim || fill()) {
+      val n = math.min(len, lim - pos)
+      System.arraycopy(out, pos, buf, offset, n)
+      pos += n
+      n
+    } else -1
+
+  /** Refills `out`; returns `false` once all output has been served. */
+  private def fill(): Boolean = {
+    while (true) {
+      state match {
+        case InflateReader.Header =>
+          if (inflater eq null) inflater = new Inflater(gzip)
+          if (gzip && !readGzipHeader()) {
+            release()
+            return false
+          }
+          state = InflateReader.Body
+        case InflateReader.Body =>
+          val inf = inflater
+          if (inf.needsInput()) {
+            if (inPos >= inLim && !refill()) throw new EOFException("Unexpected end of compressed input")
+            inf.setInput(in, inPos, inLim - inPos)
+            inPos = inLim
+          }
+          val n =
+            try inf.inflate(out, 0, out.length)
+            catch { case e: DataFormatException => throw new ZipException(e.getMessage) }
+          if (n > 0) {
+            if (crc ne null) crc.update(out, 0, n)
+            pos = 0
+            lim = n
+            return true
+          }
+          if (inf.finished()) {
+            inPos = inLim - inf.getRemaining
+            if (gzip) state = InflateReader.Trailer
+            else {
+              release()
+              return false
+            }
+          } else if (inf.needsDictionary()) throw new ZipException("Compressed input requires a preset dictionary")
+        case InflateReader.Trailer =>
+          readGzipTrailer()
+          members += 1
+          inflater.reset()
+          crc.reset()
+          state = InflateReader.Header
+        case _ =>
+          return false
+      }
+    }
+    false // unreachable
+  }
+
+  /**
+   * Parses a gzip member header. Returns `false` if the input ends cleanly
+   * before another member starts.
+   */
+  private def readGzipHeader(): Boolean = {
+    val id1 = nextByte()
+    if (id1 < 0) {
+      if (members > 0) return false
+      throw new EOFException("Unexpected end of gzip input")
+    }
+    if (id1 != 0x1f || requireByte() != 0x8b) throw new ZipException("Not in GZIP format")
+    if (requireByte() != 8) throw new ZipException("Unsupported compression method")
+    val flags = requireByte()
+    skipBytes(6) // MTIME, XFL, OS
+    if ((flags & 4) != 0) skipBytes(requireByte() | (requireByte() << 8)) // FEXTRA
+    if ((flags & 8) != 0) while (requireByte() != 0) {}                   // FNAME
+    if ((flags & 16) != 0) while (requireByte() != 0) {}                  // FCOMMENT
+    if ((flags & 2) != 0) skipBytes(2)                                    // FHCRC
+    true
+  }
+
+  private def readGzipTrailer(): Unit = {
+    val crcValue = readIntLE()
+    val size     = readIntLE()
+    if (crcValue != crc.getValue.toInt) throw new ZipException("Corrupt GZIP trailer")
+    if (size != inflater.getBytesWritten.toInt) throw new ZipException("Corrupt GZIP trailer")
+  }
+
+  private def readIntLE(): Int =
+    requireByte() | (requireByte() << 8) | (requireByte() << 16) | (requireByte() << 24)
+
+  private def skipBytes(n: Int): Unit = {
+    var i = 0
+    while (i < n) { requireByte(); i += 1 }
+  }
+
+  private def requireByte(): Int = {
+    val b = nextByte()
+    if (b < 0) throw new EOFException("Unexpected end of gzip input")
+    b
+  }
+
+  /** Returns the next raw input byte, or `-1` at the end of the upstream. */
+  private def nextByte(): Int =
+    if (inPos < inLim || refill()) { val b = in(inPos) & 0xff; inPos += 1; b }
+    else -1
+
+  private def refill(): Boolean = {
+    val n = upstream.readBytes(in, 0, in.length)
+    if (n <= 0) false
+    else {
+      inPos = 0
+      inLim = n
+      true
+    }
+  }
+
+  private def release(): Unit = {
+    state = InflateReader.Done
+    val inf = inflater
+    inflater = null
+    if (inf ne null) inf.end()
+  }
+
+  def close(): Unit = {
+    pos = lim
+    release()
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    upstream.reset()
+    release()
+    if (crc ne null) crc.reset()
+    inPos = 0
+    inLim = 0
+    pos = 0
+    lim = 0
+    members = 0
+    state = InflateReader.Header
+  }
+}
+
+private[streams] object InflateReader {
+  private final val Header  = 0
+  private final val Body    = 1
+  private final val Trailer = 2
+  private final val Done    = 3
+}
@@ -23,7 +23,7 @@ import zio.blocks.ringbuffer.{
   LongSpscRingBuffer,
   SpscRingBuffer
 }
-import zio.blocks.streams.{JvmType, Platform}
+import zio.blocks.streams.{JvmType, Platform, StreamExecutor}
 import zio.blocks.streams.io.Reader
 
 import java.util.concurrent.ConcurrentLinkedQueue
@@ -63,7 +63,8 @@ private[streams] final class IntConcurrentMapParReader[B](
   f: Int => B,
   bufferSize: Int,
   outType: JvmType
-) extends Reader[B] {
+) extends Reader[B]
+    with QueueOccupancy {
   import ConcurrentMapParReader._
 
   require(n >= 1, s"IntConcurrentMapParReader requires n >= 1, got $n")
@@ -106,12 +107,12 @@ private[streams] final class IntConcurrentMapParReader[B](
   private var inputQueues: Array[IntSpscRingBuffer] =
     Array.tabulate(n)(_ => new IntSpscRingBuffer(bufferSize))
   private val workerWaiters = new AtomicReferenceArray[Thread](n)
-  private val workerThreads = new AtomicReferenceArray[Thread](n)
+  private val workerThreads = new AtomicReferenceArray[ExecutorTask](n)
 
   private val errorRef                            = new AtomicReference[Throwable](null)
   @volatile private var errorDelivered: Boolean   = false
   @volatile private var consumerClosed: Boolean   = false
-  @volatile private var coordinatorThread: Thread = null.asInstanceOf[Thread]
+  @volatile private var coordinatorThread: ExecutorTask = null
 
   private val workerTasks: Array[Runnable] = Array.tabulate(n) { idx =>
     new Runnable {
@@ -168,26 +169,34 @@ private[streams] final class IntConcurrentMapParReader[B](
       }
   }
 
+  private val executor: StreamExecutor = Platform.currentExecutor
+
   // Spawns the worker pool and the coordinator. Called from the constructor
   // and from `reset()` after all per-run fields have been reinitialized (the
   // `Runnable`s read instance fields, so they are reusable across runs).
   private def startThreads(): Unit = {
-    Array.tabulate(n) { idx =>
-      Platform.startVirtualThread(
-        s"zio-blocks-mappar-worker-${counter.getAndIncrement()}-$idx",
-        workerTasks(idx)
-      )
-    }
-    coordinatorThread = Platform.startVirtualThread(
-      s"zio-blocks-mappar-coordinator-${counter.getAndIncrement()}",
-      coordinatorTask
+    val tasks = ExecutorTask.startAll(executor, n + 1)(
+      idx =>
+        if (idx < n) s"zio-blocks-mappar-worker-${counter.getAndIncrement()}-$idx"
+        else s"zio-blocks-mappar-coordinator-${counter.getAndIncrement()}",
+      idx => if (idx < n) workerTasks(idx) else coordinatorTask
     )
+    var i = 0
+    while (i < n) { workerThreads.set(i, tasks(i)); i += 1 }
+    coordinatorThread = tasks(n)
   }
 
-  startThreads()
+  try startThreads()
+  catch { case t: Throwable => throw cleanupWithPrimary(t)(upstream.close()) }
 
   def isClosed: Boolean = eofReturned || consumerClosed
 
+  def queuedCount: Int = {
+    import QueueOccupancy.sum
+    sum(inputQueues)(_.size) + sum(outIntQs)(_.size) + sum(outLongQs)(_.size) + sum(outFloatQs)(_.size) +
+      sum(outDoubleQs)(_.size) + sum(outRefQs)(_.size)
+  }
+
   // Consumer-private state.
   private var scanStart: Int        = 0
   private var workersDoneCount: Int = 0
@@ -512,7 +521,7 @@ private[streams] final class IntConcurrentMapParReader[B](
     // replayability.
     // 1) Fully terminate the current run, exactly as close() does — but discard
     //    any recorded error instead of rethrowing it (reset starts a fresh
-    //    run). `Thread.join` establishes happens-before with the coordinator's
+    //    run). `ExecutorTask.join` establishes happens-before with the coordinator's
     //    and workers' termination, making the subsequent single-threaded
     //    mutation of the per-run fields safe.
     consumerClosed = true
@@ -573,7 +582,6 @@ private[streams] final class IntConcurrentMapParReader[B](
 
   private def workerLoop(idx: Int): Unit = {
     val self = Thread.currentThread()
-    workerThreads.set(idx, self)
 
     var keepRunning = true
 
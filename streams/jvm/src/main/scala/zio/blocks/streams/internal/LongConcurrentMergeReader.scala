@@ -18,7 +18,7 @@ package zio.blocks.streams.internal
 
 import zio.blocks.chunk.{Chunk, ChunkBuilder}
 import zio.blocks.ringbuffer.LongSpscRingBuffer
-import zio.blocks.streams.{JvmType, Platform, Stream}
+import zio.blocks.streams.{JvmType, Platform, Stream, StreamExecutor}
 import zio.blocks.streams.io.Reader
 import zio.blocks.streams.queues.BlockingMpmcQueue
 
@@ -57,7 +57,8 @@ import java.util.concurrent.locks.LockSupport
  * `coordinatorDone` volatile flag is needed on the hot path.
  */
 private[streams] final class LongConcurrentMergeReader(outerReader: Reader[?], maxOpen: Int, bufferSize: Int)
-    extends Reader[Long] {
+    extends Reader[Long]
+    with QueueOccupancy {
   import ConcurrentMergeReader._
   import LongConcurrentMergeReader._
 
@@ -84,9 +85,9 @@ private[streams] final class LongConcurrentMergeReader(outerReader: Reader[?], m
 
   private var workQueue      = new BlockingMpmcQueue[AnyRef](Math.max(maxOpen, 16))
   private var drainerLatch   = new CountDownLatch(maxOpen)
-  private val drainerThreads = new AtomicReferenceArray[Thread](maxOpen)
+  private val drainerThreads = new AtomicReferenceArray[ExecutorTask](maxOpen)
 
-  @volatile private var coordinatorThread: Thread = null.asInstanceOf[Thread]
+  @volatile private var coordinatorThread: ExecutorTask = null
 
   private val coordinatorTask: Runnable = new Runnable {
     def run(): Unit =
@@ -123,28 +124,32 @@ private[streams] final class LongConcurrentMergeReader(outerReader: Reader[?], m
       }
   }
 
+  private val executor: StreamExecutor = Platform.currentExecutor
+
   // Spawns the drainer pool and the coordinator. Called from the constructor
   // and from `reset()` after all per-run fields have been reinitialized (the
   // `Runnable`s read instance fields, so they are reusable across runs).
   private def startThreads(): Unit = {
-    Array.tabulate(maxOpen) { idx =>
-      Platform.startVirtualThread(
-        s"zio-blocks-merge-drainer-${counter.getAndIncrement()}-$idx",
-        new Runnable { def run(): Unit = drainerLoop(idx) }
-      )
-    }
-    coordinatorThread = Platform.startVirtualThread(
-      s"zio-blocks-merge-coordinator-${counter.getAndIncrement()}",
-      coordinatorTask
+    val tasks = ExecutorTask.startAll(executor, maxOpen + 1)(
+      idx =>
+        if (idx < maxOpen) s"zio-blocks-merge-drainer-${counter.getAndIncrement()}-$idx"
+        else s"zio-blocks-merge-coordinator-${counter.getAndIncrement()}",
+      idx => if (idx < maxOpen) new Runnable { def run(): Unit = drainerLoop(idx) } else coordinatorTask
     )
+    var i = 0
+    while (i < maxOpen) { drainerThreads.set(i, tasks(i)); i += 1 }
+    coordinatorThread = tasks(maxOpen)
   }
 
-  startThreads()
+  try startThreads()
+  catch { case t: Throwable => throw cleanupWithPrimary(t)(outerReader.close()) }
 
   override def jvmType: JvmType = JvmType.Long
 
   def isClosed: Boolean = eofReturned || consumerClosed
 
+  def queuedCount: Int = QueueOccupancy.sum(dataQueues)(_.size)
+
   // Consumer-thread-private state: scanStart, drainersDone, eofReturned are
   // mutated only from the consumer side and therefore need no atomics.
   private var scanStart: Int       = 0
@@ -303,7 +308,7 @@ private[streams] final class LongConcurrentMergeReader(outerReader: Reader[?], m
     // `mergeAll` is a pure fan-in transform: it must not weaken replayability.
     // 1) Fully terminate the current run, exactly as close() does — but discard
     //    any recorded error instead of rethrowing it (reset starts a fresh
-    //    run). `Thread.join` establishes happens-before with the coordinator's
+    //    run). `ExecutorTask.join` establishes happens-before with the coordinator's
     //    and drainers' termination, making the subsequent single-threaded
     //    mutation of the per-run fields safe.
     consumerClosed = true
@@ -349,7 +354,6 @@ private[streams] final class LongConcurrentMergeReader(outerReader: Reader[?], m
 
   private def drainerLoop(idx: Int): Unit = {
     val self = Thread.currentThread()
-    drainerThreads.set(idx, self)
     try {
       var keepRunning = true
       while (keepRunning && !consumerClosed && !self.isInterrupted) {
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.chunk.Chunk
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+import java.io.IOException
+import java.nio.{ByteBuffer, ByteOrder}
+import java.nio.channels.FileChannel
+
+/**
+ * Reads a file through a sliding sequence of read-only memory-mapped windows,
+ * exposing each window through the `ByteBuffer` reader of the element lane
+ * (`ByteBufferReader`, `ByteBufferIntReader`, ...) built by `mkReader`. Only one
+ * window is mapped at a time and it is replaced when exhausted, so elements are
+ * read straight from the page cache: there is no copy into a heap buffer and no
+ * system call per read.
+ *
+ * Reading starts at the channel's position when the reader is created; the
+ * channel's position is not changed and the channel is not closed. Windows are
+ * a multiple of `elemSize` bytes so no element straddles two windows; trailing
+ * bytes that do not form a whole element are ignored, as in the `ByteBuffer`
+ * readers. Unmapping of exhausted windows is left to the garbage collector.
+ *
+ * `setSkip`/`setLimit` are pushed down as byte offsets (no window is mapped for
+ * skipped elements) until the first window is mapped. Single-threaded; not safe
+ * for concurrent use.
+ */
+private[streams] final class MappedFileReader[A](
+  ch: FileChannel,
+  windowSize: Int,
+  elemSize: Int,
+  order: ByteOrder,
+  elemType: JvmType,
+  mkReader: ByteBuffer => Reader[A]
+) extends Reader[A] {
+  require(windowSize > 0, s"MappedFileReader requires windowSize > 0, got $windowSize")
+
+  private val step: Long = math.max(elemSize.toLong, windowSize.toLong / elemSize * elemSize)
+
+  // The composed pushdown window as byte offsets in the file; see
+  // `ByteBufferReader` for why derived bounds (not raw skip/limit values) are
+  // stored.
+  private var windowStart: Long = 0L
+  private var windowEnd: Long   = 0L
+
+  try {
+    windowStart = ch.position()
+    windowEnd = windowStart + math.max(0L, ch.size() - windowStart) / elemSize * elemSize
+  } catch {
+    case e: IOException => throw new StreamError(e)
+  }
+
+  private var pos: Long          = windowStart // file offset of the next window to map
+  private var current: Reader[A] = Reader.closed
+  private var mapped: Boolean    = false
+  private var done: Boolean      = false
+
+  private def advance(): Boolean =
+    if (done) false
+    else if (pos >= windowEnd) {
+      done = true
+      current = Reader.closed
+      false
+    } else {
+      val len = math.min(step, windowEnd - pos)
+      val buf =
+        try ch.map(FileChannel.MapMode.READ_ONLY, pos, len)
+        catch {
+          case e: IOException =>
+            done = true
+            throw new StreamError(e)
+        }
+      buf.order(order)
+      pos += len
+      mapped = true
+      current = mkReader(buf)
+      true
+    }
+
+  def isClosed: Boolean = done
+
+  override def jvmType: JvmType = elemType
+
+  override def lastReadWasEOF: Boolean = done || current.lastReadWasEOF
+
+  override def readable(): Boolean = !done && (current.readable() || pos < windowEnd)
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    while (true) {
+      val v = current.read[Any](EndOfStream)
+      if (v.asInstanceOf[AnyRef] ne EndOfStream) return v.asInstanceOf[A1]
+      if (!advance()) return sentinel
+    }
+    sentinel // unreachable
+  }
+
+  override def readByte(): Int = {
+    while (true) {
+      val b = current.readByte()
+      if (b >= 0) return b
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readBytes(buf: Array[Byte], offset: Int, len: Int)(implicit ev: A <:< Byte): Int = {
+    if (len == 0) return 0
+    while (true) {
+      val n = current.readBytes(buf, offset, len)(unsafeEvidence)
+      if (n > 0) return n
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readInt(sentinel: Long)(implicit ev: A <:< Int): Long = {
+    while (true) {
+      val v = current.readInt(sentinel)(unsafeEvidence)
+      if (v != sentinel) return v
+      if (!advance()) return sentinel
+    }
+    sentinel // unreachable
+  }
+
+  override def readLong(sentinel: Long)(implicit ev: A <:< Long): Long = {
+    while (true) {
+      val v = current.readLong(sentinel)(unsafeEvidence)
+      if (!longEOF(current, v, sentinel)) return v
+      if (!advance()) return sentinel
+    }
+    sentinel // unreachable
+  }
+
+  override def readFloat(sentinel: Double)(implicit ev: A <:< Float): Double = {
+    while (true) {
+      val v = current.readFloat(sentinel)(unsafeEvidence)
+      if (v != sentinel) return v
+      if (!advance()) return sentinel
+    }
+    sentinel // unreachable
+  }
+
+  override def readDouble(sentinel: Double)(implicit ev: A <:< Double): Double = {
+    while (true) {
+      val v = current.readDouble(sentinel)(unsafeEvidence)
+      if (!doubleEOF(current, v, sentinel)) return v
+      if (!advance()) return sentinel
+    }
+    sentinel // unreachable
+  }
+
+  override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: A <:< Int): Int = {
+    if (maxLen == 0) return 0
+    while (true) {
+      val n = current.readInts(buf, offset, maxLen)(unsafeEvidence)
+      if (n > 0) return n
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: A <:< Long): Int = {
+    if (maxLen == 0) return 0
+    while (true) {
+      val n = current.readLongs(buf, offset, maxLen)(unsafeEvidence)
+      if (n > 0) return n
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readFloats(buf: Array[Float], offset: Int, maxLen: Int)(implicit ev: A <:< Float): Int = {
+    if (maxLen == 0) return 0
+    while (true) {
+      val n = current.readFloats(buf, offset, maxLen)(unsafeEvidence)
+      if (n > 0) return n
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: A <:< Double): Int = {
+    if (maxLen == 0) return 0
+    while (true) {
+      val n = current.readDoubles(buf, offset, maxLen)(unsafeEvidence)
+      if (n > 0) return n
+      if (!advance()) return -1
+    }
+    -1 // unreachable
+  }
+
+  override def readUpToN[A1 >: A](n: Int): Chunk[A1] = {
+    if (n <= 0) return Chunk.empty
+    while (true) {
+      val chunk = current.readUpToN[A1](n)
+      if (chunk.nonEmpty) return chunk
+      if (!advance()) return Chunk.empty
+    }
+    Chunk.empty // unreachable
+  }
+
+  override def skip(n: Long): Unit = Reader.skipViaSentinel(this, n)
+
+  def close(): Unit = {
+    done = true
+    // Drop the window so the mapping can be reclaimed.
+    current = Reader.closed
+  }
+
+  override def reset(): Unit = {
+    current = Reader.closed
+    pos = windowStart
+    mapped = false
+    done = false
+  }
+
+  override def setLimit(n: Long): Boolean =
+    if (mapped) false
+    else {
+      windowEnd = math.min(windowEnd, windowStart + elemBytes(n, windowEnd - windowStart))
+      true
+    }
+
+  override def setSkip(n: Long): Boolean =
+    if (mapped) false
+    else {
+      windowStart += elemBytes(n, windowEnd - windowStart)
+      pos = windowStart
+      true
+    }
+
+  // `n` elements as a byte count, clamped to `[0, max]` without overflow.
+  private def elemBytes(n: Long, max: Long): Long =
+    if (n <= 0L) 0L
+    else if (n >= max / elemSize) max
+    else n * elemSize
+}
@@ -16,59 +16,53 @@
 
 package zio.blocks.streams.queues
 
-import zio.blocks.ringbuffer.MpmcRingBuffer
-
-import java.util.concurrent.locks.LockSupport
+import zio.blocks.ringbuffer.{MpmcRingBuffer, WaitStrategy}
 
 /**
  * A blocking MPMC (multi-producer, multi-consumer) queue.
  *
- * Backed by [[MpmcRingBuffer]] for the fast path; uses
- * [[LockSupport.parkNanos]] for blocking when the buffer is full or empty.
+ * Backed by [[MpmcRingBuffer]] for the fast path; a side that finds the buffer
+ * full or empty waits on its own [[WaitStrategy.Condition]], which the other
+ * side signals after each successful operation.
  *
  * Multiple threads may call [[offer]] and [[take]] concurrently.
  *
- * ==Single-Waiter Design==
- *
- * Only one producer and one consumer can be fast-path woken at a time. The
- * queue maintains a single `producerWaiter` and `consumerWaiter` volatile slot.
- * When a thread blocks, it registers itself in the appropriate slot and calls
- * `LockSupport.parkNanos(this, 1000L)` (1 microsecond timeout). When the
- * opposite side has data/space, it unparks the registered waiter. Other waiting
- * threads wake up within 1 microsecond via the timeout and retry.
+ * ==Waiting==
  *
- * This design is virtual-thread friendly: `parkNanos` does not OS-block on
- * virtual threads, allowing bounded re-checks without risk of permanent
- * parking.
+ * Any number of threads may wait on either side. A signal wakes all of them,
+ * and the ones that lose the race for the element or slot wait again. The
+ * default [[WaitStrategy.Parking]] parks without spinning and is unparked by
+ * the signal; virtual threads park without blocking their carrier.
  *
  * ==Happens-Before Guarantee==
  *
- * The pattern `producerWaiter = Thread.currentThread()` (volatile write)
- * followed by `if (closed) return false` (volatile read) ensures that a
- * `close()` call setting `closed = true` is always visible before the thread
- * parks. This prevents the race where a thread parks after close() has already
- * been called.
- *
- * ==close() Behavior==
- *
- * `close()` unparks only the registered `producerWaiter` and `consumerWaiter`.
- * Other waiting threads wake up within 1 microsecond via `parkNanos` timeout
- * and detect the closed flag on retry. This is intentional and documented.
+ * A waiting thread registers with its condition before it re-checks `closed`
+ * (a volatile read), and `close()` sets `closed` before it signals both
+ * conditions. A thread therefore never waits out a `close()` that has already
+ * happened.
  *
  * Null elements are not permitted.
  *
  * @param capacity
  *   The logical capacity. Rounded up to the next power of two >= 2 internally.
+ * @param waitStrategy
+ *   How a blocked side waits; parks right away, with backoff, by default.
  */
-final class BlockingMpmcQueue[A <: AnyRef](capacity: Int) {
+final class BlockingMpmcQueue[A <: AnyRef](
+  capacity: Int,
+  waitStrategy: WaitStrategy = WaitStrategy.Parking(spins = 0)
+) {
   require(capacity >= 1, s"BlockingMpmcQueue requires capacity >= 1, got: $capacity")
 
   private val ringBuffer: MpmcRingBuffer[AnyRef] =
     new MpmcRingBuffer[AnyRef](nextPowerOfTwo(capacity))
 
-  @volatile private var consumerWaiter: Thread = null
-  @volatile private var producerWaiter: Thread = null
-  @volatile private var closed: Boolean        = false
+  @volatile private var closed: Boolean = false
+
+  private val notFull: WaitStrategy.Condition  = waitStrategy.newCondition()
+  private val notEmpty: WaitStrategy.Condition = waitStrategy.newCondition()
+  private val canOffer: () => Boolean          = () => closed || !ringBuffer.isFull
+  private val canTake: () => Boolean           = () => closed || !ringBuffer.isEmpty
 
   /**
    * Offers an element to the queue, blocking until space is available or the
@@ -77,25 +71,15 @@ final class BlockingMpmcQueue[A <: AnyRef](capacity: Int) {
    */
   def offer(a: A): Boolean = {
     if (a == null) throw new NullPointerException("BlockingMpmcQueue.offer(null) is not permitted")
+    var round = 0
     while (true) {
       if (closed) return false
       if (ringBuffer.offer(a.asInstanceOf[AnyRef])) {
-        val w = consumerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notEmpty.signal()
         return true
       }
-      producerWaiter = Thread.currentThread()
-      try {
-        if (closed) return false
-        if (ringBuffer.offer(a.asInstanceOf[AnyRef])) {
-          val w = consumerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return true
-        }
-        LockSupport.parkNanos(this, 1000L)
-      } finally {
-        producerWaiter = null
-      }
+      notFull.await(round, canOffer)
+      round += 1
     }
     false
   }
@@ -105,27 +89,16 @@ final class BlockingMpmcQueue[A <: AnyRef](capacity: Int) {
    * queue is closed. Returns the element, or `null` if closed and empty.
    */
   def take(): A = {
+    var round = 0
     while (true) {
       val e = ringBuffer.take().asInstanceOf[A]
       if (e ne null) {
-        val w = producerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notFull.signal()
         return e
       }
       if (closed) return null.asInstanceOf[A]
-      consumerWaiter = Thread.currentThread()
-      try {
-        val e2 = ringBuffer.take().asInstanceOf[A]
-        if (e2 ne null) {
-          val w = producerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return e2
-        }
-        if (closed) return null.asInstanceOf[A]
-        LockSupport.parkNanos(this, 1000L)
-      } finally {
-        consumerWaiter = null
-      }
+      notEmpty.await(round, canTake)
+      round += 1
     }
     null.asInstanceOf[A]
   }
@@ -133,10 +106,8 @@ final class BlockingMpmcQueue[A <: AnyRef](capacity: Int) {
   /** Closes the queue, unblocking any waiting thread on either side. */
   def close(): Unit = {
     closed = true
-    val cw = consumerWaiter
-    if (cw ne null) LockSupport.unpark(cw)
-    val pw = producerWaiter
-    if (pw ne null) LockSupport.unpark(pw)
+    notEmpty.signal()
+    notFull.signal()
   }
 
   /** Whether the queue has been closed. */
@@ -16,37 +16,43 @@
 
 package zio.blocks.streams.queues
 
-import zio.blocks.ringbuffer.MpscRingBuffer
-
-import java.util.concurrent.locks.LockSupport
+import zio.blocks.ringbuffer.{MpscRingBuffer, WaitStrategy}
 
 /**
  * A blocking MPSC (multi-producer, single-consumer) queue.
  *
- * Backed by [[MpscRingBuffer]] for the fast path; uses [[LockSupport.park]] and
- * [[LockSupport.unpark]] for blocking when the buffer is full or empty.
+ * Backed by [[MpscRingBuffer]] for the fast path; a side that finds the buffer
+ * full or empty waits on its own [[WaitStrategy.Condition]], which the other
+ * side signals after each successful operation.
  *
  * Multiple threads may call [[offer]] concurrently. Only a single thread may
  * call [[take]], [[drain]], [[isEmpty]], or [[isClosed]].
  *
- * Multi-producer parking: a single `producerWaiter` volatile slot is used. One
- * producer registers and gets fast-path unpark from consumer. Others use
- * `parkNanos(1000)` (1µs) to retry — VT-friendly, no starvation.
+ * Any number of producers may wait at once: a signal wakes all of them, and
+ * the ones that lose the race for the freed slots wait again.
  *
  * Null elements are not permitted.
  *
  * @param capacity
  *   The logical capacity. Rounded up to the next power of two internally.
+ * @param waitStrategy
+ *   How a blocked side waits; parks right away, with backoff, by default.
  */
-final class BlockingMpscQueue[A <: AnyRef](capacity: Int) {
+final class BlockingMpscQueue[A <: AnyRef](
+  capacity: Int,
+  waitStrategy: WaitStrategy = WaitStrategy.Parking(spins = 0)
+) {
   require(capacity >= 1, s"BlockingMpscQueue requires capacity >= 1, got: $capacity")
 
   private val ringBuffer: MpscRingBuffer[AnyRef] =
     new MpscRingBuffer[AnyRef](nextPowerOfTwo(capacity))
 
-  @volatile private var consumerWaiter: Thread = null
-  @volatile private var producerWaiter: Thread = null
-  @volatile private var closed: Boolean        = false
+  @volatile private var closed: Boolean = false
+
+  private val notFull: WaitStrategy.Condition  = waitStrategy.newCondition()
+  private val notEmpty: WaitStrategy.Condition = waitStrategy.newCondition()
+  private val canOffer: () => Boolean          = () => closed || !ringBuffer.isFull
+  private val canTake: () => Boolean           = () => closed || !ringBuffer.isEmpty
 
   /**
    * Offers an element to the queue, blocking until space is available or the
@@ -55,25 +61,15 @@ final class BlockingMpscQueue[A <: AnyRef](capacity: Int) {
    */
   def offer(a: A): Boolean = {
     if (a == null) throw new NullPointerException("BlockingMpscQueue.offer(null) is not permitted")
+    var round = 0
     while (true) {
       if (closed) return false
       if (ringBuffer.offer(a.asInstanceOf[AnyRef])) {
-        val w = consumerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notEmpty.signal()
         return true
       }
-      producerWaiter = Thread.currentThread()
-      try {
-        if (closed) return false
-        if (ringBuffer.offer(a.asInstanceOf[AnyRef])) {
-          val w = consumerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return true
-        }
-        LockSupport.parkNanos(this, 1000L)
-      } finally {
-        producerWaiter = null
-      }
+      notFull.await(round, canOffer)
+      round += 1
     }
     false
   }
@@ -83,27 +79,16 @@ final class BlockingMpscQueue[A <: AnyRef](capacity: Int) {
    * queue is closed. Returns the element, or `null` if closed and empty.
    */
   def take(): A = {
+    var round = 0
     while (true) {
       val e = ringBuffer.take().asInstanceOf[A]
       if (e ne null) {
-        val w = producerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notFull.signal()
         return e
       }
       if (closed) return null.asInstanceOf[A]
-      consumerWaiter = Thread.currentThread()
-      try {
-        val e2 = ringBuffer.take().asInstanceOf[A]
-        if (e2 ne null) {
-          val w = producerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return e2
-        }
-        if (closed) return null.asInstanceOf[A]
-        LockSupport.park(this)
-      } finally {
-        consumerWaiter = null
-      }
+      notEmpty.await(round, canTake)
+      round += 1
     }
     null.asInstanceOf[A]
   }
@@ -111,10 +96,8 @@ final class BlockingMpscQueue[A <: AnyRef](capacity: Int) {
   /** Closes the queue, unblocking any waiting thread on either side. */
   def close(): Unit = {
     closed = true
-    val cw = consumerWaiter
-    if (cw ne null) LockSupport.unpark(cw)
-    val pw = producerWaiter
-    if (pw ne null) LockSupport.unpark(pw)
+    notEmpty.signal()
+    notFull.signal()
   }
 
   /** Whether the queue has been closed. */
@@ -135,8 +118,7 @@ final class BlockingMpscQueue[A <: AnyRef](capacity: Int) {
    */
   def drain(consumer: A => Unit, limit: Int): Int = {
     val drained = ringBuffer.drain(consumer.asInstanceOf[AnyRef => Unit], limit)
-    val w       = producerWaiter
-    if (w ne null) LockSupport.unpark(w)
+    notFull.signal()
     drained
   }
 
@@ -16,40 +16,43 @@
 
 package zio.blocks.streams.queues
 
-import zio.blocks.ringbuffer.SpscRingBuffer
-
-import java.util.concurrent.locks.LockSupport
+import zio.blocks.ringbuffer.{SpscGrowableRingBuffer, WaitStrategy}
 
 /**
  * A blocking single-producer single-consumer queue.
  *
- * Backed by [[SpscRingBuffer]] for the fast path; uses [[LockSupport.park]] and
- * [[LockSupport.unpark]] for blocking when the buffer is full or empty.
+ * Backed by [[SpscGrowableRingBuffer]] for the fast path; a side that finds the
+ * buffer full or empty waits on its own [[WaitStrategy.Condition]], which the
+ * other side signals after each successful operation. The ring buffer starts at
+ * 16 slots and doubles up to the capacity only as elements pile up, so a large
+ * queue that carries a short stream stays small.
  *
- * Two separate waiter slots are maintained — `consumerWaiter` and
- * `producerWaiter` — so that each side registers in its own slot without
- * overwriting the other side's registration. A single shared slot would
- * introduce a lost-wakeup race: the producer could overwrite the consumer's
- * registration before the consumer parks, causing the consumer's park to return
- * via stale permit and then clear the producer's registration, leaving the
- * producer permanently blocked.
+ * The producer and the consumer wait on separate conditions, so a signal from
+ * one side only ever wakes the other.
  *
  * Null elements are not permitted.
  *
  * @param capacity
  *   The logical capacity. Rounded up to the next power of two internally.
+ * @param waitStrategy
+ *   How a blocked side waits; spins briefly, then parks, by default.
  */
-final class BlockingSpscQueue[A <: AnyRef](capacity: Int) {
+final class BlockingSpscQueue[A <: AnyRef](capacity: Int, waitStrategy: WaitStrategy = WaitStrategy.Parking()) {
   require(capacity >= 1, s"BlockingSpscQueue requires capacity >= 1, got: $capacity")
 
-  private val spinTries = 1024
+  private val initialCapacity = 16
+
+  private val ringBuffer: SpscGrowableRingBuffer[AnyRef] = {
+    val max = nextPowerOfTwo(capacity)
+    new SpscGrowableRingBuffer[AnyRef](Math.min(initialCapacity, max), max)
+  }
 
-  private val ringBuffer: SpscRingBuffer[AnyRef] =
-    new SpscRingBuffer[AnyRef](nextPowerOfTwo(capacity))
+  @volatile private var closed: Boolean = false
 
-  @volatile private var consumerWaiter: Thread = null
-  @volatile private var producerWaiter: Thread = null
-  @volatile private var closed: Boolean        = false
+  private val notFull: WaitStrategy.Condition  = waitStrategy.newCondition()
+  private val notEmpty: WaitStrategy.Condition = waitStrategy.newCondition()
+  private val canOffer: () => Boolean          = () => closed || !ringBuffer.isFull
+  private val canTake: () => Boolean           = () => closed || !ringBuffer.isEmpty
 
   /**
    * Offers an element to the queue, blocking until space is available or the
@@ -59,36 +62,15 @@ final class BlockingSpscQueue[A <: AnyRef](capacity: Int) {
   def offer(a: A): Boolean = {
     if (a == null) throw new NullPointerException("BlockingSpscQueue.offer(null) is not permitted")
     val element = a.asInstanceOf[AnyRef]
+    var round   = 0
     while (true) {
       if (closed) return false
       if (ringBuffer.offer(element)) {
-        val w = consumerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notEmpty.signal()
         return true
       }
-      producerWaiter = Thread.currentThread()
-      try {
-        if (closed) return false
-        if (ringBuffer.offer(element)) {
-          val w = consumerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return true
-        }
-        var spins = 0
-        while (spins < spinTries) {
-          if (closed) return false
-          if (ringBuffer.offer(element)) {
-            val w = consumerWaiter
-            if (w ne null) LockSupport.unpark(w)
-            return true
-          }
-          Thread.onSpinWait()
-          spins += 1
-        }
-        LockSupport.park(this)
-      } finally {
-        producerWaiter = null
-      }
+      notFull.await(round, canOffer)
+      round += 1
     }
     false
   }
@@ -98,73 +80,55 @@ final class BlockingSpscQueue[A <: AnyRef](capacity: Int) {
    * queue is closed. Returns the element, or `null` if closed and empty.
    */
   def take(): A = {
+    var round = 0
     while (true) {
       val e = ringBuffer.take().asInstanceOf[A]
       if (e ne null) {
-        val w = producerWaiter
-        if (w ne null) LockSupport.unpark(w)
+        notFull.signal()
         return e
       }
       // Drain-on-close: a producer may have offered + closed between our take()
       // and the closed read, so re-check the ring buffer after observing closed.
-      if (closed) {
-        val drained = ringBuffer.take().asInstanceOf[A]
-        if (drained ne null) return drained
-        return null.asInstanceOf[A]
-      }
-      consumerWaiter = Thread.currentThread()
-      try {
-        val e2 = ringBuffer.take().asInstanceOf[A]
-        if (e2 ne null) {
-          val w = producerWaiter
-          if (w ne null) LockSupport.unpark(w)
-          return e2
-        }
-        if (closed) {
-          val drained = ringBuffer.take().asInstanceOf[A]
-          if (drained ne null) return drained
-          return null.asInstanceOf[A]
-        }
-        var spins = 0
-        while (spins < spinTries) {
-          val e3 = ringBuffer.take().asInstanceOf[A]
-          if (e3 ne null) {
-            val w = producerWaiter
-            if (w ne null) LockSupport.unpark(w)
-            return e3
-          }
-          if (closed) {
-            val drained = ringBuffer.take().asInstanceOf[A]
-            if (drained ne null) return drained
-            return null.asInstanceOf[A]
-          }
-          Thread.onSpinWait()
-          spins += 1
-        }
-        LockSupport.park(this)
-      } finally {
-        consumerWaiter = null
-      }
+      if (closed) return ringBuffer.take().asInstanceOf[A]
+      notEmpty.await(round, canTake)
+      round += 1
     }
     null.asInstanceOf[A]
   }
 
   private[streams] def poll(): A = {
     val e = ringBuffer.take().asInstanceOf[A]
-    if (e ne null) {
-      val w = producerWaiter
-      if (w ne null) LockSupport.unpark(w)
-    }
+    if (e ne null) notFull.signal()
     e
   }
 
+  /**
+   * Takes an element from the queue, waiting at most `timeoutNanos` for one to
+   * arrive. Returns `null` if the wait elapsed, or if the queue is closed and
+   * empty; callers distinguish the two via [[isClosed]] and [[isEmpty]].
+   */
+  private[streams] def poll(timeoutNanos: Long): A = {
+    val deadline = System.nanoTime() + timeoutNanos
+    var round    = 0
+    while (true) {
+      val e = ringBuffer.take().asInstanceOf[A]
+      if (e ne null) {
+        notFull.signal()
+        return e
+      }
+      if (closed) return ringBuffer.take().asInstanceOf[A]
+      if (deadline - System.nanoTime() <= 0L) return null.asInstanceOf[A]
+      notEmpty.awaitUntil(round, canTake, deadline)
+      round += 1
+    }
+    null.asInstanceOf[A]
+  }
+
   /** Closes the queue, unblocking any waiting thread on either side. */
   def close(): Unit = {
     closed = true
-    val cw = consumerWaiter
-    if (cw ne null) LockSupport.unpark(cw)
-    val pw = producerWaiter
-    if (pw ne null) LockSupport.unpark(pw)
+    notEmpty.signal()
+    notFull.signal()
   }
 
   /** Whether the queue has been closed. */
@@ -173,6 +137,9 @@ final class BlockingSpscQueue[A <: AnyRef](capacity: Int) {
   /** Whether the ring buffer contains no elements. */
   def isEmpty: Boolean = ringBuffer.isEmpty
 
+  /** The number of elements currently in the ring buffer (a snapshot). */
+  def size: Int = ringBuffer.size
+
   private def nextPowerOfTwo(n: Int): Int =
     if (n <= 1) 1
     else Integer.highestOneBit(n - 1) << 1
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams
+
+import zio.blocks.chunk.Chunk
+import zio.test._
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, EOFException}
+import java.util.zip.{DeflaterOutputStream, GZIPInputStream, GZIPOutputStream, InflaterInputStream, ZipException}
+import scala.util.Try
+
+object CompressionPipelineSpec extends StreamsBaseSpec {
+
+  private val text: Array[Byte] =
+    (1 to 20000).map(i => s"line $i of a reasonably compressible input\n").mkString.getBytes("UTF-8")
+
+  private val random: Array[Byte] = {
+    val bytes = new Array[Byte](200000)
+    new scala.util.Random(7).nextBytes(bytes)
+    bytes
+  }
+
+  private def bytesOf(arr: Array[Byte]): Stream[Nothing, Byte] = Stream.fromChunk(Chunk.fromArray(arr))
+
+  private def run(s: Stream[Nothing, Byte]): Array[Byte] = s.runCollect.fold(_ => Array.empty[Byte], _.toArray)
+
+  private def jdkGzip(arr: Array[Byte]): Array[Byte] = {
+    val out = new ByteArrayOutputStream
+    val gz  = new GZIPOutputStream(out)
+    gz.write(arr)
+    gz.close()
+    out.toByteArray
+  }
+
+  private def jdkGunzip(arr: Array[Byte]): Array[Byte] = {
+    val in = new GZIPInputStream(new ByteArrayInputStream(arr))
+    try in.readAllBytes()
+    finally in.close()
+  }
+
+  private def jdkDeflate(arr: Array[Byte]): Array[Byte] = {
+    val out = new ByteArrayOutputStream
+    val d   = new DeflaterOutputStream(out)
+    d.write(arr)
+    d.close()
+    out.toByteArray
+  }
+
+  private def jdkInflate(arr: Array[Byte]): Array[Byte] = {
+    val in = new InflaterInputStream(new ByteArrayInputStream(arr))
+    try in.readAllBytes()
+    finally in.close()
+  }
+
+  def spec: Spec[TestEnvironment, Any] = suite("Compression pipelines")(
+    suite("gzip")(
+      test("output is readable by GZIPInputStream") {
+        val gz = run(bytesOf(text).via(Pipeline.gzip))
+        assertTrue(jdkGunzip(gz).sameElements(text), gz.length < text.length)
+      },
+      test("round-trips incompressible input at every level") {
+        assertTrue((0 to 9).forall { level =>
+          run(bytesOf(random).via(Pipeline.gzip(level)).via(Pipeline.gunzip)).sameElements(random)
+        })
+      },
+      test("compresses an empty stream to a valid gzip member") {
+        val gz = run(bytesOf(Array.empty[Byte]).via(Pipeline.gzip))
+        assertTrue(jdkGunzip(gz).isEmpty)
+      },
+      test("rejects an invalid level") {
+        assertTrue(Try(Pipeline.gzip(10)).isFailure)
+      }
+    ),
+    suite("gunzip")(
+      test("decompresses GZIPOutputStream output") {
+        assertTrue(run(bytesOf(jdkGzip(text)).via(Pipeline.gunzip)).sameElements(text))
+      },
+      test("decompresses concatenated members") {
+        val gz = jdkGzip("hello ".getBytes("UTF-8")) ++ jdkGzip("world".getBytes("UTF-8"))
+        assertTrue(new String(run(bytesOf(gz).via(Pipeline.gunzip)), "UTF-8") == "hello world")
+      },
+      test("fails on input that is not gzip") {
+        val result = Try(bytesOf(text).via(Pipeline.gunzip).runDrain)
+        assertTrue(result.failed.toOption.exists(_.isInstanceOf[ZipException]))
+      },
+      test("fails on truncated input") {
+        val gz     = jdkGzip(text)
+        val result = Try(bytesOf(gz.take(gz.length / 2)).via(Pipeline.gunzip).runDrain)
+        assertTrue(result.failed.toOption.exists(_.isInstanceOf[EOFException]))
+      },
+      test("fails on a corrupt trailer") {
+        val gz = jdkGzip(text)
+        gz(gz.length - 5) = (gz(gz.length - 5) ^ 0xff).toByte
+        val result = Try(bytesOf(gz).via(Pipeline.gunzip).runDrain)
+        assertTrue(result.failed.toOption.exists(_.isInstanceOf[ZipException]))
+      },
+      test("can be applied to a sink") {
+        val result = bytesOf(jdkGzip(text)).run(Pipeline.gunzip.andThenSink(Sink.count))
+        assertTrue(result == Right(text.length.toLong))
+      }
+    ),
+    suite("deflate / inflate")(
+      test("deflate output is readable by InflaterInputStream") {
+        assertTrue(jdkInflate(run(bytesOf(text).via(Pipeline.deflate))).sameElements(text))
+      },
+      test("inflate reads DeflaterOutputStream output") {
+        assertTrue(run(bytesOf(jdkDeflate(random)).via(Pipeline.inflate)).sameElements(random))
+      },
+      test("round-trips through repeated runs of the same stream") {
+        val s = bytesOf(text).via(Pipeline.deflate(9)).via(Pipeline.inflate)
+        assertTrue(run(s).sameElements(text), run(s).sameElements(text))
+      }
+    )
+  )
+}
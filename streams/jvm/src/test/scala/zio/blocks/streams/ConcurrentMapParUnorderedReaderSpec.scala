@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams
+
+import zio.ZIO
+import zio.blocks.chunk.Chunk
+import zio.durationInt
+import zio.test._
+
+object ConcurrentMapParUnorderedReaderSpec extends StreamsBaseSpec {
+
+  override def aspects: zio.Chunk[TestAspectAtLeastR[TestEnvironment]] =
+    zio.Chunk(TestAspect.timeout(90.seconds), TestAspect.timed, TestAspect.sequential)
+
+  def spec: Spec[TestEnvironment, Any] = suite("ConcurrentMapParUnorderedReader")(
+    test("Int to Int: every element is mapped exactly once") {
+      ZIO.attemptBlocking {
+        val result = Stream.range(0, 10000).mapParUnordered(4)(_ * 2).runCollect
+        assertTrue(result.map(_.sorted.toList) == Right((0 until 10000).map(_ * 2).toList))
+      }
+    },
+    test("Long to Long: reserved sentinel values are carried losslessly") {
+      ZIO.attemptBlocking {
+        val in     = Chunk(Long.MinValue, Long.MinValue + 1L, 0L, Long.MaxValue)
+        val result = Stream.fromChunk(in).mapParUnordered(2)(identity).runCollect
+        assertTrue(result.map(_.sorted.toList) == Right(in.sorted.toList))
+      }
+    },
+    test("Double to Int and Int to String cross lanes") {
+      ZIO.attemptBlocking {
+        val doubles = Stream.fromChunk(Chunk(1.5, 2.5, 3.5)).mapParUnordered(3)(_.toInt).runCollect
+        val strings = Stream.range(0, 50).mapParUnordered(4)(_.toString).runCollect
+        assertTrue(
+          doubles.map(_.sorted.toList) == Right(List(1, 2, 3)),
+          strings.map(_.toSet) == Right((0 until 50).map(_.toString).toSet)
+        )
+      }
+    },
+    test("null elements are preserved") {
+      ZIO.attemptBlocking {
+        val result = Stream.fromChunk(Chunk("a", null, "b")).mapParUnordered(3)(identity).runCollect
+        assertTrue(result.map(_.toSet) == Right(Set[String]("a", null, "b")))
+      }
+    },
+    test("error in f propagates and does not hang") {
+      ZIO.attemptBlocking {
+        val boom      = new RuntimeException("boom")
+        val attempted =
+          scala.util.Try(Stream.range(0, 1000).mapParUnordered(4)(i => if (i == 500) throw boom else i).runCollect)
+        assertTrue(attempted.failed.toOption.map(_.getMessage) == Some("boom"))
+      }
+    },
+    test("typed upstream error surfaces as Left") {
+      ZIO.attemptBlocking {
+        val result = (Stream.range(0, 100) ++ Stream.fail("bad")).mapParUnordered(4)(_ + 1).runCollect
+        assertTrue(result == Left("bad"))
+      }
+    },
+    test("a slow element does not hold up the rest of the stream") {
+      ZIO.attemptBlocking {
+        val start   = java.lang.System.nanoTime()
+        val result  = Stream
+          .range(0, 1000)
+          .mapParUnordered(4) { i => if (i == 0) Thread.sleep(10000); i }
+          .take(500)
+          .runCollect
+        val elapsed = java.lang.System.nanoTime() - start
+        assertTrue(result.map(_.length) == Right(500), !result.exists(_.contains(0)), elapsed < 8000000000L)
+      }
+    },
+    test("replays under repeated") {
+      ZIO.attemptBlocking {
+        val result = Stream.range(0, 10).mapParUnordered(2)(_ + 1).repeated.take(25).runCollect
+        assertTrue(result.map(_.length) == Right(25), result.exists(_.forall(i => i >= 1 && i <= 10)))
+      }
+    }
+  )
+}
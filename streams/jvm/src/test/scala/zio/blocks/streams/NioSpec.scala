@@ -24,6 +24,22 @@ import java.nio.channels.{Channels, Pipe}
 
 object NioSpec extends StreamsBaseSpec {
 
+  /** Which error carrier `thunk` threw: "stream", "sink" or "none". */
+  private def origin(thunk: => Any): String =
+    try {
+      thunk
+      "none"
+    } catch {
+      case _: internal.StreamError => "stream"
+      case _: internal.SinkError   => "sink"
+    }
+
+  private def tempFile(data: Array[Byte]): java.nio.file.Path = {
+    val path = java.nio.file.Files.createTempFile("zio-blocks-nio", ".bin")
+    path.toFile.deleteOnExit()
+    java.nio.file.Files.write(path, data)
+  }
+
   def spec: Spec[TestEnvironment, Any] = suite("Nio")(
     suite("NioReaders")(
       suite("ByteBufferReader (byte)")(
@@ -280,6 +296,21 @@ object NioSpec extends StreamsBaseSpec {
           dq.read[Any](null); dq.read[Any](null)
           val after = dq.isClosed
           assertTrue(before == false, after == true)
+        },
+        test("setSkip on a FileChannel seeks past the buffered bytes") {
+          val data = Array.tabulate[Byte](100)(_.toByte)
+          val fc   = java.nio.channels.FileChannel.open(tempFile(data))
+          val dq   = NioReaders.fromChannel(fc, bufSize = 8)
+          val b0   = dq.readByte()
+          val ok   = dq.setSkip(40L)
+          val b41  = dq.readByte()
+          val pos  = fc.position()
+          fc.close()
+          assertTrue(b0 == 0, ok, b41 == 41, pos == 49L)
+        },
+        test("setSkip is not supported on a non-seekable channel") {
+          val ch = Channels.newChannel(new java.io.ByteArrayInputStream(Array[Byte](1, 2, 3)))
+          assertTrue(!NioReaders.fromChannel(ch).setSkip(1L))
         }
       ),
       suite("round-trip: ByteBuffer write then read")(
@@ -614,6 +645,84 @@ object NioSpec extends StreamsBaseSpec {
           val ch     = Channels.newChannel(new java.io.ByteArrayInputStream(Array.empty[Byte]))
           val result = NioStreams.fromChannel(ch).runCollect
           assertTrue(result == Right(Chunk.empty))
+        },
+        test("checkpointed resumes a file from the committed byte offset") {
+          val data   = Array.tabulate[Byte](100)(_.toByte)
+          val path   = tempFile(data)
+          val cpPath = path.resolveSibling(s"${path.getFileName}.offset")
+          cpPath.toFile.deleteOnExit()
+          def run(n: Long) = {
+            val ch = java.nio.channels.FileChannel.open(path)
+            val cp = Checkpoint.file(cpPath)
+            NioStreams.fromChannel(ch, bufSize = 16).checkpointed(cp, every = 10L).take(n).runCollect
+          }
+          val first  = run(25L)
+          val offset = Checkpoint.file(cpPath).load()
+          val second = run(Long.MaxValue)
+          assertTrue(
+            first == Right(Chunk.fromArray(data.take(25))),
+            offset == 20L,
+            second == Right(Chunk.fromArray(data.drop(20))),
+            Checkpoint.file(cpPath).load() == 100L
+          )
+        },
+        test("Checkpoint.file reads a missing file as 0 and rejects garbage") {
+          val path    = java.nio.file.Paths.get(System.getProperty("java.io.tmpdir"), s"missing-${System.nanoTime()}")
+          val missing = Checkpoint.file(path).load()
+          val garbage = scala.util.Try(Checkpoint.file(tempFile("12x".getBytes("US-ASCII"))).load())
+          assertTrue(missing == 0L, garbage.failed.toOption.exists(_.isInstanceOf[java.io.UncheckedIOException]))
+        }
+      ),
+      suite("fromFileMapped")(
+        test("reads all bytes across several windows") {
+          val data   = Array.tabulate[Byte](1000)(i => (i % 127).toByte)
+          val path   = tempFile(data)
+          val result = NioStreams.fromFileMapped(path, chunkSize = 64).runCollect
+          assertTrue(result == Right(Chunk.fromArray(data)))
+        },
+        test("empty file yields empty stream") {
+          val result = NioStreams.fromFileMapped(tempFile(Array.empty[Byte])).runCollect
+          assertTrue(result == Right(Chunk.empty))
+        },
+        test("missing file fails with IOException") {
+          val path   = java.nio.file.Paths.get(System.getProperty("java.io.tmpdir"), s"missing-${System.nanoTime()}")
+          val result = NioStreams.fromFileMapped(path).runCollect
+          assertTrue(result.left.exists(_.isInstanceOf[java.io.IOException]))
+        },
+        test("Long windows never split an element and drop trailing bytes") {
+          val buf = ByteBuffer.allocate(8 * 100 + 3)
+          (0 until 100).foreach(i => buf.putLong(i.toLong * 1000L))
+          val result = NioStreams.fromFileMappedLong(tempFile(buf.array()), chunkSize = 60).runCollect
+          assertTrue(result == Right(Chunk.fromIterable((0 until 100).map(_.toLong * 1000L))))
+        },
+        test("Double reads honor the byte order") {
+          val buf = ByteBuffer.allocate(8 * 3).order(java.nio.ByteOrder.LITTLE_ENDIAN)
+          buf.putDouble(1.5).putDouble(Double.MaxValue).putDouble(-2.0)
+          val path   = tempFile(buf.array())
+          val result = NioStreams.fromFileMappedDouble(path, 16, java.nio.ByteOrder.LITTLE_ENDIAN).runCollect
+          assertTrue(result == Right(Chunk(1.5, Double.MaxValue, -2.0)))
+        },
+        test("drop/take are pushed down and replayed by repeated") {
+          val buf = ByteBuffer.allocate(4 * 10)
+          (0 until 10).foreach(i => buf.putInt(i))
+          val s = NioStreams.fromFileMappedInt(tempFile(buf.array()), chunkSize = 8).drop(2L).take(3L).repeated.take(5L)
+          assertTrue(s.runCollect.map(_.toList) == Right(List(2, 3, 4, 2, 3)))
+        },
+        test("NioReaders.fromFileMappedInt supports bulk reads across windows") {
+          val buf = ByteBuffer.allocate(4 * 10)
+          (0 until 10).foreach(i => buf.putInt(i))
+          val ch     = java.nio.channels.FileChannel.open(tempFile(buf.array()))
+          val reader = NioReaders.fromFileMappedInt(ch, chunkSize = 12)
+          val out    = new Array[Int](10)
+          var total  = 0
+          var n      = reader.readInts(out, 0, 10)
+          while (n > 0) {
+            total += n
+            n = reader.readInts(out, total, 10 - total)
+          }
+          reader.close()
+          ch.close()
+          assertTrue(total == 10, out.toList == (0 until 10).toList)
         }
       )
     ),
@@ -712,6 +821,65 @@ object NioSpec extends StreamsBaseSpec {
           pipe.source().close()
           assertTrue(result == Right(())) &&
           assertTrue(readBuf.position() == 0)
+        },
+        test("file-backed stream is transferred in full") {
+          val data   = Array.tabulate[Byte](100000)(i => (i * 31).toByte)
+          val in     = java.nio.channels.FileChannel.open(tempFile(data))
+          val out    = new java.io.ByteArrayOutputStream()
+          val result = NioStreams.fromChannel(in, bufSize = 16).run(NioSinks.fromChannel(Channels.newChannel(out)))
+          assertTrue(result == Right(()), !in.isOpen) &&
+          assertTrue(out.toByteArray.toList == data.toList)
+        },
+        test("file-backed stream through a close hook reaches the target unchanged") {
+          val data     = Array.tabulate[Byte](70000)(i => (i % 251).toByte)
+          val in       = java.nio.channels.FileChannel.open(tempFile(data))
+          val outPath  = tempFile(Array.emptyByteArray)
+          val outCh    = java.nio.channels.FileChannel.open(outPath, java.nio.file.StandardOpenOption.WRITE)
+          var finished = false
+          val result   = NioStreams
+            .fromChannel(in, bufSize = 32)
+            .ensuring { finished = true }
+            .run(NioSinks.fromChannel(outCh))
+          outCh.close()
+          assertTrue(result == Right(()), finished, !in.isOpen) &&
+          assertTrue(java.nio.file.Files.readAllBytes(outPath).toList == data.toList)
+        },
+        test("transfer continues after bytes were read from the channel reader") {
+          val data   = Array.tabulate[Byte](5000)(_.toByte)
+          val in     = java.nio.channels.FileChannel.open(tempFile(data))
+          val reader = NioReaders.fromChannel(in, bufSize = 64)
+          val head   = Array.fill(10)(reader.readByte().toByte)
+          val out    = new java.io.ByteArrayOutputStream()
+          val result =
+            Stream.fromReader[java.io.IOException, Byte](reader).run(NioSinks.fromChannel(Channels.newChannel(out)))
+          in.close()
+          assertTrue(result == Right(())) &&
+          assertTrue((head ++ out.toByteArray).toList == data.toList)
+        },
+        test("a failed transfer is attributed to the side that failed") {
+          val data = Array.tabulate[Byte](5000)(_.toByte)
+          val boom = new java.io.IOException("write-boom")
+
+          // The target fails while the file stays readable: a sink failure.
+          val in1     = java.nio.channels.FileChannel.open(tempFile(data))
+          val failing = new java.nio.channels.WritableByteChannel {
+            def write(src: ByteBuffer): Int = throw boom
+            def isOpen: Boolean             = true
+            def close(): Unit               = ()
+          }
+          val sinkSide = origin(new internal.ChannelReader(in1, 64).transferTo(failing))
+          in1.close()
+
+          // The file is closed under the transfer: a stream failure.
+          val in2     = java.nio.channels.FileChannel.open(tempFile(data))
+          val closing = new java.nio.channels.WritableByteChannel {
+            def write(src: ByteBuffer): Int = { in2.close(); throw boom }
+            def isOpen: Boolean             = true
+            def close(): Unit               = ()
+          }
+          val streamSide = origin(new internal.ChannelReader(in2, 64).transferTo(closing))
+
+          assertTrue(sinkSide == "sink", streamSide == "stream")
         }
       ),
       suite("round-trip: NioStreams -> NioSinks")(
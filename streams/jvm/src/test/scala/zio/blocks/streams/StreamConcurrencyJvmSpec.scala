@@ -25,6 +25,17 @@ import java.util.concurrent.locks.LockSupport
 
 object StreamConcurrencyJvmSpec extends StreamsBaseSpec {
 
+  private def ms(n: Long): scala.concurrent.duration.FiniteDuration =
+    scala.concurrent.duration.FiniteDuration(n, java.util.concurrent.TimeUnit.MILLISECONDS)
+
+  private def countingExecutor(started: AtomicInteger): StreamExecutor =
+    new StreamExecutor {
+      def execute(name: String, task: Runnable): Unit = {
+        started.incrementAndGet()
+        StreamExecutor.virtualThreads.execute(name, task)
+      }
+    }
+
   def spec: Spec[TestEnvironment, Any] = suite("Stream concurrency (JVM)")(
     suite("bufferSize")(
       test("mapPar with custom buffer size produces correct results") {
@@ -602,6 +613,121 @@ object StreamConcurrencyJvmSpec extends StreamsBaseSpec {
         } @@ TestAspect.timeout(15.seconds)
       )
     ),
+    suite("time-aware operators")(
+      test("groupedWithin emits full groups when elements arrive quickly") {
+        val result = Stream.range(0, 10).groupedWithin(3, ms(3600000L)).runCollect.map(_.map(_.toList).toList)
+        assertTrue(result == Right(List(List(0, 1, 2), List(3, 4, 5), List(6, 7, 8), List(9))))
+      },
+      test("groupedWithin flushes a partial group when the window elapses") {
+        ZIO.attemptBlocking {
+          val result = Stream
+            .range(0, 6)
+            .map { i => if (i == 3) Thread.sleep(500); i }
+            .groupedWithin(100, ms(50L))
+            .runCollect
+          assertTrue(result.map(_.map(_.toList).toList) == Right(List(List(0, 1, 2), List(3, 4, 5))))
+        }
+      } @@ TestAspect.timeout(15.seconds),
+      test("groupedWithin emits the partial group before an upstream failure") {
+        val seen   = List.newBuilder[List[Int]]
+        val result = (Stream.range(0, 3) ++ Stream.fail("boom"))
+          .groupedWithin(10, ms(3600000L))
+          .runForeach(c => seen += c.toList)
+        assertTrue(result == Left("boom"), seen.result() == List(List(0, 1, 2)))
+      },
+      test("debounce keeps only the last element of each burst") {
+        ZIO.attemptBlocking {
+          val result = Stream
+            .range(0, 6)
+            .map { i => if (i == 3) Thread.sleep(500); i }
+            .debounce(ms(100L))
+            .runCollect
+          assertTrue(result.map(_.toList) == Right(List(2, 5)))
+        }
+      } @@ TestAspect.timeout(15.seconds),
+      test("throttle delays elements beyond the burst without dropping any") {
+        ZIO.attemptBlocking {
+          val start   = java.lang.System.nanoTime()
+          val result  = Stream.range(0, 10).throttle(5L, ms(200L)).runCollect
+          val elapsed = java.lang.System.nanoTime() - start
+          assertTrue(result.map(_.toList) == Right((0 until 10).toList), elapsed >= 150000000L)
+        }
+      } @@ TestAspect.timeout(15.seconds),
+      test("timeout ends the stream when the upstream stalls") {
+        ZIO.attemptBlocking {
+          val start   = java.lang.System.nanoTime()
+          val result  = Stream
+            .range(0, 5)
+            .map { i => if (i == 3) Thread.sleep(30000); i }
+            .timeout(ms(200L))
+            .runCollect
+          val elapsed = java.lang.System.nanoTime() - start
+          assertTrue(result.map(_.toList) == Right(List(0, 1, 2)), elapsed < 10000000000L)
+        }
+      } @@ TestAspect.timeout(15.seconds),
+      test("timeout passes a prompt stream through unchanged") {
+        val result = Stream.range(0, 100).timeout(ms(3600000L)).runCollect
+        assertTrue(result.map(_.toList) == Right((0 until 100).toList))
+      }
+    ),
+    suite("onExecutor")(
+      test("mapPar starts its workers and coordinator on the installed executor") {
+        val started  = new AtomicInteger(0)
+        val executor = countingExecutor(started)
+        val result   = Stream.range(0, 100).mapPar(4)(_ * 2).onExecutor(executor).runCollect
+        assertTrue(result.map(_.toList) == Right((0 until 100).map(_ * 2).toList), started.get == 5)
+      },
+      test("inner streams of flatMapPar use the same executor") {
+        val started  = new AtomicInteger(0)
+        val executor = countingExecutor(started)
+        val result   = Stream
+          .range(0, 3)
+          .flatMapPar(2)(i => Stream(i, i).mapPar(2)(_ + 1))
+          .onExecutor(executor)
+          .runCollect
+        // 2 drainers + coordinator, then 2 workers + coordinator per inner stream.
+        assertTrue(result.map(_.toList.sorted) == Right(List(1, 1, 2, 2, 3, 3)), started.get == 12)
+      } @@ TestAspect.timeout(30.seconds),
+      test("bounded reuses its threads across streams") {
+        ZIO.attemptBlocking {
+          val executor = StreamExecutor.bounded(maxThreads = 5)
+          val names    = java.util.concurrent.ConcurrentHashMap.newKeySet[String]()
+          val results  = (1 to 3).map { _ =>
+            Stream
+              .range(0, 200)
+              .mapPar(4) { i => names.add(Thread.currentThread().getName); i }
+              .onExecutor(executor)
+              .runFold(0L)(_ + _)
+          }
+          assertTrue(
+            results.forall(_ == Right(19900L)),
+            names.size <= 5,
+            names.toArray.forall(_.toString.startsWith("zio-blocks-stream-executor-"))
+          )
+        }
+      } @@ TestAspect.timeout(30.seconds),
+      test("bounded fails a stage that needs more threads than it has and closes the upstream") {
+        ZIO.attemptBlocking {
+          var closed = false
+          val thrown =
+            try {
+              Stream
+                .range(0, 10)
+                .ensuring { closed = true }
+                .mapPar(4)(identity)
+                .onExecutor(StreamExecutor.bounded(maxThreads = 2))
+                .runCollect
+              None
+            } catch { case e: java.util.concurrent.RejectedExecutionException => Some(e) }
+          assertTrue(thrown.isDefined, closed)
+        }
+      } @@ TestAspect.timeout(30.seconds),
+      test("stages added after onExecutor keep the default executor") {
+        val started = new AtomicInteger(0)
+        val result  = Stream.range(0, 10).onExecutor(countingExecutor(started)).mapPar(2)(identity).runCollect
+        assertTrue(result.map(_.toList) == Right((0 until 10).toList), started.get == 0)
+      }
+    ),
     suite("stress")(
       test("mergeAll - 1M elements no data loss") {
         ZIO.attemptBlocking {
@@ -78,6 +78,48 @@ object StreamJvmSpec extends StreamsBaseSpec {
             })
           }
         }
+      ),
+      suite("mapAsync")(
+        test("emits in input order while calls complete out of order, at most n in flight") {
+          ZIO.attemptBlocking {
+            val scheduler   = java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
+            val inFlight    = new AtomicInteger(0)
+            val maxInFlight = new AtomicInteger(0)
+            val threads     = java.util.concurrent.ConcurrentHashMap.newKeySet[Thread]()
+            try {
+              val result = Stream
+                .range(0, 16)
+                .mapAsync(4) { i =>
+                  threads.add(Thread.currentThread())
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), (a, b) => math.max(a, b))
+                  val cf = new java.util.concurrent.CompletableFuture[Int]()
+                  val complete = new Runnable {
+                    def run(): Unit = { inFlight.decrementAndGet(); cf.complete(i * 10); () }
+                  }
+                  scheduler.schedule(complete, (16 - i).toLong * 2L, java.util.concurrent.TimeUnit.MILLISECONDS)
+                  zio.blocks.async.Async.fromCompletionStage(cf)
+                }
+                .runCollect
+              assertTrue(
+                result == Right(Chunk.fromIterable((0 until 16).map(_ * 10))),
+                maxInFlight.get() <= 4,
+                threads.size == 1
+              )
+            } finally scheduler.shutdownNow()
+          }
+        },
+        test("a failed Async fails the stream with its cause") {
+          ZIO.attemptBlocking {
+            val boom   = new RuntimeException("boom")
+            val result = scala.util.Try(
+              Stream
+                .range(0, 5)
+                .mapAsync(2)(i => if (i == 2) zio.blocks.async.Async.fail(boom) else zio.blocks.async.Async.succeed(i))
+                .runCollect
+            )
+            assertTrue(result.failed.toOption.contains(boom))
+          }
+        }
       )
     ) @@ TestAspect.timeout(60.seconds) @@ TestAspect.timed @@ TestAspect.sequential,
     suite("regressions")(
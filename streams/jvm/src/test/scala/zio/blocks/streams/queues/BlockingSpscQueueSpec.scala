@@ -17,6 +17,7 @@
 package zio.blocks.streams.queues
 
 import zio._
+import zio.blocks.ringbuffer.WaitStrategy
 import zio.blocks.streams.StreamsBaseSpec
 import zio.test._
 
@@ -243,6 +244,77 @@ object BlockingSpscQueueSpec extends StreamsBaseSpec {
           assertTrue(completed, !failed.get(), order.get(), sum.get() == expected)
         }
       } @@ TestAspect.timeout(90.seconds)
+    ),
+    suite("wait strategies")(
+      strategyTest("BusySpin", WaitStrategy.BusySpin),
+      strategyTest("SpinYield", WaitStrategy.SpinYield()),
+      strategyTest("Parking", WaitStrategy.Parking(spins = 0)),
+      strategyTest("Blocking", WaitStrategy.Blocking),
+      test("Blocking: close unblocks a consumer waiting on the condition") {
+        ZIO.attemptBlocking {
+          val q       = new BlockingSpscQueue[Integer](4, WaitStrategy.Blocking)
+          val started = new CountDownLatch(1)
+          val result  = new AtomicReference[Integer](Integer.valueOf(-1))
+          val done    = new CountDownLatch(1)
+
+          val consumer = new Thread(() => {
+            started.countDown()
+            result.set(q.take())
+            done.countDown()
+          })
+          consumer.start()
+          started.await()
+          Thread.sleep(50)
+          q.close()
+          val completed = done.await(5, TimeUnit.SECONDS)
+
+          assertTrue(completed, result.get() == null)
+        }
+      } @@ TestAspect.timeout(30.seconds)
     )
   )
+
+  private def strategyTest(name: String, strategy: WaitStrategy) =
+    test(s"$name: 100K elements through a 4-slot queue, correct order and sum") {
+      ZIO.attemptBlocking {
+        val n      = 100_000
+        val q      = new BlockingSpscQueue[Integer](4, strategy)
+        val sum    = new AtomicLong(0L)
+        val order  = new AtomicBoolean(true)
+        val done   = new CountDownLatch(2)
+        val failed = new AtomicBoolean(false)
+
+        val producer = new Thread(() => {
+          try {
+            var i = 0
+            while (i < n) {
+              q.offer(Integer.valueOf(i))
+              i += 1
+            }
+          } catch {
+            case _: Throwable => failed.set(true)
+          } finally done.countDown()
+        })
+
+        val consumer = new Thread(() => {
+          try {
+            var expected = 0
+            while (expected < n) {
+              val v = q.take()
+              if (v.intValue() != expected) order.set(false)
+              sum.addAndGet(v.longValue())
+              expected += 1
+            }
+          } catch {
+            case _: Throwable => failed.set(true)
+          } finally done.countDown()
+        })
+
+        producer.start()
+        consumer.start()
+        val completed = done.await(20, TimeUnit.SECONDS)
+
+        assertTrue(completed, !failed.get(), order.get(), sum.get() == n.toLong * (n - 1) / 2)
+      }
+    } @@ TestAspect.timeout(30.seconds)
 }
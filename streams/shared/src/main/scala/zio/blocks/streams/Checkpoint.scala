@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams
+
+/**
+ * Stores the offset of a [[Stream#checkpointed]] stream: how many of its
+ * elements have been fully processed. A restarted run resumes after that many
+ * elements instead of reprocessing them.
+ *
+ * [[commit]] is called from the thread draining the stream, never
+ * concurrently for one run.
+ */
+trait Checkpoint {
+
+  /** The last committed offset, or `0` when nothing was committed yet. */
+  def load(): Long
+
+  /** Records `offset` as the new restart point, replacing the previous one. */
+  def commit(offset: Long): Unit
+}
+
+object Checkpoint extends CheckpointPlatformSpecific {
+
+  /**
+   * A checkpoint held in memory, starting at `initial`. It survives re-running
+   * a stream, but not a restart of the process.
+   */
+  def inMemory(initial: Long = 0L): Checkpoint = {
+    require(initial >= 0L, s"inMemory requires initial >= 0, got $initial")
+    new Checkpoint {
+      @volatile private var offset: Long = initial
+      def load(): Long                   = offset
+      def commit(offset: Long): Unit     = this.offset = offset
+    }
+  }
+}
@@ -16,8 +16,10 @@
 
 package zio.blocks.streams
 
+import java.nio.charset.StandardCharsets
+
 import zio.blocks.chunk.Chunk
-import zio.blocks.streams.internal.cleanupWithPrimary
+import zio.blocks.streams.internal.{DelimitedReader, Utf8DecodeReader, cleanupWithPrimary}
 import zio.blocks.streams.io.Reader
 
 /**
@@ -53,7 +55,9 @@ abstract class Pipeline[-In, +Out] {
 
 /**
  * Companion object for [[Pipeline]]. Provides factory constructors for common
- * transformations: `map`, `filter`, `take`, `drop`, `collect`, and `identity`.
+ * transformations: `map`, `filter`, `take`, `drop`, `collect`, and `identity`,
+ * plus the byte-level compression stages `gzip`, `gunzip`, `deflate` and
+ * `inflate` and the text stages `utf8Decode`, `splitLines` and `splitOn`.
  */
 object Pipeline {
 
@@ -84,6 +88,94 @@ object Pipeline {
   /** A pipeline that passes through at most the first `n` elements. */
   def take[A](n: Long): Pipeline[A, A] = new TakePipeline(n)
 
+  /**
+   * A pipeline that compresses bytes into gzip format (RFC 1952) at the
+   * default compression level.
+   *
+   * Bytes are pulled from the upstream and handed to the compressor in blocks
+   * via `readBytes`, with no work done per byte. JVM only: on Scala.js the
+   * stream fails with an [[UnsupportedOperationException]] when it is run.
+   */
+  def gzip: Pipeline[Byte, Byte] = gzip(DefaultCompressionLevel)
+
+  /**
+   * A pipeline that compresses bytes into gzip format (RFC 1952) at `level`,
+   * from 0 (no compression) to 9 (best compression).
+   */
+  def gzip(level: Int): Pipeline[Byte, Byte] = {
+    requireLevel(level)
+    new CompressionPipeline(compress = true, gzip = true, level)
+  }
+
+  /**
+   * A pipeline that decompresses gzip-format bytes, including several
+   * concatenated gzip members. Corrupt or truncated input fails the stream
+   * with a `java.util.zip.ZipException` or `java.io.EOFException` defect. JVM
+   * only, like [[gzip]].
+   */
+  def gunzip: Pipeline[Byte, Byte] = new CompressionPipeline(compress = false, gzip = true, DefaultCompressionLevel)
+
+  /**
+   * A pipeline that compresses bytes into zlib-wrapped DEFLATE format (RFC
+   * 1950), as written by `java.util.zip.DeflaterOutputStream`, at the default
+   * compression level. JVM only, like [[gzip]].
+   */
+  def deflate: Pipeline[Byte, Byte] = deflate(DefaultCompressionLevel)
+
+  /**
+   * A pipeline that compresses bytes into zlib-wrapped DEFLATE format (RFC
+   * 1950) at `level`, from 0 (no compression) to 9 (best compression).
+   */
+  def deflate(level: Int): Pipeline[Byte, Byte] = {
+    requireLevel(level)
+    new CompressionPipeline(compress = true, gzip = false, level)
+  }
+
+  /**
+   * A pipeline that decompresses zlib-wrapped DEFLATE bytes (RFC 1950), as
+   * produced by [[deflate]]. Corrupt or truncated input fails the stream with
+   * a defect, like [[gunzip]]. JVM only, like [[gzip]].
+   */
+  def inflate: Pipeline[Byte, Byte] = new CompressionPipeline(compress = false, gzip = false, DefaultCompressionLevel)
+
+  /**
+   * A pipeline that decodes UTF-8 bytes into strings, one per block of bytes
+   * pulled from the upstream. A character split across blocks is decoded with
+   * the next block; malformed input decodes to U+FFFD.
+   */
+  def utf8Decode: Pipeline[Byte, String] = new Utf8DecodePipeline
+
+  /**
+   * A pipeline that splits UTF-8 bytes into lines ending in `"\n"` or
+   * `"\r\n"`, emitting each line without its terminator. A last line without
+   * a terminator is emitted as well.
+   *
+   * The bytes are pulled in blocks and scanned for line ends eight at a time;
+   * each line is decoded straight from the read buffer, so no string is built
+   * other than the line itself.
+   */
+  def splitLines: Pipeline[Byte, String] =
+    new DelimitedPipeline(LineFeed, stripCR = true, decodeUtf8, "splitLines")
+
+  /**
+   * Like [[splitLines]], but hands each line to `f` as a slice `(bytes, offset,
+   * length)` of the read buffer instead of decoding it, to parse lines in place
+   * without allocating a string per line. The slice is only valid during the
+   * call: `f` must copy any bytes it keeps.
+   */
+  def splitLinesWith[A](f: (Array[Byte], Int, Int) => A): Pipeline[Byte, A] =
+    new DelimitedPipeline(LineFeed, stripCR = true, f, "splitLinesWith(...)")
+
+  /**
+   * A pipeline that splits UTF-8 bytes on `delimiter` and emits the decoded
+   * text between delimiters, scanning like [[splitLines]]. A last segment
+   * after the final delimiter is emitted unless it is empty.
+   */
+  def splitOn(delimiter: String): Pipeline[Byte, String] = {
+    require(delimiter.nonEmpty, "splitOn requires a non-empty delimiter")
+    new DelimitedPipeline(delimiter.getBytes(StandardCharsets.UTF_8), stripCR = false, decodeUtf8, "splitOn(...)")
+  }
+
   /** A pipeline that buffers up to `n` elements from the upstream. */
   def buffer[A](n: Int): Pipeline[A, A] = {
     require(n >= 1, s"buffer requires n >= 1, got n=$n")
@@ -96,6 +188,20 @@ object Pipeline {
     new ChunkedPipeline(n)
   }
 
+  /** `java.util.zip.Deflater.DEFAULT_COMPRESSION`. */
+  private final val DefaultCompressionLevel = -1
+
+  private val LineFeed = Array[Byte]('\n'.toByte)
+
+  private val decodeUtf8: (Array[Byte], Int, Int) => String =
+    (bytes, offset, length) => new String(bytes, offset, length, StandardCharsets.UTF_8)
+
+  private def requireLevel(level: Int): Unit =
+    require(
+      level == DefaultCompressionLevel || (level >= 0 && level <= 9),
+      s"compression level must be between 0 and 9, got level=$level"
+    )
+
   private[streams] def runViaSink[A, B, E, Z](
     pipe: Pipeline[A, B],
     sink: Sink[E, B, Z]
@@ -129,6 +235,46 @@ object Pipeline {
     }
   }
 
+  /** Pipeline that compresses or decompresses bytes in gzip or zlib format. */
+  private[streams] final class CompressionPipeline(compress: Boolean, gzip: Boolean, level: Int)
+      extends Pipeline[Byte, Byte] {
+    def applyToStream[E](stream: Stream[E, Byte]): Stream[E, Byte] = {
+      val name = if (gzip) { if (compress) "gzip" else "gunzip" }
+      else if (compress) "deflate"
+      else "inflate"
+      new Stream.FromReader[E, Byte](
+        () => {
+          val upstream = Stream.compileToReader(stream)
+          try {
+            if (compress) Platform.createDeflateReader(upstream, level, gzip)
+            else Platform.createInflateReader(upstream, gzip)
+          } catch {
+            case t: Throwable => throw cleanupWithPrimary(t)(upstream.close())
+          }
+        },
+        s"${stream.render}.via(Pipeline.$name)"
+      )
+    }
+    def applyToSink[E, Z](sink: Sink[E, Byte, Z]): Sink[E, Byte, Z] =
+      Pipeline.runViaSink[Byte, Byte, E, Z](this, sink)
+  }
+
+  /** Pipeline that splits bytes on a delimiter and decodes each segment. */
+  private[streams] final class DelimitedPipeline[A](
+    delimiter: Array[Byte],
+    stripCR: Boolean,
+    decode: (Array[Byte], Int, Int) => A,
+    name: String
+  ) extends Pipeline[Byte, A] {
+    def applyToStream[E](stream: Stream[E, Byte]): Stream[E, A] =
+      new Stream.FromReader[E, A](
+        () => new DelimitedReader(Stream.compileToReader(stream), delimiter, stripCR, decode),
+        s"${stream.render}.via(Pipeline.$name)"
+      )
+    def applyToSink[E, Z](sink: Sink[E, A, Z]): Sink[E, Byte, Z] =
+      Pipeline.runViaSink[Byte, A, E, Z](this, sink)
+  }
+
   /** Pipeline that skips the first `n` elements. */
   private[streams] final class DropPipeline[A](n: Long) extends Pipeline[A, A] {
     def applyToStream[E](stream: Stream[E, A]): Stream[E, A] =
@@ -225,4 +371,15 @@ object Pipeline {
     def applyToSink[E, Z](sink: Sink[E, A, Z]): Sink[E, A, Z] =
       Pipeline.runViaSink[A, A, E, Z](this, sink)
   }
+
+  /** Pipeline that decodes UTF-8 bytes into strings. */
+  private[streams] final class Utf8DecodePipeline extends Pipeline[Byte, String] {
+    def applyToStream[E](stream: Stream[E, Byte]): Stream[E, String] =
+      new Stream.FromReader[E, String](
+        () => new Utf8DecodeReader(Stream.compileToReader(stream)),
+        s"${stream.render}.via(Pipeline.utf8Decode)"
+      )
+    def applyToSink[E, Z](sink: Sink[E, String, Z]): Sink[E, Byte, Z] =
+      Pipeline.runViaSink[Byte, String, E, Z](this, sink)
+  }
 }
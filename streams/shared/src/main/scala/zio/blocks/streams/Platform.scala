@@ -49,6 +49,19 @@ trait Platform {
    */
   def startVirtualThread(name: String, task: Runnable): Thread
 
+  /**
+   * The [[StreamExecutor]] concurrent stages start their tasks on: the one
+   * installed on the calling thread by [[withExecutor]], or
+   * [[StreamExecutor.virtualThreads]].
+   */
+  private[streams] def currentExecutor: StreamExecutor
+
+  /**
+   * Runs `body` with `executor` as the [[currentExecutor]] of the calling
+   * thread, restoring the previous one afterwards.
+   */
+  private[streams] def withExecutor[A](executor: StreamExecutor)(body: => A): A
+
   /**
    * Returns a [[Reader]] that buffers elements produced by `upstream` into a
    * bounded buffer of size `bufferSize`. On JVM, the producer runs on a
@@ -57,6 +70,47 @@ trait Platform {
    */
   def createBufferedReader[A](upstream: Reader[A], bufferSize: Int): Reader[A]
 
+  /**
+   * Returns a reader over `upstream` whose next element can be awaited with a
+   * deadline. On JVM, the upstream is drained by a producer thread into a
+   * bounded buffer of size `bufferSize`. On JS, reads are synchronous and
+   * never time out.
+   */
+  private[streams] def createTimedReader[A](upstream: Reader[A], bufferSize: Int): internal.TimedReader[A]
+
+  /**
+   * Blocks the calling thread for at least `nanos` nanoseconds. On JVM, parks
+   * the thread. On JS, which cannot block, busy-waits on the clock.
+   */
+  private[streams] def sleepNanos(nanos: Long): Unit
+
+  /**
+   * Drains `upstream` into every sink in `sinks` in a single pass, returning
+   * their results in order. On JVM, each sink runs on its own virtual thread
+   * behind a bounded buffer of `bufferSize` elements. On JS, the upstream is
+   * collected once and replayed to each sink in turn.
+   */
+  private[streams] def broadcastDrain(
+    upstream: Reader[_],
+    sinks: Array[Sink[Any, Any, Any]],
+    bufferSize: Int
+  ): Array[Any]
+
+  /**
+   * Returns a [[Reader]] of the bytes of `upstream` compressed with DEFLATE at
+   * `level` (0-9, or -1 for the default), in gzip format when `gzip` is `true`
+   * and zlib format otherwise. On JVM, uses `java.util.zip.Deflater`. On JS,
+   * throws [[UnsupportedOperationException]].
+   */
+  private[streams] def createDeflateReader(upstream: Reader[Byte], level: Int, gzip: Boolean): Reader[Byte]
+
+  /**
+   * Returns a [[Reader]] of the bytes of `upstream` decompressed from gzip
+   * format when `gzip` is `true` and zlib format otherwise. On JVM, uses
+   * `java.util.zip.Inflater`. On JS, throws [[UnsupportedOperationException]].
+   */
+  private[streams] def createInflateReader(upstream: Reader[Byte], gzip: Boolean): Reader[Byte]
+
   /**
    * Returns a [[Reader]] that merges elements from N inner streams produced by
    * `outerReader`, up to `maxOpen` concurrent inner streams at a time. On JVM,
@@ -77,6 +131,34 @@ trait Platform {
     inType: JvmType,
     outType: JvmType
   ): Reader[B]
+
+  /**
+   * Returns a [[Reader]] that applies `f` to each element of `upstream` using
+   * `n` concurrent workers that share one work queue, so an idle worker always
+   * takes the next pending element. On JVM, workers run on virtual threads. On
+   * JS, degrades to sequential map.
+   */
+  def createMapParUnorderedReader[A, B](
+    upstream: Reader[A],
+    n: Int,
+    f: A => B,
+    bufferSize: Int,
+    inType: JvmType,
+    outType: JvmType
+  ): Reader[B]
+
+  /**
+   * Returns a [[Reader]] that keeps up to `parallelism` of the `Async` values
+   * returned by `f` in flight and emits their results in upstream order. The
+   * reading thread polls them itself. On JVM, it parks while the oldest value
+   * is pending. On JS, which cannot block, a value that is still pending when
+   * it is needed fails the read with [[IllegalStateException]].
+   */
+  private[streams] def createMapAsyncReader[A, B](
+    upstream: Reader[A],
+    parallelism: Int,
+    f: A => zio.blocks.async.Async[B]
+  ): Reader[B]
 }
 
 object Platform extends PlatformSpecific
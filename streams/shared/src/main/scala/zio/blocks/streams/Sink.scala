@@ -59,7 +59,8 @@ abstract class Sink[+E, -A, +Z] {
  * consumers: `fail`, `create`, `drain`, `count`, `collectAll`, `foldLeft`,
  * `foreach`, `head`, `last`, `take`, `exists`, `forall`, `find`,
  * `fromOutputStream`, `fromJavaWriter`, `sumInt`, `sumLong`, `sumFloat`, and
- * `sumDouble`.
+ * `sumDouble`, plus the single-pass fan-out combinators `broadcast` and
+ * `zipPar`.
  */
 object Sink {
 
@@ -79,6 +80,26 @@ object Sink {
     }
   }
 
+  /**
+   * A sink that feeds every element to each of `sinks` in a single pass over
+   * the input, returning their results in the same order. On JVM, each sink
+   * runs on its own virtual thread behind a bounded buffer, so a slow sink
+   * holds back the input rather than letting buffered elements pile up. On
+   * JS, the input is collected once and replayed to each sink.
+   *
+   * A sink that stops early (e.g. [[head]]) stops receiving elements. The
+   * first failure of any sink fails the whole broadcast.
+   */
+  def broadcast[E, A, Z](sinks: Sink[E, A, Z]*): Sink[E, A, Chunk[Z]] = {
+    val all = sinks.asInstanceOf[Seq[Sink[Any, Any, Any]]].toArray
+    new Sink[E, A, Chunk[Z]] {
+      private[streams] def drain(reader: Reader[_]): Chunk[Z] =
+        if (all.length == 0) Chunk.empty
+        else if (all.length == 1) Chunk.single(all(0).drain(reader).asInstanceOf[Z])
+        else Chunk.fromArray(Platform.broadcastDrain(reader, all, Stream.DefaultBufferSize)).asInstanceOf[Chunk[Z]]
+    }
+  }
+
   /** A sink that collects all elements into a `Chunk`. */
   def collectAll[A]: Sink[Nothing, A, Chunk[A]] =
     new Sink[Nothing, A, Chunk[A]] {
@@ -683,6 +704,20 @@ object Sink {
       }
     }
 
+  /**
+   * A sink that feeds every element to both `left` and `right` in a single
+   * pass over the input and pairs their results. See [[broadcast]].
+   */
+  def zipPar[E, A, Z1, Z2](left: Sink[E, A, Z1], right: Sink[E, A, Z2]): Sink[E, A, (Z1, Z2)] = {
+    val both = Array(left, right).asInstanceOf[Array[Sink[Any, Any, Any]]]
+    new Sink[E, A, (Z1, Z2)] {
+      private[streams] def drain(reader: Reader[_]): (Z1, Z2) = {
+        val zs = Platform.broadcastDrain(reader, both, Stream.DefaultBufferSize)
+        (zs(0).asInstanceOf[Z1], zs(1).asInstanceOf[Z2])
+      }
+    }
+  }
+
   private def collectAllByte(reader: Reader[_]): Chunk[Byte] = {
     val b = new ChunkBuilder.Byte()
     val s = Long.MinValue; var v = reader.readInt(s)(unsafeEvidence)
@@ -719,6 +754,58 @@ object Sink {
     b.result()
   }
 
+  /** Number of elements a bulk-read drain pulls per batch. */
+  private final val BulkReadSize = 512
+
+  // Bulk-read drains for readers whose lane has a native batch loop
+  // (`Reader.hasBulkRead`): the reader fills a local array, through any
+  // stateless `map`/`filter` stages in front of it, and the fold step runs over
+  // the batch in a counted loop instead of one sentinel-checked read per
+  // element.
+  private def bulkFoldDouble(reader: Reader[_], z: Double, f: (Double, Double) => Double): Double = {
+    val buf = new Array[Double](BulkReadSize); var acc = z
+    var n   = reader.readDoubles(buf, 0, BulkReadSize)(unsafeEvidence)
+    while (n > 0) {
+      var i = 0
+      while (i < n) { acc = f(acc, buf(i)); i += 1 }
+      n = reader.readDoubles(buf, 0, BulkReadSize)(unsafeEvidence)
+    }
+    acc
+  }
+
+  private def bulkFoldFloat(reader: Reader[_], z: Double, f: (Double, Float) => Double): Double = {
+    val buf = new Array[Float](BulkReadSize); var acc = z
+    var n   = reader.readFloats(buf, 0, BulkReadSize)(unsafeEvidence)
+    while (n > 0) {
+      var i = 0
+      while (i < n) { acc = f(acc, buf(i)); i += 1 }
+      n = reader.readFloats(buf, 0, BulkReadSize)(unsafeEvidence)
+    }
+    acc
+  }
+
+  private def bulkFoldLong(reader: Reader[_], z: Long, f: (Long, Long) => Long): Long = {
+    val buf = new Array[Long](BulkReadSize); var acc = z
+    var n   = reader.readLongs(buf, 0, BulkReadSize)(unsafeEvidence)
+    while (n > 0) {
+      var i = 0
+      while (i < n) { acc = f(acc, buf(i)); i += 1 }
+      n = reader.readLongs(buf, 0, BulkReadSize)(unsafeEvidence)
+    }
+    acc
+  }
+
+  private def bulkFoldInt(reader: Reader[_], z: Int, f: (Int, Int) => Int): Int = {
+    val buf = new Array[Int](BulkReadSize); var acc = z
+    var n   = reader.readInts(buf, 0, BulkReadSize)(unsafeEvidence)
+    while (n > 0) {
+      var i = 0
+      while (i < n) { acc = f(acc, buf(i)); i += 1 }
+      n = reader.readInts(buf, 0, BulkReadSize)(unsafeEvidence)
+    }
+    acc
+  }
+
   /**
    * Creates a Sink that folds Double elements into a Double accumulator with no
    * boxing overhead.
@@ -729,6 +816,7 @@ object Sink {
     new Sink[Nothing, Double, Double] {
       private[streams] def drain(reader: Reader[_]): Double =
         if (reader.jvmType eq JvmType.Double) {
+          if (reader.hasBulkRead) return bulkFoldDouble(reader, zero, step)
           val s = Double.MaxValue; var acc = zero; var v = reader.readDouble(s)(unsafeEvidence)
           while (!doubleEOF(reader, v, s)) { acc = step(acc, v); v = reader.readDouble(s)(unsafeEvidence) }
           acc
@@ -749,6 +837,7 @@ object Sink {
     new Sink[Nothing, Float, Double] {
       private[streams] def drain(reader: Reader[_]): Double =
         if (reader.jvmType eq JvmType.Float) {
+          if (reader.hasBulkRead) return bulkFoldFloat(reader, zero, step)
           val s = Double.MaxValue; var acc = zero; var v = reader.readFloat(s)(unsafeEvidence)
           while (v != s) { acc = step(acc, v.toFloat); v = reader.readFloat(s)(unsafeEvidence) }
           acc
@@ -789,6 +878,7 @@ object Sink {
     new Sink[Nothing, Long, Long] {
       private[streams] def drain(reader: Reader[_]): Long =
         if (reader.jvmType eq JvmType.Long) {
+          if (reader.hasBulkRead) return bulkFoldLong(reader, zero, step)
           val s = Long.MaxValue; var acc = zero; var v = reader.readLong(s)(unsafeEvidence)
           while (!longEOF(reader, v, s)) { acc = step(acc, v); v = reader.readLong(s)(unsafeEvidence) }
           acc
@@ -856,13 +946,17 @@ object Sink {
       while (!longEOF(reader, v, s)) { acc = fl(acc, v); v = reader.readLong(s)(unsafeEvidence) }; acc
     }
     private def foldFloat(reader: Reader[_]): Double = {
-      val ff = f.asInstanceOf[(Double, Float) => Double]; var acc = z; val s = Double.MaxValue
-      var v  = reader.readFloat(s)(unsafeEvidence);
+      val ff = f.asInstanceOf[(Double, Float) => Double]
+      if (reader.hasBulkRead) return bulkFoldFloat(reader, z, ff)
+      var acc = z; val s = Double.MaxValue
+      var v   = reader.readFloat(s)(unsafeEvidence);
       while (v != s) { acc = ff(acc, v.toFloat); v = reader.readFloat(s)(unsafeEvidence) }; acc
     }
     private def foldDouble(reader: Reader[_]): Double = {
-      val fd = f.asInstanceOf[(Double, Double) => Double]; var acc = z; val s = Double.MaxValue
-      var v  = reader.readDouble(s)(unsafeEvidence);
+      val fd = f.asInstanceOf[(Double, Double) => Double]
+      if (reader.hasBulkRead) return bulkFoldDouble(reader, z, fd)
+      var acc = z; val s = Double.MaxValue
+      var v   = reader.readDouble(s)(unsafeEvidence);
       while (!doubleEOF(reader, v, s)) { acc = fd(acc, v); v = reader.readDouble(s)(unsafeEvidence) }; acc
     }
     private def foldByte(reader: Reader[_]): Double = {
@@ -889,8 +983,10 @@ object Sink {
       else foldGeneric(reader)
     }
     private def foldInt(reader: Reader[_]): Int = {
-      val fi = f.asInstanceOf[(Int, Int) => Int]; var acc = z; val s = Long.MinValue
-      var v  = reader.readInt(s)(unsafeEvidence);
+      val fi = f.asInstanceOf[(Int, Int) => Int]
+      if (reader.hasBulkRead) return bulkFoldInt(reader, z, fi)
+      var acc = z; val s = Long.MinValue
+      var v   = reader.readInt(s)(unsafeEvidence);
       while (v != s) { acc = fi(acc, v.toInt); v = reader.readInt(s)(unsafeEvidence) }; acc
     }
     private def foldLong(reader: Reader[_]): Int = {
@@ -942,8 +1038,10 @@ object Sink {
       else foldGeneric(reader)
     }
     private def foldLong(reader: Reader[_]): Long = {
-      val fl = f.asInstanceOf[(Long, Long) => Long]; var acc = z; val s = Long.MaxValue
-      var v  = reader.readLong(s)(unsafeEvidence);
+      val fl = f.asInstanceOf[(Long, Long) => Long]
+      if (reader.hasBulkRead) return bulkFoldLong(reader, z, fl)
+      var acc = z; val s = Long.MaxValue
+      var v   = reader.readLong(s)(unsafeEvidence);
       while (!longEOF(reader, v, s)) { acc = fl(acc, v); v = reader.readLong(s)(unsafeEvidence) }; acc
     }
     private def foldFloat(reader: Reader[_]): Long = {
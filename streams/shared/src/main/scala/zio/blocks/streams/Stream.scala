@@ -16,7 +16,10 @@
 
 package zio.blocks.streams
 
+import java.util.concurrent.atomic.AtomicReference
+
 import scala.annotation.unchecked.uncheckedVariance
+import scala.concurrent.duration.{Duration, FiniteDuration}
 import zio.blocks.chunk.Chunk
 import zio.blocks.combinators.{Concat, Tuples}
 import zio.blocks.scope.{Resource, Scope}
@@ -29,9 +32,20 @@ import zio.blocks.streams.internal.{
   longEOF,
   runBoth,
   EndOfStream,
+  CheckpointReader,
+  DebounceReader,
+  DoubleKeyedFoldReader,
+  FusedStages,
+  GroupedWithinReader,
   Interpreter,
+  LongKeyedFoldReader,
   SinkError,
   StreamError,
+  ThrottleReader,
+  TimeoutReader,
+  WindowedFoldReader,
+  ZipWithIndexReader,
+  ZipWithReader,
   pullDouble,
   pullFloat,
   pullInt,
@@ -99,6 +113,16 @@ abstract class Stream[+E, +A] {
   ): Stream[E2, A3] =
     orElse(that)
 
+  /**
+   * Runs this stream once, feeding every element to each of `sinks`, and
+   * returns their results in the same order. Use this instead of running the
+   * stream once per aggregate. See [[Sink.broadcast]].
+   */
+  def broadcast[ES, E3, Z](sinks: Sink[ES, A, Z]*)(implicit
+    errorConcat: Concat.WithOut[E @uncheckedVariance, ES, E3]
+  ): Either[E3, Chunk[Z]] =
+    run(Sink.broadcast(sinks: _*))(errorConcat)
+
   /**
    * Recovers from all errors by switching to the stream returned by `f`. The
    * original error `E` is handled and does not appear in the result; the result
@@ -157,6 +181,43 @@ abstract class Stream[+E, +A] {
       new Stream.CatchDefect[E3, A3](self0, recover, JvmType.AnyRef)
     }
 
+  /**
+   * Makes this stream resumable: each run starts after the elements whose
+   * processing `checkpoint` has recorded, and records the new offset every
+   * `every` elements and at end of stream.
+   *
+   * The offset counts elements of this stream. An offset is committed only
+   * once the consumer has pulled the element after it, so after a crash no
+   * element is lost, but up to `every` of them may be processed again.
+   * Resuming drops the committed prefix through [[drop]]. Sources that skip
+   * natively, such as `fromChunk`, `range`, `fromInputStream` (through
+   * `InputStream.skip`) and `NioStreams.fromChannel` over a
+   * `SeekableByteChannel`, then resume without reading the prefix again. Other
+   * streams are read from the start and the prefix is discarded.
+   *
+   * Place `checkpointed` right after the source and before any concurrent
+   * stage. Elements buffered by a concurrent stage count as processed as soon
+   * as they are read from this stream.
+   *
+   * {{{
+   * NioStreams
+   *   .fromChannel(FileChannel.open(log))
+   *   .checkpointed(Checkpoint.file(log.resolveSibling("log.offset")), every = 1 << 20)
+   *   .runForeach(ingest)
+   * }}}
+   */
+  def checkpointed(checkpoint: Checkpoint, every: Long): Stream[E, A] = {
+    require(every >= 1L, s"checkpointed requires every >= 1, got every=$every")
+    new Stream.FromReader[E, A](
+      () => {
+        val start = checkpoint.load()
+        val self  = if (start > 0L) drop(start) else this
+        new CheckpointReader[A](Stream.compileToReader(self), checkpoint, start, every)
+      },
+      s"${this.render}.checkpointed(...)"
+    )
+  }
+
   /** Applies a partial function, emitting only defined results. */
   def collect[B](pf: PartialFunction[A, B])(implicit jtA: JvmType.Infer[A], jtB: JvmType.Infer[B]): Stream[E, B] =
     via(Pipeline.collect(pf))
@@ -232,6 +293,26 @@ abstract class Stream[+E, +A] {
   /** Counts the number of elements. */
   def count: Either[E, Long] = run(Sink.count)
 
+  /**
+   * Emits an element only after `quiet` has passed without a newer one; each
+   * newer element replaces the pending one. The final element is emitted as
+   * soon as the stream ends.
+   *
+   * On the JVM the upstream runs on its own thread so the quiet period can
+   * elapse while the upstream is blocked. On Scala.js elements are read
+   * synchronously, so only the last of each synchronous burst survives.
+   */
+  def debounce(quiet: FiniteDuration): Stream[E, A] = {
+    require(quiet.toNanos > 0L, s"debounce requires a positive duration, got $quiet")
+    new Stream.FromReader[E, A](
+      () => {
+        val source = Platform.createTimedReader(Stream.compileToReader(this), Stream.DefaultBufferSize)
+        new DebounceReader[A](source, quiet.toNanos)
+      },
+      s"${this.render}.debounce($quiet)"
+    )
+  }
+
   /**
    * Skips the first `n` elements, then emits the rest.
    *
@@ -419,6 +500,62 @@ abstract class Stream[+E, +A] {
   /** Alias for [[chunked]]. Matches upstream naming. */
   def grouped(n: Int): Stream[E, Chunk[A]] = chunked(n)
 
+  /**
+   * Groups elements by the `Long` key computed by `f` (`Int` keys widen) for
+   * keyed aggregation; see [[Stream.GroupedByKey]]. Keys and accumulators are
+   * held unboxed in an open-addressing primitive hash map.
+   *
+   * At most `maxKeys` keys are held at once: when that many are present, the
+   * results so far are emitted and aggregation restarts with an empty map, so
+   * a key may then be emitted more than once. By default every key is held
+   * and each is emitted exactly once, when the upstream completes.
+   */
+  def groupByKey(f: A => Long, maxKeys: Int = Int.MaxValue): Stream.GroupedByKey[E, A] = {
+    require(maxKeys >= 1, s"groupByKey requires maxKeys >= 1, got maxKeys=$maxKeys")
+    new Stream.GroupedByKey(this, f, maxKeys)
+  }
+
+  /**
+   * Groups elements into event-time windows of `window`, reading each
+   * element's epoch-millisecond timestamp with `timestampOf`; see
+   * [[Stream.WindowedBy]]. Each window is aggregated incrementally, so memory
+   * is bounded by the windows still open rather than by their contents.
+   *
+   * A window is emitted once the watermark — the largest timestamp seen minus
+   * `allowedLateness` — reaches its end. Elements may arrive out of order by
+   * up to `allowedLateness`; later ones are dropped. At end of stream every
+   * open window is emitted.
+   */
+  def window(
+    window: Window,
+    timestampOf: A => Long,
+    allowedLateness: FiniteDuration = Duration.Zero
+  ): Stream.WindowedBy[E, A] = {
+    require(allowedLateness >= Duration.Zero, s"window requires allowedLateness >= 0, got $allowedLateness")
+    new Stream.WindowedBy(this, window, timestampOf, allowedLateness.toMillis)
+  }
+
+  /**
+   * Groups elements into `Chunk`s of at most `n`, emitting a group early once
+   * `within` has elapsed since its first element arrived — whichever comes
+   * first. Groups are never empty; the last group may be smaller.
+   *
+   * On the JVM the upstream runs on its own thread so a partial group is
+   * flushed on time even while the upstream is blocked. On Scala.js elements
+   * are read synchronously and the deadline is only checked between elements.
+   */
+  def groupedWithin(n: Int, within: FiniteDuration): Stream[E, Chunk[A]] = {
+    require(n >= 1, s"groupedWithin requires n >= 1, got n=$n")
+    require(within.toNanos > 0L, s"groupedWithin requires a positive duration, got $within")
+    new Stream.FromReader[E, Chunk[A]](
+      () => {
+        val source = Platform.createTimedReader(Stream.compileToReader(this), math.max(n, Stream.DefaultBufferSize))
+        new GroupedWithinReader[A](source, n, within.toNanos)
+      },
+      s"${this.render}.groupedWithin($n, $within)"
+    )
+  }
+
   /** Returns the first element, or `None` if empty. */
   def head: Either[E, Option[A]] = run(Sink.head)
 
@@ -474,6 +611,35 @@ abstract class Stream[+E, +A] {
   def map[B](f: A => B)(implicit jtA: JvmType.Infer[A], jtB: JvmType.Infer[B]): Stream[E, B] =
     new Stream.Mapped(this, f, jtA, jtB)
 
+  /**
+   * Applies the non-blocking `f` to each element, keeping up to `parallelism`
+   * of the returned `Async` values in flight, and emits their results in input
+   * order. Upstream is read ahead only while a slot is free, so a slow call
+   * backpressures the source.
+   *
+   * No thread is started per call: the thread reading this stream polls the
+   * in-flight values through their `onComplete` callbacks and, on JVM, parks
+   * while the oldest one is pending. On JS, where the reading thread cannot
+   * wait, every `Async` must settle synchronously. A failed `Async` fails the
+   * stream with its cause as a defect; recover inside `f` (e.g. with
+   * `catchAll`) to keep going.
+   *
+   * @param parallelism
+   *   maximum number of `Async` values in flight
+   * @param f
+   *   non-blocking call to make for each element
+   */
+  def mapAsync[B](parallelism: Int)(f: A => zio.blocks.async.Async[B]): Stream[E, B] = {
+    require(parallelism >= 1, s"mapAsync requires parallelism >= 1, got $parallelism")
+    val len = knownLength
+    new Stream.FromReader[E, B](
+      () => Platform.createMapAsyncReader[A, B](Stream.compileToReader(this), parallelism, f),
+      s"${this.render}.mapAsync($parallelism)"
+    ) {
+      override def knownLength: Option[Long] = len
+    }
+  }
+
   /**
    * Applies `f` to each element using `n` concurrent workers. Output is
    * UNORDERED (arrival order, not input order). On JVM, workers run on virtual
@@ -494,6 +660,27 @@ abstract class Stream[+E, +A] {
     new Stream.MapPar[E, A, B](this, n, f, jtA.jvmType, jtB.jvmType)
   }
 
+  /**
+   * Applies `f` to each element using `n` concurrent workers that take work
+   * from a single shared queue, emitting results as they complete. Unlike
+   * [[mapPar]], which deals elements to workers in turn, an idle worker always
+   * picks up the next pending element, so one slow element does not hold up
+   * the elements queued behind it. Prefer this for skewed per-element costs.
+   * On JVM, workers run on virtual threads. On JS, degrades to sequential map.
+   *
+   * @param n
+   *   number of concurrent workers
+   * @param f
+   *   transformation to apply to each element
+   */
+  def mapParUnordered[B](n: Int)(f: A => B)(implicit
+    jtA: JvmType.Infer[A],
+    jtB: JvmType.Infer[B]
+  ): Stream[E, B] = {
+    require(n >= 1, s"mapParUnordered requires n >= 1, got $n")
+    new Stream.MapParUnordered[E, A, B](this, n, f, jtA.jvmType, jtB.jvmType)
+  }
+
   /**
    * Transforms elements with a stateful function `f`, threading state `S`
    * through each step and emitting the `B` from each result.
@@ -556,6 +743,13 @@ abstract class Stream[+E, +A] {
   ): Stream[E2, A3] =
     catchAll[E2, A2, A3](_ => that)
 
+  /**
+   * Compiles this stream once into a [[Stream.Prepared]] that can be run many
+   * times. Each run rewinds the compiled reader graph with `reset()` rather
+   * than building it again, which pays off for small streams run often.
+   */
+  def prepare: Stream.Prepared[E, A] = new Stream.Prepared(this)
+
   /** Restarts this stream from the beginning each time it completes cleanly. */
   def repeated: Stream[E, A] = new Stream.Repeated(this)
 
@@ -567,37 +761,7 @@ abstract class Stream[+E, +A] {
   def run[ES, E3, Z](sink: Sink[ES, A, Z])(implicit
     errorConcat: Concat.WithOut[E @uncheckedVariance, ES, E3]
   ): Either[E3, Z] =
-    // Stream-origin typed errors propagate as `StreamError`; sink-origin typed
-    // errors (`Sink.fail`) propagate as `SinkError`. Because the two carriers
-    // are distinct types, we can tell the origin apart and project each through
-    // the correct side of `errorConcat` (left for stream, right for sink) for
-    // both the identity-like and disjoint (`Either`) cases. This is also what
-    // prevents `Sink.mapError` from ever rewriting a stream-origin error.
-    //
-    // `close()` runs with try-with-resources suppression: a close failure never
-    // discards an in-flight `drain` failure, and is itself surfaced when nothing
-    // else is in flight (Principle 4). `cleanupWithPrimary` combines via
-    // `combineFailures`, so an UNTYPED close defect WINS over an in-flight
-    // typed-error carrier: otherwise the carrier would be projected to `Left`
-    // below and the defect (which the contract says must propagate as a thrown
-    // exception) would be silently swallowed (AdversarialCleanupErrorIntegritySpec).
-    try {
-      val reader             = Stream.compileToReader(this)
-      var primary: Throwable = null
-      val z                  =
-        try sink.drain(reader)
-        catch {
-          case t: Throwable =>
-            primary = t
-            null.asInstanceOf[Z]
-        }
-      val toThrow = cleanupWithPrimary(primary)(reader.close())
-      if (toThrow ne null) throw toThrow
-      Right(z)
-    } catch {
-      case e: StreamError => Left(errorConcat.left(e.value.asInstanceOf[E]))
-      case e: SinkError   => Left(errorConcat.right(e.value.asInstanceOf[ES]))
-    }
+    Stream.runOn[E, ES, E3, A, Z](Stream.compileToReader(this), sink)
 
   /** Runs the stream and collects all elements into a `Chunk`. */
   def runCollect: Either[E, Chunk[A]] = run(Sink.collectAll)
@@ -1093,6 +1257,21 @@ abstract class Stream[+E, +A] {
     new Stream.Buffered(this, n)
   }
 
+  /**
+   * Runs the concurrent stages of this stream (`mapPar`, `mapParUnordered`,
+   * `flatMapPar`, `buffer`, ...) on `executor` instead of starting a virtual
+   * thread per task. Applies to every stage up to this point, including those
+   * in the inner streams of `flatMapPar`; stages added after it are not
+   * affected, so call it last, right before running the stream.
+   *
+   * {{{
+   * val executor = StreamExecutor.bounded(maxThreads = 32)
+   * stream.mapPar(8)(f).onExecutor(executor).runCollect
+   * }}}
+   */
+  def onExecutor(executor: StreamExecutor): Stream[E, A] =
+    new Stream.WithExecutor(this, executor)
+
   /**
    * Emits elements while `pred` holds, then closes on the first element where
    * `pred` returns `false`.
@@ -1111,10 +1290,102 @@ abstract class Stream[+E, +A] {
   def tapEach(f: A => Unit)(implicit jtA: JvmType.Infer[A]): Stream[E, A] =
     map { a => f(a); a }
 
+  /**
+   * Limits the rate to at most `elements` per `per`, delaying (never dropping)
+   * elements that would exceed it. Up to `elements` may pass in a burst after
+   * an idle period.
+   */
+  def throttle(elements: Long, per: FiniteDuration): Stream[E, A] = {
+    require(elements >= 1L, s"throttle requires elements >= 1, got elements=$elements")
+    require(per.toNanos > 0L, s"throttle requires a positive duration, got $per")
+    new Stream.FromReader[E, A](
+      () => new ThrottleReader[A](Stream.compileToReader(this), elements, per.toNanos),
+      s"${this.render}.throttle($elements, $per)"
+    )
+  }
+
+  /**
+   * Ends the stream if the upstream does not produce its next element within
+   * `after`. Elements and failures produced in time pass through unchanged.
+   *
+   * On the JVM the upstream runs on its own thread and a stalled upstream is
+   * interrupted when the stream closes. On Scala.js reads are synchronous and
+   * the timeout never fires.
+   */
+  def timeout(after: FiniteDuration): Stream[E, A] = {
+    require(after.toNanos > 0L, s"timeout requires a positive duration, got $after")
+    new Stream.FromReader[E, A](
+      () => {
+        val source = Platform.createTimedReader(Stream.compileToReader(this), Stream.DefaultBufferSize)
+        new TimeoutReader[A](source, after.toNanos)
+      },
+      s"${this.render}.timeout($after)"
+    )
+  }
+
   /** Transforms this stream by applying a [[Pipeline]]. */
   final def via[B](pipe: Pipeline[A, B]): Stream[E, B] =
     pipe.applyToStream(this)
 
+  /**
+   * Pairs elements of this stream and `that` positionally; the shorter stream
+   * determines the length. Alias for [[&&]], so nested zips flatten:
+   * `a.zip(b).zip(c)` is a stream of `(A, B, C)`.
+   */
+  def zip[E2, E3, B, C](
+    that: Stream[E2, B]
+  )(implicit
+    errorConcat: Concat.WithOut[E @uncheckedVariance, E2, E3],
+    t: Tuples.Tuples[A @uncheckedVariance, B] { type Out = C }
+  ): Stream[E3, C] =
+    this && that
+
+  /**
+   * Combines elements of this stream and `that` positionally with `f`; the
+   * shorter stream determines the length, and the other side is closed as soon
+   * as one ends.
+   *
+   * Both sides are pulled on their own lanes and no pair is built: when they
+   * carry `Int`, `Long` or `Double` elements, `f` receives them unboxed, and an
+   * `Int`, `Long` or `Double` result is emitted on its primitive lane, so
+   *
+   * {{{
+   * timestamps.zipWith(values)((t, v) => v * weight(t)).runFold(0.0)(_ + _)
+   * }}}
+   *
+   * runs without allocating per element.
+   */
+  def zipWith[E2, E3, B, C](that: Stream[E2, B])(f: (A, B) => C)(implicit
+    errorConcat: Concat.WithOut[E @uncheckedVariance, E2, E3],
+    jtC: JvmType.Infer[C]
+  ): Stream[E3, C] = {
+    val len = for { l <- knownLength; r <- that.knownLength } yield math.min(l, r)
+    new Stream.FromReader[E3, C](
+      () => {
+        val left  = Stream.compileToReader(Stream.widenErrorLeft(this.asInstanceOf[Stream[E, A]], errorConcat))
+        val right =
+          try Stream.compileToReader(Stream.widenErrorRight(that, errorConcat))
+          catch { case t: Throwable => throw cleanupWithPrimary(t)(left.close()) }
+        new ZipWithReader(left.asInstanceOf[Reader[Any]], right.asInstanceOf[Reader[Any]], f, jtC.jvmType)
+          .asInstanceOf[Reader[C]]
+      },
+      s"${this.render}.zipWith(${that.render})"
+    ) {
+      override def knownLength: Option[Long] = len
+    }
+  }
+
+  /** Pairs each element with its zero-based index. */
+  def zipWithIndex: Stream[E, (A, Long)] = {
+    val len = knownLength
+    new Stream.FromReader[E, (A, Long)](
+      () => new ZipWithIndexReader[A](Stream.compileToReader(this)),
+      s"${this.render}.zipWithIndex"
+    ) {
+      override def knownLength: Option[Long] = len
+    }
+  }
+
   /** Compiles this stream into a [[Reader]] for pull-based evaluation. */
   private[streams] def compile(depth: Int, bufferSize: Int): Reader[A]
 
@@ -1420,6 +1691,176 @@ object Stream {
   def unfold[S, A](s: S)(f: S => Option[(A, S)]): Stream[Nothing, A] =
     new FromReader(() => Reader.unfold[S, A](s)(f), "Stream.unfold(...)")
 
+  /**
+   * A stream whose elements are grouped by a `Long` key, created by
+   * [[Stream#groupByKey]]. Each aggregation emits one `(key, result)` pair per
+   * key, in no particular order.
+   *
+   * The `Long` and `Double` folds are specialized like [[Stream#runFold]]:
+   * when the upstream has an `Int`, `Long` or `Double` lane the key function
+   * and fold step are applied without boxing elements, keys or accumulators.
+   */
+  final class GroupedByKey[+E, +A] private[streams] (self: Stream[E, A], key: A => Long, maxKeys: Int) {
+
+    /** Counts the elements of each key. */
+    def count: Stream[E, (Long, Long)] = fold(0L)((n, _) => n + 1L)
+
+    /** Folds the elements of each key into a `Long`, starting from `z`. */
+    def fold(z: Long)(f: (Long, A) => Long): Stream[E, (Long, Long)] =
+      new FromReader[E, (Long, Long)](
+        () => new LongKeyedFoldReader[A](compileToReader(self), key, z, f, maxKeys),
+        s"${self.render}.groupByKey(...).fold($z)(...)"
+      )
+
+    /** Folds the elements of each key into a `Double`, starting from `z`. */
+    def fold(z: Double)(f: (Double, A) => Double): Stream[E, (Long, Double)] =
+      new FromReader[E, (Long, Double)](
+        () => new DoubleKeyedFoldReader[A](compileToReader(self), key, z, f, maxKeys),
+        s"${self.render}.groupByKey(...).fold($z)(...)"
+      )
+  }
+
+  /**
+   * A stream whose elements are assigned to event-time windows, created by
+   * [[Stream#window]]. Each aggregation emits one [[WindowResult]] per
+   * window: tumbling and sliding windows in start order as the watermark
+   * passes them, session windows as each session ends.
+   */
+  final class WindowedBy[+E, +A] private[streams] (
+    self: Stream[E, A],
+    window: Window,
+    timestampOf: A => Long,
+    lateness: Long
+  ) {
+
+    /** Counts the elements of each window. */
+    def count: Stream[E, WindowResult[Long]] = fold(0L)((n, _) => n + 1L)
+
+    /**
+     * Folds the elements of each window into a `Z`, starting from `z`. Only
+     * the accumulator of each open window is held.
+     */
+    def fold[Z](z: Z)(f: (Z, A) => Z): Stream[E, WindowResult[Z]] =
+      new FromReader[E, WindowResult[Z]](
+        () => new WindowedFoldReader[A, Z](compileToReader(self), window, timestampOf, lateness, z, f),
+        s"${self.render}.window($window, ...).fold($z)(...)"
+      )
+  }
+
+  /**
+   * Drains the reader built by `compile` into `sink` and closes it: the body of
+   * [[Stream#run]], shared with [[Prepared#run]].
+   */
+  private[streams] def runOn[E, ES, E3, A, Z](compile: => Reader[A], sink: Sink[ES, A, Z])(implicit
+    errorConcat: Concat.WithOut[E, ES, E3]
+  ): Either[E3, Z] =
+    // Stream-origin typed errors propagate as `StreamError`; sink-origin typed
+    // errors (`Sink.fail`) propagate as `SinkError`. Because the two carriers
+    // are distinct types, we can tell the origin apart and project each through
+    // the correct side of `errorConcat` (left for stream, right for sink) for
+    // both the identity-like and disjoint (`Either`) cases. This is also what
+    // prevents `Sink.mapError` from ever rewriting a stream-origin error.
+    //
+    // `close()` runs with try-with-resources suppression: a close failure never
+    // discards an in-flight `drain` failure, and is itself surfaced when nothing
+    // else is in flight (Principle 4). `cleanupWithPrimary` combines via
+    // `combineFailures`, so an UNTYPED close defect WINS over an in-flight
+    // typed-error carrier: otherwise the carrier would be projected to `Left`
+    // below and the defect (which the contract says must propagate as a thrown
+    // exception) would be silently swallowed (AdversarialCleanupErrorIntegritySpec).
+    try {
+      val reader             = compile
+      var primary: Throwable = null
+      val z                  =
+        try sink.drain(reader)
+        catch {
+          case t: Throwable =>
+            primary = t
+            null.asInstanceOf[Z]
+        }
+      val toThrow = cleanupWithPrimary(primary)(reader.close())
+      if (toThrow ne null) throw toThrow
+      Right(z)
+    } catch {
+      case e: StreamError => Left(errorConcat.left(e.value.asInstanceOf[E]))
+      case e: SinkError   => Left(errorConcat.right(e.value.asInstanceOf[ES]))
+    }
+
+  /**
+   * A stream compiled once by [[Stream#prepare]]. Each run rewinds the compiled
+   * reader graph with `reset()` instead of rebuilding it, so running a small
+   * stream many times skips the setup cost of [[Stream#run]].
+   *
+   * Runs may overlap across threads: a run takes the cached graph, or compiles
+   * a fresh one while another run holds it, and hands it back when done. A
+   * graph with a stage that cannot be reset, such as an `InputStream` source, is
+   * compiled anew for every run, as [[Stream#run]] does. So is a graph that
+   * acquires a resource while compiling (`fromAcquireRelease`,
+   * `fromResource`): `reset()` would replay it over the resource the previous
+   * run released, so each run acquires and releases its own.
+   */
+  final class Prepared[+E, +A] private[streams] (self: Stream[E, A]) {
+    private val cached             = new AtomicReference[Reader[_]](null)
+    @volatile private var reusable = true
+
+    /** Runs the prepared stream into `sink`, with the semantics of [[Stream#run]]. */
+    def run[ES, E3, Z](sink: Sink[ES, A, Z])(implicit
+      errorConcat: Concat.WithOut[E @uncheckedVariance, ES, E3]
+    ): Either[E3, Z] = {
+      var reader: Reader[A] = null
+      try runOn[E, ES, E3, A, Z]({ reader = acquire(); reader }, sink)
+      finally if ((reader ne null) && reusable) cached.set(reader)
+    }
+
+    /** Runs the prepared stream and collects all elements into a `Chunk`. */
+    def runCollect: Either[E, Chunk[A]] = run(Sink.collectAll)
+
+    /** Runs the prepared stream, discarding all elements. */
+    def runDrain: Either[E, Unit] = run(Sink.drain)
+
+    /** Runs the prepared stream, folding elements with `f` starting from `z`. */
+    def runFold[Z](z: Z)(f: (Z, A) => Z)(implicit jtZ: JvmType.Infer[Z]): Either[E, Z] = run(Sink.foldLeft(z)(f))
+
+    private def acquire(): Reader[A] = {
+      val r = cached.getAndSet(null).asInstanceOf[Reader[A]]
+      if (r eq null) compileFresh()
+      else
+        try {
+          r.reset()
+          r
+        } catch {
+          case _: UnsupportedOperationException =>
+            reusable = false
+            compileFresh()
+        }
+    }
+
+    private def compileFresh(): Reader[A] = {
+      val acquired = compileAcquisitions.get
+      val before   = acquired(0)
+      val r        = compileToReader(self)
+      if (acquired(0) != before) reusable = false
+      r
+    }
+
+    override def toString: String = s"${self.render}.prepare"
+  }
+
+  /**
+   * Per-thread count of the resources that [[FromAcquireRelease]] and
+   * [[FromResource]] acquired while compiling. [[Prepared]] compares it around
+   * a compile to tell whether the graph holds a resource; concurrent stages
+   * compile their upstream on the calling thread, so one counter suffices.
+   */
+  private val compileAcquisitions: ThreadLocal[Array[Int]] = new ThreadLocal[Array[Int]] {
+    override def initialValue(): Array[Int] = new Array[Int](1)
+  }
+
+  private def noteAcquisition(): Unit = {
+    val acquired = compileAcquisitions.get
+    acquired(0) += 1
+  }
+
   /** Compiles a stream for pull-based evaluation. */
   private[streams] def compileToReader[E, A](stream: Stream[E, A]): Reader[A] =
     stream.compile(0, Stream.DefaultBufferSize)
@@ -2021,6 +2462,17 @@ object Stream {
     override private[streams] def compile(depth: Int, bufferSize: Int): Reader[A] = inner.compile(depth, n)
   }
 
+  /** Compiles `inner` with `executor` as the platform's current executor. */
+  private[streams] final class WithExecutor[E, A](inner: Stream[E, A], executor: StreamExecutor)
+      extends Stream[E, A] {
+    def render: String                                                   = s"${inner.render}.onExecutor(...)"
+    override def knownLength: Option[Long]                               = inner.knownLength
+    private[streams] def compileInterpreter(pipeline: Interpreter): Unit =
+      Platform.withExecutor(executor)(inner.compileInterpreter(pipeline))
+    override private[streams] def compile(depth: Int, bufferSize: Int): Reader[A] =
+      Platform.withExecutor(executor)(inner.compile(depth, bufferSize))
+  }
+
   private[streams] final class MapPar[E, A, B](
     self: Stream[E, A],
     n: Int,
@@ -2043,6 +2495,29 @@ object Stream {
     }
   }
 
+  private[streams] final class MapParUnordered[E, A, B](
+    self: Stream[E, A],
+    n: Int,
+    f: A => B,
+    inType: JvmType,
+    outType: JvmType
+  ) extends Stream[E, B] {
+
+    def render: String = s"${self.render}.mapParUnordered($n)(...)"
+
+    private[streams] def compileInterpreter(pipeline: Interpreter): Unit = {
+      val upstream = compileToReader(self)
+      val par      =
+        Platform.createMapParUnorderedReader[A, B](upstream, n, f, Stream.DefaultBufferSize, inType, outType)
+      pipeline.appendRead(par)
+    }
+
+    override private[streams] def compile(depth: Int, bufferSize: Int): Reader[B] = {
+      val upstream = self.compile(depth, bufferSize)
+      Platform.createMapParUnorderedReader[A, B](upstream, n, f, bufferSize, inType, outType)
+    }
+  }
+
   private[streams] final class MergedAll[E, A](
     outerStream: Stream[E, Stream[E, A]],
     maxOpen: Int,
@@ -2084,7 +2559,7 @@ object Stream {
     override private[streams] def isSealBefore: Boolean         = true
     private[streams] def compileOp(pipeline: Interpreter): Unit =
       pipeline.wrapLastRead(src =>
-        new Reader.DelegatingReader[Any](src) {
+        new Reader.ClosingReader[Any](src) {
           // `ensuring` is a per-CLOSE hook (unlike fromAcquireRelease's
           // acquisition-bound release): under `repeated` each cycle's close
           // re-fires it ("close on transition fires during repeated cycles").
@@ -2095,7 +2570,7 @@ object Stream {
       if (depth >= Stream.DepthCutoff)
         return Interpreter.fromStream(this).asInstanceOf[Reader[A]]
       val src = self.compile(depth + 1, bufferSize)
-      new Reader.DelegatingReader[A](src) {
+      new Reader.ClosingReader[A](src) {
         // Per-CLOSE hook: see the interpreter branch above.
         override def close(): Unit = runBoth(src.close())(finalizer)
       }
@@ -2191,6 +2666,9 @@ object Stream {
           p.seal()
           p.asInstanceOf[Reader[A]]
         case r =>
+          // Conjoin with a preceding same-lane filter, or join a ref-lane run.
+          val fused = FusedStages.fuseFilter(r, inLane, pred.asInstanceOf[AnyRef])
+          if (fused ne null) return fused.asInstanceOf[Reader[A]]
           val reader = (inLane: @scala.annotation.switch) match {
             case 0 => new Reader.FilteredInt(r, pred.asInstanceOf[AnyRef])
             case 1 => new Reader.FilteredLong(r, pred.asInstanceOf[AnyRef])
@@ -2249,7 +2727,9 @@ object Stream {
           p.seal()
           p.asInstanceOf[Reader[B]]
         case r =>
-          new Reader.CollectedRef(r, pf.asInstanceOf[AnyRef], jtB.jvmType).asInstanceOf[Reader[B]]
+          val fused = FusedStages.fuseCollect(r, pf.asInstanceOf[AnyRef], jtB.jvmType)
+          if (fused ne null) fused.asInstanceOf[Reader[B]]
+          else new Reader.CollectedRef(r, pf.asInstanceOf[AnyRef], jtB.jvmType).asInstanceOf[Reader[B]]
       }
     }
   }
@@ -2329,10 +2809,11 @@ object Stream {
     def render: String                                                   = "Stream.fromAcquireRelease(...)"
     private[streams] def compileInterpreter(pipeline: Interpreter): Unit = {
       val r = acquire
+      noteAcquisition()
       try {
         use(r).compileInterpreter(pipeline)
         pipeline.wrapLastRead(src =>
-          new Reader.DelegatingReader[Any](src) {
+          new Reader.ClosingReader[Any](src) {
             // Release at most once per acquire (BUG-R7-01): reset()-driven
             // replay never re-acquires `r`.
             private var released       = false
@@ -2346,9 +2827,10 @@ object Stream {
     }
     override private[streams] def compile(depth: Int, bufferSize: Int): Reader[A] = {
       val r = acquire
+      noteAcquisition()
       try {
         val src = use(r).compile(depth, bufferSize)
-        new Reader.DelegatingReader[A](src) {
+        new Reader.ClosingReader[A](src) {
           // Release at most once per acquire (BUG-R7-01).
           private var released       = false
           override def close(): Unit = runBoth(src.close())(if (!released) { released = true; release(r) })
@@ -2442,10 +2924,11 @@ object Stream {
       val os    = Scope.global.open()
       val scope = os.scope
       val r     = scope.leak(scope.allocate(resource))
+      noteAcquisition()
       try {
         use(r).compileInterpreter(pipeline)
         pipeline.wrapLastRead(src =>
-          new Reader.DelegatingReader[Any](src) {
+          new Reader.ClosingReader[Any](src) {
             // Scope closes at most once per open (BUG-R7-01).
             private var released       = false
             override def close(): Unit = runBoth(src.close())(if (!released) { released = true; os.close() })
@@ -2460,9 +2943,10 @@ object Stream {
       val os    = Scope.global.open()
       val scope = os.scope
       val r     = scope.leak(scope.allocate(resource))
+      noteAcquisition()
       try {
         val src = use(r).compile(depth, bufferSize)
-        new Reader.DelegatingReader[A](src) {
+        new Reader.ClosingReader[A](src) {
           // Scope closes at most once per open (BUG-R7-01).
           private var released       = false
           override def close(): Unit = runBoth(src.close())(if (!released) { released = true; os.close() })
@@ -2523,9 +3007,9 @@ object Stream {
           }
       }
 
-    /** `Int`-lane fusion cases; returns `null` when none apply. */
+    /** Same-lane fusion cases; returns `null` when none apply. */
     private[this] def fuseReader(r: Reader[_], outLane: Int): Reader[B] =
-      if (outLane != Interpreter.OUT_I) null
+      if (outLane != Interpreter.OUT_I) fuseOtherLane(r, outLane)
       else
         r match {
           // Fuse `filter(Int).map(Int => Int)` into one reader: the nested
@@ -2548,6 +3032,12 @@ object Stream {
               .asInstanceOf[Reader[B]]
           case _ => null
         }
+
+    // `Long`/`Float`/`Double` maps compose like `Int` maps; ref-lane maps also
+    // fuse with a preceding ref-lane filter or collect (see `FusedStages`).
+    private[this] def fuseOtherLane(r: Reader[_], outLane: Int): Reader[B] =
+      if (Interpreter.laneOf(jtA.jvmType) != outLane) null
+      else FusedStages.fuseMap(r, outLane, f.asInstanceOf[AnyRef], jtB.jvmType).asInstanceOf[Reader[B]]
   }
 
   /** Restarts the stream on clean close. */
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package zio.blocks.streams
+
+/**
+ * Runs the background tasks of a stream's concurrent stages: the workers and
+ * coordinator of `mapPar` and `mapParUnordered`, the drainers and coordinator
+ * of `flatMapPar` and `mergeAll`, and the producer of `buffer` and of the
+ * time-aware operators.
+ *
+ * Each task lives as long as its stage and spends most of that time blocked on
+ * its neighbours, so an executor must start every task it accepts right away:
+ * a task left queued behind running ones can stall the stream for good. An
+ * executor that cannot take another task should throw from [[execute]] (e.g.
+ * `java.util.concurrent.RejectedExecutionException`), which fails the stream
+ * as it starts.
+ *
+ * Streams use [[StreamExecutor.virtualThreads]] unless another executor is
+ * installed with [[Stream.onExecutor]].
+ */
+trait StreamExecutor {
+
+  /**
+   * Runs `task` asynchronously. `name` identifies the stage the task belongs
+   * to and may be used to name a dedicated thread.
+   */
+  def execute(name: String, task: Runnable): Unit
+}
+
+object StreamExecutor extends StreamExecutorPlatformSpecific {
+
+  /**
+   * Starts a new thread for every task: a virtual thread on JDK 21+, a daemon
+   * platform thread otherwise. The default. On Scala.js, where streams never
+   * start tasks, it throws [[UnsupportedOperationException]].
+   */
+  val virtualThreads: StreamExecutor = new StreamExecutor {
+    def execute(name: String, task: Runnable): Unit = {
+      Platform.startVirtualThread(name, task)
+      ()
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams
+
+import scala.concurrent.duration.FiniteDuration
+
+/**
+ * How [[Stream#window]] assigns elements to event-time windows. Timestamps are
+ * read as epoch milliseconds and durations are truncated to milliseconds.
+ */
+sealed trait Window
+
+/**
+ * Fixed, non-overlapping windows of `size`, aligned to multiples of `size`
+ * since the epoch. Each element belongs to exactly one window.
+ */
+final case class TumblingWindow(size: FiniteDuration) extends Window {
+  require(size.toMillis >= 1L, s"TumblingWindow requires size >= 1ms, got $size")
+}
+
+/**
+ * Windows of `size` starting every `slide`, aligned to multiples of `slide`
+ * since the epoch. When `slide < size` windows overlap and an element belongs
+ * to several of them; when `slide > size` elements between windows belong to
+ * none.
+ */
+final case class SlidingWindow(size: FiniteDuration, slide: FiniteDuration) extends Window {
+  require(size.toMillis >= 1L, s"SlidingWindow requires size >= 1ms, got $size")
+  require(slide.toMillis >= 1L, s"SlidingWindow requires slide >= 1ms, got $slide")
+}
+
+/**
+ * Activity sessions: a window spans consecutive elements less than `gap`
+ * apart and ends `gap` after its last element.
+ */
+final case class SessionWindow(gap: FiniteDuration) extends Window {
+  require(gap.toMillis >= 1L, s"SessionWindow requires gap >= 1ms, got $gap")
+}
+
+/**
+ * The aggregate of one event-time window, covering timestamps from `start`
+ * (inclusive) to `end` (exclusive).
+ */
+final case class WindowResult[+Z](start: Long, end: Long, value: Z)
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.{Checkpoint, JvmType}
+import zio.blocks.streams.io.Reader
+
+/**
+ * Passes `upstream` through unchanged while counting its elements, and commits
+ * `start` plus that count to `checkpoint` once at least `every` elements have
+ * been emitted since the last commit, and at end of stream.
+ *
+ * A commit happens when the consumer pulls again, so it only covers elements
+ * the consumer has finished with: a failure while processing an element
+ * leaves that element uncommitted, and a restart processes it again. Nothing
+ * is committed on `close`, which also runs after a failure.
+ *
+ * Every lane is forwarded, so primitive and byte streams stay unboxed; bulk
+ * byte reads count every byte of the batch.
+ */
+private[streams] final class CheckpointReader[A](
+  upstream: Reader[A],
+  checkpoint: Checkpoint,
+  start: Long,
+  every: Long
+) extends Reader[A] {
+  private var emitted: Long   = 0L
+  private var committed: Long = 0L
+
+  override def jvmType: JvmType        = upstream.jvmType
+  def isClosed: Boolean                = upstream.isClosed
+  override def readable(): Boolean     = upstream.readable()
+  override def lastReadWasEOF: Boolean = upstream.lastReadWasEOF
+
+  private def beforePull(): Unit = if (emitted - committed >= every) commit()
+
+  private def atEnd(): Unit = if (emitted != committed) commit()
+
+  private def commit(): Unit = {
+    checkpoint.commit(start + emitted)
+    committed = emitted
+  }
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    beforePull()
+    val v = upstream.read[Any](EndOfStream)
+    if (v.asInstanceOf[AnyRef] eq EndOfStream) { atEnd(); sentinel }
+    else { emitted += 1; v.asInstanceOf[A1] }
+  }
+
+  override def readInt(sentinel: Long)(implicit ev: A <:< Int): Long = {
+    beforePull()
+    val v = upstream.readInt(sentinel)(unsafeEvidence)
+    if (v == sentinel) atEnd() else emitted += 1
+    v
+  }
+
+  override def readLong(sentinel: Long)(implicit ev: A <:< Long): Long = {
+    beforePull()
+    val v = upstream.readLong(sentinel)(unsafeEvidence)
+    if (longEOF(upstream, v, sentinel)) atEnd() else emitted += 1
+    v
+  }
+
+  override def readFloat(sentinel: Double)(implicit ev: A <:< Float): Double = {
+    beforePull()
+    val v = upstream.readFloat(sentinel)(unsafeEvidence)
+    if (v == sentinel) atEnd() else emitted += 1
+    v
+  }
+
+  override def readDouble(sentinel: Double)(implicit ev: A <:< Double): Double = {
+    beforePull()
+    val v = upstream.readDouble(sentinel)(unsafeEvidence)
+    if (doubleEOF(upstream, v, sentinel)) atEnd() else emitted += 1
+    v
+  }
+
+  override def readByte(): Int = {
+    beforePull()
+    val b = upstream.readByte()
+    if (b < 0) atEnd() else emitted += 1
+    b
+  }
+
+  override def readBytes(buf: Array[Byte], offset: Int, len: Int)(implicit ev: A <:< Byte): Int = {
+    beforePull()
+    val n = upstream.readBytes(buf, offset, len)(unsafeEvidence)
+    if (n < 0) atEnd() else emitted += n
+    n
+  }
+
+  def close(): Unit = upstream.close()
+
+  override def reset(): Unit = {
+    upstream.reset()
+    emitted = 0L
+    committed = 0L
+  }
+}
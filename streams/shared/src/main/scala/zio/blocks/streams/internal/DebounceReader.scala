@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * Emits an element only once `quietNanos` have passed without a newer one
+ * arriving; each newer element replaces the held one and restarts the wait.
+ * When the upstream ends, the held element is emitted immediately.
+ *
+ * Arrival is observed by the consumer, so elements that queued up while the
+ * downstream was busy count as one burst. A failure raised while an element is
+ * held is deferred until that element has been emitted.
+ */
+private[streams] final class DebounceReader[A](upstream: TimedReader[A], quietNanos: Long) extends Reader[A] {
+  private var done: Boolean           = false
+  private var pendingError: Throwable = null
+
+  def isClosed: Boolean = done && (pendingError eq null)
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    val err = pendingError
+    if (err ne null) {
+      pendingError = null
+      throw err
+    }
+    if (done) return sentinel
+    val first = upstream.read[Any](EndOfStream)
+    if (first.asInstanceOf[AnyRef] eq EndOfStream) {
+      done = true
+      return sentinel
+    }
+    var held     = first
+    var deadline = System.nanoTime() + quietNanos
+    while (true) {
+      val remaining = deadline - System.nanoTime()
+      val v =
+        if (remaining <= 0L) TimedReader.TimedOut
+        else
+          try upstream.readWithin(remaining)
+          catch {
+            case t: Throwable =>
+              pendingError = t
+              EndOfStream
+          }
+      val r = v.asInstanceOf[AnyRef]
+      if ((r eq TimedReader.TimedOut) || (r eq EndOfStream)) {
+        if (r eq EndOfStream) done = true
+        return held.asInstanceOf[A1]
+      }
+      held = v
+      deadline = System.nanoTime() + quietNanos
+    }
+    sentinel
+  }
+
+  def close(): Unit = {
+    done = true
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    upstream.reset()
+    done = false
+    pendingError = null
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * Splits the bytes of `upstream` on `delimiter` and emits `decode` of each
+ * segment, without the delimiter. With `stripCR`, a `'\r'` just before the
+ * delimiter is dropped as well, so `"\r\n"` line endings split like `"\n"`.
+ *
+ * Bytes are pulled in blocks via `readBytes` into one buffer, which doubles
+ * when a segment outgrows it, and scanned for the delimiter's first byte eight
+ * bytes at a time (see [[DelimitedReader.indexOf]]). `decode` receives each
+ * segment as a slice of that buffer, valid only for the duration of the call.
+ * A segment after the last delimiter is emitted unless it is empty.
+ * Single-threaded; not safe for concurrent use.
+ */
+private[streams] final class DelimitedReader[A](
+  upstream: Reader[Byte],
+  delimiter: Array[Byte],
+  stripCR: Boolean,
+  decode: (Array[Byte], Int, Int) => A
+) extends Reader[A] {
+  private var buf          = new Array[Byte](DelimitedReader.BufferSize)
+  private var start        = 0 // first byte of the current segment
+  private var scan         = 0 // where the delimiter search resumes
+  private var lim          = 0
+  private var upstreamDone = false
+  private var closed       = false
+
+  def isClosed: Boolean = closed || (upstreamDone && start >= lim)
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    if (closed) return sentinel
+    val first = delimiter(0)
+    val dlen  = delimiter.length
+    while (true) {
+      val i = DelimitedReader.indexOf(buf, first, scan, lim)
+      if (i >= 0 && i + dlen <= lim) {
+        if (matchesAt(i)) {
+          var end = i
+          if (stripCR && end > start && buf(end - 1) == '\r'.toByte) end -= 1
+          val a = decode(buf, start, end - start)
+          start = i + dlen
+          scan = start
+          return a
+        }
+        scan = i + 1
+      } else {
+        // Not found, or only the start of the delimiter is buffered.
+        scan = if (i < 0) lim else i
+        if (!fill()) {
+          if (start >= lim) return sentinel
+          val a = decode(buf, start, lim - start)
+          start = lim
+          return a
+        }
+      }
+    }
+    sentinel // unreachable
+  }
+
+  private def matchesAt(i: Int): Boolean = {
+    var k = 1
+    while (k < delimiter.length) {
+      if (buf(i + k) != delimiter(k)) return false
+      k += 1
+    }
+    true
+  }
+
+  /**
+   * Appends the next block of the upstream, first moving the current segment
+   * to the front of the buffer or growing it when the segment fills it.
+   * Returns `false` at the end of the upstream.
+   */
+  private def fill(): Boolean = {
+    if (upstreamDone) return false
+    if (start > 0) {
+      val n = lim - start
+      System.arraycopy(buf, start, buf, 0, n)
+      scan -= start
+      lim = n
+      start = 0
+    } else if (lim == buf.length) buf = java.util.Arrays.copyOf(buf, buf.length * 2)
+    val n = upstream.readBytes(buf, lim, buf.length - lim)
+    if (n <= 0) {
+      upstreamDone = true
+      false
+    } else {
+      lim += n
+      true
+    }
+  }
+
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      start = lim
+      upstream.close()
+    }
+
+  override def reset(): Unit = {
+    upstream.reset()
+    start = 0
+    scan = 0
+    lim = 0
+    upstreamDone = false
+    closed = false
+  }
+}
+
+private[streams] object DelimitedReader {
+  final val BufferSize = 8192
+
+  private final val Ones  = 0x0101010101010101L
+  private final val Highs = 0x8080808080808080L
+
+  /**
+   * The index of the first `b` in `buf` from `from` (inclusive) to `to`
+   * (exclusive), or -1.
+   *
+   * Tests eight bytes per step: XOR with `b` repeated in every byte zeroes the
+   * bytes equal to `b`, and `(w - Ones) & ~w & Highs` sets the high bit of the
+   * lowest zero byte (higher ones may be false positives, but only above a true
+   * zero). Words are read little-endian, so the lowest byte is the first.
+   */
+  def indexOf(buf: Array[Byte], b: Byte, from: Int, to: Int): Int = {
+    val pattern = (b & 0xffL) * Ones
+    var i       = from
+    while (i + 8 <= to) {
+      val w = ByteArrayAccess.getLong(buf, i) ^ pattern
+      val t = (w - Ones) & ~w & Highs
+      if (t != 0L) return i + (java.lang.Long.numberOfTrailingZeros(t) >>> 3)
+      i += 8
+    }
+    while (i < to) {
+      if (buf(i) == b) return i
+      i += 1
+    }
+    -1
+  }
+}
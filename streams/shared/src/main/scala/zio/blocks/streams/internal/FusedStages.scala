@@ -0,0 +1,314 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+import java.util.Arrays
+
+/**
+ * Fusion of adjacent `map`, `filter` and `collect` stages (and `tapEach`, which
+ * is a `map`) that share a lane into a single function.
+ *
+ * The [[Interpreter]] dispatches every op through its tag `switch`, and a
+ * shallow chain of N stages is N nested readers whose virtual `read` chain
+ * HotSpot stops inlining after a few levels. Fusing a run of stages leaves ONE
+ * op (or one reader) that applies them in a local loop:
+ *   - same-lane `map`s compose into a `Composed*` function (`Int` reuses
+ *     [[Reader.composeIntInt]]);
+ *   - same-lane `filter`s conjoin into an `AllOf*` predicate, short-circuiting
+ *     in stage order;
+ *   - on the ref lane, where elements are already boxed, maps, filters and
+ *     collects may interleave: the run becomes a [[RefStages]] that returns
+ *     [[Skip]] for a rejected element. The interpreter follows it with a
+ *     [[NotSkipped]] filter op; readers use [[Reader.FusedRef]].
+ *
+ * The primitive function classes extend the specialized `Function1` shapes, so
+ * fused primitive stages never box. Application order and exceptions are those
+ * of the unfused chain.
+ *
+ * A fused run holds at most [[MaxStages]] functions; fusing into a full run
+ * returns `null` and the caller starts a new op. This keeps fusing a very deep
+ * chain linear rather than quadratic in its length.
+ */
+private[streams] object FusedStages {
+
+  /** Maximum number of stages folded into one fused function. */
+  final val MaxStages = 64
+
+  final val MapStage     = 0
+  final val FilterStage  = 1
+  final val CollectStage = 2
+
+  /** Result of a [[RefStages]] run for an element one of its stages rejected. */
+  val Skip: AnyRef = new AnyRef
+
+  /** Ref-lane filter op following a [[RefStages]] map op that can skip. */
+  val NotSkipped: AnyRef => Boolean = (v: AnyRef) => v ne Skip
+
+  /**
+   * Fuses `g` into the op function `f` when both are stages of op tag `tag` (a
+   * same-lane map or a filter). Returns `null` when `tag` does not fuse or `f`
+   * is already a full run.
+   */
+  def fuse(tag: OpTag, f: AnyRef, g: AnyRef): AnyRef =
+    if (tag == OpTag.MAP_II)
+      f match {
+        case c: Reader.ComposedIntArray if c.fns.length >= MaxStages => null
+        case _                                                       => Reader.composeIntInt(f, g)
+      }
+    else if (tag == OpTag.MAP_RR) refRun(f, MapStage).appended(g, MapStage)
+    else {
+      val fns = chain(tag, f, g)
+      if (fns eq null) null
+      else
+        tag match {
+          case OpTag.MAP_LL   => new ComposedLong(fns)
+          case OpTag.MAP_FF   => new ComposedFloat(fns)
+          case OpTag.MAP_DD   => new ComposedDouble(fns)
+          case OpTag.FILTER_I => new AllOfInt(fns)
+          case OpTag.FILTER_L => new AllOfLong(fns)
+          case OpTag.FILTER_F => new AllOfFloat(fns)
+          case OpTag.FILTER_D => new AllOfDouble(fns)
+          case OpTag.FILTER_R => new AllOfRef(fns)
+          case _              => null
+        }
+    }
+
+  /** `f` as a ref-lane run: itself if it is a map-stage run, else one stage. */
+  def refRun(f: AnyRef, kind: Int): RefStages = f match {
+    case r: RefStages if kind == MapStage => r
+    case _                                => new RefStages(Array[AnyRef](f), Array[Int](kind))
+  }
+
+  /** The ref-lane stage kind of an interpreter op tag (`MAP_RR` or `FILTER_R`). */
+  def kindOf(tag: OpTag): Int = if (tag == OpTag.MAP_RR) MapStage else FilterStage
+
+  /**
+   * Fuses `map(f)` into a directly preceding same-lane map reader `r` (`Long`,
+   * `Float`, `Double` or ref lane; `Int` is fused by `Stream.Mapped`). Returns
+   * `null` when `r` is not such a reader or its run is full.
+   */
+  def fuseMap(r: Reader[_], lane: Lane, f: AnyRef, outType: JvmType): Reader[_] =
+    if (lane == Interpreter.LANE_R) fuseRef(r, MapStage, f, outType)
+    else {
+      val prev = r match {
+        case m: Reader.MappedLong if lane == Interpreter.LANE_L && (m.outType eq JvmType.Long)     => m.f
+        case m: Reader.MappedFloat if lane == Interpreter.LANE_F && (m.outType eq JvmType.Float)   => m.f
+        case m: Reader.MappedDouble if lane == Interpreter.LANE_D && (m.outType eq JvmType.Double) => m.f
+        case _                                                                                     => null
+      }
+      val fused = if (prev eq null) null else fuse(OpTag.mapTag(lane, lane), prev, f)
+      if (fused eq null) null
+      else {
+        val source = r.asInstanceOf[Reader.WrappedReader].source
+        if (lane == Interpreter.LANE_L) new Reader.MappedLong(source, fused, JvmType.Long)
+        else if (lane == Interpreter.LANE_F) new Reader.MappedFloat(source, fused, JvmType.Float)
+        else new Reader.MappedDouble(source, fused, JvmType.Double)
+      }
+    }
+
+  /**
+   * Fuses `filter(pred)` into a directly preceding filter reader on the same
+   * lane, or into any ref-lane map, filter or collect reader. Returns `null`
+   * when `r` is not such a reader or its run is full.
+   */
+  def fuseFilter(r: Reader[_], lane: Lane, pred: AnyRef): Reader[_] =
+    if (lane == Interpreter.LANE_R) fuseRef(r, FilterStage, pred, JvmType.AnyRef)
+    else {
+      val prev = r match {
+        case fr: Reader.FilteredInt if lane == Interpreter.LANE_I    => fr.pred
+        case fr: Reader.FilteredLong if lane == Interpreter.LANE_L   => fr.pred
+        case fr: Reader.FilteredFloat if lane == Interpreter.LANE_F  => fr.pred
+        case fr: Reader.FilteredDouble if lane == Interpreter.LANE_D => fr.pred
+        case _                                                       => null
+      }
+      val fused = if (prev eq null) null else fuse(OpTag.filterTag(lane), prev, pred)
+      if (fused eq null) null
+      else {
+        val source = r.asInstanceOf[Reader.WrappedReader].source
+        (lane: @scala.annotation.switch) match {
+          case 0 => new Reader.FilteredInt(source, fused)
+          case 1 => new Reader.FilteredLong(source, fused)
+          case 2 => new Reader.FilteredFloat(source, fused)
+          case _ => new Reader.FilteredDouble(source, fused)
+        }
+      }
+    }
+
+  /**
+   * Fuses `collect(pf)` with a ref-lane output type into a directly preceding
+   * ref-lane map, filter or collect reader. Returns `null` when `r` is not such
+   * a reader or its run is full.
+   */
+  def fuseCollect(r: Reader[_], pf: AnyRef, outType: JvmType): Reader[_] =
+    if (isRefLane(outType)) fuseRef(r, CollectStage, pf, outType) else null
+
+  private def fuseRef(r: Reader[_], kind: Int, fn: AnyRef, outType: JvmType): Reader[_] = {
+    val run = r match {
+      case m: Reader.MappedRef if isRefLane(m.outType)    => refRun(m.f, MapStage)
+      case fr: Reader.FilteredRef                         => refRun(fr.pred, FilterStage)
+      case c: Reader.CollectedRef if isRefLane(c.outType) => refRun(c.pf, CollectStage)
+      case fr: Reader.FusedRef                            => fr.run
+      case _                                              => null
+    }
+    val fused = if (run eq null) null else run.appended(fn, kind)
+    if (fused eq null) null
+    else {
+      val source = r.asInstanceOf[Reader.WrappedReader].source
+      if (fused.skips) new Reader.FusedRef(source, fused) else new Reader.MappedRef(source, fused, outType)
+    }
+  }
+
+  private def isRefLane(t: JvmType): Boolean = Interpreter.outLaneOf(t) == Interpreter.OUT_R
+
+  /** The stage array of `f` extended by `g`, or `null` if `f` is a full run. */
+  private def chain(tag: OpTag, f: AnyRef, g: AnyRef): Array[AnyRef] = f match {
+    case s: Stages if s.tag == tag =>
+      val n = s.fns.length
+      if (n >= MaxStages) null
+      else {
+        val arr = Arrays.copyOf(s.fns, n + 1)
+        arr(n) = g
+        arr
+      }
+    case _ => Array[AnyRef](f, g)
+  }
+
+  /** A fused run of same-lane stages, applied in array order. */
+  sealed abstract class Stages(val fns: Array[AnyRef]) {
+
+    /** The interpreter op tag every stage of the run has. */
+    def tag: OpTag
+  }
+
+  final class ComposedLong(stages: Array[AnyRef]) extends Stages(stages) with (Long => Long) {
+    def tag: OpTag = OpTag.MAP_LL
+    def apply(l: Long): Long = {
+      val a = fns; var v = l; var i = 0
+      while (i < a.length) { v = a(i).asInstanceOf[Long => Long](v); i += 1 }
+      v
+    }
+  }
+
+  final class ComposedFloat(stages: Array[AnyRef]) extends Stages(stages) with (Float => Float) {
+    def tag: OpTag = OpTag.MAP_FF
+    def apply(f: Float): Float = {
+      val a = fns; var v = f; var i = 0
+      while (i < a.length) { v = a(i).asInstanceOf[Float => Float](v); i += 1 }
+      v
+    }
+  }
+
+  final class ComposedDouble(stages: Array[AnyRef]) extends Stages(stages) with (Double => Double) {
+    def tag: OpTag = OpTag.MAP_DD
+    def apply(d: Double): Double = {
+      val a = fns; var v = d; var i = 0
+      while (i < a.length) { v = a(i).asInstanceOf[Double => Double](v); i += 1 }
+      v
+    }
+  }
+
+  final class AllOfInt(stages: Array[AnyRef]) extends Stages(stages) with (Int => Boolean) {
+    def tag: OpTag = OpTag.FILTER_I
+    def apply(v: Int): Boolean = {
+      val a = fns; var i = 0
+      while (i < a.length) { if (!a(i).asInstanceOf[Int => Boolean](v)) return false; i += 1 }
+      true
+    }
+  }
+
+  final class AllOfLong(stages: Array[AnyRef]) extends Stages(stages) with (Long => Boolean) {
+    def tag: OpTag = OpTag.FILTER_L
+    def apply(v: Long): Boolean = {
+      val a = fns; var i = 0
+      while (i < a.length) { if (!a(i).asInstanceOf[Long => Boolean](v)) return false; i += 1 }
+      true
+    }
+  }
+
+  final class AllOfFloat(stages: Array[AnyRef]) extends Stages(stages) with (Float => Boolean) {
+    def tag: OpTag = OpTag.FILTER_F
+    def apply(v: Float): Boolean = {
+      val a = fns; var i = 0
+      while (i < a.length) { if (!a(i).asInstanceOf[Float => Boolean](v)) return false; i += 1 }
+      true
+    }
+  }
+
+  final class AllOfDouble(stages: Array[AnyRef]) extends Stages(stages) with (Double => Boolean) {
+    def tag: OpTag = OpTag.FILTER_D
+    def apply(v: Double): Boolean = {
+      val a = fns; var i = 0
+      while (i < a.length) { if (!a(i).asInstanceOf[Double => Boolean](v)) return false; i += 1 }
+      true
+    }
+  }
+
+  final class AllOfRef(stages: Array[AnyRef]) extends Stages(stages) with (AnyRef => Boolean) {
+    def tag: OpTag = OpTag.FILTER_R
+    def apply(v: AnyRef): Boolean = {
+      val a = fns; var i = 0
+      while (i < a.length) { if (!a(i).asInstanceOf[AnyRef => Boolean](v)) return false; i += 1 }
+      true
+    }
+  }
+
+  /**
+   * A fused run of ref-lane stages: `kinds(i)` says whether `fns(i)` is a map,
+   * a filter predicate or a collect partial function. Returns [[Skip]] as soon
+   * as a filter rejects the element or a collect is not defined at it.
+   */
+  final class RefStages(val fns: Array[AnyRef], val kinds: Array[Int]) extends (AnyRef => AnyRef) {
+
+    /** Whether the run can reject elements (it has a filter or collect stage). */
+    val skips: Boolean = {
+      var i = 0
+      while (i < kinds.length && kinds(i) == MapStage) i += 1
+      i < kinds.length
+    }
+
+    def apply(a: AnyRef): AnyRef = {
+      val fs = fns; val ks = kinds; var v = a; var i = 0
+      while (i < fs.length) {
+        (ks(i): @scala.annotation.switch) match {
+          case 0 => v = fs(i).asInstanceOf[AnyRef => AnyRef](v)
+          case 1 => if (!fs(i).asInstanceOf[AnyRef => Boolean](v)) return Skip
+          case _ =>
+            v = fs(i).asInstanceOf[PartialFunction[AnyRef, AnyRef]].applyOrElse(v, Reader.CollectedRef.fallback)
+            if (v eq Reader.CollectedRef.sentinel) return Skip
+        }
+        i += 1
+      }
+      v
+    }
+
+    /** This run followed by one more stage, or `null` if the run is full. */
+    def appended(fn: AnyRef, kind: Int): RefStages = {
+      val n = fns.length
+      if (n >= MaxStages) null
+      else {
+        val fs = Arrays.copyOf(fns, n + 1)
+        val ks = Arrays.copyOf(kinds, n + 1)
+        fs(n) = fn
+        ks(n) = kind
+        new RefStages(fs, ks)
+      }
+    }
+  }
+}
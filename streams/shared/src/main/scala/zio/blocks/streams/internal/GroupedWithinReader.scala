@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.chunk.{Chunk, ChunkBuilder}
+import zio.blocks.streams.io.Reader
+
+/**
+ * Groups elements into chunks of at most `n`, emitting a group early once
+ * `windowNanos` have elapsed since its first element arrived.
+ *
+ * The first element of each group is awaited without a deadline, so no empty
+ * groups are ever emitted. A failure raised after part of a group has been
+ * collected is deferred: the partial group is emitted first and the failure
+ * surfaces on the next read, matching `buffer`'s drain-before-fail contract.
+ */
+private[streams] final class GroupedWithinReader[A](upstream: TimedReader[A], n: Int, windowNanos: Long)
+    extends Reader[Chunk[A]] {
+  private var done: Boolean           = false
+  private var pendingError: Throwable = null
+
+  def isClosed: Boolean = done && (pendingError eq null)
+
+  def read[A1 >: Chunk[A]](sentinel: A1): A1 = {
+    val err = pendingError
+    if (err ne null) {
+      pendingError = null
+      throw err
+    }
+    if (done) return sentinel
+    val first = upstream.read[Any](EndOfStream)
+    if (first.asInstanceOf[AnyRef] eq EndOfStream) {
+      done = true
+      return sentinel
+    }
+    if (n == 1) return Chunk.single(first.asInstanceOf[A])
+    val deadline = System.nanoTime() + windowNanos
+    val b        = ChunkBuilder.make[A](math.min(n, 16))
+    b += first.asInstanceOf[A]
+    var count = 1
+    while (count < n) {
+      val remaining = deadline - System.nanoTime()
+      val v =
+        if (remaining <= 0L) TimedReader.TimedOut
+        else
+          try upstream.readWithin(remaining)
+          catch {
+            case t: Throwable =>
+              pendingError = t
+              done = true
+              EndOfStream
+          }
+      val r = v.asInstanceOf[AnyRef]
+      if (r eq TimedReader.TimedOut) count = n
+      else if (r eq EndOfStream) {
+        done = true
+        count = n
+      } else {
+        b += v.asInstanceOf[A]
+        count += 1
+      }
+    }
+    b.result()
+  }
+
+  def close(): Unit = {
+    done = true
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    upstream.reset()
+    done = false
+    pendingError = null
+  }
+}
@@ -795,6 +795,7 @@ final class Interpreter private[internal] () extends Reader[Any] {
    */
   private def reconcileLane(inLane: Lane): Unit =
     if (outputLane != inLane) {
+      lastStageIdx = -1
       val tag = bridgeTag(outputLane, inLane).toLong
       val fn  = bridgeFn(outputLane, inLane)
       if (afterPush) {
@@ -811,33 +812,71 @@ final class Interpreter private[internal] () extends Reader[Any] {
 
   private[streams] def addFilter[A](inLane: Lane)(f: A => Boolean): Unit = {
     reconcileLane(inLane)
-    val tag = OpTag.filterTag(inLane).toLong
+    val tag = OpTag.filterTag(inLane)
     val fn  = f.asInstanceOf[AnyRef]
-    if (afterPush) {
-      val idx = ensureOutgoing()
-      outgoingPrim(idx) = tag; outgoingRef(idx) = fn
-      state = StreamState.withOutgoingLen(state, idx + 1)
-    } else {
-      val idx = ensureIncoming()
-      incomingPrim(idx) = tag; incomingRef(idx) = fn
-      state = StreamState.withIncomingLen(state, idx + 1)
-    }
+    if (!fuseWithLast(tag, fn)) lastStageIdx = appendStage(tag, fn)
   }
 
   private[streams] def addMap[A, B](inLane: Lane, outLane: Lane)(f: A => B): Unit = {
     reconcileLane(inLane)
-    val tag = OpTag.mapTag(inLane, outLane).toLong
+    val tag = OpTag.mapTag(inLane, outLane)
     val fn  = f.asInstanceOf[AnyRef]
+    if (!fuseWithLast(tag, fn)) lastStageIdx = appendStage(tag, fn)
+    outputLane = OpTag.storageLaneOfMapTag(tag)
+  }
+
+  // Appends a map/filter op to the current stage (the outgoing array after a
+  // push), returning its index.
+  private def appendStage(tag: Int, fn: AnyRef): Int =
     if (afterPush) {
       val idx = ensureOutgoing()
-      outgoingPrim(idx) = tag; outgoingRef(idx) = fn
+      outgoingPrim(idx) = tag.toLong; outgoingRef(idx) = fn
       state = StreamState.withOutgoingLen(state, idx + 1)
+      idx
     } else {
       val idx = ensureIncoming()
-      incomingPrim(idx) = tag; incomingRef(idx) = fn
+      incomingPrim(idx) = tag.toLong; incomingRef(idx) = fn
       state = StreamState.withIncomingLen(state, idx + 1)
+      idx
     }
-    outputLane = OpTag.storageLaneOfMapTag(tag.toInt)
+
+  // Index of the op the previous `addMap`/`addFilter` appended, or -1 once any
+  // other op (read, push, lane bridge) was appended since. Only that op may
+  // absorb the next map/filter: this keeps fusion inside one compile of one
+  // stage, so an inner stream compiled by `handlePush` never fuses into an outer
+  // op that happens to end the outgoing array.
+  private var lastStageIdx: Int = -1
+
+  // Stage fusion (see `FusedStages`): folds a map/filter into the op appended
+  // just before it when both are same-lane stages, instead of giving it a slot
+  // of its own. A long run then costs one dispatch per element instead of one
+  // per stage. Ref-lane runs may mix maps and filters: they become ONE map op
+  // holding a `RefStages` run followed by ONE `NotSkipped` filter op. Returns
+  // `false` when the op must be appended.
+  private def fuseWithLast(tag: Int, fn: AnyRef): Boolean = {
+    val out = afterPush
+    val idx = (if (out) outgoingLen else incomingLen) - 1
+    if (idx < 0 || idx != lastStageIdx) return false
+    val prim    = if (out) outgoingPrim else incomingPrim
+    val refs    = if (out) outgoingRef else incomingRef
+    val lastTag = (prim(idx) & 0xff).toInt
+    val last    = refs(idx)
+    val isRef   = tag == OpTag.MAP_RR || tag == OpTag.FILTER_R
+    if (isRef && (last eq FusedStages.NotSkipped)) {
+      val run = refs(idx - 1).asInstanceOf[FusedStages.RefStages].appended(fn, FusedStages.kindOf(tag))
+      if (run ne null) refs(idx - 1) = run
+      run ne null
+    } else if (lastTag == tag) {
+      val fused = FusedStages.fuse(tag, last, fn)
+      if (fused ne null) refs(idx) = fused
+      fused ne null
+    } else if (isRef && (lastTag == OpTag.MAP_RR || lastTag == OpTag.FILTER_R)) {
+      val run = FusedStages.refRun(last, FusedStages.kindOf(lastTag)).appended(fn, FusedStages.kindOf(tag))
+      if (run eq null) return false
+      prim(idx) = OpTag.MAP_RR.toLong; refs(idx) = run
+      lastStageIdx = appendStage(OpTag.FILTER_R, FusedStages.NotSkipped)
+      true
+    } else false
   }
 
   // A push (flatMap) op carries TWO lanes: the input lane (`inLane`, packed as
@@ -850,6 +889,7 @@ final class Interpreter private[internal] () extends Reader[Any] {
   // overflows the 13-bit op-index fields — see compileInterpreterSegmented).
   private[streams] def addPush[A](inLane: Lane, outLane: Lane)(f: A => Any): Unit = {
     reconcileLane(inLane)
+    lastStageIdx = -1
     val tag = OpTag.pushTag(inLane).toLong | (outLane.toLong << 8)
     val fn  = f.asInstanceOf[AnyRef]
     if (afterPush) {
@@ -865,6 +905,7 @@ final class Interpreter private[internal] () extends Reader[Any] {
   }
 
   private[streams] def appendRead(reader: Reader[_]): Unit = {
+    lastStageIdx = -1
     val lane = laneOf(reader.jvmType)
     val idx  = ensureIncoming()
     incomingPrim(idx) = OpTag.readTag(lane).toLong
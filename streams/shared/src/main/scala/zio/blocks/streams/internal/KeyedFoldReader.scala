@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+/**
+ * Folds the upstream per `Long` key into a [[LongLongHashMap]], then emits one
+ * `(key, accumulator)` pair per key, in no particular order.
+ *
+ * Ingestion pauses as soon as the map holds `maxKeys` keys: the pairs gathered
+ * so far are emitted (a partial flush), the map is cleared, and folding resumes
+ * from `z`. A key may therefore be emitted more than once when `maxKeys` is
+ * smaller than the number of distinct keys.
+ *
+ * The upstream is pulled on its `Int`, `Long` or `Double` lane when it has one,
+ * so `key` and `f` are applied without boxing the element.
+ */
+private[streams] final class LongKeyedFoldReader[A](
+  source: Reader[A],
+  key: A => Long,
+  z: Long,
+  f: (Long, A) => Long,
+  maxKeys: Int
+) extends Reader[(Long, Long)] {
+  private val map               = new LongLongHashMap(math.min(maxKeys, 64))
+  private var done: Boolean     = false
+  private var draining: Boolean = false
+  private var cursor: Int       = 0
+
+  def isClosed: Boolean = done && !draining
+
+  def read[A1 >: (Long, Long)](sentinel: A1): A1 = {
+    while (true) {
+      if (draining) {
+        val cap = map.capacity
+        while (cursor < cap && !map.isUsed(cursor)) cursor += 1
+        if (cursor < cap) {
+          val i = cursor
+          cursor += 1
+          return (map.keyAt(i), map.valueAt(i))
+        }
+        map.clear()
+        draining = false
+      }
+      if (done) return sentinel
+      fill()
+      draining = true
+      cursor = 0
+    }
+    sentinel
+  }
+
+  private def fill(): Unit = {
+    val et = source.jvmType
+    if (et eq JvmType.Int) fillInt()
+    else if (et eq JvmType.Long) fillLong()
+    else if (et eq JvmType.Double) fillDouble()
+    else fillGeneric()
+  }
+
+  private def fillInt(): Unit = {
+    val k = key.asInstanceOf[Int => Long]; val g = f.asInstanceOf[(Long, Int) => Long]; val s = Long.MinValue
+    while (map.size < maxKeys) {
+      val v = source.readInt(s)(unsafeEvidence)
+      if (v == s) { done = true; return }
+      val e = v.toInt
+      val i = map.slotOf(k(e), z)
+      map.setValueAt(i, g(map.valueAt(i), e))
+    }
+  }
+
+  private def fillLong(): Unit = {
+    val k = key.asInstanceOf[Long => Long]; val g = f.asInstanceOf[(Long, Long) => Long]; val s = Long.MaxValue
+    while (map.size < maxKeys) {
+      val v = source.readLong(s)(unsafeEvidence)
+      if (longEOF(source, v, s)) { done = true; return }
+      val i = map.slotOf(k(v), z)
+      map.setValueAt(i, g(map.valueAt(i), v))
+    }
+  }
+
+  private def fillDouble(): Unit = {
+    val k = key.asInstanceOf[Double => Long]; val g = f.asInstanceOf[(Long, Double) => Long]; val s = Double.MaxValue
+    while (map.size < maxKeys) {
+      val v = source.readDouble(s)(unsafeEvidence)
+      if (doubleEOF(source, v, s)) { done = true; return }
+      val i = map.slotOf(k(v), z)
+      map.setValueAt(i, g(map.valueAt(i), v))
+    }
+  }
+
+  private def fillGeneric(): Unit =
+    while (map.size < maxKeys) {
+      val v = source.read[Any](EndOfStream)
+      if (v.asInstanceOf[AnyRef] eq EndOfStream) { done = true; return }
+      val e = v.asInstanceOf[A]
+      val i = map.slotOf(key(e), z)
+      map.setValueAt(i, f(map.valueAt(i), e))
+    }
+
+  def close(): Unit = {
+    done = true
+    draining = false
+    map.clear()
+    source.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    source.reset()
+    map.clear()
+    done = false
+    draining = false
+    cursor = 0
+  }
+}
+
+/**
+ * [[LongKeyedFoldReader]] with a `Double` accumulator, backed by a
+ * [[LongDoubleHashMap]].
+ */
+private[streams] final class DoubleKeyedFoldReader[A](
+  source: Reader[A],
+  key: A => Long,
+  z: Double,
+  f: (Double, A) => Double,
+  maxKeys: Int
+) extends Reader[(Long, Double)] {
+  private val map               = new LongDoubleHashMap(math.min(maxKeys, 64))
+  private var done: Boolean     = false
+  private var draining: Boolean = false
+  private var cursor: Int       = 0
+
+  def isClosed: Boolean = done && !draining
+
+  def read[A1 >: (Long, Double)](sentinel: A1): A1 = {
+    while (true) {
+      if (draining) {
+        val cap = map.capacity
+        while (cursor < cap && !map.isUsed(cursor)) cursor += 1
+        if (cursor < cap) {
+          val i = cursor
+          cursor += 1
+          return (map.keyAt(i), map.valueAt(i))
+        }
+        map.clear()
+        draining = false
+      }
+      if (done) return sentinel
+      fill()
+      draining = true
+      cursor = 0
+    }
+    sentinel
+  }
+
+  private def fill(): Unit = {
+    val et = source.jvmType
+    if (et eq JvmType.Int) fillInt()
+    else if (et eq JvmType.Long) fillLong()
+    else if (et eq JvmType.Double) fillDouble()
+    else fillGeneric()
+  }
+
+  private def fillInt(): Unit = {
+    val k = key.asInstanceOf[Int => Long]; val g = f.asInstanceOf[(Double, Int) => Double]; val s = Long.MinValue
+    while (map.size < maxKeys) {
+      val v = source.readInt(s)(unsafeEvidence)
+      if (v == s) { done = true; return }
+      val e = v.toInt
+      val i = map.slotOf(k(e), z)
+      map.setValueAt(i, g(map.valueAt(i), e))
+    }
+  }
+
+  private def fillLong(): Unit = {
+    val k = key.asInstanceOf[Long => Long]; val g = f.asInstanceOf[(Double, Long) => Double]; val s = Long.MaxValue
+    while (map.size < maxKeys) {
+      val v = source.readLong(s)(unsafeEvidence)
+      if (longEOF(source, v, s)) { done = true; return }
+      val i = map.slotOf(k(v), z)
+      map.setValueAt(i, g(map.valueAt(i), v))
+    }
+  }
+
+  private def fillDouble(): Unit = {
+    val k = key.asInstanceOf[Double => Long]; val g = f.asInstanceOf[(Double, Double) => Double]
+    val s = Double.MaxValue
+    while (map.size < maxKeys) {
+      val v = source.readDouble(s)(unsafeEvidence)
+      if (doubleEOF(source, v, s)) { done = true; return }
+      val i = map.slotOf(k(v), z)
+      map.setValueAt(i, g(map.valueAt(i), v))
+    }
+  }
+
+  private def fillGeneric(): Unit =
+    while (map.size < maxKeys) {
+      val v = source.read[Any](EndOfStream)
+      if (v.asInstanceOf[AnyRef] eq EndOfStream) { done = true; return }
+      val e = v.asInstanceOf[A]
+      val i = map.slotOf(key(e), z)
+      map.setValueAt(i, f(map.valueAt(i), e))
+    }
+
+  def close(): Unit = {
+    done = true
+    draining = false
+    map.clear()
+    source.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    source.reset()
+    map.clear()
+    done = false
+    draining = false
+    cursor = 0
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+/**
+ * An open-addressing hash map from `Long` keys to `Double` values, with no
+ * boxing on either side. Same layout and contract as [[LongLongHashMap]].
+ */
+private[streams] final class LongDoubleHashMap(initialCapacity: Int) {
+  private var bits: Int            = LongLongHashMap.bitsFor(initialCapacity)
+  private var keys: Array[Long]    = new Array[Long](1 << bits)
+  private var vals: Array[Double]  = new Array[Double](1 << bits)
+  private var used: Array[Boolean] = new Array[Boolean](1 << bits)
+  private var count: Int           = 0
+
+  /** The number of keys in the map. */
+  def size: Int = count
+
+  /** The number of slots; valid slot indices are `0 until capacity`. */
+  def capacity: Int = keys.length
+
+  /**
+   * Returns the slot holding `key`, first inserting it with value `z` if it
+   * is absent.
+   */
+  def slotOf(key: Long, z: Double): Int = {
+    var i = LongLongHashMap.hash(key, bits)
+    val m = keys.length - 1
+    while (used(i)) {
+      if (keys(i) == key) return i
+      i = (i + 1) & m
+    }
+    if (count >= (keys.length >> 1)) {
+      grow()
+      slotOf(key, z)
+    } else {
+      used(i) = true
+      keys(i) = key
+      vals(i) = z
+      count += 1
+      i
+    }
+  }
+
+  def isUsed(slot: Int): Boolean = used(slot)
+
+  def keyAt(slot: Int): Long = keys(slot)
+
+  def valueAt(slot: Int): Double = vals(slot)
+
+  def setValueAt(slot: Int, v: Double): Unit = vals(slot) = v
+
+  /** Removes every entry, keeping the current table size. */
+  def clear(): Unit =
+    if (count > 0) {
+      java.util.Arrays.fill(used, false)
+      count = 0
+    }
+
+  private def grow(): Unit = {
+    val oldKeys = keys
+    val oldVals = vals
+    val oldUsed = used
+    bits += 1
+    keys = new Array[Long](1 << bits)
+    vals = new Array[Double](1 << bits)
+    used = new Array[Boolean](1 << bits)
+    val m = keys.length - 1
+    var j = 0
+    while (j < oldKeys.length) {
+      if (oldUsed(j)) {
+        var i = LongLongHashMap.hash(oldKeys(j), bits)
+        while (used(i)) i = (i + 1) & m
+        used(i) = true
+        keys(i) = oldKeys(j)
+        vals(i) = oldVals(j)
+      }
+      j += 1
+    }
+  }
+}
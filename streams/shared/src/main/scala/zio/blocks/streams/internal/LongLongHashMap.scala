@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+/**
+ * An open-addressing hash map from `Long` keys to `Long` values, with no
+ * boxing on either side.
+ *
+ * Slots are probed linearly from a Fibonacci hash of the key; occupancy is
+ * tracked separately, so every `Long` (including `0`) is a valid key. The
+ * table doubles once it is half full. Entries are never removed individually;
+ * [[clear]] empties the whole map.
+ *
+ * Callers address values by slot: [[slotOf]] returns the slot holding a key,
+ * inserting it first if necessary, and that slot stays valid until the next
+ * insertion.
+ */
+private[streams] final class LongLongHashMap(initialCapacity: Int) {
+  private var bits: Int            = LongLongHashMap.bitsFor(initialCapacity)
+  private var keys: Array[Long]    = new Array[Long](1 << bits)
+  private var vals: Array[Long]    = new Array[Long](1 << bits)
+  private var used: Array[Boolean] = new Array[Boolean](1 << bits)
+  private var count: Int           = 0
+
+  /** The number of keys in the map. */
+  def size: Int = count
+
+  /** The number of slots; valid slot indices are `0 until capacity`. */
+  def capacity: Int = keys.length
+
+  /**
+   * Returns the slot holding `key`, first inserting it with value `z` if it
+   * is absent.
+   */
+  def slotOf(key: Long, z: Long): Int = {
+    var i = LongLongHashMap.hash(key, bits)
+    val m = keys.length - 1
+    while (used(i)) {
+      if (keys(i) == key) return i
+      i = (i + 1) & m
+    }
+    if (count >= (keys.length >> 1)) {
+      grow()
+      slotOf(key, z)
+    } else {
+      used(i) = true
+      keys(i) = key
+      vals(i) = z
+      count += 1
+      i
+    }
+  }
+
+  def isUsed(slot: Int): Boolean = used(slot)
+
+  def keyAt(slot: Int): Long = keys(slot)
+
+  def valueAt(slot: Int): Long = vals(slot)
+
+  def setValueAt(slot: Int, v: Long): Unit = vals(slot) = v
+
+  /** Removes every entry, keeping the current table size. */
+  def clear(): Unit =
+    if (count > 0) {
+      java.util.Arrays.fill(used, false)
+      count = 0
+    }
+
+  private def grow(): Unit = {
+    val oldKeys = keys
+    val oldVals = vals
+    val oldUsed = used
+    bits += 1
+    keys = new Array[Long](1 << bits)
+    vals = new Array[Long](1 << bits)
+    used = new Array[Boolean](1 << bits)
+    val m = keys.length - 1
+    var j = 0
+    while (j < oldKeys.length) {
+      if (oldUsed(j)) {
+        var i = LongLongHashMap.hash(oldKeys(j), bits)
+        while (used(i)) i = (i + 1) & m
+        used(i) = true
+        keys(i) = oldKeys(j)
+        vals(i) = oldVals(j)
+      }
+      j += 1
+    }
+  }
+}
+
+private[streams] object LongLongHashMap {
+
+  /** The smallest table size exponent holding `n` keys at half load. */
+  private[internal] def bitsFor(n: Int): Int = {
+    var b = 4
+    while (b < 30 && (1 << (b - 1)) < n) b += 1
+    b
+  }
+
+  /**
+   * Fibonacci hashing: multiplying by 2^64 / φ spreads sequential keys across
+   * the table, and the top `bits` bits of the product select the slot.
+   */
+  @inline private[internal] def hash(key: Long, bits: Int): Int =
+    ((key * 0x9e3779b97f4a7c15L) >>> (64 - bits)).toInt
+}
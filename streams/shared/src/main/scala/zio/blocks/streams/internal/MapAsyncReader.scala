@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import java.util.concurrent.atomic.AtomicBoolean
+
+import zio.blocks.async._
+import zio.blocks.streams.io.Reader
+
+/**
+ * Applies `f` to each element of `upstream` and emits the results of the
+ * returned [[zio.blocks.async.Async]] values in upstream order, keeping up to
+ * `parallelism` of them in flight.
+ *
+ * No thread is started: the consumer drives every in-flight value itself
+ * through the [[zio.blocks.async.Pollable]] protocol. Each slot owns a waker
+ * that the value's `onComplete` sets, and only woken slots are polled again,
+ * so a pending call costs nothing until it makes progress. The consumer blocks
+ * in [[await]] only when the oldest value is still pending and no slot is
+ * woken.
+ *
+ * A failed value is rethrown from the read that would have emitted it. On
+ * `close`, values still in flight are abandoned.
+ */
+private[streams] abstract class MapAsyncReader[A, B](upstream: Reader[A], parallelism: Int, f: A => Async[B])
+    extends Reader[B] {
+
+  // Ring of in-flight slots: `states(i)` is the pending pollable or, once
+  // `done(i)`, the settled `Either[Throwable, B]`.
+  private val states       = new Array[Any](parallelism)
+  private val done         = new Array[Boolean](parallelism)
+  private val wakers       = Array.fill(parallelism)(new Waker)
+  private var head         = 0
+  private var count        = 0
+  private var upstreamDone = false
+  private var closed       = false
+
+  /** Per-slot `onComplete`: marks the slot woken and wakes the consumer. */
+  private final class Waker extends AtomicBoolean with Runnable {
+    def run(): Unit = {
+      set(true)
+      signal()
+    }
+  }
+
+  /** Called from a waker after it is set; must unblock a pending [[await]]. */
+  protected def signal(): Unit
+
+  /**
+   * Blocks until [[anyWoken]] may have become true. Returns immediately if a
+   * slot is already woken.
+   */
+  protected def await(): Unit
+
+  protected final def anyWoken: Boolean = {
+    var k = 0
+    while (k < count) {
+      val i = (head + k) % parallelism
+      if (!done(i) && wakers(i).get()) return true
+      k += 1
+    }
+    false
+  }
+
+  def isClosed: Boolean = closed || (upstreamDone && count == 0)
+
+  def read[B1 >: B](sentinel: B1): B1 = {
+    if (closed) return sentinel
+    fill()
+    if (count == 0) return sentinel
+    while (!done(head)) {
+      pollWoken()
+      if (!done(head)) await()
+    }
+    val r = states(head)
+    states(head) = null
+    done(head) = false
+    head = (head + 1) % parallelism
+    count -= 1
+    r.asInstanceOf[Either[Throwable, B]] match {
+      case Right(b) => b
+      case Left(t)  => throw t
+    }
+  }
+
+  private def fill(): Unit =
+    while (count < parallelism && !upstreamDone) {
+      val a = upstream.read[Any](EndOfStream)
+      if (a.asInstanceOf[AnyRef] eq EndOfStream) upstreamDone = true
+      else {
+        val i = (head + count) % parallelism
+        count += 1
+        wakers(i).set(false)
+        done(i) = false
+        drive(i, f(a.asInstanceOf[A]).either)
+      }
+    }
+
+  private def pollWoken(): Unit = {
+    var k = 0
+    while (k < count) {
+      val i = (head + k) % parallelism
+      if (!done(i) && wakers(i).get()) drive(i, states(i))
+      k += 1
+    }
+  }
+
+  // Polls slot `i` until it settles or suspends without its waker having fired
+  // meanwhile. A pollable may hand back a replacement, so the next poll always
+  // targets the last result.
+  private def drive(i: Int, initial: Any): Unit = {
+    var s = initial
+    while (isPending(s)) {
+      val w = wakers(i)
+      w.set(false)
+      s =
+        try s.asInstanceOf[Pollable[Any]].poll(w)
+        catch { case t: Throwable => Left(t) }
+      if (isPending(s) && !w.get()) {
+        states(i) = s
+        return
+      }
+    }
+    states(i) = s match {
+      case fl: Failure => Left(fl.cause)
+      case other       => other
+    }
+    done(i) = true
+  }
+
+  private def isPending(s: Any): Boolean = s.isInstanceOf[Pollable[_]] && !s.isInstanceOf[Failure]
+
+  private def clear(): Unit = {
+    java.util.Arrays.fill(states.asInstanceOf[Array[AnyRef]], null)
+    java.util.Arrays.fill(done, false)
+    head = 0
+    count = 0
+  }
+
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      clear()
+      upstream.close()
+    }
+
+  override def reset(): Unit = {
+    upstream.reset()
+    clear()
+    upstreamDone = false
+    closed = false
+  }
+}
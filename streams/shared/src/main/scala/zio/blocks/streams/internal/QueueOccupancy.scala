@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+/**
+ * A reader that hands elements between threads through bounded queues (the
+ * JVM `buffer`, merge and `mapPar` readers), so its queue depth can be
+ * sampled by stream instrumentation.
+ */
+private[streams] trait QueueOccupancy {
+
+  /**
+   * The number of elements currently held in this reader's queues. Other
+   * threads keep offering and taking, so this is a racy snapshot; call it from
+   * the consuming thread only.
+   */
+  def queuedCount: Int
+}
+
+private[streams] object QueueOccupancy {
+
+  /** Sums `size` over `queues`, treating a `null` array as empty. */
+  def sum[Q <: AnyRef](queues: Array[Q])(size: Q => Int): Int =
+    if (queues eq null) 0
+    else {
+      var total = 0
+      var i     = 0
+      while (i < queues.length) {
+        total += size(queues(i))
+        i += 1
+      }
+      total
+    }
+}
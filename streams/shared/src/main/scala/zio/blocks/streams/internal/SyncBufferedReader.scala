@@ -26,14 +26,14 @@ import zio.blocks.streams.io.Reader
  * Used on Scala.js where true concurrency is not available. Refills the
  * internal buffer lazily (only when exhausted). Elements are read using the
  * generic AnyRef lane (boxing is acceptable since no concurrency benefit exists
- * on JS).
+ * on JS). It never times out in [[readWithin]].
  *
  * @param upstream
  *   the source reader
  * @param bufferSize
  *   maximum elements to prefetch per fill
  */
-private[streams] final class SyncBufferedReader[A](upstream: Reader[A], bufferSize: Int) extends Reader[A] {
+private[streams] final class SyncBufferedReader[A](upstream: Reader[A], bufferSize: Int) extends TimedReader[A] {
   private val buf: Array[AnyRef] = new Array[AnyRef](bufferSize)
   private var pos: Int           = 0
   private var limit: Int         = 0
@@ -87,6 +87,10 @@ private[streams] final class SyncBufferedReader[A](upstream: Reader[A], bufferSi
       }
     }
 
+  // Reads are synchronous, so there is nothing to race the deadline against:
+  // the next element is always awaited in full.
+  def readWithin(nanos: Long): Any = read[Any](EndOfStream)
+
   override def readUpToN[A1 >: A](n: Int): Chunk[A1] = {
     if (n <= 0) return Chunk.empty
     if (pos >= limit && !upstreamDone) {
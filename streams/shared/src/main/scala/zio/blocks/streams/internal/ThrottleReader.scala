@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.Platform
+import zio.blocks.streams.io.Reader
+
+/**
+ * Shapes the element rate to at most `elements` per `periodNanos`, allowing
+ * bursts of up to `elements` after an idle period.
+ *
+ * Uses the generic cell rate algorithm: each element advances a theoretical
+ * arrival time by `periodNanos / elements`, and an element that would run
+ * ahead of it by more than the burst tolerance is delayed (never dropped) via
+ * [[Platform.sleepNanos]].
+ */
+private[streams] final class ThrottleReader[A](upstream: Reader[A], elements: Long, periodNanos: Long)
+    extends Reader[A] {
+  private val interval: Long   = math.max(1L, periodNanos / elements)
+  private val tolerance: Long  = periodNanos - interval
+  private var started: Boolean = false
+  private var tat: Long        = 0L
+
+  def isClosed: Boolean = upstream.isClosed
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    val v = upstream.read[Any](EndOfStream)
+    if (v.asInstanceOf[AnyRef] eq EndOfStream) return sentinel
+    var now = System.nanoTime()
+    if (!started) {
+      started = true
+      tat = now
+    }
+    val earliest = tat - tolerance
+    if (now - earliest < 0L) {
+      Platform.sleepNanos(earliest - now)
+      now = earliest
+    }
+    tat = (if (tat - now < 0L) now else tat) + interval
+    v.asInstanceOf[A1]
+  }
+
+  def close(): Unit = upstream.close()
+
+  override def reset(): Unit = {
+    upstream.reset()
+    started = false
+  }
+}
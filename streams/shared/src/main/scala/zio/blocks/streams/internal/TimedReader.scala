@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * A [[Reader]] whose next element can be awaited with a deadline.
+ *
+ * This is the primitive underneath the time-aware stream operators
+ * (`groupedWithin`, `debounce`, `timeout`). On the JVM it is implemented by
+ * [[ConcurrentBufferedReader]], whose producer thread drains the upstream so
+ * the consumer can stop waiting when the deadline passes. On Scala.js reads are
+ * synchronous, so [[readWithin]] never times out; deadlines are only observed
+ * between elements.
+ */
+private[streams] abstract class TimedReader[+A] extends Reader[A] {
+
+  /**
+   * Waits at most `nanos` nanoseconds for the next element. Returns the
+   * element, [[TimedReader.TimedOut]] if none arrived in time, or
+   * [[EndOfStream]] once the upstream is exhausted. An upstream failure is
+   * rethrown in place of `EndOfStream`. A non-positive `nanos` polls without
+   * waiting.
+   */
+  def readWithin(nanos: Long): Any
+}
+
+private[streams] object TimedReader {
+
+  /** Returned by [[TimedReader#readWithin]] when the deadline elapsed. */
+  val TimedOut: AnyRef = new AnyRef
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * Ends the stream when the upstream does not produce its next element within
+ * `timeoutNanos`. The upstream is left for [[close]] to release, so a producer
+ * blocked on a stalled source is interrupted at teardown.
+ */
+private[streams] final class TimeoutReader[A](upstream: TimedReader[A], timeoutNanos: Long) extends Reader[A] {
+  private var done: Boolean = false
+
+  def isClosed: Boolean = done
+
+  def read[A1 >: A](sentinel: A1): A1 = {
+    if (done) return sentinel
+    val v = upstream.readWithin(timeoutNanos)
+    val r = v.asInstanceOf[AnyRef]
+    if ((r eq TimedReader.TimedOut) || (r eq EndOfStream)) {
+      done = true
+      sentinel
+    } else v.asInstanceOf[A1]
+  }
+
+  def close(): Unit = {
+    done = true
+    upstream.close()
+  }
+
+  override def reset(): Unit = {
+    // A one-shot upstream's reset() throws UnsupportedOperationException,
+    // which correctly propagates.
+    upstream.reset()
+    done = false
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import java.nio.charset.StandardCharsets
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * Decodes the UTF-8 bytes of `upstream` into one string per block pulled via
+ * `readBytes`. The bytes of a character split across blocks are held back and
+ * decoded with the next block; malformed input decodes to U+FFFD, as with
+ * `new String(bytes, UTF_8)`. Single-threaded; not safe for concurrent use.
+ */
+private[streams] final class Utf8DecodeReader(upstream: Reader[Byte]) extends Reader[String] {
+  private val buf          = new Array[Byte](DelimitedReader.BufferSize)
+  private var carry        = 0 // held-back bytes at the front of `buf`
+  private var upstreamDone = false
+  private var closed       = false
+
+  def isClosed: Boolean = closed || (upstreamDone && carry == 0)
+
+  def read[A1 >: String](sentinel: A1): A1 = {
+    while (!closed && !upstreamDone) {
+      val n = upstream.readBytes(buf, carry, buf.length - carry)
+      if (n <= 0) upstreamDone = true
+      else {
+        val lim = carry + n
+        val cut = Utf8DecodeReader.completePrefix(buf, lim)
+        carry = lim - cut
+        if (cut > 0) {
+          val s = new String(buf, 0, cut, StandardCharsets.UTF_8)
+          System.arraycopy(buf, cut, buf, 0, carry)
+          return s
+        }
+      }
+    }
+    if (closed || carry == 0) sentinel
+    else {
+      val s = new String(buf, 0, carry, StandardCharsets.UTF_8)
+      carry = 0
+      s
+    }
+  }
+
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      carry = 0
+      upstream.close()
+    }
+
+  override def reset(): Unit = {
+    upstream.reset()
+    carry = 0
+    upstreamDone = false
+    closed = false
+  }
+}
+
+private[streams] object Utf8DecodeReader {
+
+  /**
+   * The length of the longest prefix of `buf(0 until lim)` that does not end
+   * inside a multi-byte sequence. A tail without a lead byte within four bytes
+   * is malformed and left to the decoder.
+   */
+  def completePrefix(buf: Array[Byte], lim: Int): Int = {
+    val stop = math.max(0, lim - 4)
+    var i    = lim - 1
+    while (i >= stop && (buf(i) & 0xc0) == 0x80) i -= 1
+    if (i < stop) lim
+    else {
+      val b   = buf(i) & 0xff
+      val len =
+        if ((b & 0xe0) == 0xc0) 2
+        else if ((b & 0xf0) == 0xe0) 3
+        else if ((b & 0xf8) == 0xf0) 4
+        else 1
+      if (i + len > lim) i else lim
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import scala.collection.mutable
+
+import zio.blocks.streams.{SessionWindow, SlidingWindow, TumblingWindow, Window, WindowResult}
+import zio.blocks.streams.io.Reader
+
+/**
+ * Folds the upstream into event-time windows, holding one accumulator per
+ * open window, and emits each window once the watermark passes its end.
+ *
+ * The watermark is the largest timestamp seen minus `lateness`. Tumbling and
+ * sliding windows are keyed by start in a `LongMap`; an element is folded into
+ * each of its windows that is still open and dropped from those already
+ * emitted. Closed windows are emitted in start order.
+ *
+ * Session windows cannot be merged once folded, so elements ahead of the
+ * watermark wait in a priority queue and are folded in timestamp order as the
+ * watermark passes them; only elements within `lateness` of the newest are
+ * held. Elements behind the watermark are dropped.
+ *
+ * At end of stream every remaining window is emitted.
+ */
+private[streams] final class WindowedFoldReader[A, Z](
+  source: Reader[A],
+  window: Window,
+  timestampOf: A => Long,
+  lateness: Long,
+  z: Z,
+  f: (Z, A) => Z
+) extends Reader[WindowResult[Z]] {
+  import WindowedFoldReader._
+
+  private val session = window.isInstanceOf[SessionWindow]
+  private val size = window match {
+    case TumblingWindow(s)   => s.toMillis
+    case SlidingWindow(s, _) => s.toMillis
+    case SessionWindow(g)    => g.toMillis
+  }
+  private val slide = window match {
+    case SlidingWindow(_, s) => s.toMillis
+    case _                   => size
+  }
+
+  private val out             = new java.util.ArrayDeque[WindowResult[Z]]()
+  private var watermark: Long = Long.MinValue
+  private var done: Boolean   = false
+
+  // Tumbling and sliding windows: accumulator by window start.
+  private val open           = mutable.LongMap.empty[Z]
+  private var minStart: Long = Long.MaxValue
+
+  // Session windows: reorder buffer and the one session being folded.
+  private val pending              = mutable.PriorityQueue.empty[Pending](EarliestFirst)
+  private var seq: Long            = 0L
+  private var sessionOpen: Boolean = false
+  private var sessionStart: Long   = 0L
+  private var sessionEnd: Long     = 0L
+  private var sessionAcc: Z        = z
+
+  def isClosed: Boolean = done && out.isEmpty
+
+  def read[A1 >: WindowResult[Z]](sentinel: A1): A1 = {
+    while (out.isEmpty && !done) pull()
+    if (out.isEmpty) sentinel else out.poll()
+  }
+
+  private def pull(): Unit = {
+    val v = source.read[Any](EndOfStream)
+    if (v.asInstanceOf[AnyRef] eq EndOfStream) {
+      done = true
+      if (session) {
+        while (pending.nonEmpty) feed(pending.dequeue())
+        if (sessionOpen) emitSession()
+      } else emitWindows(all = true)
+    } else {
+      val a  = v.asInstanceOf[A]
+      val ts = timestampOf(a)
+      if (session) addSession(a, ts) else addFixed(a, ts)
+    }
+  }
+
+  private def advance(ts: Long): Unit = {
+    val w = ts - lateness
+    if (w > watermark) watermark = w
+  }
+
+  private def addFixed(a: A, ts: Long): Unit = {
+    var s = Math.floorDiv(ts, slide) * slide
+    while (s > ts - size) {
+      if (s + size > watermark) {
+        open.update(s, f(open.getOrElse(s, z), a))
+        if (s < minStart) minStart = s
+      }
+      s -= slide
+    }
+    advance(ts)
+    if (open.nonEmpty && minStart + size <= watermark) emitWindows(all = false)
+  }
+
+  private def emitWindows(all: Boolean): Unit = {
+    val starts = open.keysIterator.filter(s => all || s + size <= watermark).toArray
+    java.util.Arrays.sort(starts)
+    var i = 0
+    while (i < starts.length) {
+      val s = starts(i)
+      out.add(WindowResult(s, s + size, open(s)))
+      open -= s
+      i += 1
+    }
+    minStart = if (open.isEmpty) Long.MaxValue else open.keysIterator.min
+  }
+
+  private def addSession(a: A, ts: Long): Unit =
+    if (ts >= watermark) {
+      pending.enqueue(new Pending(ts, seq, a))
+      seq += 1
+      advance(ts)
+      while (pending.nonEmpty && pending.head.ts <= watermark) feed(pending.dequeue())
+      if (sessionOpen && sessionEnd <= watermark) emitSession()
+    }
+
+  // Called in timestamp order, so `p` either extends the open session or
+  // starts the next one.
+  private def feed(p: Pending): Unit = {
+    val a = p.a.asInstanceOf[A]
+    if (sessionOpen && p.ts < sessionEnd) sessionAcc = f(sessionAcc, a)
+    else {
+      if (sessionOpen) emitSession()
+      sessionOpen = true
+      sessionStart = p.ts
+      sessionAcc = f(z, a)
+    }
+    sessionEnd = p.ts + size
+  }
+
+  private def emitSession(): Unit = {
+    out.add(WindowResult(sessionStart, sessionEnd, sessionAcc))
+    sessionOpen = false
+    sessionAcc = z
+  }
+
+  private def clear(): Unit = {
+    out.clear()
+    open.clear()
+    pending.clear()
+    minStart = Long.MaxValue
+    watermark = Long.MinValue
+    seq = 0L
+    sessionOpen = false
+    sessionAcc = z
+  }
+
+  def close(): Unit = {
+    done = true
+    clear()
+    source.close()
+  }
+
+  override def reset(): Unit = {
+    source.reset()
+    clear()
+    done = false
+  }
+}
+
+private[streams] object WindowedFoldReader {
+  final class Pending(val ts: Long, val seq: Long, val a: Any)
+
+  // `PriorityQueue` dequeues its largest element: rank the earliest timestamp
+  // highest, ties in arrival order.
+  object EarliestFirst extends Ordering[Pending] {
+    def compare(x: Pending, y: Pending): Int = {
+      val c = java.lang.Long.compare(y.ts, x.ts)
+      if (c != 0) c else java.lang.Long.compare(y.seq, x.seq)
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.io.Reader
+
+/**
+ * Pairs each element of `upstream` with its zero-based position. The index is
+ * a plain counter, so no second stream is pulled; `reset()` restarts it at 0.
+ */
+private[streams] final class ZipWithIndexReader[A](upstream: Reader[A]) extends Reader[(A, Long)] {
+  private var index: Long = 0L
+
+  def isClosed: Boolean = upstream.isClosed
+
+  def read[A1 >: (A, Long)](sentinel: A1): A1 = {
+    val v = upstream.read[Any](EndOfStream)
+    if (v.asInstanceOf[AnyRef] eq EndOfStream) sentinel
+    else {
+      val i = index
+      index = i + 1L
+      (v.asInstanceOf[A], i)
+    }
+  }
+
+  def close(): Unit = upstream.close()
+
+  override def reset(): Unit = {
+    upstream.reset()
+    index = 0L
+  }
+}
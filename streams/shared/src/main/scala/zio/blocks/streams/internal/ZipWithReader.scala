@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024-2026 John A. De Goes and the ZIO Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package zio.blocks.streams.internal
+
+import zio.blocks.streams.JvmType
+import zio.blocks.streams.io.Reader
+
+/**
+ * Pulls `left` and `right` in lockstep and emits `f(l, r)` until either side
+ * ends.
+ *
+ * Each side is read on its own lane: an `Int`, `Long` or `Double` side is held
+ * in a primitive field and passed to `f` through the matching specialized
+ * `Function2.apply`, so a primitive pair reaches a primitive `f` without
+ * boxing. An `Int`, `Long` or `Double` output (`outType`) is served on that
+ * lane, letting a primitive fold drain the zip unboxed. Other lanes go through
+ * the boxed `read`.
+ *
+ * When one side ends, the other is closed at once; both are closed at most
+ * once, and `reset()` re-arms them for `repeated`.
+ */
+private[streams] final class ZipWithReader(left: Reader[Any], right: Reader[Any], f: AnyRef, outType: JvmType)
+    extends Reader[Any] {
+  import ZipWithReader._
+
+  private val lk   = kind(left.jvmType)
+  private val rk   = kind(right.jvmType)
+  private val mode = lk * 4 + rk
+
+  private var li: Int    = 0
+  private var ll: Long   = 0L
+  private var ld: Double = 0.0
+  private var lr: Any    = null
+  private var ri: Int    = 0
+  private var rl: Long   = 0L
+  private var rd: Double = 0.0
+  private var rr: Any    = null
+
+  private var leftClosed         = false
+  private var rightClosed        = false
+  private def closeLeft(): Unit  = if (!leftClosed) { leftClosed = true; left.close() }
+  private def closeRight(): Unit = if (!rightClosed) { rightClosed = true; right.close() }
+
+  override def jvmType: JvmType = if (kind(outType) == KRef) JvmType.AnyRef else outType
+
+  def isClosed: Boolean = left.isClosed || right.isClosed
+
+  private def pullLeft(): Boolean =
+    lk match {
+      case KInt =>
+        val v = left.readInt(Long.MinValue)(unsafeEvidence)
+        if (v == Long.MinValue) false else { li = v.toInt; true }
+      case KLong =>
+        val v = left.readLong(Long.MaxValue)(unsafeEvidence)
+        if (longEOF(left, v, Long.MaxValue)) false else { ll = v; true }
+      case KDouble =>
+        val v = left.readDouble(Double.MaxValue)(unsafeEvidence)
+        if (doubleEOF(left, v, Double.MaxValue)) false else { ld = v; true }
+      case _ =>
+        val v = left.read[Any](EndOfStream)
+        if (v.asInstanceOf[AnyRef] eq EndOfStream) false else { lr = v; true }
+    }
+
+  private def pullRight(): Boolean =
+    rk match {
+      case KInt =>
+        val v = right.readInt(Long.MinValue)(unsafeEvidence)
+        if (v == Long.MinValue) false else { ri = v.toInt; true }
+      case KLong =>
+        val v = right.readLong(Long.MaxValue)(unsafeEvidence)
+        if (longEOF(right, v, Long.MaxValue)) false else { rl = v; true }
+      case KDouble =>
+        val v = right.readDouble(Double.MaxValue)(unsafeEvidence)
+        if (doubleEOF(right, v, Double.MaxValue)) false else { rd = v; true }
+      case _ =>
+        val v = right.read[Any](EndOfStream)
+        if (v.asInstanceOf[AnyRef] eq EndOfStream) false else { rr = v; true }
+    }
+
+  // Releases the unused side as soon as the other ends (prompt resource release).
+  private def pull(): Boolean =
+    if (!pullLeft()) { closeRight(); false }
+    else if (!pullRight()) { closeLeft(); false }
+    else true
+
+  private def boxedLeft: Any  = lk match { case KInt => li; case KLong => ll; case KDouble => ld; case _ => lr }
+  private def boxedRight: Any = rk match { case KInt => ri; case KLong => rl; case KDouble => rd; case _ => rr }
+
+  private def applyInt(): Int =
+    mode match {
+      case II => f.asInstanceOf[(Int, Int) => Int](li, ri)
+      case IL => f.asInstanceOf[(Int, Long) => Int](li, rl)
+      case ID => f.asInstanceOf[(Int, Double) => Int](li, rd)
+      case LI => f.asInstanceOf[(Long, Int) => Int](ll, ri)
+      case LL => f.asInstanceOf[(Long, Long) => Int](ll, rl)
+      case LD => f.asInstanceOf[(Long, Double) => Int](ll, rd)
+      case DI => f.asInstanceOf[(Double, Int) => Int](ld, ri)
+      case DL => f.asInstanceOf[(Double, Long) => Int](ld, rl)
+      case DD => f.asInstanceOf[(Double, Double) => Int](ld, rd)
+      case _  => f.asInstanceOf[(Any, Any) => Int](boxedLeft, boxedRight)
+    }
+
+  private def applyLong(): Long =
+    mode match {
+      case II => f.asInstanceOf[(Int, Int) => Long](li, ri)
+      case IL => f.asInstanceOf[(Int, Long) => Long](li, rl)
+      case ID => f.asInstanceOf[(Int, Double) => Long](li, rd)
+      case LI => f.asInstanceOf[(Long, Int) => Long](ll, ri)
+      case LL => f.asInstanceOf[(Long, Long) => Long](ll, rl)
+      case LD => f.asInstanceOf[(Long, Double) => Long](ll, rd)
+      case DI => f.asInstanceOf[(Double, Int) => Long](ld, ri)
+      case DL => f.asInstanceOf[(Double, Long) => Long](ld, rl)
+      case DD => f.asInstanceOf[(Double, Double) => Long](ld, rd)
+      case _  => f.asInstanceOf[(Any, Any) => Long](boxedLeft, boxedRight)
+    }
+
+  private def applyDouble(): Double =
+    mode match {
+      case II => f.asInstanceOf[(Int, Int) => Double](li, ri)
+      case IL => f.asInstanceOf[(Int, Long) => Double](li, rl)
+      case ID => f.asInstanceOf[(Int, Double) => Double](li, rd)
+      case LI => f.asInstanceOf[(Long, Int) => Double](ll, ri)
+      case LL => f.asInstanceOf[(Long, Long) => Double](ll, rl)
+      case LD => f.asInstanceOf[(Long, Double) => Double](ll, rd)
+      case DI => f.asInstanceOf[(Double, Int) => Double](ld, ri)
+      case DL => f.asInstanceOf[(Double, Long) => Double](ld, rl)
+      case DD => f.asInstanceOf[(Double, Double) => Double](ld, rd)
+      case _  => f.asInstanceOf[(Any, Any) => Double](boxedLeft, boxedRight)
+    }
+
+  override def readInt(sentinel: Long)(implicit ev: Any <:< Int): Long =
+    if (pull()) applyInt().toLong else sentinel
+
+  // A Long/Double output can equal the consumer's sentinel, so this reader
+  // records its own EOF flag.
+  override def readLong(sentinel: Long)(implicit ev: Any <:< Long): Long =
+    if (pull()) { markReadValue(); applyLong() }
+    else { markReadEOF(); sentinel }
+
+  override def readDouble(sentinel: Double)(implicit ev: Any <:< Double): Double =
+    if (pull()) { markReadValue(); applyDouble() }
+    else { markReadEOF(); sentinel }
+
+  def read[A1 >: Any](sentinel: A1): A1 =
+    if (!pull()) sentinel
+    else
+      kind(outType) match {
+        case KInt    => applyInt().asInstanceOf[A1]
+        case KLong   => applyLong().asInstanceOf[A1]
+        case KDouble => applyDouble().asInstanceOf[A1]
+        case _       => f.asInstanceOf[(Any, Any) => Any](boxedLeft, boxedRight).asInstanceOf[A1]
+      }
+
+  override def reset(): Unit = {
+    leftClosed = false
+    rightClosed = false
+    runBoth(left.reset())(right.reset())
+  }
+
+  // A failure closing one side never discards the other's failure.
+  def close(): Unit = runBoth(closeLeft())(closeRight())
+}
+
+private[streams] object ZipWithReader {
+  private final val KInt    = 0
+  private final val KLong   = 1
+  private final val KDouble = 2
+  private final val KRef    = 3
+
+  private final val II = KInt * 4 + KInt
+  private final val IL = KInt * 4 + KLong
+  private final val ID = KInt * 4 + KDouble
+  private final val LI = KLong * 4 + KInt
+  private final val LL = KLong * 4 + KLong
+  private final val LD = KLong * 4 + KDouble
+  private final val DI = KDouble * 4 + KInt
+  private final val DL = KDouble * 4 + KLong
+  private final val DD = KDouble * 4 + KDouble
+
+  private def kind(jt: JvmType): Int =
+    if (jt eq JvmType.Int) KInt
+    else if (jt eq JvmType.Long) KLong
+    else if (jt eq JvmType.Double) KDouble
+    else KRef
+}
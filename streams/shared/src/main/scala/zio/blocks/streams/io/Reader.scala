@@ -19,7 +19,16 @@ package zio.blocks.streams.io
 import zio.blocks.chunk.{Chunk, ChunkBuilder}
 import zio.blocks.combinators.Concat
 import zio.blocks.streams.JvmType
-import zio.blocks.streams.internal.{doubleEOF, longEOF, runBoth, EndOfStream, Interpreter, StreamError, unsafeEvidence}
+import zio.blocks.streams.internal.{
+  doubleEOF,
+  longEOF,
+  runBoth,
+  EndOfStream,
+  FusedStages,
+  Interpreter,
+  StreamError,
+  unsafeEvidence
+}
 
 import scala.annotation.unchecked.uncheckedVariance
 
@@ -204,6 +213,15 @@ abstract class Reader[+Elem] {
    */
   def readable(): Boolean = !isClosed
 
+  /**
+   * Whether the bulk read for this reader's lane ([[readInts]], [[readLongs]],
+   * [[readFloats]] or [[readDoubles]]) is a native batch loop rather than the
+   * per-element default. Terminal sinks drain through a batch buffer only when
+   * this holds; over any other reader the default would only add a
+   * `readable()` check per element.
+   */
+  private[streams] def hasBulkRead: Boolean = false
+
   /**
    * Drains this reader into a [[Chunk]], consuming all remaining elements.
    * Returns [[Chunk.empty]] when already at EOF. Dispatches on [[jvmType]] for
@@ -729,7 +747,7 @@ abstract class Reader[+Elem] {
    */
   def withRelease(release: () => Unit): Reader[Elem] = {
     val self = this
-    new Reader.DelegatingReader[Elem](self) {
+    new Reader.ClosingReader[Elem](self) {
       // If both `self.close()` and `release()` fail, the release failure is
       // suppressed onto the close failure rather than discarding it
       // (Principle 4). `release` is a per-close hook (like `ensuring`): under
@@ -1416,6 +1434,7 @@ object Reader {
   private[streams] abstract class DelegatingReader[+Elem](inner: Reader[Elem]) extends Reader[Elem] {
     override def jvmType: JvmType                                                 = inner.jvmType
     def isClosed: Boolean                                                         = inner.isClosed
+    override def hasBulkRead: Boolean                                             = inner.hasBulkRead
     def read[A1 >: Elem](sentinel: A1): A1                                        = inner.read(sentinel)
     override def readInt(sentinel: Long)(implicit ev: Elem <:< Int): Long         = inner.readInt(sentinel)(unsafeEvidence)
     override def readLong(sentinel: Long)(implicit ev: Elem <:< Long): Long       = inner.readLong(sentinel)(unsafeEvidence)
@@ -1440,6 +1459,21 @@ object Reader {
     override def lastReadWasEOF: Boolean                  = inner.lastReadWasEOF
   }
 
+  /**
+   * A [[DelegatingReader]] that forwards every read unchanged and only hooks
+   * `close()` (resource release, `ensuring`, `withRelease`). Because it never
+   * alters the element sequence, a sink may look through it at `underlying`,
+   * e.g. to recognise a file-backed source it can move with
+   * `FileChannel.transferTo`.
+   */
+  private[streams] abstract class ClosingReader[+Elem](val underlying: Reader[Elem])
+      extends DelegatingReader[Elem](underlying) {
+    // The window is the underlying reader's, so `drop`/`take` can still reach
+    // a source with native pushdown (e.g. a resumed `checkpointed` channel).
+    override def setSkip(n: Long): Boolean  = underlying.setSkip(n)
+    override def setLimit(n: Long): Boolean = underlying.setLimit(n)
+  }
+
   /**
    * Adapts a ref(AnyRef)-lane inner reader so it can be pulled through the
    * zero-boxing `readInt` fast path without mis-casting its boxed element. The
@@ -1468,6 +1502,7 @@ object Reader {
       with WrappedReader {
     override def jvmType: JvmType                                                  = source.jvmType
     def isClosed: Boolean                                                          = source.isClosed
+    override def hasBulkRead: Boolean                                              = source.hasBulkRead
     override def lastReadWasEOF: Boolean                                           = source.lastReadWasEOF
     override def readDouble(sentinel: Double)(implicit ev: Any <:< Double): Double = {
       var v = source.readDouble(sentinel)(unsafeEvidence)
@@ -1475,6 +1510,22 @@ object Reader {
         v = source.readDouble(sentinel)(unsafeEvidence)
       v
     }
+    // Bulk pull: keeps the accepted elements of each source batch, compacted in
+    // place, and pulls again while a whole batch is rejected.
+    override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: Any <:< Double): Int = {
+      if (maxLen == 0) return 0
+      val p = pred.asInstanceOf[Double => Boolean]
+      while (true) {
+        val n   = source.readDoubles(buf, offset, maxLen)(unsafeEvidence)
+        if (n < 0) return -1
+        val end = offset + n
+        var i   = offset
+        var k   = offset
+        while (i < end) { val v = buf(i); if (p(v)) { buf(k) = v; k += 1 }; i += 1 }
+        if (k > offset) return k - offset
+      }
+      -1 // unreachable
+    }
     def read[A1 >: Any](sentinel: A1): A1 = {
       val v = readDouble(Double.MaxValue)(unsafeEvidence);
       if (doubleEOF(this, v, Double.MaxValue)) sentinel else Double.box(v).asInstanceOf[A1]
@@ -1513,12 +1564,28 @@ object Reader {
       with WrappedReader {
     override def jvmType: JvmType                                                = source.jvmType
     def isClosed: Boolean                                                        = source.isClosed
+    override def hasBulkRead: Boolean                                            = source.hasBulkRead
     override def readFloat(sentinel: Double)(implicit ev: Any <:< Float): Double = {
       var v = source.readFloat(sentinel)(unsafeEvidence)
       while (v != sentinel && !pred.asInstanceOf[Float => Boolean](v.toFloat))
         v = source.readFloat(sentinel)(unsafeEvidence)
       v
     }
+    // Same bulk pull as `FilteredDouble.readDoubles`.
+    override def readFloats(buf: Array[Float], offset: Int, maxLen: Int)(implicit ev: Any <:< Float): Int = {
+      if (maxLen == 0) return 0
+      val p = pred.asInstanceOf[Float => Boolean]
+      while (true) {
+        val n   = source.readFloats(buf, offset, maxLen)(unsafeEvidence)
+        if (n < 0) return -1
+        val end = offset + n
+        var i   = offset
+        var k   = offset
+        while (i < end) { val v = buf(i); if (p(v)) { buf(k) = v; k += 1 }; i += 1 }
+        if (k > offset) return k - offset
+      }
+      -1 // unreachable
+    }
     def read[A1 >: Any](sentinel: A1): A1 = {
       val v = readFloat(Double.MaxValue)(unsafeEvidence);
       if (v == Double.MaxValue) sentinel else Float.box(v.toFloat).asInstanceOf[A1]
@@ -1561,12 +1628,28 @@ object Reader {
       with WrappedReader {
     override def jvmType: JvmType                                        = source.jvmType
     def isClosed: Boolean                                                = source.isClosed
+    override def hasBulkRead: Boolean                                    = source.hasBulkRead
     override def readInt(sentinel: Long)(implicit ev: Any <:< Int): Long = {
       var v = source.readInt(sentinel)(unsafeEvidence)
       while (v != sentinel && !pred.asInstanceOf[Int => Boolean](v.toInt))
         v = source.readInt(sentinel)(unsafeEvidence)
       v
     }
+    // Same bulk pull as `FilteredDouble.readDoubles`.
+    override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: Any <:< Int): Int = {
+      if (maxLen == 0) return 0
+      val p = pred.asInstanceOf[Int => Boolean]
+      while (true) {
+        val n   = source.readInts(buf, offset, maxLen)(unsafeEvidence)
+        if (n < 0) return -1
+        val end = offset + n
+        var i   = offset
+        var k   = offset
+        while (i < end) { val v = buf(i); if (p(v)) { buf(k) = v; k += 1 }; i += 1 }
+        if (k > offset) return k - offset
+      }
+      -1 // unreachable
+    }
     // Bulk terminal fold: compose the predicate into the fold step and
     // delegate to the source, collapsing this stage onto the leaf loop. Only
     // reached when `jvmType eq Int` (so the source is int-lane readable, the
@@ -1774,6 +1857,7 @@ object Reader {
       with WrappedReader {
     override def jvmType: JvmType                                          = source.jvmType
     def isClosed: Boolean                                                  = source.isClosed
+    override def hasBulkRead: Boolean                                      = source.hasBulkRead
     override def lastReadWasEOF: Boolean                                   = source.lastReadWasEOF
     override def readLong(sentinel: Long)(implicit ev: Any <:< Long): Long = {
       var v = source.readLong(sentinel)(unsafeEvidence)
@@ -1781,6 +1865,21 @@ object Reader {
         v = source.readLong(sentinel)(unsafeEvidence)
       v
     }
+    // Same bulk pull as `FilteredDouble.readDoubles`.
+    override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: Any <:< Long): Int = {
+      if (maxLen == 0) return 0
+      val p = pred.asInstanceOf[Long => Boolean]
+      while (true) {
+        val n   = source.readLongs(buf, offset, maxLen)(unsafeEvidence)
+        if (n < 0) return -1
+        val end = offset + n
+        var i   = offset
+        var k   = offset
+        while (i < end) { val v = buf(i); if (p(v)) { buf(k) = v; k += 1 }; i += 1 }
+        if (k > offset) return k - offset
+      }
+      -1 // unreachable
+    }
     def read[A1 >: Any](sentinel: A1): A1 = {
       val v = readLong(Long.MaxValue)(unsafeEvidence);
       if (longEOF(this, v, Long.MaxValue)) sentinel else Long.box(v).asInstanceOf[A1]
@@ -1913,6 +2012,53 @@ object Reader {
     val fallback: AnyRef => AnyRef = (_: AnyRef) => sentinel
   }
 
+  /**
+   * Applies a fused run of ref-lane `map`, `filter` and `collect` stages (see
+   * [[zio.blocks.streams.internal.FusedStages]]) in one loop, skipping the
+   * elements the run rejects.
+   */
+  private[streams] final class FusedRef(
+    val source: Reader[_],
+    val run: FusedStages.RefStages
+  ) extends Reader[Any]
+      with WrappedReader {
+    def isClosed: Boolean                 = source.isClosed
+    def read[A1 >: Any](sentinel: A1): A1 = {
+      while (true) {
+        val v = source.read[Any](EndOfStream)
+        if (v.asInstanceOf[AnyRef] eq EndOfStream) return sentinel
+        val out = run(v.asInstanceOf[AnyRef])
+        if (out ne FusedStages.Skip) return out.asInstanceOf[A1]
+      }
+      sentinel // unreachable, but needed for the compiler
+    }
+    override def readUpToN[A1 >: Any](n: Int): Chunk[A1] = {
+      if (n <= 0) return Chunk.empty
+      val b = ChunkBuilder.make[A1](math.min(n, 64))
+      var v = read[Any](EndOfStream)
+      if (v.asInstanceOf[AnyRef] eq EndOfStream) return Chunk.empty
+      var i = 0
+      while ((v.asInstanceOf[AnyRef] ne EndOfStream) && i < n) {
+        b += v.asInstanceOf[A1]; i += 1
+        if (i < n) v = read[Any](EndOfStream)
+      }
+      b.result()
+    }
+    def close(): Unit                = source.close()
+    override def reset(): Unit       = source.reset()
+    override def skip(n: Long): Unit = {
+      var r = n;
+      while (r > 0) { val v = read[Any](EndOfStream); if (v.asInstanceOf[AnyRef] eq EndOfStream) return; r -= 1 }
+    }
+    override def setRepeat(): Boolean = source.setRepeat()
+    def toInterpreter: Interpreter    = {
+      val p = Interpreter(source)
+      p.addMap[AnyRef, AnyRef](Interpreter.LANE_R, Interpreter.OUT_R)(run)
+      p.addFilter[AnyRef](Interpreter.LANE_R)(FusedStages.NotSkipped)
+      p
+    }
+  }
+
   /**
    * Abstract base for reader-level flatMap. Manages inner reader lifecycle and
    * delegates reads to the current inner reader.
@@ -2236,13 +2382,14 @@ object Reader {
 
   /** Specialized FromChunk for Double elements — zero-boxing via readDouble. */
   private[streams] final class FromChunkDouble(chunk: Chunk[Double]) extends Reader[Double] {
-    override def jvmType: JvmType    = JvmType.Double
-    private val originalLen: Int     = chunk.length
-    private var startIdx: Int        = 0
-    private var effectiveLen: Int    = originalLen
-    private var idx: Int             = 0
-    def isClosed: Boolean            = idx >= effectiveLen
-    override def readable(): Boolean = idx < effectiveLen
+    override def jvmType: JvmType     = JvmType.Double
+    private val originalLen: Int      = chunk.length
+    private var startIdx: Int         = 0
+    private var effectiveLen: Int     = originalLen
+    private var idx: Int              = 0
+    def isClosed: Boolean             = idx >= effectiveLen
+    override def readable(): Boolean  = idx < effectiveLen
+    override def hasBulkRead: Boolean = true
     // setSkip/setLimit compose as INCREMENTAL window operations over the live
     // window [startIdx, effectiveLen): `drop` advances the left edge, `take`
     // narrows the right edge, applied in call order. This makes take(n).drop(m)
@@ -2283,6 +2430,17 @@ object Reader {
     override def readDouble(sentinel: Double)(implicit ev: Double <:< Double): Double =
       if (idx < effectiveLen) { val v = chunk.double(idx); idx += 1; markReadValue(); v }
       else { markReadEOF(); sentinel }
+    // Bulk pull: the whole batch in one counted loop over the chunk.
+    override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: Double <:< Double): Int = {
+      if (maxLen == 0) return 0
+      val n = math.min(maxLen, effectiveLen - idx)
+      if (n <= 0) { markReadEOF(); return -1 }
+      var i = 0
+      while (i < n) { buf(offset + i) = chunk.double(idx + i); i += 1 }
+      idx += n
+      markReadValue()
+      n
+    }
     override def readByte(): Int = {
       val v = readDouble(Double.MaxValue)(unsafeEvidence)
       if (doubleEOF(this, v, Double.MaxValue)) -1 else v.toInt & 0xff
@@ -2293,13 +2451,14 @@ object Reader {
 
   /** Specialized FromChunk for Float elements — zero-boxing via readFloat. */
   private[streams] final class FromChunkFloat(chunk: Chunk[Float]) extends Reader[Float] {
-    override def jvmType: JvmType    = JvmType.Float
-    private val originalLen: Int     = chunk.length
-    private var startIdx: Int        = 0
-    private var effectiveLen: Int    = originalLen
-    private var idx: Int             = 0
-    def isClosed: Boolean            = idx >= effectiveLen
-    override def readable(): Boolean = idx < effectiveLen
+    override def jvmType: JvmType     = JvmType.Float
+    private val originalLen: Int      = chunk.length
+    private var startIdx: Int         = 0
+    private var effectiveLen: Int     = originalLen
+    private var idx: Int              = 0
+    def isClosed: Boolean             = idx >= effectiveLen
+    override def readable(): Boolean  = idx < effectiveLen
+    override def hasBulkRead: Boolean = true
     // setSkip/setLimit compose as INCREMENTAL window operations over the live
     // window [startIdx, effectiveLen): `drop` advances the left edge, `take`
     // narrows the right edge, applied in call order. This makes take(n).drop(m)
@@ -2337,6 +2496,15 @@ object Reader {
     override def readFloat(sentinel: Double)(implicit ev: Float <:< Float): Double =
       if (idx < effectiveLen) { val v = chunk.float(idx); idx += 1; v.toDouble }
       else sentinel
+    override def readFloats(buf: Array[Float], offset: Int, maxLen: Int)(implicit ev: Float <:< Float): Int = {
+      if (maxLen == 0) return 0
+      val n = math.min(maxLen, effectiveLen - idx)
+      if (n <= 0) return -1
+      var i = 0
+      while (i < n) { buf(offset + i) = chunk.float(idx + i); i += 1 }
+      idx += n
+      n
+    }
     override def readByte(): Int = {
       val v = readFloat(Double.MaxValue)(unsafeEvidence)
       if (v == Double.MaxValue) -1 else v.toInt & 0xff
@@ -2395,13 +2563,14 @@ object Reader {
 
   /** Specialized FromChunk for Int elements — zero-boxing via readInt. */
   private[streams] final class FromChunkInt(chunk: Chunk[Int]) extends Reader[Int] {
-    override def jvmType: JvmType    = JvmType.Int
-    private val originalLen: Int     = chunk.length
-    private var startIdx: Int        = 0
-    private var effectiveLen: Int    = originalLen
-    private var idx: Int             = 0
-    def isClosed: Boolean            = idx >= effectiveLen
-    override def readable(): Boolean = idx < effectiveLen
+    override def jvmType: JvmType     = JvmType.Int
+    private val originalLen: Int      = chunk.length
+    private var startIdx: Int         = 0
+    private var effectiveLen: Int     = originalLen
+    private var idx: Int              = 0
+    def isClosed: Boolean             = idx >= effectiveLen
+    override def readable(): Boolean  = idx < effectiveLen
+    override def hasBulkRead: Boolean = true
     // setSkip/setLimit compose as INCREMENTAL window operations over the live
     // window [startIdx, effectiveLen): `drop` advances the left edge, `take`
     // narrows the right edge, applied in call order. This makes take(n).drop(m)
@@ -2439,6 +2608,15 @@ object Reader {
     override def readInt(sentinel: Long)(implicit ev: Int <:< Int): Long =
       if (idx < effectiveLen) { val v = chunk.int(idx); idx += 1; v.toLong }
       else sentinel
+    override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: Int <:< Int): Int = {
+      if (maxLen == 0) return 0
+      val n = math.min(maxLen, effectiveLen - idx)
+      if (n <= 0) return -1
+      var i = 0
+      while (i < n) { buf(offset + i) = chunk.int(idx + i); i += 1 }
+      idx += n
+      n
+    }
     override def readByte(): Int = {
       val v = readInt(Long.MinValue)(unsafeEvidence)
       if (v == Long.MinValue) -1 else v.toInt & 0xff
@@ -2449,13 +2627,14 @@ object Reader {
 
   /** Specialized FromChunk for Long elements — zero-boxing via readLong. */
   private[streams] final class FromChunkLong(chunk: Chunk[Long]) extends Reader[Long] {
-    override def jvmType: JvmType    = JvmType.Long
-    private val originalLen: Int     = chunk.length
-    private var startIdx: Int        = 0
-    private var effectiveLen: Int    = originalLen
-    private var idx: Int             = 0
-    def isClosed: Boolean            = idx >= effectiveLen
-    override def readable(): Boolean = idx < effectiveLen
+    override def jvmType: JvmType     = JvmType.Long
+    private val originalLen: Int      = chunk.length
+    private var startIdx: Int         = 0
+    private var effectiveLen: Int     = originalLen
+    private var idx: Int              = 0
+    def isClosed: Boolean             = idx >= effectiveLen
+    override def readable(): Boolean  = idx < effectiveLen
+    override def hasBulkRead: Boolean = true
     // setSkip/setLimit compose as INCREMENTAL window operations over the live
     // window [startIdx, effectiveLen): `drop` advances the left edge, `take`
     // narrows the right edge, applied in call order. This makes take(n).drop(m)
@@ -2496,6 +2675,16 @@ object Reader {
     override def readLong(sentinel: Long)(implicit ev: Long <:< Long): Long =
       if (idx < effectiveLen) { val v = chunk.long(idx); idx += 1; markReadValue(); v }
       else { markReadEOF(); sentinel }
+    override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: Long <:< Long): Int = {
+      if (maxLen == 0) return 0
+      val n = math.min(maxLen, effectiveLen - idx)
+      if (n <= 0) { markReadEOF(); return -1 }
+      var i = 0
+      while (i < n) { buf(offset + i) = chunk.long(idx + i); i += 1 }
+      idx += n
+      markReadValue()
+      n
+    }
     override def readByte(): Int = {
       val v = readLong(Long.MaxValue)(unsafeEvidence)
       if (longEOF(this, v, Long.MaxValue)) -1 else v.toInt & 0xff
@@ -2596,6 +2785,7 @@ object Reader {
     private var limitVal: Int              = (from.toLong + effectiveLen).toInt
     def isClosed: Boolean                  = current >= limitVal
     override def readable(): Boolean       = current < limitVal
+    override def hasBulkRead: Boolean      = true
     private def setIdx(i: Long): Unit      = current = (from.toLong + i).toInt
     override def setSkip(n: Long): Boolean = {
       startIdx = Reader.advanceWithinL(startIdx, n, effectiveLen)
@@ -2629,6 +2819,19 @@ object Reader {
       finally current = c
       acc
     }
+    // Bulk pull: fills the batch from the cursor in one counted loop. The span
+    // is computed in `Long` because `limitVal - current` overflows `Int` for a
+    // full-width range.
+    override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: Int <:< Int): Int = {
+      if (maxLen == 0) return 0
+      val c = current
+      val n = math.min(maxLen.toLong, limitVal.toLong - c.toLong).toInt
+      if (n <= 0) return -1
+      var i = 0
+      while (i < n) { buf(offset + i) = c + i; i += 1 }
+      current = c + n
+      n
+    }
     override def readByte(): Int =
       if (current < limitVal) { val v = current; current += 1; (v & 0xff) }
       else -1
@@ -2641,13 +2844,37 @@ object Reader {
 
     private var closed               = false
     private var errored: IOException = null
+    private var pendingSkip          = 0L
 
     def isClosed: Boolean = closed
 
     override def readable(): Boolean =
-      !closed && (try { is.available() > 0 }
+      !closed && pendingSkip == 0L && (try { is.available() > 0 }
       catch { case _: IOException => false })
 
+    /**
+     * Defers the skip to the first read, where it is applied with
+     * `InputStream.skip` (a seek for file-backed streams) instead of reading
+     * and discarding every byte.
+     */
+    override def setSkip(n: Long): Boolean = {
+      if (n > 0L) pendingSkip += n
+      true
+    }
+
+    private def skipPending(): Unit =
+      try {
+        while (pendingSkip > 0L && !closed) {
+          val n = is.skip(pendingSkip)
+          if (n > 0L) pendingSkip -= n
+          else if (is.read() < 0) closed = true // `skip` may return 0 before EOF; probe one byte
+          else pendingSkip -= 1L
+        }
+        pendingSkip = 0L
+      } catch {
+        case e: IOException => closed = true; errored = e; throw new StreamError(e)
+      }
+
     override def skip(n: Long): Unit = {
       var r = n; while (r > 0) { val b = readByte(); if (b < 0) r = 0 else r -= 1 }
     }
@@ -2657,6 +2884,7 @@ object Reader {
     override def readByte(): Int = {
       if (closed) return -1
       if (errored ne null) throw new StreamError(errored)
+      if (pendingSkip > 0L) { skipPending(); if (closed) return -1 }
       try {
         val b = is.read()
         if (b < 0) { closed = true; -1 }
@@ -2675,14 +2903,18 @@ object Reader {
       if (len == 0) 0
       else if (closed) -1
       else if (errored ne null) throw new StreamError(errored)
-      else
-        try {
-          val n = is.read(buf, offset, len)
-          if (n < 0) { closed = true; -1 }
-          else n
-        } catch {
-          case e: IOException => closed = true; errored = e; throw new StreamError(e)
-        }
+      else {
+        if (pendingSkip > 0L) skipPending()
+        if (closed) -1
+        else
+          try {
+            val n = is.read(buf, offset, len)
+            if (n < 0) { closed = true; -1 }
+            else n
+          } catch {
+            case e: IOException => closed = true; errored = e; throw new StreamError(e)
+          }
+      }
 
     override def readN[A1 >: Byte](n: Int): Chunk[A1] = {
       if (n <= 0 || closed) return Chunk.empty
@@ -2761,6 +2993,20 @@ object Reader {
       if (doubleEOF(source, v, sentinel)) { markReadEOF(); sentinel }
       else { markReadValue(); f.asInstanceOf[Double => Double](v) }
     }
+    override def hasBulkRead: Boolean = (outType eq JvmType.Double) && source.hasBulkRead
+    // Bulk pull for a same-lane map: the source fills `buf`, then `f` rewrites
+    // the batch in place. Other output lanes keep the per-element default.
+    override def readDoubles(buf: Array[Double], offset: Int, maxLen: Int)(implicit ev: Any <:< Double): Int =
+      if (outType ne JvmType.Double) super.readDoubles(buf, offset, maxLen)
+      else {
+        val n   = source.readDoubles(buf, offset, maxLen)(unsafeEvidence)
+        val g   = f.asInstanceOf[Double => Double]
+        val end = offset + n
+        var i   = offset
+        while (i < end) { buf(i) = g(buf(i)); i += 1 }
+        if (n < 0) markReadEOF() else markReadValue()
+        n
+      }
     def read[A1 >: Any](sentinel: A1): A1 = {
       val v = source.readDouble(Double.MaxValue)(unsafeEvidence);
       if (doubleEOF(source, v, Double.MaxValue)) sentinel
@@ -2882,6 +3128,18 @@ object Reader {
       if (v == sentinel) sentinel
       else f.asInstanceOf[Float => Float](v.toFloat).toDouble
     }
+    override def hasBulkRead: Boolean = (outType eq JvmType.Float) && source.hasBulkRead
+    // Same bulk pull as `MappedDouble.readDoubles`.
+    override def readFloats(buf: Array[Float], offset: Int, maxLen: Int)(implicit ev: Any <:< Float): Int =
+      if (outType ne JvmType.Float) super.readFloats(buf, offset, maxLen)
+      else {
+        val n   = source.readFloats(buf, offset, maxLen)(unsafeEvidence)
+        val g   = f.asInstanceOf[Float => Float]
+        val end = offset + n
+        var i   = offset
+        while (i < end) { buf(i) = g(buf(i)); i += 1 }
+        n
+      }
     override def readDouble(sentinel: Double)(implicit ev: Any <:< Double): Double = {
       val v = source.readFloat(Double.MaxValue)(unsafeEvidence);
       if (v == Double.MaxValue) { markReadEOF(); sentinel }
@@ -2996,6 +3254,18 @@ object Reader {
       if (v == sentinel) sentinel
       else f.asInstanceOf[Int => Int](v.toInt).toLong
     }
+    override def hasBulkRead: Boolean = (outType eq JvmType.Int) && source.hasBulkRead
+    // Same bulk pull as `MappedDouble.readDoubles`.
+    override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: Any <:< Int): Int =
+      if (outType ne JvmType.Int) super.readInts(buf, offset, maxLen)
+      else {
+        val n   = source.readInts(buf, offset, maxLen)(unsafeEvidence)
+        val g   = f.asInstanceOf[Int => Int]
+        val end = offset + n
+        var i   = offset
+        while (i < end) { buf(i) = g(buf(i)); i += 1 }
+        n
+      }
     // Bulk terminal fold: compose the map into the fold step and delegate to
     // the source, collapsing this stage onto the leaf loop. Only reached when
     // `jvmType eq Int` (i.e. `outType eq Int`, so `f` is `Int => Int` — the
@@ -3135,6 +3405,19 @@ object Reader {
       if (longEOF(source, v, sentinel)) { markReadEOF(); sentinel }
       else { markReadValue(); f.asInstanceOf[Long => Long](v) }
     }
+    override def hasBulkRead: Boolean = (outType eq JvmType.Long) && source.hasBulkRead
+    // Same bulk pull as `MappedDouble.readDoubles`.
+    override def readLongs(buf: Array[Long], offset: Int, maxLen: Int)(implicit ev: Any <:< Long): Int =
+      if (outType ne JvmType.Long) super.readLongs(buf, offset, maxLen)
+      else {
+        val n   = source.readLongs(buf, offset, maxLen)(unsafeEvidence)
+        val g   = f.asInstanceOf[Long => Long]
+        val end = offset + n
+        var i   = offset
+        while (i < end) { buf(i) = g(buf(i)); i += 1 }
+        if (n < 0) markReadEOF() else markReadValue()
+        n
+      }
     override def readFloat(sentinel: Double)(implicit ev: Any <:< Float): Double = {
       val v = source.readLong(Long.MaxValue)(unsafeEvidence);
       if (longEOF(source, v, Long.MaxValue)) sentinel
@@ -3710,6 +3993,7 @@ object Reader {
     override def jvmType: JvmType          = JvmType.Int
     def isClosed: Boolean                  = current >= limitVal
     override def readable(): Boolean       = current < limitVal
+    override def hasBulkRead: Boolean      = true
     private def setIdx(i: Long): Unit      = current = (from.toLong + i).toInt
     override def setSkip(n: Long): Boolean = {
       startIdx = Reader.advanceWithinL(startIdx, n, effectiveLen)
@@ -3739,6 +4023,17 @@ object Reader {
       finally current = c
       acc
     }
+    // Same bulk pull as `FromIntRange.readInts` — see the comment there.
+    override def readInts(buf: Array[Int], offset: Int, maxLen: Int)(implicit ev: Int <:< Int): Int = {
+      if (maxLen == 0) return 0
+      val c = current
+      val n = math.min(maxLen.toLong, limitVal.toLong - c.toLong).toInt
+      if (n <= 0) return -1
+      var i = 0
+      while (i < n) { buf(offset + i) = c + i; i += 1 }
+      current = c + n
+      n
+    }
     override def readByte(): Int =
       if (current < limitVal) { val v = current; current += 1; (v & 0xff) }
       else -1
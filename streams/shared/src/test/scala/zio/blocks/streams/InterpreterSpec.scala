@@ -53,6 +53,7 @@ import zio.test._
  *   - bridgeTag and bridgeFn static helpers
  *   - Large data (1000+ elements)
  *   - Edge cases (only filters, only maps, single-element, very long pipeline)
+ *   - Stage fusion (same-lane map/filter runs, mixed ref-lane runs)
  */
 object InterpreterSpec extends StreamsBaseSpec {
   import Interpreter._
@@ -101,6 +102,7 @@ object InterpreterSpec extends StreamsBaseSpec {
     largeDataSuite,
     edgeCaseSuite,
     coverageSuite,
+    stageFusionSuite,
     regressionsSuite
   )
 
@@ -2341,6 +2343,97 @@ object InterpreterSpec extends StreamsBaseSpec {
     )
   }
 
+  // =========================================================================
+  //  Stage fusion: adjacent same-lane map/filter ops share one op
+  // =========================================================================
+
+  val stageFusionSuite = suite("Stage fusion")(
+    test("consecutive same-lane maps fuse into one op") {
+      val p = Interpreter(Reader.fromRange(0 until 5))
+      p.addMap[Int, Int](LANE_I, OUT_I)(_ + 1)
+      p.addMap[Int, Int](LANE_I, OUT_I)(_ * 2)
+      p.addMap[Int, Int](LANE_I, OUT_I)(_ - 3)
+      p.seal()
+      assertTrue(p.incomingCount == 2, drainInts(p) == (0 until 5).map(i => (i + 1) * 2 - 3).toList)
+    },
+    test("consecutive same-lane filters conjoin in stage order") {
+      val seen = scala.collection.mutable.ListBuffer[String]()
+      val p    = Interpreter(Reader.fromRange(0 until 6))
+      p.addMap[Int, Long](LANE_I, OUT_L)(_.toLong)
+      p.addFilter[Long](LANE_L) { l => seen += s"a$l"; l % 2 == 0 }
+      p.addFilter[Long](LANE_L) { l => seen += s"b$l"; l > 0 }
+      p.seal()
+      val result = drainLongs(p)
+      assertTrue(
+        p.incomingCount == 3,
+        result == List(2L, 4L),
+        seen.toList == List("a0", "b0", "a1", "a2", "b2", "a3", "a4", "b4", "a5")
+      )
+    },
+    test("interleaved ref-lane maps and filters become one map op plus one filter op") {
+      val p = Interpreter(Reader.fromIterable(List("a", "bb", "ccc", "dddd")))
+      p.addMap[String, String](LANE_R, OUT_R)(_ + "!")
+      p.addFilter[String](LANE_R)(_.length > 2)
+      p.addMap[String, String](LANE_R, OUT_R)(_.toUpperCase)
+      p.addFilter[String](LANE_R)(!_.startsWith("D"))
+      p.addMap[String, Int](LANE_R, OUT_I)(_.length)
+      p.seal()
+      assertTrue(p.incomingCount == 4, drainInts(p) == List(3, 4))
+    },
+    test("a map never fuses across a flatMap push") {
+      val p = Interpreter(Reader.fromRange(0 until 3))
+      p.addMap[Int, Int](LANE_I, OUT_I)(_ + 1)
+      p.addPush[Int](LANE_I, LANE_I)((i: Int) => Stream.range(0, i).map(_ * 10).map(_ + 1))
+      p.addMap[Int, Int](LANE_I, OUT_I)(_ * 2)
+      p.seal()
+      assertTrue(drainInts(p) == List(2, 2, 22, 2, 22, 42))
+    },
+    test("deep mixed ref-lane chain past the cutoff runs fused with correct results") {
+      var s: Stream[Nothing, String] = Stream.fromIterable((0 until 50).map(_.toString))
+      var i                          = 0
+      while (i < 150) {
+        s = if (i % 3 == 2) s.filter(_.nonEmpty) else s.map(x => x)
+        i += 1
+      }
+      val reader = s.compile(0)
+      assertTrue(
+        reader.isInstanceOf[Interpreter],
+        reader.asInstanceOf[Interpreter].incomingCount < 10,
+        s.runCollect == Right(Chunk.fromIterable((0 until 50).map(_.toString)))
+      )
+    },
+    test("shallow Long maps compose into one MappedLong") {
+      val s      = Stream.range(0, 4).map(_.toLong).map(_ + 1L).map(_ * 3L).map(_ - 2L)
+      val reader = s.compile(0)
+      assertTrue(
+        reader.isInstanceOf[Reader.MappedLong],
+        reader.asInstanceOf[Reader.MappedLong].f.isInstanceOf[FusedStages.ComposedLong],
+        s.runCollect == Right(Chunk(1L, 4L, 7L, 10L))
+      )
+    },
+    test("shallow ref-lane map, filter, tapEach and collect fuse into one FusedRef") {
+      var tapped = 0
+      val s      = Stream
+        .fromIterable(List("x", "yy", "zzz"))
+        .map(_ * 2)
+        .filter(_.length > 2)
+        .tapEach(_ => tapped += 1)
+        .collect { case v if v.startsWith("y") => v.reverse }
+        .map(_ + "!")
+      val reader = s.compile(0)
+      assertTrue(
+        reader.isInstanceOf[Reader.FusedRef],
+        reader.asInstanceOf[Reader.FusedRef].run.fns.length == 5,
+        s.runCollect == Right(Chunk("yyyy!")),
+        tapped == 2
+      )
+    },
+    test("shallow ref-lane filter after map compiles to FusedRef") {
+      val reader = Stream.fromIterable(List("a", "bb")).map(_ + "?").filter(_.length > 2).compile(0)
+      assertTrue(reader.isInstanceOf[Reader.FusedRef])
+    }
+  )
+
   // =========================================================================
   //  regressions — moved from Adversarial* specs
   // =========================================================================
@@ -17,11 +17,13 @@
 package zio.blocks.streams
 
 import zio.blocks.chunk.Chunk
+import zio.blocks.streams.internal.DelimitedReader
 import zio.blocks.streams.io.Reader
 import zio.test._
 import zio.test.Assertion._
 import StreamsGen._
 import scala.annotation.nowarn
+import java.nio.charset.StandardCharsets
 import java.util.concurrent.atomic.AtomicInteger
 
 @nowarn("msg=never used")
@@ -40,6 +42,7 @@ object PipelineSpec extends StreamsBaseSpec {
     andThenSinkSuite,
     jvmTypeSuite,
     sinkSpecializationSuite,
+    textSuite,
     regressionSuite
   )
 
@@ -642,6 +645,80 @@ object PipelineSpec extends StreamsBaseSpec {
     }
   )
 
+  // =========================================================================
+  //  utf8Decode / splitLines / splitOn
+  // =========================================================================
+
+  private def utf8(s: String): Array[Byte] = s.getBytes(StandardCharsets.UTF_8)
+
+  /** A byte stream whose bulk reads return at most `step` bytes. */
+  private def trickle(bytes: Array[Byte], step: Int): Stream[Nothing, Byte] =
+    Stream.fromReader[Nothing, Byte](new Reader[Byte] {
+      private var pos = 0
+
+      def isClosed: Boolean = pos >= bytes.length
+
+      def read[A1 >: Byte](sentinel: A1): A1 =
+        if (pos < bytes.length) { pos += 1; bytes(pos - 1) }
+        else sentinel
+
+      override def readBytes(buf: Array[Byte], offset: Int, len: Int)(implicit ev: Byte <:< Byte): Int =
+        if (pos >= bytes.length) -1
+        else {
+          val n = math.min(step, math.min(len, bytes.length - pos))
+          System.arraycopy(bytes, pos, buf, offset, n)
+          pos += n
+          n
+        }
+
+      def close(): Unit = pos = bytes.length
+    })
+
+  val textSuite = suite("utf8Decode / splitLines / splitOn")(
+    test("utf8Decode reassembles characters split across reads") {
+      val text    = "h\u00e9llo w\u00f6rld \u20ac \ud834\udd1e!"
+      val decoded = collect(trickle(utf8(text), 1).via(Pipeline.utf8Decode))
+      assertTrue(decoded.mkString == text)
+    },
+    test("utf8Decode replaces malformed input") {
+      val decoded = collect(trickle(Array[Byte]('a'.toByte, 0xc3.toByte), 8).via(Pipeline.utf8Decode))
+      assertTrue(decoded.mkString == "a\ufffd")
+    },
+    test("splitLines handles \\n, \\r\\n, empty and unterminated lines") {
+      val lines = collect(trickle(utf8("a\nbb\r\n\nc\u00e9\n\nlast"), 3).via(Pipeline.splitLines))
+      assertTrue(lines == Chunk("a", "bb", "", "c\u00e9", "", "last"))
+    },
+    test("splitLines emits no empty line after a final terminator") {
+      val lines = collect(trickle(utf8("x\ny\n"), 64).via(Pipeline.splitLines))
+      assertTrue(lines == Chunk("x", "y"))
+    },
+    test("splitLines keeps lines longer than the read buffer") {
+      val expected = Chunk.fromIterable((0 until 40).map(i => ("ab\u00e7" * (i * 311)).take(i * 521)))
+      val lines    = collect(trickle(utf8(expected.mkString("", "\n", "\n")), 4093).via(Pipeline.splitLines))
+      assertTrue(lines == expected)
+    },
+    test("splitLines through andThenSink") {
+      val result = trickle(utf8("1\n2\n3"), 2).run(Pipeline.splitLines.andThenSink(Sink.collectAll[String]))
+      assertTrue(result == Right(Chunk("1", "2", "3")))
+    },
+    test("splitLinesWith hands out slices of the buffer") {
+      val lengths = collect(trickle(utf8("1\n22\r\n333"), 5).via(Pipeline.splitLinesWith((_, _, len) => len)))
+      assertTrue(lengths == Chunk(1, 2, 3))
+    },
+    test("splitOn matches a multi-byte delimiter split across reads") {
+      val parts = collect(trickle(utf8("a||b|c||\u00e9||"), 1).via(Pipeline.splitOn("||")))
+      assertTrue(parts == Chunk("a", "b|c", "\u00e9"))
+    },
+    test("word-at-a-time delimiter scan agrees with a linear scan") {
+      check(Gen.listOf(Gen.byte), Gen.byte, Gen.int(0, 16)) { (bytes, b, from0) =>
+        val buf  = bytes.toArray
+        val from = math.min(from0, buf.length)
+        val idx  = buf.indexOf(b, from)
+        assertTrue(DelimitedReader.indexOf(buf, b, from, buf.length) == idx)
+      }
+    }
+  )
+
   // =========================================================================
   //  Regressions
   // =========================================================================
@@ -950,6 +950,57 @@ object ReaderSpec extends StreamsBaseSpec {
       )
     ),
 
+    // ---- bulk reads through stages ------------------------------------------
+
+    suite("bulk reads through stages")(
+      test("map over a Double chunk fills and maps whole batches") {
+        val r   = Stream.compileToReader(Stream.fromChunk(Chunk.fromIterable((1 to 10).map(_.toDouble))).map(_ * 2.0))
+        val buf = new Array[Double](4)
+        val b   = List.newBuilder[Double]
+        var n   = r.readDoubles(buf, 0, 4)
+        while (n > 0) { b ++= buf.take(n); n = r.readDoubles(buf, 0, 4) }
+        assertTrue(r.hasBulkRead, b.result() == (1 to 10).map(_ * 2.0).toList)
+      },
+      test("filter compacts each batch and skips fully rejected batches") {
+        val r   = Stream.compileToReader(Stream.range(0, 100).filter(_ % 30 == 29))
+        val buf = new Array[Int](8)
+        val b   = List.newBuilder[Int]
+        var n   = r.readInts(buf, 2, 6)
+        while (n > 0) { b ++= buf.slice(2, 2 + n); n = r.readInts(buf, 2, 6) }
+        assertTrue(r.hasBulkRead, b.result() == List(29, 59, 89))
+      },
+      test("map and filter stages apply in order across a Long chunk") {
+        val s = Stream.fromChunk(Chunk(1L, 2L, 3L, 4L, 5L, Long.MaxValue - 1)).map(_ + 1).filter(_ % 2 == 0)
+        val r = Stream.compileToReader(s)
+        val b = new Array[Long](16)
+        val n = r.readLongs(b, 0, 16)
+        assertTrue(r.hasBulkRead, n == 3, b.take(n).toList == List(2L, 4L, 6L), r.readLongs(b, 0, 16) == -1)
+      },
+      test("a range ending at Int.MaxValue is read in bulk without overflow") {
+        val r   = Stream.compileToReader(Stream.range(Int.MaxValue - 5, Int.MaxValue))
+        val buf = new Array[Int](16)
+        val n   = r.readInts(buf, 0, 16)
+        assertTrue(
+          n == 5,
+          buf.take(n).toList == (Int.MaxValue - 5 until Int.MaxValue).toList,
+          r.readInts(buf, 0, 16) == -1
+        )
+      },
+      test("a lane-changing map keeps the per-element path") {
+        val r = Stream.compileToReader(Stream.range(0, 3).map(_.toDouble))
+        val b = new Array[Double](8)
+        val n = r.readDoubles(b, 0, 8)
+        assertTrue(!r.hasBulkRead, b.take(n).toList == List(0.0, 1.0, 2.0))
+      },
+      test("bulk folds agree with the element-wise result") {
+        val data = Chunk.fromIterable((0 until 2000).map(_ * 0.5))
+        val bulk = Stream.fromChunk(data).map(_ + 1.0).filter(_ > 10.0).runFold(0.0)(_ + _)
+        val ref  = Stream.fromIterable(data.toList).map(_ + 1.0).filter(_ > 10.0).runFold(0.0)(_ + _)
+        val sums = Stream.range(0, 5000).map(_ * 3).filter(_ % 2 == 0).runFold(0)(_ + _)
+        assertTrue(bulk == ref, sums == Right((0 until 5000).map(_ * 3).filter(_ % 2 == 0).sum))
+      }
+    ),
+
     // ---- sentinel semantics --------------------------------------------------
 
     suite("sentinel semantics")(
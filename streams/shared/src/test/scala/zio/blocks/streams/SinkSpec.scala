@@ -413,6 +413,42 @@ object SinkSpec extends StreamsBaseSpec {
         }
       }
     ),
+    suite("broadcast")(
+      test("every sink sees every element") {
+        check(genIntStream) { s =>
+          val data = s.runCollect.getOrElse(Chunk.empty)
+          assert(Stream.fromChunk(data).broadcast(Sink.count, Sink.sumInt))(
+            equalTo(Right(Chunk(data.length.toLong, data.foldLeft(0L)(_ + _.toLong))))
+          )
+        }
+      },
+      test("results follow the order of the sinks") {
+        val r = Stream.range(0, 1000).broadcast(Sink.collectAll[Int].map(_.length), Sink.head[Int].map(_.size))
+        assertTrue(r == Right(Chunk(1000, 1)))
+      },
+      test("an early-finishing sink does not stop the others") {
+        val r = Stream.range(0, 10000).run(Sink.zipPar(Sink.head[Int], Sink.count))
+        assertTrue(r == Right((Some(0), 10000L)))
+      },
+      test("no sinks and one sink") {
+        assertTrue(
+          Stream.range(0, 10).run(Sink.broadcast[Nothing, Int, Long]()) == Right(Chunk.empty),
+          Stream.range(0, 10).broadcast(Sink.count) == Right(Chunk(10L))
+        )
+      },
+      test("null elements are preserved") {
+        val r = Stream[String]("a", null, "b").run(Sink.zipPar(Sink.collectAll[String], Sink.count))
+        assertTrue(r == Right((Chunk[String]("a", null, "b"), 3L)))
+      },
+      test("a failing sink fails the broadcast") {
+        val r = Stream.range(0, 1000).run(Sink.zipPar(Sink.count, Sink.fail("boom")))
+        assertTrue(r == Left("boom"))
+      },
+      test("upstream failure surfaces as Left") {
+        val s = Stream.range(0, 100) ++ Stream.fail("upstream")
+        assertTrue(s.run(Sink.zipPar(Sink.count, Sink.collectAll[Int])) == Left("upstream"))
+      }
+    ),
     suite("create")(
       test("create — primitive constructor receives dequeue and returns result") {
         val sink = Sink.create[Nothing, Int, Chunk[Int]] { dq =>
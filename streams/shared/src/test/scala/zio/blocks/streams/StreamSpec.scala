@@ -41,6 +41,9 @@ object StreamSpec extends StreamsBaseSpec {
     try Right(thunk)
     catch { case _: OutOfMemoryError => Left("over-allocated Array(n)") }
 
+  private def ms(n: Long): scala.concurrent.duration.FiniteDuration =
+    scala.concurrent.duration.FiniteDuration(n, java.util.concurrent.TimeUnit.MILLISECONDS)
+
   final case class Word(value: String)
   final case class Count(value: Int)
   final case class Flag(value: Boolean)
@@ -113,6 +116,18 @@ object StreamSpec extends StreamsBaseSpec {
       def close(): Unit                     = { _closed = true; throw new StreamError(value) }
     }
 
+  /** A reader over `chunk` that does not support `reset()`. */
+  private def oneShot(chunk: Chunk[Int]): Reader[Int] =
+    new Reader[Int] {
+      private var i         = 0
+      def isClosed: Boolean = i >= chunk.length
+      def close(): Unit     = i = chunk.length
+
+      def read[A1 >: Int](sentinel: A1): A1 =
+        if (i < chunk.length) { i += 1; chunk(i - 1) }
+        else sentinel
+    }
+
   private val chunk3: Chunk[Int] = Chunk(1, 2, 3)
   private val chunk5: Chunk[Int] = Chunk(1, 2, 3, 4, 5)
   private val chunk2: Chunk[Int] = Chunk(10, 20)
@@ -229,6 +244,166 @@ object StreamSpec extends StreamsBaseSpec {
         }
       )
     ),
+    suite("groupByKey")(
+      test("count per Int key") {
+        val s = Stream.range(0, 10)
+        assert(collect(s.groupByKey(_ % 3).count).sortBy(_._1))(
+          equalTo(Chunk((0L, 4L), (1L, 3L), (2L, 3L)))
+        )
+      },
+      test("Long keys, including sentinel-valued elements") {
+        val s = Stream(1L, Long.MaxValue, 3L, Long.MaxValue)
+        assert(collect(s.groupByKey(identity).count).sortBy(_._1))(
+          equalTo(Chunk((1L, 1L), (3L, 1L), (Long.MaxValue, 2L)))
+        )
+      },
+      test("Double fold over a Double stream") {
+        val s = Stream(1.5, 2.5, 3.0, 4.0)
+        assert(collect(s.groupByKey(_.toLong).fold(0.0)(_ + _)).sortBy(_._1))(
+          equalTo(Chunk((1L, 1.5), (2L, 2.5), (3L, 3.0), (4L, 4.0)))
+        )
+      },
+      test("reference elements") {
+        val s = Stream.fromIterable(List("apple", "avocado", "banana", "blueberry", "cherry"))
+        assert(collect(s.groupByKey(_.head.toLong).fold(0L)(_ + _.length)).sortBy(_._1))(
+          equalTo(Chunk(('a'.toLong, 12L), ('b'.toLong, 15L), ('c'.toLong, 6L)))
+        )
+      },
+      test("maxKeys flushes partial results") {
+        val s      = Stream(1, 2, 3, 1, 2, 3)
+        val result = collect(s.groupByKey(_.toLong, maxKeys = 2).count)
+        assertTrue(
+          result.length == 4,
+          result.groupBy(_._1).map { case (k, vs) => k -> vs.map(_._2).sum } == Map(1L -> 2L, 2L -> 2L, 3L -> 2L)
+        )
+      },
+      test("empty stream") {
+        val s: Stream[Nothing, Int] = Stream.empty
+        assert(collect(s.groupByKey(_.toLong).count))(equalTo(Chunk.empty))
+      },
+      test("repeated resets the map") {
+        val s = Stream(1, 1).groupByKey(_.toLong).count.repeated.take(2)
+        assert(collect(s))(equalTo(Chunk((1L, 2L), (1L, 2L))))
+      },
+      test("propagates typed errors") {
+        val s = ((Stream(1, 2): Stream[Nothing, Int]) ++ (Stream.fail("boom"): Stream[String, Int]))
+          .groupByKey(_.toLong)
+          .count
+        assert(collectE(s))(isLeft(equalTo("boom")))
+      }
+    ),
+    suite("window")(
+      test("tumbling windows are emitted in start order") {
+        val s = Stream(0L, 10L, 50L, 60L, 130L).window(TumblingWindow(ms(50)), identity).count
+        assert(collect(s))(
+          equalTo(Chunk(WindowResult(0L, 50L, 2L), WindowResult(50L, 100L, 2L), WindowResult(100L, 150L, 1L)))
+        )
+      },
+      test("a window is emitted once the watermark passes its end") {
+        val s = (Stream(0L, 60L): Stream[Nothing, Long]) ++ (Stream.fail("boom"): Stream[String, Long])
+        assert(collectE(s.window(TumblingWindow(ms(50)), identity).count.take(1)))(
+          isRight(equalTo(Chunk(WindowResult(0L, 50L, 1L))))
+        )
+      },
+      test("sliding windows fold each element into every window it falls in") {
+        val s = Stream(0L, 60L, 120L).window(SlidingWindow(ms(100), ms(50)), identity).fold(0L)(_ + _)
+        assert(collect(s))(
+          equalTo(
+            Chunk(
+              WindowResult(-50L, 50L, 0L),
+              WindowResult(0L, 100L, 60L),
+              WindowResult(50L, 150L, 180L),
+              WindowResult(100L, 200L, 120L)
+            )
+          )
+        )
+      },
+      test("late elements are dropped unless within allowedLateness") {
+        val events  = Stream(0L, 60L, 40L, 120L)
+        val strict  = events.window(TumblingWindow(ms(50)), identity).count
+        val lenient = events.window(TumblingWindow(ms(50)), identity, allowedLateness = ms(30)).count
+        val rest    = Chunk(WindowResult(50L, 100L, 1L), WindowResult(100L, 150L, 1L))
+        assertTrue(
+          collect(strict) == WindowResult(0L, 50L, 1L) +: rest,
+          collect(lenient) == WindowResult(0L, 50L, 2L) +: rest
+        )
+      },
+      test("session windows close after a gap of inactivity") {
+        val s = Stream(0L, 10L, 20L, 100L, 110L, 200L).window(SessionWindow(ms(30)), identity).count
+        assert(collect(s))(
+          equalTo(Chunk(WindowResult(0L, 50L, 3L), WindowResult(100L, 140L, 2L), WindowResult(200L, 230L, 1L)))
+        )
+      },
+      test("session windows reorder elements within allowedLateness") {
+        val events  = Stream(0L, 40L, 20L)
+        val strict  = events.window(SessionWindow(ms(30)), identity).count
+        val lenient = events.window(SessionWindow(ms(30)), identity, allowedLateness = ms(25)).count
+        assertTrue(
+          collect(strict) == Chunk(WindowResult(0L, 30L, 1L), WindowResult(40L, 70L, 1L)),
+          collect(lenient) == Chunk(WindowResult(0L, 70L, 3L))
+        )
+      },
+      test("reference elements with an extracted timestamp") {
+        val s = Stream(("a", 5L), ("bb", 7L), ("ccc", 75L))
+          .window(TumblingWindow(ms(60)), _._2)
+          .fold("")(_ + _._1)
+        assert(collect(s))(equalTo(Chunk(WindowResult(0L, 60L, "abb"), WindowResult(60L, 120L, "ccc"))))
+      },
+      test("repeated resets the open windows") {
+        val s = Stream(1L, 2L).window(TumblingWindow(ms(10)), identity).count.repeated.take(2)
+        assert(collect(s))(equalTo(Chunk(WindowResult(0L, 10L, 2L), WindowResult(0L, 10L, 2L))))
+      },
+      test("rejects empty windows and negative lateness") {
+        assertTrue(
+          Try(TumblingWindow(ms(0))).isFailure,
+          Try(SlidingWindow(ms(10), ms(0))).isFailure,
+          Try(Stream(1L).window(SessionWindow(ms(10)), identity, allowedLateness = ms(-1))).isFailure
+        )
+      }
+    ),
+    suite("prepare")(
+      test("runs repeatedly with the same result") {
+        val p = Stream.range(0, 5).map(_ * 2).filter(_ > 2).prepare
+        assertTrue(List.fill(3)(p.runCollect).forall(_ == Right(Chunk(4, 6, 8))), p.runFold(0)(_ + _) == Right(18))
+      },
+      test("compiles the reader graph once") {
+        var builds = 0
+        val p      = Stream.fromReader[Nothing, Int] { builds += 1; Reader.fromChunk(chunk3) }.map(_ + 1).prepare
+        val runs   = List.fill(4)(p.runCollect)
+        assertTrue(runs.forall(_ == Right(Chunk(2, 3, 4))), builds == 1)
+      },
+      test("recompiles a graph that cannot be reset") {
+        var builds = 0
+        val p      = Stream.fromReader[Nothing, Int] { builds += 1; oneShot(chunk3) }.prepare
+        val runs   = List.fill(3)(p.runCollect)
+        assertTrue(runs.forall(_ == Right(chunk3)), builds == 3)
+      },
+      test("rewinds flatMap and concat stages") {
+        val p = (Stream.range(0, 3).flatMap(i => Stream.range(0, i)) ++ Stream(9)).prepare
+        assertTrue(List.fill(3)(p.runCollect).forall(_ == Right(Chunk(0, 0, 1, 9))))
+      },
+      test("returns typed errors on every run") {
+        val p = failing.prepare
+        assertTrue(p.runCollect == Left("boom"), p.runCollect == Left("boom"))
+      },
+      test("acquires and releases resources on every run") {
+        var acquired = 0
+        var released = 0
+        val p        =
+          Stream.fromAcquireRelease(acquired += 1, (_: Unit) => released += 1)(_ => Stream.fromChunk(chunk3)).prepare
+        val runs = List.fill(3)(p.runCollect)
+        assertTrue(runs.forall(_ == Right(chunk3)), acquired == 3, released == 3)
+      },
+      test("rewinds concurrent stages") {
+        val p = Stream.range(0, 20).mapParUnordered(4)(_ + 1).prepare
+        assertTrue(List.fill(3)(p.runFold(0)(_ + _)).forall(_ == Right(210)))
+      },
+      test("a nested run does not share the cached graph") {
+        val p     = Stream.fromChunk(chunk3).prepare
+        val outer = p.run(Sink.create[Nothing, Int, Int](r => { p.runCollect; r.readAll[Int]().length }))
+        assertTrue(outer == Right(3), p.runCollect == Right(chunk3))
+      }
+    ),
     suite("chunked")(
       test("exact multiple") {
         val s      = Stream.fromIterable(List(1, 2, 3, 4, 5, 6))
@@ -675,6 +850,49 @@ object StreamSpec extends StreamsBaseSpec {
         assert(closed)(isFalse)
       }
     ),
+    suite("checkpointed")(
+      test("commits every n elements and at end of stream") {
+        val commits = scala.collection.mutable.ListBuffer.empty[Long]
+        val cp      = new Checkpoint {
+          def load(): Long               = 0L
+          def commit(offset: Long): Unit = commits += offset
+        }
+        val result = Stream.range(0, 7).checkpointed(cp, 3L).runCollect
+        assertTrue(result == Right(Chunk(0, 1, 2, 3, 4, 5, 6)), commits.toList == List(3L, 6L, 7L))
+      },
+      test("a re-run resumes after the committed offset") {
+        val cp     = Checkpoint.inMemory(3L)
+        val s      = Stream.range(0, 10).checkpointed(cp, 2L)
+        val first  = s.runCollect
+        val offset = cp.load()
+        assertTrue(first == Right(Chunk(3, 4, 5, 6, 7, 8, 9)), offset == 10L, s.runCollect == Right(Chunk.empty))
+      },
+      test("an interrupted run replays only the uncommitted tail") {
+        val cp     = Checkpoint.inMemory()
+        val s      = Stream.range(0, 10).checkpointed(cp, 2L)
+        val first  = s.take(5L).runCollect
+        val offset = cp.load()
+        assertTrue(first == Right(Chunk(0, 1, 2, 3, 4)), offset == 4L, s.runCollect == Right(Chunk(4, 5, 6, 7, 8, 9)))
+      },
+      test("byte streams resume on the byte lane") {
+        val cp = Checkpoint.inMemory(2L)
+        val is = new java.io.ByteArrayInputStream(Array[Byte](1, 2, 3, 4, 5))
+        val s  = Stream.fromInputStream(is).checkpointed(cp, 1L)
+        assertTrue(s.runCollect == Right(Chunk[Byte](3, 4, 5)), cp.load() == 5L)
+      },
+      test("rejects every < 1") {
+        assert(Try(Stream.range(0, 3).checkpointed(Checkpoint.inMemory(), 0L)).isFailure)(isTrue)
+      }
+    ),
+    suite("mapAsync")(
+      test("emits settled Async values in input order") {
+        val s = Stream.range(0, 5).mapAsync(2)(i => zio.blocks.async.Async.succeed(i * 2))
+        assertTrue(s.runCollect == Right(Chunk(0, 2, 4, 6, 8)), s.knownLength == Some(5L))
+      },
+      test("rejects parallelism < 1") {
+        assert(Try(Stream.range(0, 3).mapAsync(0)(i => zio.blocks.async.Async.succeed(i))).isFailure)(isTrue)
+      }
+    ),
     suite("concat (++)")(
       test("disjoint concatenation") {
         val result: Stream[Nothing, String | Int] = Stream.succeed("hello") ++ Stream.succeed(42)
@@ -979,6 +1197,52 @@ object StreamSpec extends StreamsBaseSpec {
         assertTrue(msg == "right close") && assertTrue(suppressed == 1)
       }
     ),
+    suite("zipWith / zipWithIndex")(
+      test("zip is an alias for &&") {
+        val result = Stream(1, 2, 3).zip(Stream("a", "b")).runCollect
+        assertTrue(result == Right(Chunk((1, "a"), (2, "b"))))
+      },
+      test("zipWith combines Long and Double lanes into a Double fold") {
+        val ts     = Stream.fromChunk(Chunk(1L, 2L, 3L))
+        val vs     = Stream.fromChunk(Chunk(0.5, 1.5, 2.5, 9.0))
+        val result = ts.zipWith(vs)((t, v) => t * v).runFold(0.0)(_ + _)
+        assertTrue(result == Right(11.0))
+      },
+      test("zipWith emits a primitive result on its own lane") {
+        val reader = Stream.compileToReader(Stream.range(0, 3).zipWith(Stream.range(10, 20))(_ + _))
+        val out    = List(reader.readInt(Long.MinValue), reader.readInt(Long.MinValue), reader.readInt(Long.MinValue))
+        val eof    = reader.readInt(Long.MinValue)
+        assertTrue(reader.jvmType eq JvmType.Int, out == List(10L, 12L, 14L), eof == Long.MinValue)
+      },
+      test("zipWith keeps Long results equal to the EOF sentinel") {
+        val result = Stream.fromChunk(Chunk(0L, 1L)).zipWith(Stream(Long.MaxValue, 5L))(_ + _).runCollect
+        assertTrue(result == Right(Chunk(Long.MaxValue, 6L)))
+      },
+      test("zipWith mixes boxed and primitive sides") {
+        val result = Stream("a", "b", "c").zipWith(Stream.range(0, 10))((s, i) => s * (i + 1)).runCollect
+        assertTrue(result == Right(Chunk("a", "bb", "ccc")))
+      },
+      test("zipWith closes both sides once and reports the shorter length") {
+        var leftCloses  = 0
+        var rightCloses = 0
+        val left        = Stream.range(0, 100).ensuring(leftCloses += 1)
+        val right       = Stream.range(0, 3).ensuring(rightCloses += 1)
+        val s           = left.zipWith(right)(_ * _)
+        val result      = s.runCollect
+        assertTrue(result == Right(Chunk(0, 1, 4)), leftCloses == 1, rightCloses == 1)
+      },
+      test("zipWith knownLength is the shorter side") {
+        assertTrue(Stream.range(0, 5).zipWith(Stream.range(0, 3))(_ + _).knownLength == Some(3L))
+      },
+      test("zipWithIndex pairs elements with their position") {
+        val s = Stream("a", "b", "c").zipWithIndex
+        assertTrue(s.runCollect == Right(Chunk(("a", 0L), ("b", 1L), ("c", 2L))), s.knownLength == Some(3L))
+      },
+      test("zipWithIndex restarts the index on each repetition") {
+        val result = Stream(7, 8).zipWithIndex.repeated.take(4).runCollect
+        assertTrue(result == Right(Chunk((7, 0L), (8, 1L), (7, 0L), (8, 1L))))
+      }
+    ),
     suite("union composition")(
       suite("catchAll")(
         test("recovery element type widens to union (disjoint)") {